@@ -0,0 +1,97 @@
+package com.kevinguanchedarias.owgejava.benchmark;
+
+import com.kevinguanchedarias.owgejava.business.*;
+import com.kevinguanchedarias.owgejava.business.mission.MissionEventEmitterBo;
+import com.kevinguanchedarias.owgejava.business.mission.attack.*;
+import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitEventEmitter;
+import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitFinderBo;
+import com.kevinguanchedarias.owgejava.business.unit.obtained.ObtainedUnitImprovementCalculationService;
+import com.kevinguanchedarias.owgejava.business.user.UserEventEmitterBo;
+import com.kevinguanchedarias.owgejava.business.util.TransactionUtilService;
+import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
+import com.kevinguanchedarias.owgejava.entity.UserStorage;
+import com.kevinguanchedarias.owgejava.pojo.attack.AttackInformation;
+import com.kevinguanchedarias.owgejava.repository.ObtainedUnitRepository;
+import com.kevinguanchedarias.owgejava.repository.UserStorageRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.kevinguanchedarias.owgejava.benchmark.BenchmarkFixtures.*;
+import static com.kevinguanchedarias.owgejava.mock.AttackMock.givenAttackInformation;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Measures the battle resolution, all the involved users are enemies, and every unit can attack any other unit
+ * <br>
+ * As the battle alters the attack information, it's created again before each invocation (not measured)
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AttackMissionManagerBenchmark {
+
+    @Param({"2", "8"})
+    private int usersCount;
+
+    @Param({"5", "25"})
+    private int unitsPerUser;
+
+    private AttackMissionManagerBo attackMissionManagerBo;
+    private List<ObtainedUnit> obtainedUnits;
+    private AttackInformation attackInformation;
+
+    @Setup
+    public void setup() {
+        var improvementBo = givenImprovementBo(givenDefaultsConfigurationBo());
+        var attackRuleBo = stub(AttackRuleBo.class);
+        given(attackRuleBo.canAttack(any(), any())).willReturn(true);
+        var allianceBo = stub(AllianceBo.class);
+        given(allianceBo.areEnemies(any(UserStorage.class), any(UserStorage.class)))
+                .willAnswer(invocation -> !invocation.getArgument(0).equals(invocation.getArgument(1)));
+        attackMissionManagerBo = new AttackMissionManagerBo(
+                improvementBo,
+                new AttackObtainedUnitBo(improvementBo),
+                attackRuleBo,
+                stub(CriticalAttackBo.class),
+                stub(UnitTypeBo.class),
+                allianceBo,
+                stub(AttackEventEmitter.class),
+                stub(MissionEventEmitterBo.class),
+                stub(UserEventEmitterBo.class),
+                stub(UserStorageRepository.class),
+                stub(ObtainedUnitEventEmitter.class),
+                stub(TransactionUtilService.class),
+                stub(ObtainedUnitRepository.class),
+                stub(ObtainedUnitFinderBo.class),
+                stub(ObtainedUnitImprovementCalculationService.class),
+                givenDefaultsConfigurationBo(),
+                stub(AttackBypassShieldService.class),
+                stub(AttackResultPersistenceService.class)
+        );
+        obtainedUnits = givenObtainedUnits(givenUsers(usersCount), unitsPerUser);
+    }
+
+    /**
+     * Level.Invocation is fine here, as a battle takes far longer than the timestamping done by JMH
+     */
+    @Setup(Level.Invocation)
+    public void prepareBattle() {
+        attackInformation = givenAttackInformation();
+        obtainedUnits.forEach(unit -> attackMissionManagerBo.addUnit(attackInformation, unit));
+    }
+
+    @Benchmark
+    public AttackInformation startAttack() {
+        attackMissionManagerBo.startAttack(attackInformation);
+        return attackInformation;
+    }
+}
@@ -0,0 +1,142 @@
+package com.kevinguanchedarias.owgejava.benchmark;
+
+import com.kevinguanchedarias.owgejava.business.ConfigurationBo;
+import com.kevinguanchedarias.owgejava.business.ImprovementBo;
+import com.kevinguanchedarias.owgejava.business.SocketIoService;
+import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
+import com.kevinguanchedarias.owgejava.entity.UserStorage;
+import com.kevinguanchedarias.owgejava.enumerations.ImprovementTypeEnum;
+import com.kevinguanchedarias.owgejava.interfaces.ImprovementSource;
+import com.kevinguanchedarias.owgejava.pojo.GroupedImprovement;
+import com.kevinguanchedarias.owgejava.repository.ImprovementRepository;
+import com.kevinguanchedarias.owgejava.util.DtoUtilService;
+import lombok.experimental.UtilityClass;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.kevinguanchedarias.owgejava.mock.ConfigurationMock.givenConfiguration;
+import static com.kevinguanchedarias.owgejava.mock.ImprovementMock.givenImprovement;
+import static com.kevinguanchedarias.owgejava.mock.ImprovementUnitTypeMock.givenImprovementUnitType;
+import static com.kevinguanchedarias.owgejava.mock.ObtainedUnitMock.givenObtainedUnit1;
+import static com.kevinguanchedarias.owgejava.mock.UnitMock.givenUnit1;
+import static com.kevinguanchedarias.owgejava.mock.UnitTypeMock.givenUnitType;
+import static com.kevinguanchedarias.owgejava.mock.UserMock.givenUser;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Builds the synthetic fixtures shared by the benchmarks, on top of the test <code>mock</code> package
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@UtilityClass
+public class BenchmarkFixtures {
+    public static final int FIRST_USER_ID = 1000;
+    public static final int FIRST_UNIT_ID = 5000;
+    public static final long FIRST_OBTAINED_UNIT_ID = 90000;
+    public static final int UNIT_TYPES_COUNT = 4;
+
+    /**
+     * Creates a mock which doesn't record its invocations, so long benchmark runs don't accumulate memory
+     */
+    public static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    /**
+     * @return A configuration stub which always returns the default value of the wanted configuration
+     */
+    public static ConfigurationBo givenDefaultsConfigurationBo() {
+        var configurationBo = stub(ConfigurationBo.class);
+        given(configurationBo.findOrSetDefault(anyString(), anyString()))
+                .willAnswer(invocation -> givenConfiguration(invocation.getArgument(1)));
+        return configurationBo;
+    }
+
+    /**
+     * @return A real improvement bo, backed by an in memory cache manager and having one source per kind of source
+     * the game has (as the cache key of a source is its class name)
+     */
+    public static ImprovementBo givenImprovementBo(ConfigurationBo configurationBo) {
+        var improvementBo = new ImprovementBo(
+                stub(ImprovementRepository.class),
+                new DtoUtilService(),
+                new ConcurrentMapCacheManager(),
+                configurationBo,
+                stub(SocketIoService.class),
+                stub(BeanFactory.class)
+        );
+        improvementBo.addImprovementSource(new ObtainedUpgradesImprovementSource());
+        improvementBo.addImprovementSource(new ObtainedUnitsImprovementSource());
+        improvementBo.addImprovementSource(new ActiveTimeSpecialsImprovementSource());
+        return improvementBo;
+    }
+
+    public static List<UserStorage> givenUsers(int count) {
+        return IntStream.range(0, count).mapToObj(i -> givenUser(FIRST_USER_ID + i)).toList();
+    }
+
+    /**
+     * @return <i>unitsPerUser</i> obtained units for each one of the users, each unit is distinct, and is of one of
+     * the {@link #UNIT_TYPES_COUNT} unit types
+     */
+    public static List<ObtainedUnit> givenObtainedUnits(List<UserStorage> users, int unitsPerUser) {
+        List<ObtainedUnit> retVal = new ArrayList<>();
+        users.forEach(user -> IntStream.range(0, unitsPerUser).forEach(i -> {
+            var obtainedUnit = givenObtainedUnit1();
+            var unit = givenUnit1();
+            unit.setId(FIRST_UNIT_ID + i);
+            unit.setType(givenUnitType(i % UNIT_TYPES_COUNT));
+            obtainedUnit.setId(FIRST_OBTAINED_UNIT_ID + retVal.size());
+            obtainedUnit.setUnit(unit);
+            obtainedUnit.setUser(user);
+            obtainedUnit.setCount(10L + i);
+            retVal.add(obtainedUnit);
+        }));
+        return retVal;
+    }
+
+    private abstract static class SyntheticImprovementSource implements ImprovementSource {
+        private final GroupedImprovement improvement;
+
+        SyntheticImprovementSource(ImprovementTypeEnum improvementType) {
+            var entity = givenImprovement();
+            entity.setUnitTypesUpgrades(IntStream.range(0, UNIT_TYPES_COUNT).mapToObj(unitTypeId -> {
+                var unitTypeImprovement = givenImprovementUnitType(improvementType);
+                unitTypeImprovement.setUnitType(givenUnitType(unitTypeId));
+                return unitTypeImprovement;
+            }).toList());
+            improvement = new GroupedImprovement().add(entity);
+        }
+
+        @Override
+        public GroupedImprovement calculateImprovement(UserStorage user) {
+            return new GroupedImprovement().add(improvement);
+        }
+    }
+
+    private static class ObtainedUpgradesImprovementSource extends SyntheticImprovementSource {
+        ObtainedUpgradesImprovementSource() {
+            super(ImprovementTypeEnum.ATTACK);
+        }
+    }
+
+    private static class ObtainedUnitsImprovementSource extends SyntheticImprovementSource {
+        ObtainedUnitsImprovementSource() {
+            super(ImprovementTypeEnum.DEFENSE);
+        }
+    }
+
+    private static class ActiveTimeSpecialsImprovementSource extends SyntheticImprovementSource {
+        ActiveTimeSpecialsImprovementSource() {
+            super(ImprovementTypeEnum.SPEED);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.kevinguanchedarias.owgejava.benchmark;
+
+import lombok.experimental.UtilityClass;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks accepting the standard JMH command line options, but exporting the results as JSON by default
+ * <br>
+ * Example: <code>java -jar target/owgejava-benchmarks-all.jar Improvement -rff target/improvement.json</code>
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@UtilityClass
+public class BenchmarkRunner {
+    public static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        var commandLineOptions = new CommandLineOptions(args);
+        var options = new OptionsBuilder().parent(commandLineOptions);
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,70 @@
+package com.kevinguanchedarias.owgejava.benchmark;
+
+import com.kevinguanchedarias.owgejava.dto.ObtainedUnitDto;
+import com.kevinguanchedarias.owgejava.dto.PlanetDto;
+import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
+import com.kevinguanchedarias.owgejava.entity.Planet;
+import com.kevinguanchedarias.owgejava.util.DtoUtilService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.kevinguanchedarias.owgejava.benchmark.BenchmarkFixtures.givenObtainedUnits;
+import static com.kevinguanchedarias.owgejava.benchmark.BenchmarkFixtures.givenUsers;
+import static com.kevinguanchedarias.owgejava.mock.MissionMock.givenAttackMission;
+import static com.kevinguanchedarias.owgejava.mock.PlanetMock.givenSourcePlanet;
+
+/**
+ * Measures the reflection based entity to DTO conversions (and the opposite)
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoUtilServiceBenchmark {
+    private final DtoUtilService dtoUtilService = new DtoUtilService();
+
+    private Planet planet;
+    private PlanetDto planetDto;
+
+    @Setup
+    public void setup() {
+        planet = givenSourcePlanet();
+        planetDto = dtoUtilService.dtoFromEntity(PlanetDto.class, planet);
+    }
+
+    @Benchmark
+    public PlanetDto dtoFromEntity() {
+        return dtoUtilService.dtoFromEntity(PlanetDto.class, planet);
+    }
+
+    @Benchmark
+    public Planet entityFromDto() {
+        return dtoUtilService.entityFromDto(Planet.class, planetDto);
+    }
+
+    @Benchmark
+    public List<ObtainedUnitDto> convertEntireArray(ObtainedUnitsState obtainedUnitsState) {
+        return dtoUtilService.convertEntireArray(ObtainedUnitDto.class, obtainedUnitsState.obtainedUnits);
+    }
+
+    @State(Scope.Benchmark)
+    public static class ObtainedUnitsState {
+        @Param({"10", "100", "1000"})
+        int count;
+
+        List<ObtainedUnit> obtainedUnits;
+
+        @Setup
+        public void setup() {
+            obtainedUnits = givenObtainedUnits(givenUsers(1), count);
+            obtainedUnits.forEach(obtainedUnit -> obtainedUnit.setMission(givenAttackMission()));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.kevinguanchedarias.owgejava.benchmark;
+
+import com.kevinguanchedarias.owgejava.business.ImprovementBo;
+import com.kevinguanchedarias.owgejava.entity.UserStorage;
+import com.kevinguanchedarias.owgejava.pojo.GroupedImprovement;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.kevinguanchedarias.owgejava.benchmark.BenchmarkFixtures.givenDefaultsConfigurationBo;
+import static com.kevinguanchedarias.owgejava.benchmark.BenchmarkFixtures.givenImprovementBo;
+import static com.kevinguanchedarias.owgejava.mock.UserMock.givenUser1;
+
+/**
+ * Measures the improvement computation, <code>findUserImprovement</code> is invoked directly (without the Spring
+ * proxy), so only the per-source cache applies
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImprovementBenchmark {
+    private ImprovementBo improvementBo;
+    private UserStorage user;
+
+    @Setup
+    public void setup() {
+        improvementBo = givenImprovementBo(givenDefaultsConfigurationBo());
+        user = givenUser1();
+        improvementBo.findUserImprovement(user);
+    }
+
+    @Benchmark
+    public Double computeImprovementValue(PercentageState percentageState) {
+        return improvementBo.computeImprovementValue(100D, percentageState.percentage);
+    }
+
+    @Benchmark
+    public GroupedImprovement findUserImprovementWithCachedSources() {
+        return improvementBo.findUserImprovement(user);
+    }
+
+    @Benchmark
+    public GroupedImprovement findUserImprovementWithoutCache() {
+        improvementBo.getImprovementSources().forEach(improvementBo::clearCacheEntries);
+        return improvementBo.findUserImprovement(user);
+    }
+
+    @State(Scope.Benchmark)
+    public static class PercentageState {
+        @Param({"10", "75", "300"})
+        double percentage;
+    }
+}
@@ -0,0 +1,66 @@
+package com.kevinguanchedarias.owgejava.benchmark;
+
+import com.kevinguanchedarias.owgejava.business.mission.MissionConfigurationBo;
+import com.kevinguanchedarias.owgejava.business.mission.MissionTimeManagerBo;
+import com.kevinguanchedarias.owgejava.business.planet.PlanetCoordinatesIndex;
+import com.kevinguanchedarias.owgejava.entity.Mission;
+import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
+import com.kevinguanchedarias.owgejava.enumerations.MissionType;
+import com.kevinguanchedarias.owgejava.repository.ObtainedUnitRepository;
+import com.kevinguanchedarias.owgejava.repository.UnitRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.kevinguanchedarias.owgejava.benchmark.BenchmarkFixtures.*;
+import static com.kevinguanchedarias.owgejava.mock.GalaxyMock.givenGalaxy;
+import static com.kevinguanchedarias.owgejava.mock.MissionMock.givenAttackMission;
+import static com.kevinguanchedarias.owgejava.mock.UserMock.givenUser1;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Measures the required time calculation of an unit mission, the target planet is in another galaxy, so all the
+ * move costs apply
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MissionTimeManagerBenchmark {
+    private static final long MISSION_BASE_TIME = 600L;
+
+    @Param({"1", "10", "50"})
+    private int involvedUnits;
+
+    private MissionTimeManagerBo missionTimeManagerBo;
+    private List<ObtainedUnit> obtainedUnits;
+    private Mission mission;
+
+    @Setup
+    public void setup() {
+        var configurationBo = givenDefaultsConfigurationBo();
+        var missionConfigurationBo = stub(MissionConfigurationBo.class);
+        given(missionConfigurationBo.findMissionBaseTimeByType(any())).willReturn(MISSION_BASE_TIME);
+        missionTimeManagerBo = new MissionTimeManagerBo(
+                missionConfigurationBo, givenImprovementBo(configurationBo), configurationBo,
+                stub(PlanetCoordinatesIndex.class), stub(ObtainedUnitRepository.class), stub(UnitRepository.class)
+        );
+        obtainedUnits = givenObtainedUnits(List.of(givenUser1()), involvedUnits);
+        mission = givenAttackMission();
+        mission.getTargetPlanet().setGalaxy(givenGalaxy(mission.getSourcePlanet().getGalaxy().getId() + 1));
+        mission.getTargetPlanet().setPlanetNumber(mission.getSourcePlanet().getPlanetNumber() + 3);
+    }
+
+    @Benchmark
+    public Mission handleMissionTimeCalculation() {
+        missionTimeManagerBo.handleMissionTimeCalculation(obtainedUnits, mission, MissionType.ATTACK);
+        return mission;
+    }
+}
@@ -0,0 +1,149 @@
+package com.kevinguanchedarias.owgejava.benchmark;
+
+import com.kevinguanchedarias.owgejava.business.*;
+import com.kevinguanchedarias.owgejava.business.requirement.RequirementSource;
+import com.kevinguanchedarias.owgejava.business.speedimpactgroup.UnlockedSpeedImpactGroupService;
+import com.kevinguanchedarias.owgejava.business.timespecial.UnlockableTimeSpecialService;
+import com.kevinguanchedarias.owgejava.business.unit.UnlockableUnitService;
+import com.kevinguanchedarias.owgejava.business.util.TransactionUtilService;
+import com.kevinguanchedarias.owgejava.entity.ObjectRelation;
+import com.kevinguanchedarias.owgejava.entity.UserStorage;
+import com.kevinguanchedarias.owgejava.enumerations.RequirementTypeEnum;
+import com.kevinguanchedarias.owgejava.repository.*;
+import com.kevinguanchedarias.owgejava.util.DtoUtilService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.kevinguanchedarias.owgejava.benchmark.BenchmarkFixtures.givenUsers;
+import static com.kevinguanchedarias.owgejava.benchmark.BenchmarkFixtures.stub;
+import static com.kevinguanchedarias.owgejava.mock.FactionMock.givenFaction;
+import static com.kevinguanchedarias.owgejava.mock.GalaxyMock.GALAXY_ID;
+import static com.kevinguanchedarias.owgejava.mock.ObjectRelationMock.givenObjectRelation;
+import static com.kevinguanchedarias.owgejava.mock.ObjectRelationMock.givenUnlockedRelation;
+import static com.kevinguanchedarias.owgejava.mock.ObtainedUpgradeMock.OBTAINED_UPGRADE_LEVEL;
+import static com.kevinguanchedarias.owgejava.mock.ObtainedUpgradeMock.givenObtainedUpgrade;
+import static com.kevinguanchedarias.owgejava.mock.PlanetMock.givenSourcePlanet;
+import static com.kevinguanchedarias.owgejava.mock.RequirementMock.givenRequirementInformation;
+import static com.kevinguanchedarias.owgejava.mock.UpgradeMock.UPGRADE_ID;
+import static com.kevinguanchedarias.owgejava.mock.UpgradeMock.givenUpgrade;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Measures the relation requirements evaluation, every relation requires a faction, a home galaxy and an upgrade
+ * level, and all of them are met and already unlocked, so only the evaluation is measured
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequirementBenchmark {
+    private final UserStorageRepository userStorageRepository = stub(UserStorageRepository.class);
+    private final ObjectRelationBo objectRelationBo = stub(ObjectRelationBo.class);
+    private RequirementBo requirementBo;
+
+    @Setup
+    public void setup() {
+        var upgradeBo = stub(UpgradeBo.class);
+        given(upgradeBo.findById(UPGRADE_ID)).willReturn(givenUpgrade());
+        var obtainedUpgradeRepository = stub(ObtainedUpgradeRepository.class);
+        given(obtainedUpgradeRepository.findOneByUserIdAndUpgradeId(anyInt(), eq(UPGRADE_ID))).willReturn(givenObtainedUpgrade());
+        var unlockedRelationBo = stub(UnlockedRelationBo.class);
+        given(unlockedRelationBo.findOneByUserIdAndRelationId(anyInt(), anyInt())).willReturn(givenUnlockedRelation());
+        given(userStorageRepository.isOfFaction(anyInt(), anyInt())).willReturn(givenUsers(1).get(0));
+        given(objectRelationBo.refresh(any(ObjectRelation.class))).willAnswer(invocation -> invocation.getArgument(0));
+        requirementBo = new RequirementBo(
+                stub(RequirementRepository.class),
+                unlockedRelationBo,
+                upgradeBo,
+                objectRelationBo,
+                stub(ObjectRelationToObjectRelationBo.class),
+                new DtoUtilService(),
+                stub(RequirementInformationRepository.class),
+                stub(AutowireCapableBeanFactory.class),
+                stub(SocketIoService.class),
+                stub(UnlockableTimeSpecialService.class),
+                stub(UnlockableUnitService.class),
+                stub(UnlockedSpeedImpactGroupService.class),
+                stub(PlanetRepository.class),
+                stub(EntityManager.class),
+                stub(ObtainedUnitRepository.class),
+                stub(UnitRepository.class),
+                List.<RequirementSource>of(),
+                stub(TransactionUtilService.class),
+                obtainedUpgradeRepository,
+                stub(UnlockedRelationRepository.class),
+                userStorageRepository
+        );
+    }
+
+    @Benchmark
+    public void triggerRelationChanged(UsersState usersState) {
+        requirementBo.triggerRelationChanged(usersState.relation);
+    }
+
+    @Benchmark
+    public void triggerFactionSelection(RelationsState relationsState) {
+        requirementBo.triggerFactionSelection(relationsState.user);
+    }
+
+    @State(Scope.Benchmark)
+    public static class UsersState {
+        @Param({"10", "100", "1000"})
+        int usersCount;
+
+        List<UserStorage> users;
+        ObjectRelation relation;
+
+        @Setup
+        public void setup(RequirementBenchmark benchmark) {
+            users = givenUsers(usersCount);
+            users.forEach(RequirementBenchmark::givenUserMeetingRequirements);
+            relation = givenRelationWithRequirements(0);
+            given(benchmark.userStorageRepository.findAll()).willReturn(users);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class RelationsState {
+        @Param({"10", "100"})
+        int relationsCount;
+
+        UserStorage user;
+        List<ObjectRelation> relations;
+
+        @Setup
+        public void setup(RequirementBenchmark benchmark) {
+            user = givenUserMeetingRequirements(givenUsers(1).get(0));
+            relations = IntStream.range(0, relationsCount).mapToObj(RequirementBenchmark::givenRelationWithRequirements).toList();
+            given(benchmark.objectRelationBo.findObjectRelationsHavingRequirementType(RequirementTypeEnum.BEEN_RACE))
+                    .willReturn(relations);
+        }
+    }
+
+    private static UserStorage givenUserMeetingRequirements(UserStorage user) {
+        user.setFaction(givenFaction());
+        user.setHomePlanet(givenSourcePlanet());
+        return user;
+    }
+
+    private static ObjectRelation givenRelationWithRequirements(int index) {
+        var relation = givenObjectRelation(index + 1);
+        relation.setRequirements(List.of(
+                givenRequirementInformation(givenFaction().getId(), RequirementTypeEnum.BEEN_RACE),
+                givenRequirementInformation(GALAXY_ID, RequirementTypeEnum.HOME_GALAXY),
+                givenRequirementInformation(UPGRADE_ID, OBTAINED_UPGRADE_LEVEL, RequirementTypeEnum.UPGRADE_LEVEL)
+        ));
+        return relation;
+    }
+}
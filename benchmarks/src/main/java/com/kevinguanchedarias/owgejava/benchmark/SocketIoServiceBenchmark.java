@@ -0,0 +1,108 @@
+package com.kevinguanchedarias.owgejava.benchmark;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.kevinguanchedarias.owgejava.business.AsyncRunnerBo;
+import com.kevinguanchedarias.owgejava.business.SocketIoService;
+import com.kevinguanchedarias.owgejava.business.WebsocketEventsInformationBo;
+import com.kevinguanchedarias.owgejava.business.websocket.InMemoryWebsocketMessageBus;
+import com.kevinguanchedarias.owgejava.business.websocket.WebsocketPayloadEncoder;
+import com.kevinguanchedarias.owgejava.configurations.WebsocketConfiguration;
+import com.kevinguanchedarias.owgejava.configurations.WebsocketJsonSupport;
+import com.kevinguanchedarias.owgejava.entity.UserStorage;
+import com.kevinguanchedarias.owgejava.entity.WebsocketEventsInformation;
+import com.kevinguanchedarias.owgejava.fake.NonPostConstructSocketIoService;
+import com.kevinguanchedarias.owgejava.repository.UserStorageRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.kevinguanchedarias.owgejava.benchmark.BenchmarkFixtures.givenUsers;
+import static com.kevinguanchedarias.owgejava.benchmark.BenchmarkFixtures.stub;
+import static com.kevinguanchedarias.owgejava.mock.TokenUserMock.givenTokenUser;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Measures the websocket message fan-out, every connected user has two sockets (as having the game open in two
+ * tabs), the async delivery is run in the caller thread, and the {@link InMemoryWebsocketMessageBus} delivers in the
+ * same thread, so the encoding and the delivery are measured too
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SocketIoServiceBenchmark {
+    private static final String EVENT_NAME = "benchmark_change";
+    private static final int SOCKETS_PER_USER = 2;
+
+    @Param({"10", "100", "1000"})
+    private int connectedUsers;
+
+    private SocketIoService socketIoService;
+    private UserStorage targetUser;
+
+    @Setup
+    public void setup() {
+        var users = givenUsers(connectedUsers);
+        targetUser = users.get(users.size() / 2);
+        var userStorageRepository = stub(UserStorageRepository.class);
+        given(userStorageRepository.findAll()).willReturn(users);
+        var websocketEventsInformationBo = stub(WebsocketEventsInformationBo.class);
+        given(websocketEventsInformationBo.save(any(WebsocketEventsInformation.class))).will(returnsFirstArg());
+        var asyncRunnerBo = stub(AsyncRunnerBo.class);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(asyncRunnerBo).runAsyncWithoutContext(any());
+        var clients = users.stream()
+                .flatMap(user -> IntStream.range(0, SOCKETS_PER_USER).mapToObj(i -> givenClient(user)))
+                .toList();
+        var server = stub(SocketIOServer.class);
+        given(server.getAllClients()).willReturn(clients);
+
+        var websocketConfiguration = givenWebsocketConfiguration();
+        var nonPostConstructSocketIoService = new NonPostConstructSocketIoService();
+        socketIoService = nonPostConstructSocketIoService;
+        ReflectionTestUtils.setField(socketIoService, "websocketConfiguration", websocketConfiguration);
+        ReflectionTestUtils.setField(socketIoService, "userStorageRepository", userStorageRepository);
+        ReflectionTestUtils.setField(socketIoService, "websocketEventsInformationBo", websocketEventsInformationBo);
+        ReflectionTestUtils.setField(socketIoService, "asyncRunnerBo", asyncRunnerBo);
+        ReflectionTestUtils.setField(socketIoService, "websocketPayloadEncoder", new WebsocketPayloadEncoder(websocketConfiguration, 0));
+        ReflectionTestUtils.setField(socketIoService, "websocketMessageBus", new InMemoryWebsocketMessageBus());
+        nonPostConstructSocketIoService.realInit();
+        ReflectionTestUtils.setField(socketIoService, "server", server);
+    }
+
+    @Benchmark
+    public void sendMessageToUser() {
+        socketIoService.sendMessage(targetUser, EVENT_NAME, () -> EVENT_NAME);
+    }
+
+    @Benchmark
+    public void sendMessageToAll() {
+        socketIoService.sendMessage(0, EVENT_NAME, () -> EVENT_NAME);
+    }
+
+    private WebsocketConfiguration givenWebsocketConfiguration() {
+        var websocketConfiguration = new WebsocketConfiguration();
+        websocketConfiguration.setJsonSupport(new WebsocketJsonSupport(new JavaTimeModule()));
+        return websocketConfiguration;
+    }
+
+    private SocketIOClient givenClient(UserStorage user) {
+        var client = stub(SocketIOClient.class);
+        given(client.get(SocketIoService.USER_TOKEN_KEY)).willReturn(givenTokenUser(user.getId()));
+        return client;
+    }
+}
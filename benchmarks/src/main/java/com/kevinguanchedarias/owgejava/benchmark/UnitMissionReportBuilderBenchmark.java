@@ -0,0 +1,73 @@
+package com.kevinguanchedarias.owgejava.benchmark;
+
+import com.kevinguanchedarias.owgejava.builder.UnitMissionReportBuilder;
+import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
+import com.kevinguanchedarias.owgejava.pojo.attack.AttackInformation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.kevinguanchedarias.owgejava.benchmark.BenchmarkFixtures.givenObtainedUnits;
+import static com.kevinguanchedarias.owgejava.benchmark.BenchmarkFixtures.givenUsers;
+import static com.kevinguanchedarias.owgejava.mock.AttackMock.*;
+import static com.kevinguanchedarias.owgejava.mock.PlanetMock.givenSourcePlanet;
+import static com.kevinguanchedarias.owgejava.mock.PlanetMock.givenTargetPlanet;
+
+/**
+ * Measures the creation of an attack mission report, which is the biggest report the game stores
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UnitMissionReportBuilderBenchmark {
+
+    @Param({"2", "8"})
+    private int usersCount;
+
+    @Param({"5", "25"})
+    private int unitsPerUser;
+
+    private List<ObtainedUnit> obtainedUnits;
+    private AttackInformation attackInformation;
+    private UnitMissionReportBuilder builder;
+
+    @Setup
+    public void setup() {
+        var users = givenUsers(usersCount);
+        obtainedUnits = givenObtainedUnits(users, unitsPerUser);
+        attackInformation = givenAttackInformation();
+        users.forEach(user -> attackInformation.getUsers().put(user.getId(), givenAttackUserInformation(user)));
+        obtainedUnits.forEach(obtainedUnit -> {
+            var attackObtainedUnit = givenAttackObtainedUnit(obtainedUnit);
+            var userInformation = attackInformation.getUsers().get(obtainedUnit.getUser().getId());
+            attackObtainedUnit.setUser(userInformation);
+            userInformation.getUnits().add(attackObtainedUnit);
+            attackInformation.getUnits().add(attackObtainedUnit);
+        });
+        builder = createReport();
+    }
+
+    @Benchmark
+    public String buildJson() {
+        return builder.buildJson();
+    }
+
+    @Benchmark
+    public String createAndBuildJson() {
+        return createReport().buildJson();
+    }
+
+    private UnitMissionReportBuilder createReport() {
+        var attackerUnits = obtainedUnits.subList(0, unitsPerUser);
+        return UnitMissionReportBuilder
+                .create(attackerUnits.get(0).getUser(), givenSourcePlanet(), givenTargetPlanet(), attackerUnits)
+                .withAttackInformation(attackInformation);
+    }
+}
@@ -0,0 +1,91 @@
+package com.kevinguanchedarias.owgejava.benchmark.simulation;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Loads the MySQL dumps of the <i>business/database</i> folder into an H2 database running in MySQL mode
+ * <br>
+ * H2 understands most of the dump, only the session statements, the column modifiers, and the view definer clauses it
+ * doesn't know are removed, and the multi clause <i>ALTER TABLE</i> statements are split in one statement per clause
+ * (the keys are prefixed by the table name, as H2 index names are not per table)
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Slf4j
+public class MysqlDumpLoader {
+    private static final Pattern IGNORED_STATEMENT = Pattern.compile("^(SET SQL_MODE|SET time_zone|START TRANSACTION|COMMIT).*");
+    private static final Pattern ALTER_TABLE = Pattern.compile("ALTER TABLE (`\\w+`)\\n(.*?);", Pattern.DOTALL);
+    private static final Pattern ADD_KEY = Pattern.compile("ADD (UNIQUE )?KEY `(\\w+)` (.*)");
+    private static final Pattern UNSUPPORTED_MODIFIER = Pattern.compile(" UNSIGNED| CHARACTER SET \\w+| COLLATE[ =]\\w+|ALGORITHM=\\w+ DEFINER=\\S+ SQL SECURITY \\w+ ");
+
+    private final DataSource dataSource;
+
+    public MysqlDumpLoader(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Registers the functions the game uses that H2 doesn't have
+     */
+    @SneakyThrows
+    public void registerMysqlFunctions() {
+        try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+            statement.execute("CREATE ALIAS GET_LOCK FOR \"" + SimulationLocks.class.getName() + ".getLock\"");
+            statement.execute("CREATE ALIAS RELEASE_LOCK FOR \"" + SimulationLocks.class.getName() + ".releaseLock\"");
+            statement.execute("CREATE ALIAS TIMEDIFF FOR \"" + MysqlTimeFunctions.class.getName() + ".timediff\"");
+            statement.execute("CREATE ALIAS TIME_TO_SEC FOR \"" + MysqlTimeFunctions.class.getName() + ".timeToSec\"");
+        }
+    }
+
+    @SneakyThrows
+    public void load(List<Resource> dumps) {
+        try (var connection = dataSource.getConnection()) {
+            for (var dump : dumps) {
+                log.info("Loading {}", dump.getDescription());
+                ScriptUtils.executeSqlScript(connection, new ByteArrayResource(translate(dump).getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+    }
+
+    @SneakyThrows
+    String translate(Resource dump) {
+        try (var inputStream = dump.getInputStream()) {
+            var statements = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).lines()
+                    .filter(line -> !IGNORED_STATEMENT.matcher(line).matches())
+                    .map(line -> UNSUPPORTED_MODIFIER.matcher(line).replaceAll(""))
+                    .collect(Collectors.joining("\n"));
+            return ALTER_TABLE.matcher(statements).replaceAll(result -> Matcher.quoteReplacement(
+                    splitAlterTable(result.group(1), result.group(2))
+            ));
+        }
+    }
+
+    private String splitAlterTable(String table, String clauses) {
+        return Arrays.stream(clauses.split(",\n"))
+                .map(String::trim)
+                .map(clause -> {
+                    var key = ADD_KEY.matcher(clause);
+                    if (!key.matches()) {
+                        return "ALTER TABLE " + table + " " + clause;
+                    }
+                    var indexName = "`" + table.replace("`", "") + "_" + key.group(2) + "`";
+                    return key.group(1) == null
+                            ? "CREATE INDEX " + indexName + " ON " + table + " " + key.group(3)
+                            : "ALTER TABLE " + table + " ADD CONSTRAINT " + indexName + " UNIQUE " + key.group(3);
+                })
+                .collect(Collectors.joining(";\n", "", ";"));
+    }
+}
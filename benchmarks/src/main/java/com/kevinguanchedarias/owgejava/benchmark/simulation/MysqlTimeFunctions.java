@@ -0,0 +1,26 @@
+package com.kevinguanchedarias.owgejava.benchmark.simulation;
+
+import lombok.experimental.UtilityClass;
+
+import java.sql.Timestamp;
+
+/**
+ * H2 replacement of the MySQL time functions used by the repositories queries, registered as <i>TIMEDIFF</i> and
+ * <i>TIME_TO_SEC</i> aliases
+ * <br>
+ * The game only uses them together, as <i>TIME_TO_SEC(TIMEDIFF(a, b))</i>, so the difference is kept as seconds
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@UtilityClass
+public class MysqlTimeFunctions {
+
+    public static Long timediff(Timestamp end, Timestamp start) {
+        return end == null || start == null ? null : (end.getTime() - start.getTime()) / 1000;
+    }
+
+    public static Long timeToSec(Long seconds) {
+        return seconds;
+    }
+}
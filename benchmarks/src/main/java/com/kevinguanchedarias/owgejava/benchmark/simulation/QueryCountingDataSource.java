@@ -0,0 +1,90 @@
+package com.kevinguanchedarias.owgejava.benchmark.simulation;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the statements executed through the data source, no matter if they come from Hibernate, JdbcTemplate,
+ * Quartz or db-scheduler
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+    private static final Set<String> STATEMENT_CREATORS = Set.of("createStatement", "prepareStatement", "prepareCall");
+    private static final Set<String> EXECUTORS = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate");
+    private static final String BATCH_EXECUTOR = "executeBatch";
+
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, super.getConnection(), this::handleConnectionMethod);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, super.getConnection(username, password), this::handleConnectionMethod);
+    }
+
+    public long queries() {
+        return queries.sum();
+    }
+
+    public long batches() {
+        return batches.sum();
+    }
+
+    private Object handleConnectionMethod(Object target, Method method, Object[] args) throws Throwable {
+        var result = invoke(target, method, args);
+        if (STATEMENT_CREATORS.contains(method.getName()) && result instanceof Statement statement) {
+            return proxy(method.getReturnType(), statement, this::handleStatementMethod);
+        }
+        return result;
+    }
+
+    private Object handleStatementMethod(Object target, Method method, Object[] args) throws Throwable {
+        if (EXECUTORS.contains(method.getName())) {
+            queries.increment();
+        } else if (BATCH_EXECUTOR.equals(method.getName())) {
+            batches.increment();
+        }
+        return invoke(target, method, args);
+    }
+
+    private Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(Class<T> type, Object target, TargetInvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> handler.invoke(target, method, args)
+        );
+    }
+
+    @FunctionalInterface
+    private interface TargetInvocationHandler {
+        Object invoke(Object target, Method method, Object[] args) throws Throwable;
+    }
+}
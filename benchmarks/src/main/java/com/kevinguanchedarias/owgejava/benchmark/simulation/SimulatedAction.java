@@ -0,0 +1,16 @@
+package com.kevinguanchedarias.owgejava.benchmark.simulation;
+
+/**
+ * The player actions the simulator generates
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+public enum SimulatedAction {
+    BUILD,
+    UPGRADE,
+    EXPLORE,
+    GATHER,
+    ATTACK,
+    DEPLOY
+}
@@ -0,0 +1,142 @@
+package com.kevinguanchedarias.owgejava.benchmark.simulation;
+
+import com.kevinguanchedarias.owgejava.enumerations.MissionType;
+import com.kevinguanchedarias.owgejava.job.DbSchedulerRealizationJob;
+import com.kevinguanchedarias.owgejava.util.ThreadUtil;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Does the db-scheduler job, polls the due missions and runs them through the {@link DbSchedulerRealizationJob},
+ * using the same number of threads the game-rest configures for the db-scheduler
+ * <br>
+ * The lateness of a mission is the time its processing finished minus its termination date, as the missions are
+ * scheduled two seconds before the termination date, a negative lateness is expected
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Component
+@Slf4j
+public class SimulatedMissionFirer {
+    private static final String DUE_MISSIONS_SQL = "SELECT st.task_instance, m.termination_date, mt.code, st.execution_time FROM scheduled_tasks st " +
+            "LEFT JOIN missions m ON m.id = CAST(st.task_instance AS BIGINT) LEFT JOIN mission_types mt ON mt.id = m.type " +
+            "WHERE st.task_name = ? AND st.execution_time <= ? ORDER BY st.execution_time";
+    private static final String CLAIM_SQL = "DELETE FROM scheduled_tasks WHERE task_name = ? AND task_instance = ?";
+    private static final String PENDING_SQL = "SELECT COUNT(*) FROM scheduled_tasks WHERE task_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DbSchedulerRealizationJob dbSchedulerRealizationJob;
+    private final SimulationReport simulationReport;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor();
+    private final long pollMillis;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public SimulatedMissionFirer(
+            JdbcTemplate jdbcTemplate,
+            DbSchedulerRealizationJob dbSchedulerRealizationJob,
+            SimulationReport simulationReport,
+            @Value("${db-scheduler.threads:10}") int threads,
+            @Value("${OWGE_SIMULATION_POLL_MILLIS:100}") long pollMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dbSchedulerRealizationJob = dbSchedulerRealizationJob;
+        this.simulationReport = simulationReport;
+        this.pollMillis = pollMillis;
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+    }
+
+    public void start() {
+        poller.scheduleWithFixedDelay(this::fireDueMissions, 0, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Waits until there are no more scheduled missions, nor running ones
+     *
+     * @return false if the timeout was reached
+     */
+    @SneakyThrows(InterruptedException.class)
+    public boolean awaitDrained(Duration timeout) {
+        var limit = Instant.now().plus(timeout);
+        while (Instant.now().isBefore(limit)) {
+            if (pendingMissions() == 0 && inFlight.get() == 0) {
+                return true;
+            }
+            ThreadUtil.sleep(pollMillis);
+        }
+        return false;
+    }
+
+    public long pendingMissions() {
+        var count = jdbcTemplate.queryForObject(PENDING_SQL, Long.class, taskName());
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Stops polling, and waits for the running missions, so none runs while the context is closing
+     */
+    @PreDestroy
+    @SneakyThrows(InterruptedException.class)
+    public void stop() {
+        poller.shutdownNow();
+        executor.shutdown();
+        if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void fireDueMissions() {
+        try {
+            jdbcTemplate.query(DUE_MISSIONS_SQL, resultSet -> {
+                var missionId = resultSet.getString(1);
+                var terminationDate = resultSet.getObject(2, LocalDateTime.class);
+                var missionType = resultSet.getString(3);
+                var executionTime = resultSet.getTimestamp(4).toInstant();
+                inFlight.incrementAndGet();
+                if (jdbcTemplate.update(CLAIM_SQL, taskName(), missionId) == 1) {
+                    executor.execute(() -> fire(Long.parseLong(missionId), executionTime, terminationDate, missionType));
+                } else {
+                    inFlight.decrementAndGet();
+                }
+            }, taskName(), Timestamp.from(Instant.now()));
+        } catch (Exception e) {
+            log.error("Could not poll the due missions", e);
+        }
+    }
+
+    private void fire(Long missionId, Instant executionTime, LocalDateTime terminationDate, String missionType) {
+        try {
+            dbSchedulerRealizationJob.execute(missionId, executionTime);
+        } catch (Exception e) {
+            log.warn("Mission {} failed", missionId, e);
+            simulationReport.addFailed();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        if (terminationDate != null && missionType != null) {
+            var lateness = Duration.between(terminationDate, LocalDateTime.now(ZoneOffset.UTC)).toMillis();
+            simulationReport.addFired(MissionType.valueOf(missionType), lateness);
+        }
+    }
+
+    private String taskName() {
+        return DbSchedulerRealizationJob.BASIC_ONE_TIME_TASK.getTaskName();
+    }
+}
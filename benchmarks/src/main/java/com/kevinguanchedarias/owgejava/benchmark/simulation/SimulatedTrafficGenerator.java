@@ -0,0 +1,144 @@
+package com.kevinguanchedarias.owgejava.benchmark.simulation;
+
+import com.kevinguanchedarias.owgejava.business.MissionBo;
+import com.kevinguanchedarias.owgejava.business.UnitMissionBo;
+import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
+import com.kevinguanchedarias.owgejava.pojo.SelectedUnit;
+import com.kevinguanchedarias.owgejava.pojo.UnitMissionInformation;
+import com.kevinguanchedarias.owgejava.repository.ObtainedUnitRepository;
+import com.kevinguanchedarias.owgejava.util.ThreadUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static com.kevinguanchedarias.owgejava.benchmark.simulation.UniverseSeeder.UNIT_IDS;
+import static com.kevinguanchedarias.owgejava.benchmark.simulation.UniverseSeeder.UPGRADE_IDS;
+
+/**
+ * Generates the player traffic, every tick a fixed number of random users do a random action, all the random choices
+ * come from the same seeded generator, and are done in a single thread, so two runs with the same seed request the
+ * same actions (the game own randomness, like the home planet selection, is not controlled)
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SimulatedTrafficGenerator {
+    private static final Map<SimulatedAction, Integer> ACTION_WEIGHTS = Map.of(
+            SimulatedAction.BUILD, 30,
+            SimulatedAction.UPGRADE, 10,
+            SimulatedAction.EXPLORE, 20,
+            SimulatedAction.GATHER, 15,
+            SimulatedAction.ATTACK, 15,
+            SimulatedAction.DEPLOY, 10
+    );
+    private static final int MAX_BUILD_COUNT = 20;
+
+    private final MissionBo missionBo;
+    private final UnitMissionBo unitMissionBo;
+    private final ObtainedUnitRepository obtainedUnitRepository;
+    private final UniverseSeeder universeSeeder;
+    private final SimulationReport simulationReport;
+
+    @Value("${OWGE_SIMULATION_SEED:1}")
+    private long seed;
+
+    @Value("${OWGE_SIMULATION_TICKS:60}")
+    private int ticks;
+
+    @Value("${OWGE_SIMULATION_TICK_MILLIS:1000}")
+    private long tickMillis;
+
+    @Value("${OWGE_SIMULATION_ACTIONS_PER_TICK:20}")
+    private int actionsPerTick;
+
+    private Random random;
+    private List<Integer> userIds;
+    private List<SimulatedAction> weightedActions;
+
+    @SneakyThrows(InterruptedException.class)
+    public void run() {
+        random = new Random(seed);
+        userIds = new ArrayList<>(universeSeeder.getHomePlanets().keySet());
+        weightedActions = new ArrayList<>();
+        ACTION_WEIGHTS.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> weightedActions.addAll(Collections.nCopies(entry.getValue(), entry.getKey())));
+        for (int tick = 0; tick < ticks; tick++) {
+            var tickStart = System.currentTimeMillis();
+            for (int i = 0; i < actionsPerTick; i++) {
+                var userId = pick(userIds);
+                var action = pick(weightedActions);
+                SimulatedUserSession.runAs(userId, () -> doAction(userId, action));
+            }
+            var elapsed = System.currentTimeMillis() - tickStart;
+            if (elapsed < tickMillis) {
+                ThreadUtil.sleep(tickMillis - elapsed);
+            } else {
+                log.warn("Tick {} took {} ms, more than the {} ms of the tick", tick, elapsed, tickMillis);
+            }
+        }
+    }
+
+    private void doAction(int userId, SimulatedAction action) {
+        try {
+            switch (action) {
+                case BUILD -> missionBo.registerBuildUnit(
+                        userId, universeSeeder.getHomePlanets().get(userId), pick(UNIT_IDS), (long) random.nextInt(1, MAX_BUILD_COUNT + 1)
+                );
+                case UPGRADE -> missionBo.registerLevelUpAnUpgrade(userId, pick(UPGRADE_IDS));
+                case EXPLORE -> sendUnits(userId, pick(universeSeeder.getPlanetIds()), unitMissionBo::myRegisterExploreMission);
+                case GATHER -> sendUnits(userId, pick(universeSeeder.getPlanetIds()), unitMissionBo::myRegisterGatherMission);
+                case ATTACK -> sendUnits(userId, universeSeeder.getHomePlanets().get(pick(userIds)), unitMissionBo::myRegisterAttackMission);
+                case DEPLOY -> sendUnits(userId, pick(universeSeeder.getPlanetIds()), unitMissionBo::myRegisterDeploy);
+            }
+            simulationReport.addAccepted(action);
+        } catch (RuntimeException e) {
+            log.debug("Action {} of user {} rejected", action, userId, e);
+            simulationReport.addRejected(action, e);
+        }
+    }
+
+    private void sendUnits(int userId, Long targetPlanetId, Consumer<UnitMissionInformation> registration) {
+        var idleUnits = obtainedUnitRepository.findBySourcePlanetNotNullAndMissionNullAndUserId(userId);
+        if (idleUnits.isEmpty()) {
+            throw new NoIdleUnitsException();
+        }
+        var obtainedUnit = pick(idleUnits);
+        registration.accept(UnitMissionInformation.builder()
+                .sourcePlanetId(obtainedUnit.getSourcePlanet().getId())
+                .targetPlanetId(targetPlanetId)
+                .involvedUnits(List.of(selectPart(obtainedUnit)))
+                .build()
+        );
+    }
+
+    private SelectedUnit selectPart(ObtainedUnit obtainedUnit) {
+        return SelectedUnit.builder()
+                .id(obtainedUnit.getUnit().getId())
+                .count(random.nextLong(1, obtainedUnit.getCount() + 1))
+                .expirationId(obtainedUnit.getExpirationId())
+                .build();
+    }
+
+    private <T> T pick(List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    /**
+     * Not a game error, the user has nothing to send, counted as a rejected action
+     */
+    private static class NoIdleUnitsException extends RuntimeException {
+    }
+}
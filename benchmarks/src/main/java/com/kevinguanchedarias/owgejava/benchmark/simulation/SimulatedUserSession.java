@@ -0,0 +1,50 @@
+package com.kevinguanchedarias.owgejava.benchmark.simulation;
+
+import com.kevinguanchedarias.kevinsuite.commons.rest.security.TokenUser;
+import com.kevinguanchedarias.owgejava.business.audit.AuditBo;
+import lombok.experimental.UtilityClass;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.Cookie;
+import java.util.List;
+
+/**
+ * Runs game actions as if they were requested by a logged-in user, that's what the <i>my*</i> methods and the
+ * audit expect
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@UtilityClass
+public class SimulatedUserSession {
+    private static final String LOCAL_ADDRESS = "127.0.0.1";
+
+    public static void runAs(int userId, Runnable action) {
+        var tokenUser = new TokenUser();
+        tokenUser.setId(userId);
+        tokenUser.setUsername(username(userId));
+        tokenUser.setEmail(username(userId) + "@simulation.local");
+        var authentication = new UsernamePasswordAuthenticationToken(tokenUser, null, List.of());
+        authentication.setDetails(tokenUser);
+        var request = new MockHttpServletRequest();
+        request.setRemoteAddr(LOCAL_ADDRESS);
+        request.setCookies(new Cookie(AuditBo.CONTROL_COOKIE_NAME, "simulation-" + userId));
+        request.addHeader("User-Agent", "OWGE universe simulator");
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            action.run();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    public static String username(int userId) {
+        return "simulated_" + userId;
+    }
+}
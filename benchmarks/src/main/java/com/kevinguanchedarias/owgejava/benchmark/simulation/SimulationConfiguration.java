@@ -0,0 +1,86 @@
+package com.kevinguanchedarias.owgejava.benchmark.simulation;
+
+import com.github.kagkarlsson.scheduler.boot.config.DbSchedulerStarter;
+import com.kevinguanchedarias.kevinsuite.commons.rest.security.TokenConfigLoader;
+import com.kevinguanchedarias.owgejava.security.DevelopmentSgtTokenConfigLoader;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.format.support.DefaultFormattingConversionService;
+
+import java.util.List;
+
+/**
+ * Replaces the parts of the game-rest application the business beans depend on, and the MySQL database with an
+ * in-memory H2 one
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Configuration
+@Slf4j
+public class SimulationConfiguration {
+    private static final String H2_URL = "jdbc:h2:mem:owge_simulation;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,USER,KEY;DB_CLOSE_DELAY=-1";
+
+    @Value("${OWGE_SIMULATION_SCHEMA_DIR:../business/database}")
+    private String schemaDir;
+
+    @Value("${OWGE_SIMULATION_DB_POOL_SIZE:50}")
+    private int poolSize;
+
+    @Bean
+    public QueryCountingDataSource dataSource() {
+        var hikariDataSource = new HikariDataSource();
+        hikariDataSource.setJdbcUrl(H2_URL);
+        hikariDataSource.setUsername("sa");
+        hikariDataSource.setMaximumPoolSize(poolSize);
+        var loader = new MysqlDumpLoader(hikariDataSource);
+        loader.registerMysqlFunctions();
+        loader.load(List.of(
+                new FileSystemResource(schemaDir + "/02_schema.sql"),
+                new FileSystemResource(schemaDir + "/04_insert_data.sql"),
+                new ClassPathResource("simulation/universe-seed.sql")
+        ));
+        return new QueryCountingDataSource(hikariDataSource);
+    }
+
+    /**
+     * The game-rest defines it in the dao-context.xml
+     */
+    @Bean
+    public CacheManager cacheManager() {
+        return new ConcurrentMapCacheManager("improvements_user");
+    }
+
+    /**
+     * The game-rest uses the web one, the converters are added by the {@link SimulationJacksonConfigurationService}
+     */
+    @Bean
+    public ConversionService conversionService() {
+        return new DefaultFormattingConversionService();
+    }
+
+    /**
+     * The simulated users never send a token, the admin one is only required to be there
+     */
+    @Bean
+    public TokenConfigLoader adminOwgeTokenConfigLoader() {
+        return new DevelopmentSgtTokenConfigLoader();
+    }
+
+    /**
+     * The db-scheduler stores the missions, but never polls them, the {@link SimulatedMissionFirer} does it, so the
+     * lateness can be measured
+     */
+    @Bean
+    public DbSchedulerStarter dbSchedulerStarter() {
+        return () -> log.info("db-scheduler polling is disabled, missions are fired by the simulator");
+    }
+}
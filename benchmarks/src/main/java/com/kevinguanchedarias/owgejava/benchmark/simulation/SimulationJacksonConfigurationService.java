@@ -0,0 +1,40 @@
+package com.kevinguanchedarias.owgejava.benchmark.simulation;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.AllArgsConstructor;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.util.Set;
+
+/**
+ * Same mapper and converters configuration as the game-rest BootJacksonConfigurationService, the SocketIoService
+ * depends on it by name
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Service("bootJacksonConfigurationService")
+@AllArgsConstructor
+public class SimulationJacksonConfigurationService {
+    private final ObjectMapper mapper;
+    private final Set<Converter<?, ?>> converters;
+    private final ConversionService conversionService;
+
+    @PostConstruct
+    public void configureMapper() {
+        mapper.setDefaultPropertyInclusion(Include.NON_NULL);
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.registerModule(new JavaTimeModule());
+        var formattingConversionService = (DefaultFormattingConversionService) conversionService;
+        converters.forEach(formattingConversionService::addConverter);
+    }
+}
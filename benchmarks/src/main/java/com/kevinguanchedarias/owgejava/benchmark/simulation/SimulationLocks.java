@@ -0,0 +1,84 @@
+package com.kevinguanchedarias.owgejava.benchmark.simulation;
+
+import lombok.SneakyThrows;
+import lombok.experimental.UtilityClass;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * H2 replacement of the MySQL named locks used by the MysqlLockUtilService, registered as <i>GET_LOCK</i> and
+ * <i>RELEASE_LOCK</i> aliases
+ * <br>
+ * Locks are owned by the thread (not by the connection as in MySQL), which is equivalent here, as the game always
+ * releases the lock from the thread that acquired it
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@UtilityClass
+public class SimulationLocks {
+    private static final Map<String, ReentrantLock> LOCKS = new ConcurrentHashMap<>();
+    private static final LongAdder ACQUIRED = new LongAdder();
+    private static final LongAdder WAITS = new LongAdder();
+    private static final LongAdder WAIT_NANOS = new LongAdder();
+    private static final LongAdder TIMEOUTS = new LongAdder();
+
+    /**
+     * Same contract as MySQL GET_LOCK, returns 1 when obtained, 0 on timeout
+     */
+    @SneakyThrows(InterruptedException.class)
+    public static int getLock(String name, int timeoutSeconds) {
+        var lock = LOCKS.computeIfAbsent(name, key -> new ReentrantLock());
+        if (lock.tryLock()) {
+            ACQUIRED.increment();
+            return 1;
+        }
+        WAITS.increment();
+        var start = System.nanoTime();
+        var obtained = lock.tryLock(timeoutSeconds, TimeUnit.SECONDS);
+        WAIT_NANOS.add(System.nanoTime() - start);
+        if (obtained) {
+            ACQUIRED.increment();
+            return 1;
+        } else {
+            TIMEOUTS.increment();
+            return 0;
+        }
+    }
+
+    /**
+     * Same contract as MySQL RELEASE_LOCK, returns 1 when released, 0 when the lock is held by other thread, and null
+     * when nobody holds it
+     */
+    public static Integer releaseLock(String name) {
+        var lock = LOCKS.get(name);
+        if (lock == null || !lock.isLocked()) {
+            return null;
+        } else if (lock.isHeldByCurrentThread()) {
+            lock.unlock();
+            return 1;
+        } else {
+            return 0;
+        }
+    }
+
+    public static long acquired() {
+        return ACQUIRED.sum();
+    }
+
+    public static long waits() {
+        return WAITS.sum();
+    }
+
+    public static long waitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(WAIT_NANOS.sum());
+    }
+
+    public static long timeouts() {
+        return TIMEOUTS.sum();
+    }
+}
@@ -0,0 +1,129 @@
+package com.kevinguanchedarias.owgejava.benchmark.simulation;
+
+import com.kevinguanchedarias.owgejava.enumerations.MissionType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the simulation results
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Component
+@Slf4j
+public class SimulationReport {
+    private final Map<SimulatedAction, LongAdder> accepted = new EnumMap<>(SimulatedAction.class);
+    private final Map<String, LongAdder> rejected = new ConcurrentHashMap<>();
+    private final Map<MissionType, LongAdder> fired = new EnumMap<>(MissionType.class);
+    private final LongAdder failedMissions = new LongAdder();
+    private final List<Long> latenessMillis = new ArrayList<>();
+    private final QueryCountingDataSource dataSource;
+
+    private long startNanos;
+    private long endNanos;
+    private long startQueries;
+    private long startLockWaits;
+    private long startLockWaitMillis;
+
+    public SimulationReport(QueryCountingDataSource dataSource) {
+        this.dataSource = dataSource;
+        for (var action : SimulatedAction.values()) {
+            accepted.put(action, new LongAdder());
+        }
+        for (var missionType : MissionType.values()) {
+            fired.put(missionType, new LongAdder());
+        }
+    }
+
+    /**
+     * Marks the start of the measured phase, the universe creation is not measured
+     */
+    public void start() {
+        startQueries = dataSource.queries();
+        startLockWaits = SimulationLocks.waits();
+        startLockWaitMillis = SimulationLocks.waitMillis();
+        startNanos = System.nanoTime();
+    }
+
+    public void end() {
+        endNanos = System.nanoTime();
+    }
+
+    public void addAccepted(SimulatedAction action) {
+        accepted.get(action).increment();
+    }
+
+    public void addRejected(SimulatedAction action, Exception e) {
+        rejected.computeIfAbsent(action + " " + e.getClass().getSimpleName(), key -> new LongAdder()).increment();
+    }
+
+    public void addFired(MissionType missionType, long lateness) {
+        fired.get(missionType).increment();
+        synchronized (latenessMillis) {
+            latenessMillis.add(lateness);
+        }
+    }
+
+    public void addFailed() {
+        failedMissions.increment();
+    }
+
+    public long firedCount() {
+        return fired.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public void print() {
+        var seconds = (endNanos - startNanos) / 1_000_000_000D;
+        var firedCount = firedCount();
+        var queries = dataSource.queries() - startQueries;
+        log.info("===== Universe load simulation report =====");
+        log.info("Elapsed: {} s", format(seconds));
+        log.info("Accepted actions: {}", filterEmpty(accepted));
+        log.info("Rejected actions: {}", new TreeMap<>(rejected));
+        log.info("Fired missions: {} ({} failed), by type: {}", firedCount, failedMissions.sum(), filterEmpty(fired));
+        log.info("Missions/sec: {}", format(firedCount / seconds));
+        log.info("Mission lateness: p50 {} ms, p99 {} ms, max {} ms", percentile(0.5), percentile(0.99), percentile(1));
+        log.info(
+                "Lock waits: {} of {} acquisitions, waited {} ms, timeouts {}",
+                SimulationLocks.waits() - startLockWaits,
+                SimulationLocks.acquired(),
+                SimulationLocks.waitMillis() - startLockWaitMillis,
+                SimulationLocks.timeouts()
+        );
+        log.info("Queries: {} ({} per mission), batches {}", queries, firedCount == 0 ? "-" : queries / firedCount, dataSource.batches());
+    }
+
+    private long percentile(double percentile) {
+        synchronized (latenessMillis) {
+            if (latenessMillis.isEmpty()) {
+                return 0;
+            }
+            var sorted = latenessMillis.stream().sorted().toList();
+            var index = (int) Math.ceil(percentile * sorted.size()) - 1;
+            return sorted.get(Math.max(index, 0));
+        }
+    }
+
+    private <K> Map<K, Long> filterEmpty(Map<K, LongAdder> source) {
+        var retVal = new TreeMap<K, Long>();
+        source.forEach((key, value) -> {
+            if (value.sum() > 0) {
+                retVal.put(key, value.sum());
+            }
+        });
+        return retVal;
+    }
+
+    private String format(double value) {
+        return String.format("%.2f", value);
+    }
+}
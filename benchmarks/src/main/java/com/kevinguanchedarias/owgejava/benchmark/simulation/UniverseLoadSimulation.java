@@ -0,0 +1,46 @@
+package com.kevinguanchedarias.owgejava.benchmark.simulation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Creates the universe, runs the traffic, waits for the missions to finish, and prints the report
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UniverseLoadSimulation {
+    private final UniverseSeeder universeSeeder;
+    private final SimulatedTrafficGenerator simulatedTrafficGenerator;
+    private final SimulatedMissionFirer simulatedMissionFirer;
+    private final SimulationReport simulationReport;
+
+    @Value("${OWGE_SIMULATION_DRAIN_SECONDS:120}")
+    private long drainSeconds;
+
+    /**
+     * @return false if the missions didn't finish in time
+     */
+    public boolean run() {
+        universeSeeder.seed();
+        simulationReport.start();
+        simulatedMissionFirer.start();
+        simulatedTrafficGenerator.run();
+        log.info("Traffic finished, waiting for {} pending missions", simulatedMissionFirer.pendingMissions());
+        var drained = simulatedMissionFirer.awaitDrained(Duration.ofSeconds(drainSeconds));
+        simulatedMissionFirer.stop();
+        if (!drained) {
+            log.warn("Missions didn't finish in {} seconds, {} are still pending", drainSeconds, simulatedMissionFirer.pendingMissions());
+        }
+        simulationReport.end();
+        simulationReport.print();
+        return drained;
+    }
+}
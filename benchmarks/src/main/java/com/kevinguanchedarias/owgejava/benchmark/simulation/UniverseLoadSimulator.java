@@ -0,0 +1,59 @@
+package com.kevinguanchedarias.owgejava.benchmark.simulation;
+
+import com.kevinguanchedarias.taggablecache.configuration.TaggableCacheDefaultConfiguration;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jdbc.repository.config.EnableJdbcRepositories;
+import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Headless universe load simulator, boots the business module against an in-memory H2 database, subscribes
+ * synthetic users, and drives seeded random player traffic, the missions are fired by the simulator, to measure their
+ * lateness
+ * <br>
+ * Run it from the benchmarks folder (the schema is read from <i>../business/database</i>), configured by the
+ * <i>OWGE_SIMULATION_*</i> properties, for example:
+ * <pre>
+ * java -cp target/owgejava-benchmarks-all.jar -DOWGE_SIMULATION_USERS=200 \
+ *     com.kevinguanchedarias.owgejava.benchmark.simulation.UniverseLoadSimulator
+ * </pre>
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {SecurityAutoConfiguration.class, SecurityFilterAutoConfiguration.class,
+        UserDetailsServiceAutoConfiguration.class})
+@AutoConfigurationPackage(basePackages = "com.kevinguanchedarias.owgejava")
+@ComponentScan(
+        basePackages = "com.kevinguanchedarias.owgejava",
+        excludeFilters = @ComponentScan.Filter(type = FilterType.REGEX, pattern = "com\\.kevinguanchedarias\\.owgejava\\.(fake|mock|test)\\..*")
+)
+@EnableCaching
+@EnableAsync
+@EnableRetry
+@Import(TaggableCacheDefaultConfiguration.class)
+@EnableJdbcRepositories(basePackages = "com.kevinguanchedarias.owgejava.repository.jdbc")
+public class UniverseLoadSimulator {
+
+    public static void main(String[] args) {
+        var context = new SpringApplicationBuilder(UniverseLoadSimulator.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.config.name=universe-simulator")
+                .run(args);
+        var drained = context.getBean(UniverseLoadSimulation.class).run();
+        System.exit(SpringApplication.exit(context, () -> drained ? 0 : 1));
+    }
+}
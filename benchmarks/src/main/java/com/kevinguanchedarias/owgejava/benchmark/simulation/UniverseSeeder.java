@@ -0,0 +1,94 @@
+package com.kevinguanchedarias.owgejava.benchmark.simulation;
+
+import com.kevinguanchedarias.owgejava.business.ConfigurationBo;
+import com.kevinguanchedarias.owgejava.business.GalaxyBo;
+import com.kevinguanchedarias.owgejava.business.UserStorageBo;
+import com.kevinguanchedarias.owgejava.entity.Galaxy;
+import com.kevinguanchedarias.owgejava.entity.Planet;
+import com.kevinguanchedarias.owgejava.enumerations.MissionType;
+import com.kevinguanchedarias.owgejava.repository.UserStorageRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static com.kevinguanchedarias.owgejava.business.ConfigurationBo.MISSION_TIME_INDEX_OF_KEY;
+
+/**
+ * Creates the dynamic part of the universe, the galaxy and the subscribed users, the static content comes from
+ * <i>simulation/universe-seed.sql</i>
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UniverseSeeder {
+    public static final int FACTION_ID = 1;
+    public static final List<Integer> UNIT_IDS = List.of(1, 2, 3);
+    public static final List<Integer> UPGRADE_IDS = List.of(1, 2);
+    private static final int FIRST_USER_ID = 1;
+    private static final List<MissionType> TIMED_MISSION_TYPES = List.of(
+            MissionType.EXPLORE, MissionType.GATHER, MissionType.ESTABLISH_BASE, MissionType.ATTACK,
+            MissionType.COUNTERATTACK, MissionType.CONQUEST, MissionType.DEPLOY
+    );
+
+    private final GalaxyBo galaxyBo;
+    private final UserStorageBo userStorageBo;
+    private final UserStorageRepository userStorageRepository;
+    private final ConfigurationBo configurationBo;
+
+    @Value("${OWGE_SIMULATION_USERS:50}")
+    private int usersCount;
+
+    @Value("${OWGE_SIMULATION_SECTORS:4}")
+    private long sectors;
+
+    @Value("${OWGE_SIMULATION_QUADRANTS:4}")
+    private long quadrants;
+
+    @Value("${OWGE_SIMULATION_PLANETS_PER_QUADRANT:20}")
+    private long planetsPerQuadrant;
+
+    @Value("${OWGE_SIMULATION_MISSION_SECONDS:10}")
+    private String missionSeconds;
+
+    @Getter
+    private List<Long> planetIds;
+
+    /**
+     * Home planet of each user, by user id
+     */
+    @Getter
+    private final Map<Integer, Long> homePlanets = new LinkedHashMap<>();
+
+    public void seed() {
+        TIMED_MISSION_TYPES.forEach(missionType -> configurationBo.saveByKeyAndValue(MISSION_TIME_INDEX_OF_KEY + missionType.name(), missionSeconds));
+        configurationBo.saveByKeyAndValue("ZERO_BUILD_TIME", "TRUE");
+        configurationBo.saveByKeyAndValue("ZERO_UPGRADE_TIME", "TRUE");
+
+        var galaxy = galaxyBo.save(Galaxy.builder()
+                .name("Simulation")
+                .sectors(sectors)
+                .quadrants(quadrants)
+                .numPlanets(planetsPerQuadrant)
+                .orderNumber(1)
+                .build()
+        );
+        planetIds = galaxy.getPlanets().stream().map(Planet::getId).toList();
+        log.info("Created galaxy with {} planets", planetIds.size());
+
+        IntStream.range(FIRST_USER_ID, FIRST_USER_ID + usersCount).forEach(userId -> {
+            SimulatedUserSession.runAs(userId, () -> userStorageBo.subscribe(FACTION_ID));
+            homePlanets.put(userId, userStorageRepository.findById(userId).orElseThrow().getHomePlanet().getId());
+        });
+        log.info("Subscribed {} users", homePlanets.size());
+    }
+}
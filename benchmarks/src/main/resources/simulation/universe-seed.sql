@@ -0,0 +1,53 @@
+-- Static content of the simulated universe, the galaxy and the users are created by the simulator itself
+-- Units have speed 100, so mission times are the configured MISSION_TIME_* and don't depend on the distance
+
+-- The mission limit comes from the improvement sources (obtained units and upgrades), every obtained unit row adds 2
+INSERT INTO `improvements` (`id`, `more_soldiers_production`, `more_primary_resource_production`, `more_secondary_resource_production`, `more_energy_production`, `more_charge_capacity`, `more_missions_value`, `more_upgrade_research_speed`, `more_unit_build_speed`) VALUES
+(1, 0, 0, 0, 0, 0, 10, 0, 0),
+(2, 0, 5, 5, 0, 0, 0, 0, 0),
+(3, 0, 0, 0, 0, 0, 1, 0, 0),
+(4, 0, 0, 0, 0, 0, 2, 0, 0),
+(5, 0, 0, 0, 0, 0, 2, 0, 0),
+(6, 0, 0, 0, 0, 0, 2, 0, 0);
+
+INSERT INTO `factions` (`id`, `hidden`, `name`, `description`, `primary_resource_name`, `secondary_resource_name`, `energy_name`, `initial_primary_resource`, `initial_secondary_resource`, `initial_energy`, `primary_resource_production`, `secondary_resource_production`, `max_planets`, `improvement_id`, `cloned_improvements`, `custom_primary_gather_percentage`, `custom_secondary_gather_percentage`) VALUES
+(1, 0, 'Simulated', 'Faction used by the load simulator', 'Metal', 'Crystal', 'Energy', 5000000, 5000000, 10000, 10, 10, 10, 1, 0, 0, 0);
+
+INSERT INTO `speed_impact_groups` (`id`, `name`, `is_fixed`, `mission_explore`, `mission_gather`, `mission_establish_base`, `mission_attack`, `mission_conquest`, `mission_counterattack`, `can_explore`, `can_gather`, `can_establish_base`, `can_attack`, `can_counterattack`, `can_conquest`, `can_deploy`) VALUES
+(1, 'Simulated', 0, 0, 0, 0, 0, 0, 0, 'ANY', 'ANY', 'ANY', 'ANY', 'ANY', 'ANY', 'ANY');
+
+INSERT INTO `unit_types` (`id`, `name`, `max_count`, `parent_type`, `can_explore`, `can_gather`, `can_establish_base`, `can_attack`, `can_counterattack`, `can_conquest`, `can_deploy`, `speed_impact_group_id`, `has_to_inherit_improvements`) VALUES
+(1, 'Scout', NULL, NULL, 'ANY', 'ANY', 'NONE', 'NONE', 'NONE', 'NONE', 'ANY', 1, 0),
+(2, 'Warship', NULL, NULL, 'ANY', 'NONE', 'NONE', 'ANY', 'ANY', 'NONE', 'ANY', 1, 0);
+
+INSERT INTO `units` (`id`, `order_number`, `name`, `display_in_requirements`, `points`, `description`, `time`, `primary_resource`, `secondary_resource`, `energy`, `type`, `attack`, `health`, `shield`, `charge`, `is_unique`, `can_fast_explore`, `speed`, `improvement_id`, `cloned_improvements`, `bypass_shield`, `is_invisible`, `stored_weight`) VALUES
+(1, 1, 'Probe', 0, 1, 'Explores and gathers', 10, 10, 10, 0, 1, 1, 5, 0, 10, 0, 0, 100, 4, 0, 0, 0, 1),
+(2, 2, 'Fighter', 0, 5, 'Light attack unit', 20, 50, 20, 0, 2, 10, 20, 5, 0, 0, 0, 100, 5, 0, 0, 0, 1),
+(3, 3, 'Cruiser', 0, 20, 'Heavy attack unit', 60, 200, 100, 0, 2, 40, 100, 20, 0, 0, 0, 100, 6, 0, 0, 0, 1);
+
+INSERT INTO `upgrade_types` (`id`, `name`) VALUES
+(1, 'Simulated');
+
+INSERT INTO `upgrades` (`id`, `name`, `points`, `description`, `time`, `primary_resource`, `secondary_resource`, `type`, `level_effect`, `improvement_id`, `cloned_improvements`) VALUES
+(1, 'Mining', 10, 'More resources production', 60, 100, 100, 1, 20, 2, 0),
+(2, 'Logistics', 10, 'More missions', 60, 100, 100, 1, 20, 3, 0);
+
+INSERT INTO `object_relations` (`id`, `object_description`, `reference_id`) VALUES
+(1, 'UNIT', 1),
+(2, 'UNIT', 2),
+(3, 'UNIT', 3),
+(4, 'UPGRADE', 1),
+(5, 'UPGRADE', 2),
+(6, 'SPEED_IMPACT_GROUP', 1);
+
+-- Everything is unlocked by selecting the faction (requirement 3 is BEEN_RACE)
+INSERT INTO `requirements_information` (`id`, `relation_id`, `requirement_id`, `second_value`, `third_value`) VALUES
+(1, 1, 3, 1, NULL),
+(2, 2, 3, 1, NULL),
+(3, 3, 3, 1, NULL),
+(4, 4, 3, 1, NULL),
+(5, 5, 3, 1, NULL);
+
+-- The admin users are never authenticated, the token loader only requires it to exist
+INSERT INTO `configuration` (`name`, `display_name`, `value`, `privileged`) VALUES
+('JWT_SECRET', 'JWT secret', 'simulation', 1);
@@ -364,7 +364,8 @@ CREATE TABLE `missions` (
   `report_id` bigint UNSIGNED DEFAULT NULL,
   `attemps` tinyint UNSIGNED NOT NULL DEFAULT '1',
   `resolved` tinyint NOT NULL,
-  `invisible` tinyint NOT NULL
+  `invisible` tinyint NOT NULL,
+  `attack_eligible_from` datetime DEFAULT NULL COMMENT 'Since when the units are involved in the attacks to the target planet, only for conquest missions'
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8;
 
 -- --------------------------------------------------------
@@ -1194,7 +1195,7 @@ CREATE TABLE `visited_tutorial_entries` (
 CREATE TABLE `websocket_events_information` (
   `event_name` varchar(100) NOT NULL,
   `user_id` int NOT NULL,
-  `last_sent` datetime NOT NULL
+  `last_sent` datetime(3) NOT NULL
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8;
 
 -- --------------------------------------------------------
@@ -1277,7 +1278,8 @@ ALTER TABLE `audit`
   ADD PRIMARY KEY (`id`),
   ADD KEY `fk_audit_related_user` (`user_id`),
   ADD KEY `ipv4` (`ipv4`),
-  ADD KEY `ipv6` (`ipv6`);
+  ADD KEY `ipv6` (`ipv6`),
+  ADD KEY `creation_date` (`creation_date`);
 
 --
 -- Index pour la table `configuration`
@@ -1374,7 +1376,9 @@ ALTER TABLE `missions`
   ADD KEY `type` (`type`),
   ADD KEY `user_id` (`user_id`),
   ADD KEY `related_mission` (`related_mission`),
-  ADD KEY `report` (`report_id`);
+  ADD KEY `report` (`report_id`),
+  ADD KEY `resolved_termination_date` (`resolved`,`termination_date`),
+  ADD KEY `target_planet_attack_eligible_from` (`target_planet`,`attack_eligible_from`);
 
 --
 -- Index pour la table `mission_information`
@@ -1389,7 +1393,8 @@ ALTER TABLE `mission_information`
 --
 ALTER TABLE `mission_reports`
   ADD PRIMARY KEY (`id`),
-  ADD KEY `user_id` (`user_id`);
+  ADD KEY `user_id` (`user_id`),
+  ADD KEY `report_date` (`report_date`);
 
 --
 -- Index pour la table `mission_types`
@@ -1613,13 +1618,15 @@ ALTER TABLE `stored_units`
 --
 ALTER TABLE `suspicions`
   ADD PRIMARY KEY (`id`),
-  ADD KEY `user_id` (`user_id`,`audit_id`);
+  ADD KEY `user_id` (`user_id`,`audit_id`),
+  ADD KEY `audit_id` (`audit_id`);
 
 --
 -- Index pour la table `system_messages`
 --
 ALTER TABLE `system_messages`
-  ADD PRIMARY KEY (`id`);
+  ADD PRIMARY KEY (`id`),
+  ADD KEY `creation_date` (`creation_date`);
 
 --
 -- Index pour la table `time_specials`
@@ -0,0 +1,25 @@
+ALTER TABLE `mission_reports`
+    ADD INDEX (`report_date`);
+
+ALTER TABLE `missions`
+    ADD INDEX `resolved_termination_date` (`resolved`, `termination_date`);
+
+ALTER TABLE `system_messages`
+    ADD INDEX (`creation_date`);
+
+ALTER TABLE `audit`
+    ADD INDEX (`creation_date`);
+
+ALTER TABLE `suspicions`
+    ADD INDEX (`audit_id`);
+
+ALTER TABLE `websocket_events_information`
+    MODIFY `last_sent` DATETIME(3) NOT NULL;
+
+ALTER TABLE `missions`
+    ADD `attack_eligible_from` DATETIME NULL DEFAULT NULL COMMENT 'Since when the units are involved in the attacks to the target planet, only for conquest missions',
+    ADD INDEX `target_planet_attack_eligible_from` (`target_planet`, `attack_eligible_from`);
+
+UPDATE `missions` m INNER JOIN `mission_types` mt ON mt.id = m.type
+SET m.attack_eligible_from = DATE_ADD(m.starting_date, INTERVAL ROUND(m.required_time * 100000) MICROSECOND)
+WHERE mt.code = 'CONQUEST' AND m.resolved = 0;
@@ -21,17 +21,22 @@ public abstract class AbstractScheduledTasksManagerService implements ScheduledT
 	private static final Logger ABSTRACT_LOGGER = Logger.getLogger(AbstractScheduledTasksManagerService.class);
 
 	protected Map<String, List<Consumer<ScheduledTask>>> handlers = new HashMap<>();
+	protected Map<String, Consumer<List<ScheduledTask>>> batchHandlers = new HashMap<>();
+	protected Map<String, String> orderingGroups = new HashMap<>();
 
 	@Override
 	public void addHandler(String event, Consumer<ScheduledTask> consumer) {
-		List<Consumer<ScheduledTask>> eventHandlers;
-		if (handlers.containsKey(event)) {
-			eventHandlers = handlers.get(event);
-		} else {
-			eventHandlers = new ArrayList<>();
-			eventHandlers.add(consumer);
-		}
-		handlers.put(event, eventHandlers);
+		handlers.computeIfAbsent(event, key -> new ArrayList<>()).add(consumer);
+	}
+
+	@Override
+	public void addBatchHandler(String event, Consumer<List<ScheduledTask>> consumer) {
+		batchHandlers.put(event, consumer);
+	}
+
+	@Override
+	public void setOrderingGroup(String event, String group) {
+		orderingGroups.put(event, group);
 	}
 
 	/**
@@ -51,4 +56,39 @@ public abstract class AbstractScheduledTasksManagerService implements ScheduledT
 			ABSTRACT_LOGGER.warn("No handler for event " + event);
 		}
 	}
+
+	/**
+	 * Fires the batch handler of the event, or the handlers of each task if the
+	 * event doesn't have one
+	 *
+	 * @param tasks Tasks of the event
+	 * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+	 * @since 0.11.4
+	 */
+	protected void fireHandlersForBatch(String event, List<ScheduledTask> tasks) {
+		if (batchHandlers.containsKey(event)) {
+			batchHandlers.get(event).accept(tasks);
+		} else {
+			tasks.forEach(this::fireHandlersForEvent);
+		}
+	}
+
+	/**
+	 * @return True if the tasks of the event can be delivered together
+	 * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+	 * @since 0.11.4
+	 */
+	protected boolean isBatched(String event) {
+		return batchHandlers.containsKey(event);
+	}
+
+	/**
+	 * @return The key of the task, tasks with the same key must not run at the
+	 *         same time
+	 * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+	 * @since 0.11.4
+	 */
+	protected String resolveOrderingKey(ScheduledTask task) {
+		return orderingGroups.getOrDefault(task.getType(), task.getType()) + ":" + task.getContent();
+	}
 }
@@ -3,6 +3,7 @@ package com.kevinguanchedarias.owgejava.business;
 import com.kevinguanchedarias.owgejava.business.requirement.listener.RequirementComplianceListener;
 import com.kevinguanchedarias.owgejava.business.timespecial.UnlockableTimeSpecialService;
 import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitEventEmitter;
+import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitReadModel;
 import com.kevinguanchedarias.owgejava.business.user.UserSessionService;
 import com.kevinguanchedarias.owgejava.business.user.listener.UserDeleteListener;
 import com.kevinguanchedarias.owgejava.dto.ActiveTimeSpecialDto;
@@ -82,9 +83,14 @@ public class ActiveTimeSpecialBo implements
     @Autowired
     private transient UnlockableTimeSpecialService unlockableTimeSpecialService;
 
+    @Autowired
+    private transient ObtainedUnitReadModel obtainedUnitReadModel;
+
     @PostConstruct
     public void init() {
         improvementBo.addImprovementSource(this);
+        scheduledTasksManagerService.setOrderingGroup("TIME_SPECIAL_EFFECT_END", ActiveTimeSpecial.class.getSimpleName());
+        scheduledTasksManagerService.setOrderingGroup("TIME_SPECIAL_IS_READY", ActiveTimeSpecial.class.getSimpleName());
         scheduledTasksManagerService.addHandler("TIME_SPECIAL_EFFECT_END", task -> {
             Long id = resolveTaskId(task);
             deactivate(id);
@@ -279,6 +285,7 @@ public class ActiveTimeSpecialBo implements
     }
 
     private void emitIfActivationAffectingUnits(ActiveTimeSpecial activeTimeSpecial) {
+        obtainedUnitReadModel.invalidate(activeTimeSpecial.getUser().getId());
         if (ruleRepository.existsByOriginTypeAndOriginIdAndDestinationTypeIn(
                 ObjectEnum.TIME_SPECIAL.name(),
                 activeTimeSpecial.getTimeSpecial().getId().longValue(),
@@ -1,7 +1,8 @@
 package com.kevinguanchedarias.owgejava.business;
 
-import com.kevinguanchedarias.owgejava.util.ThreadUtil;
-import lombok.extern.slf4j.Slf4j;
+import com.kevinguanchedarias.owgejava.business.async.AsyncExecutorService;
+import com.kevinguanchedarias.owgejava.enumerations.AsyncPool;
+import lombok.AllArgsConstructor;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
@@ -13,8 +14,9 @@ import java.util.function.Function;
  * @since 0.9.6
  */
 @Service
-@Slf4j
+@AllArgsConstructor
 public class AsyncRunnerBo {
+    private final AsyncExecutorService asyncExecutorService;
 
     /**
      * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
@@ -26,33 +28,30 @@ public class AsyncRunnerBo {
     }
 
     /**
+     * Runs the task in the {@link AsyncPool#EMIT} pool
+     * <br>
+     * As of 0.11.4 uses a bounded pool instead of creating a thread
+     *
      * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
      * @since 0.9.10
      */
     public void runAsyncWithoutContext(Runnable supplier) {
-        new Thread(supplier).start();
+        asyncExecutorService.execute(AsyncPool.EMIT, supplier);
     }
 
     /**
+     * As of 0.11.4 the delay is waited by a scheduler instead of by a sleeping thread, and the thread priority is
+     * defined by the pool
+     *
      * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
      * @since 0.9.10
      */
-    public void runAsyncWithoutContextDelayed(Runnable task, long delay, int priority) {
-        Thread thread = new Thread(() -> {
-            try {
-                ThreadUtil.sleep(delay);
-            } catch (InterruptedException e) {
-                log.error("Da fuck?", e);
-                ThreadUtil.currentThread().interrupt();
-            }
-            task.run();
-        });
-        thread.setPriority(priority);
-        thread.start();
+    public void runAsyncWithoutContextDelayed(Runnable task, long delay, AsyncPool pool) {
+        asyncExecutorService.schedule(pool, task, delay);
     }
 
     public void runAsyncWithoutContextDelayed(Runnable task, long delay) {
-        runAsyncWithoutContextDelayed(task, delay, Thread.NORM_PRIORITY - 1);
+        runAsyncWithoutContextDelayed(task, delay, AsyncPool.EMIT);
     }
 
     public void runAsyncWithoutContextDelayed(Runnable task) {
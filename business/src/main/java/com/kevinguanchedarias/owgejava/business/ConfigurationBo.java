@@ -4,10 +4,12 @@ import com.kevinguanchedarias.owgejava.entity.Configuration;
 import com.kevinguanchedarias.owgejava.enumerations.DeployMissionConfigurationEnum;
 import com.kevinguanchedarias.owgejava.exception.SgtBackendConfigurationNotFoundException;
 import com.kevinguanchedarias.owgejava.exception.SgtBackendInvalidInputException;
+import com.kevinguanchedarias.owgejava.pojo.ConfigurationChangedEvent;
 import com.kevinguanchedarias.owgejava.repository.ConfigurationRepository;
 import com.kevinguanchedarias.taggablecache.aspect.TaggableCacheable;
 import lombok.AllArgsConstructor;
 import org.apache.log4j.Logger;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
@@ -30,6 +32,7 @@ public class ConfigurationBo implements Serializable {
 
 
     private final ConfigurationRepository configurationRepository;
+    private final transient ApplicationEventPublisher applicationEventPublisher;
 
     @PostConstruct
     public void init() {
@@ -94,7 +97,9 @@ public class ConfigurationBo implements Serializable {
         if (isOfTypeMissionTime(configuration)) {
             checkCanSaveMisisonTyme(configuration);
         }
-        return configurationRepository.saveAndFlush(configuration);
+        var saved = configurationRepository.saveAndFlush(configuration);
+        applicationEventPublisher.publishEvent(new ConfigurationChangedEvent(configuration.getName()));
+        return saved;
     }
 
     /**
@@ -105,6 +110,7 @@ public class ConfigurationBo implements Serializable {
      */
     public void deleteOne(String name) {
         configurationRepository.deleteById(name);
+        applicationEventPublisher.publishEvent(new ConfigurationChangedEvent(name));
     }
 
     public void saveByKeyAndValue(String key, String value) {
@@ -4,6 +4,7 @@ import com.kevinguanchedarias.owgejava.business.mission.*;
 import com.kevinguanchedarias.owgejava.business.mission.cancel.MissionCancelBuildService;
 import com.kevinguanchedarias.owgejava.business.planet.PlanetCheckerService;
 import com.kevinguanchedarias.owgejava.business.planet.PlanetLockUtilService;
+import com.kevinguanchedarias.owgejava.business.retention.RetentionPurgeService;
 import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitEventEmitter;
 import com.kevinguanchedarias.owgejava.business.unit.obtained.ObtainedUnitBo;
 import com.kevinguanchedarias.owgejava.business.unit.obtained.ObtainedUnitImprovementCalculationService;
@@ -19,6 +20,7 @@ import com.kevinguanchedarias.owgejava.enumerations.MissionType;
 import com.kevinguanchedarias.owgejava.enumerations.ObjectEnum;
 import com.kevinguanchedarias.owgejava.exception.*;
 import com.kevinguanchedarias.owgejava.pojo.ResourceRequirementsPojo;
+import com.kevinguanchedarias.owgejava.pojo.RetentionPurgeDefinition;
 import com.kevinguanchedarias.owgejava.repository.MissionRepository;
 import com.kevinguanchedarias.owgejava.repository.ObtainedUnitRepository;
 import com.kevinguanchedarias.owgejava.repository.ObtainedUpgradeRepository;
@@ -50,6 +52,12 @@ public class MissionBo implements UserDeleteListener {
 
     private static final Logger LOG = Logger.getLogger(MissionBo.class);
     private static final int DAYS = 60;
+    private static final RetentionPurgeDefinition OLD_MISSIONS_PURGE_DEFINITION = RetentionPurgeDefinition.builder()
+            .table("missions")
+            .condition("resolved = 1 AND termination_date < :" + RetentionPurgeService.LIMIT_DATE_PARAM)
+            .beforeDeleteStatement("UPDATE missions SET related_mission = NULL WHERE related_mission IN (:" + RetentionPurgeService.IDS_PARAM + ")")
+            .beforeDeleteStatement("DELETE FROM mission_information WHERE mission_id IN (:" + RetentionPurgeService.IDS_PARAM + ")")
+            .build();
 
     private final EntityManager entityManager;
     private final ConfigurationBo configurationBo;
@@ -83,6 +91,7 @@ public class MissionBo implements UserDeleteListener {
     private final MissionSchedulerService missionSchedulerService;
     private final MissionBaseService missionBaseService;
     private final UserEventEmitterBo userEventEmitterBo;
+    private final RetentionPurgeService retentionPurgeService;
 
     @EventListener(ApplicationReadyEvent.class)
     public void onApplicationReady() {
@@ -92,13 +101,7 @@ public class MissionBo implements UserDeleteListener {
     @Scheduled(cron = "0 0 2 * * *")
     public void deleteOldMissions() {
         var limitDate = LocalDateTime.now(ZoneOffset.UTC).minusDays(DAYS);
-        transactionUtilService.runWithRequired(() ->
-                missionRepository.findByResolvedTrueAndTerminationDateLessThan(limitDate)
-                        .forEach(mission -> {
-                            mission.getLinkedRelated().forEach(linked -> linked.setRelatedMission(null));
-                            missionRepository.delete(mission);
-                        })
-        );
+        retentionPurgeService.purge(OLD_MISSIONS_PURGE_DEFINITION, limitDate);
     }
 
     /**
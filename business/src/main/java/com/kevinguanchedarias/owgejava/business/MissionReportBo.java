@@ -4,12 +4,14 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kevinguanchedarias.kevinsuite.commons.exception.CommonException;
 import com.kevinguanchedarias.owgejava.builder.UnitMissionReportBuilder;
+import com.kevinguanchedarias.owgejava.business.retention.RetentionPurgeService;
 import com.kevinguanchedarias.owgejava.business.user.listener.UserDeleteListener;
 import com.kevinguanchedarias.owgejava.business.util.TransactionUtilService;
+import com.kevinguanchedarias.owgejava.configurations.datasource.ReadReplica;
 import com.kevinguanchedarias.owgejava.dto.MissionReportDto;
-import com.kevinguanchedarias.owgejava.entity.Mission;
 import com.kevinguanchedarias.owgejava.entity.MissionReport;
 import com.kevinguanchedarias.owgejava.entity.UserStorage;
+import com.kevinguanchedarias.owgejava.pojo.RetentionPurgeDefinition;
 import com.kevinguanchedarias.owgejava.repository.MissionReportRepository;
 import com.kevinguanchedarias.owgejava.repository.MissionRepository;
 import com.kevinguanchedarias.owgejava.responses.MissionReportResponse;
@@ -24,9 +26,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.io.Serial;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -43,12 +46,18 @@ public class MissionReportBo implements BaseBo<Long, MissionReport, MissionRepor
 
     private static final Integer DEFAULT_PAGE_SIZE = 15;
     private static final int DAYS_TO_PRESERVE_MESSAGES = 15;
+    private static final RetentionPurgeDefinition OLD_REPORTS_PURGE_DEFINITION = RetentionPurgeDefinition.builder()
+            .table("mission_reports")
+            .condition("report_date < :" + RetentionPurgeService.LIMIT_DATE_PARAM)
+            .beforeDeleteStatement("UPDATE missions SET report_id = NULL WHERE report_id IN (:" + RetentionPurgeService.IDS_PARAM + ")")
+            .build();
 
     private final MissionReportRepository missionReportRepository;
     private final transient SocketIoService socketIoService;
     private final transient TransactionUtilService transactionUtilService;
     private final ObjectMapper mapper;
     private final MissionRepository missionRepository;
+    private final transient RetentionPurgeService retentionPurgeService;
 
     @Override
     public JpaRepository<MissionReport, Long> getRepository() {
@@ -93,27 +102,15 @@ public class MissionReportBo implements BaseBo<Long, MissionReport, MissionRepor
      */
     @EventListener(ApplicationReadyEvent.class)
     @Scheduled(cron = "0 0 1 * * *")
-    @Transactional
     public void deleteOldMessages() {
-        HashSet<Integer> affectedUsers = new HashSet<>();
-        int page = 0;
-        List<MissionReport> reports;
-        do {
-            reports = missionReportRepository.findByReportDateLessThan(
-                    new Date(new Date().getTime() - (86400 * 1000 * DAYS_TO_PRESERVE_MESSAGES)),
-                    PageRequest.of(page, 50));
-            reports.forEach(report -> {
-                Mission mission = report.getMission();
-                if (mission != null) {
-                    mission.setReport(null);
-                    missionRepository.save(mission);
-                }
-                affectedUsers.add(report.getUser().getId());
-                missionReportRepository.delete(report);
-            });
-            page++;
-        } while (!reports.isEmpty());
-        CompletableFuture.delayedExecutor(15, TimeUnit.SECONDS).execute(() -> affectedUsers.forEach(this::emitToUser));
+        var limitDate = LocalDateTime.now().minusDays(DAYS_TO_PRESERVE_MESSAGES);
+        var affectedUsers = missionReportRepository.findDistinctUserIdByReportDateLessThan(
+                Date.from(limitDate.atZone(ZoneId.systemDefault()).toInstant())
+        );
+        if (!affectedUsers.isEmpty()) {
+            retentionPurgeService.purge(OLD_REPORTS_PURGE_DEFINITION, limitDate);
+            CompletableFuture.delayedExecutor(15, TimeUnit.SECONDS).execute(() -> affectedUsers.forEach(this::emitToUser));
+        }
     }
 
     /**
@@ -122,6 +119,7 @@ public class MissionReportBo implements BaseBo<Long, MissionReport, MissionRepor
      * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
      * @since 0.9.0
      */
+    @ReadReplica
     public MissionReportResponse findMissionReportsInformation(Integer userId, int page) {
         MissionReportResponse missionReportResponse = new MissionReportResponse();
         missionReportResponse.setPage(page);
@@ -132,6 +130,7 @@ public class MissionReportBo implements BaseBo<Long, MissionReport, MissionRepor
         return missionReportResponse;
     }
 
+    @ReadReplica
     public List<MissionReportDto> findPaginatedByUserId(Integer userId, Integer page) {
         List<MissionReport> retVal = missionReportRepository.findByUserIdOrderByIdDesc(userId,
                 PageRequest.of(page, DEFAULT_PAGE_SIZE));
@@ -187,6 +186,7 @@ public class MissionReportBo implements BaseBo<Long, MissionReport, MissionRepor
      * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
      * @since 0.9.0
      */
+    @ReadReplica
     public MissionReportResponse findUnreadCount(Integer userId, MissionReportResponse missionReportResponse) {
         MissionReportResponse retVal = missionReportResponse == null ? new MissionReportResponse()
                 : missionReportResponse;
@@ -1,6 +1,7 @@
 package com.kevinguanchedarias.owgejava.business;
 
 import com.github.kagkarlsson.scheduler.Scheduler;
+import com.kevinguanchedarias.owgejava.business.mission.MissionTelemetryService;
 import com.kevinguanchedarias.owgejava.entity.Mission;
 import com.kevinguanchedarias.owgejava.job.DbSchedulerRealizationJob;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +11,8 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 /**
  * <b>NOTICE:</b> Due to changes in the way Spring Boot handles Quartz jobs, the
@@ -25,6 +28,9 @@ public class MissionSchedulerService {
     @Lazy
     private Scheduler scheduler;
 
+    @Autowired
+    private MissionTelemetryService missionTelemetryService;
+
     /**
      * Schedules a mission <br>
      *
@@ -33,10 +39,27 @@ public class MissionSchedulerService {
      */
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void scheduleMission(Mission mission) {
-        scheduler.schedule(
+        missionTelemetryService.inSpan(MissionTelemetryService.SCHEDULE_SPAN, mission, () -> scheduler.schedule(
                 DbSchedulerRealizationJob.BASIC_ONE_TIME_TASK.instance(mission.getId().toString()),
                 Instant.now().plusSeconds(mission.getRequiredTime().longValue() - DELAY_HANDLE)
-        );
+        ));
+    }
+
+    /**
+     * Schedules a mission that has been stored without going through the mission registration, as the universe import,
+     * if the mission is already scheduled does nothing
+     *
+     * @param terminationDate The UTC termination date of the mission, if it's in the past, the mission runs as soon as
+     *                        possible
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void scheduleMission(Long missionId, LocalDateTime terminationDate) {
+        missionTelemetryService.inSpan(MissionTelemetryService.SCHEDULE_SPAN, () -> scheduler.schedule(
+                DbSchedulerRealizationJob.BASIC_ONE_TIME_TASK.instance(missionId.toString()),
+                terminationDate.toInstant(ZoneOffset.UTC).minusSeconds(DELAY_HANDLE)
+        ));
     }
 
     /**
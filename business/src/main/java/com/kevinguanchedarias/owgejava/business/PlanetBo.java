@@ -1,7 +1,9 @@
 package com.kevinguanchedarias.owgejava.business;
 
+import com.kevinguanchedarias.owgejava.business.cache.CacheInvalidationService;
 import com.kevinguanchedarias.owgejava.business.mission.MissionEventEmitterBo;
 import com.kevinguanchedarias.owgejava.business.mission.MissionFinderBo;
+import com.kevinguanchedarias.owgejava.business.planet.PlanetOwnershipCacheService;
 import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitEventEmitter;
 import com.kevinguanchedarias.owgejava.business.unit.obtained.ObtainedUnitBo;
 import com.kevinguanchedarias.owgejava.business.user.UserSessionService;
@@ -11,9 +13,12 @@ import com.kevinguanchedarias.owgejava.dto.PlanetDto;
 import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
 import com.kevinguanchedarias.owgejava.entity.Planet;
 import com.kevinguanchedarias.owgejava.entity.UserStorage;
+import com.kevinguanchedarias.owgejava.enumerations.CacheInvalidationType;
 import com.kevinguanchedarias.owgejava.enumerations.MissionType;
 import com.kevinguanchedarias.owgejava.exception.SgtBackendInvalidInputException;
 import com.kevinguanchedarias.owgejava.exception.SgtBackendUniverseIsFull;
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheInvalidation;
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheKey;
 import com.kevinguanchedarias.owgejava.repository.ExploredPlanetRepository;
 import com.kevinguanchedarias.owgejava.repository.MissionRepository;
 import com.kevinguanchedarias.owgejava.repository.ObtainedUnitRepository;
@@ -54,6 +59,8 @@ public class PlanetBo implements WithNameBo<Long, Planet, PlanetDto>, UserDelete
     private final transient MissionFinderBo missionFinderBo;
     private final DtoUtilService dtoUtilService;
     private final ExploredPlanetRepository exploredPlanetRepository;
+    private final transient PlanetOwnershipCacheService planetOwnershipCacheService;
+    private final transient CacheInvalidationService cacheInvalidationService;
 
     @Override
     public JpaRepository<Planet, Long> getRepository() {
@@ -155,8 +162,11 @@ public class PlanetBo implements WithNameBo<Long, Planet, PlanetDto>, UserDelete
     }
 
     public void emitPlanetOwnedChange(Integer userId) {
-        transactionUtilService.doAfterCommit(() -> socketIoService.sendMessage(userId, PLANET_OWNED_CHANGE,
-                () -> toDto(planetRepository.findByOwnerId(userId))));
+        publishPlanetOwnershipInvalidation(userId);
+        transactionUtilService.doAfterCommit(() -> {
+            planetOwnershipCacheService.evict(userId);
+            socketIoService.sendMessage(userId, PLANET_OWNED_CHANGE, () -> toDto(planetRepository.findByOwnerId(userId)));
+        });
     }
 
     public boolean canLeavePlanet(Integer invokerId, Long planetId) {
@@ -221,5 +231,13 @@ public class PlanetBo implements WithNameBo<Long, Planet, PlanetDto>, UserDelete
         planetRepository.save(homePlanet);
         planetRepository.nullifyGivenOwner(user);
         exploredPlanetRepository.deleteByUser(user);
+        publishPlanetOwnershipInvalidation(user.getId());
+        transactionUtilService.doAfterCommit(() -> planetOwnershipCacheService.evict(user.getId()));
+    }
+
+    private void publishPlanetOwnershipInvalidation(Integer userId) {
+        cacheInvalidationService.publish(
+                CacheInvalidation.builder().type(CacheInvalidationType.PLANET_OWNERSHIP).key(CacheKey.ofInteger(userId)).build()
+        );
     }
 }
@@ -27,11 +27,16 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.google.gson.Gson;
+import com.kevinguanchedarias.owgejava.business.schedule.ScheduledTaskDispatcher;
 import com.kevinguanchedarias.owgejava.exception.SgtBackendSchedulerException;
 import com.kevinguanchedarias.owgejava.pojo.ScheduledTask;
 
 /**
  * Quartz based task scheduling
+ * <br>
+ * The Quartz job only hands the task to the {@link ScheduledTaskDispatcher}, so
+ * the handlers run in parallel, and the Quartz threads keep picking up due
+ * triggers
  *
  * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
  * @since 0.8.1
@@ -67,7 +72,7 @@ public class QuartzScheduledTaskManagerService extends AbstractScheduledTasksMan
 				ApplicationContext applicationContext = (ApplicationContext) schedulercontext.get("applicationContext");
 				QuartzScheduledTaskManagerService service = applicationContext
 						.getBean(QuartzScheduledTaskManagerService.class);
-				service.fireHandlersForEvent(new Gson().fromJson(task, ScheduledTask.class));
+				service.dispatch(new Gson().fromJson(task, ScheduledTask.class));
 			} catch (SchedulerException e) {
 				throw new SgtBackendSchedulerException("Could not get application context inside job parser", e);
 			}
@@ -78,6 +83,9 @@ public class QuartzScheduledTaskManagerService extends AbstractScheduledTasksMan
 	@Autowired(required = false)
 	protected SchedulerFactoryBean schedulerFactory;
 
+	@Autowired
+	private ScheduledTaskDispatcher scheduledTaskDispatcher;
+
 	@PostConstruct
 	public void init() {
 		gson = new Gson();
@@ -98,6 +106,12 @@ public class QuartzScheduledTaskManagerService extends AbstractScheduledTasksMan
 		}
 	}
 
+	private void dispatch(ScheduledTask task) {
+		String event = task.getType();
+		scheduledTaskDispatcher.dispatch(task, isBatched(event), this::resolveOrderingKey,
+				tasks -> fireHandlersForBatch(event, tasks));
+	}
+
 	private String doSchedule(ScheduledTask task, long deliverAfterSeconds) {
 		if (schedulerFactory != null) {
 			String jobName = UUID.randomUUID().toString();
@@ -3,6 +3,7 @@
  */
 package com.kevinguanchedarias.owgejava.business;
 
+import com.kevinguanchedarias.owgejava.configurations.datasource.ReadReplica;
 import com.kevinguanchedarias.owgejava.dto.CommonDtoWithImageStore;
 import com.kevinguanchedarias.owgejava.entity.Faction;
 import com.kevinguanchedarias.owgejava.entity.UserStorage;
@@ -26,7 +27,9 @@ public class RankingBo {
 
     /**
      * Find all the ranking entries <br>
-     * <b>NOTICE:</b> NOT using pagination
+     * <b>NOTICE:</b> NOT using pagination <br>
+     * Read from the replica, the points are not evicted from the cache when they change, so the ranking is already
+     * not instant
      *
      * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
      * @since 0.7.0
@@ -34,6 +37,7 @@ public class RankingBo {
     @TaggableCacheable(
             tags = UserStorage.USER_CACHE_TAG
     )
+    @ReadReplica
     public List<RankingEntry> findRanking() {
         var position = new AtomicInteger(1);
         return userStorageRepository.findAllByOrderByPointsDesc().stream().map(current -> {
@@ -2,6 +2,7 @@ package com.kevinguanchedarias.owgejava.business;
 
 import com.kevinguanchedarias.owgejava.pojo.ScheduledTask;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 /**
@@ -20,6 +21,26 @@ public interface ScheduledTasksManagerService {
      */
     void addHandler(String event, Consumer<ScheduledTask> consumer);
 
+    /**
+     * Adds a handler that receives in one invocation the tasks of the event that are due at the same time
+     * <br>
+     * When the event has a batch handler, the ones added with {@link #addHandler(String, Consumer)} are not used
+     *
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    void addBatchHandler(String event, Consumer<List<ScheduledTask>> consumer);
+
+    /**
+     * The tasks of the events in the same group, and with the same content, run one after the other, in the order
+     * they were due <br>
+     * By default each event is its own group
+     *
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    void setOrderingGroup(String event, String group);
+
     /**
      * Registers an event that will run after certain time
      *
@@ -2,15 +2,20 @@ package com.kevinguanchedarias.owgejava.business;
 
 import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIOServer;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
 import com.kevinguanchedarias.kevinsuite.commons.rest.security.TokenUser;
+import com.kevinguanchedarias.owgejava.business.websocket.WebsocketMessageBus;
+import com.kevinguanchedarias.owgejava.business.websocket.WebsocketPayloadEncoder;
 import com.kevinguanchedarias.owgejava.configurations.WebsocketConfiguration;
 import com.kevinguanchedarias.owgejava.dto.WebsocketEventsInformationDto;
 import com.kevinguanchedarias.owgejava.entity.UserStorage;
 import com.kevinguanchedarias.owgejava.entity.WebsocketEventsInformation;
 import com.kevinguanchedarias.owgejava.filter.OwgeJwtAuthenticationFilter;
 import com.kevinguanchedarias.owgejava.pojo.WebsocketMessage;
+import com.kevinguanchedarias.owgejava.pojo.websocket.WebsocketBusMessage;
 import com.kevinguanchedarias.owgejava.repository.UserStorageRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -27,10 +32,12 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 @Service
@@ -58,6 +65,12 @@ public class SocketIoService {
     @Autowired
     private AsyncRunnerBo asyncRunnerBo;
 
+    @Autowired
+    private WebsocketPayloadEncoder websocketPayloadEncoder;
+
+    @Autowired
+    private WebsocketMessageBus websocketMessageBus;
+
     @Autowired
     @Lazy
     private List<OwgeJwtAuthenticationFilter> authenticationFilters;
@@ -73,6 +86,7 @@ public class SocketIoService {
     public void init() {
         server = new SocketIOServer(websocketConfiguration);
         registerUnauthenticatedEvents();
+        websocketMessageBus.subscribe(this::deliverLocally);
     }
 
     @EventListener(ApplicationReadyEvent.class)
@@ -92,26 +106,26 @@ public class SocketIoService {
      * Sends a message to all sockets from related target user, if any
      *
      * @param targetUserId       If 0 will broadcast to all connected users
-     * @param notConnectedAction Action to run if the user is not connected
+     * @param notConnectedAction Action to run if the user is not connected, only known when the {@link WebsocketMessageBus} is
+     *                           local, with a cluster bus the message is always published, and the action never runs
      * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
      * @since 0.9.2
      */
     public <T> void sendMessage(int targetUserId, String eventName, Supplier<T> messageContent,
                                 Runnable notConnectedAction) {
-        var userSockets = findClientSockets(targetUserId);
-        Map<Integer, WebsocketEventsInformation> savedInformation = new HashMap<>();
+        Map<Integer, Instant> lastSentByUser = new HashMap<>();
         if (targetUserId == 0) {
             userStorageRepository.findAll().forEach(user -> {
                 var saved = new WebsocketEventsInformation(eventName, user.getId());
-                savedInformation.put(user.getId(), saved);
+                lastSentByUser.put(user.getId(), saved.getLastSent());
                 websocketEventsInformationBo.save(saved);
             });
         } else {
             var saved = websocketEventsInformationBo
                     .save(new WebsocketEventsInformation(eventName, targetUserId));
-            savedInformation.put(targetUserId, saved);
+            lastSentByUser.put(targetUserId, saved.getLastSent());
         }
-        handleSendMessage(userSockets, eventName, messageContent, notConnectedAction, savedInformation);
+        handleSendMessage(targetUserId, eventName, messageContent, notConnectedAction, lastSentByUser);
     }
 
     /**
@@ -158,7 +172,7 @@ public class SocketIoService {
      */
     public void clearCache() {
         websocketEventsInformationBo.clear();
-        server.getAllClients().forEach(client -> client.sendEvent("cache_clear", "null"));
+        websocketMessageBus.publish(WebsocketBusMessage.builder().cacheClear(true).build());
     }
 
     /**
@@ -171,33 +185,69 @@ public class SocketIoService {
             Supplier<T> messageContent,
             Runnable notConnectedAction
     ) {
-        var userSockets = findClientSockets(targetUserId);
-        handleSendMessage(userSockets, eventName, messageContent, notConnectedAction, null);
+        handleSendMessage(targetUserId, eventName, messageContent, notConnectedAction, null);
     }
 
+    /**
+     * Delivers the message to the sockets connected to this node, invoked by the {@link WebsocketMessageBus} on each
+     * node
+     * <br>
+     * Wraps the content one time, and creates the message one time by user, as the user may have many sockets (tabs)
+     */
+    public void deliverLocally(WebsocketBusMessage busMessage) {
+        if (busMessage.isCacheClear()) {
+            server.getAllClients().forEach(client -> client.sendEvent("cache_clear", "null"));
+            return;
+        }
+        var payload = busMessage.getPayload();
+        var value = payload.getValue() == null ? null : new RawValue(new SerializedString(payload.getValue()));
+        Map<Integer, WebsocketMessage<Object>> messagesByUser = new HashMap<>();
+        findClientSockets(busMessage.getTargetUserId()).forEach(client -> {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                LOCAL_LOGGER.warn("Should never happened, if everything is nice!!!");
+            }
+            TokenUser user = client.get(USER_TOKEN_KEY);
+            log.trace("Sending message to socket, event: {}, user: {}", busMessage.getEventName(), user.getId());
+            var message = messagesByUser.computeIfAbsent(
+                    (Integer) user.getId(), userId -> createMessage(busMessage, userId, value)
+            );
+            client.sendEvent("deliver_message", message);
+        });
+    }
+
+    /**
+     * Encodes the content one time, and publishes it to the nodes
+     */
     private <T> void handleSendMessage(
-            List<SocketIOClient> userSockets,
+            int targetUserId,
             String eventName,
             Supplier<T> messageContent,
             Runnable notConnectedAction,
-            Map<Integer, WebsocketEventsInformation> savedInformation
+            Map<Integer, Instant> lastSentByUser
     ) {
-        if (!userSockets.isEmpty()) {
+        if (websocketMessageBus.isLocal() && findClientSockets(targetUserId).isEmpty()) {
+            if (notConnectedAction != null) {
+                notConnectedAction.run();
+            }
+        } else {
             T sendValue = messageContent.get();
-            asyncRunnerBo.runAsyncWithoutContext(() -> userSockets.forEach(client -> {
-                if (TransactionSynchronizationManager.isActualTransactionActive()) {
-                    LOCAL_LOGGER.warn("Should never happened, if everything is nice!!!");
-                }
-                TokenUser user = client.get(USER_TOKEN_KEY);
-                log.trace("Sending message to socket, event: {}, user: {}", eventName, user.getId());
-                var message = savedInformation != null
-                        ? new WebsocketMessage<>(savedInformation.get(user.getId()), sendValue)
-                        : new WebsocketMessage<>(eventName, sendValue);
-                client.sendEvent("deliver_message", message);
-            }));
-        } else if (notConnectedAction != null) {
-            notConnectedAction.run();
+            asyncRunnerBo.runAsyncWithoutContext(() -> websocketMessageBus.publish(WebsocketBusMessage.builder()
+                    .targetUserId(targetUserId)
+                    .eventName(eventName)
+                    .lastSentByUser(lastSentByUser)
+                    .payload(websocketPayloadEncoder.encode(sendValue))
+                    .build()
+            ));
+        }
+    }
+
+    private WebsocketMessage<Object> createMessage(WebsocketBusMessage busMessage, Integer userId, RawValue value) {
+        var message = new WebsocketMessage<Object>(busMessage.getEventName(), value);
+        if (busMessage.getLastSentByUser() != null) {
+            message.setLastSent(busMessage.getLastSentByUser().get(userId));
         }
+        message.setCompressedValue(busMessage.getPayload().getCompressedValue());
+        return message;
     }
 
     private List<SocketIOClient> findClientSockets(int targetUserId) {
@@ -217,8 +267,7 @@ public class SocketIoService {
                 sendError(client, AUTHENTICATION, "invalid token sent from client");
             } else {
                 LOCAL_LOGGER.trace("Authenticating using token " + token);
-                var authenticatedToken = authenticationFilters.stream()
-                        .map(current -> current.findUserFromToken(token)).filter(Objects::nonNull).findFirst();
+                var authenticatedToken = findUserFromToken(token);
                 if (authenticatedToken.isPresent()) {
                     var tokenUser = authenticatedToken.get();
                     client.set(USER_TOKEN_KEY, tokenUser);
@@ -236,6 +285,21 @@ public class SocketIoService {
         });
     }
 
+    /**
+     * Tries first the filters that have already verified the token, to avoid verifying the signature against the other filters
+     */
+    private Optional<TokenUser> findUserFromToken(String token) {
+        return authenticationFilters.stream()
+                .map(current -> current.findCachedUserFromToken(token))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .or(() -> authenticationFilters.stream()
+                        .map(current -> current.findUserFromToken(token))
+                        .filter(Objects::nonNull)
+                        .findFirst()
+                );
+    }
+
     private void sendError(SocketIOClient client, String event, String text) {
         LOCAL_LOGGER.warn(text);
         client.sendEvent(event, new WebsocketMessage<>(event, text, "error"));
@@ -117,9 +117,18 @@ public class SpeedImpactGroupBo implements BaseBo<Integer, SpeedImpactGroup, Spe
     }
 
     public boolean canIntercept(List<InterceptableSpeedGroup> interceptableSpeedGroups, UserStorage user, ObtainedUnit obtainedUnit) {
-        var unit = obtainedUnitFinderBo.determineTargetUnit(obtainedUnit);
-        var speedImpactGroup = speedImpactGroupFinderBo.findApplicable(user, unit);
+        var speedImpactGroup = findApplicable(user, obtainedUnit);
         return speedImpactGroup != null && interceptableSpeedGroups.stream().anyMatch(current -> current.getSpeedImpactGroup().getId()
                 .equals(speedImpactGroup.getId()));
     }
+
+    /**
+     * Finds the speed impact group of the obtained unit, the one of the unit storing it, if it's stored
+     *
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    public SpeedImpactGroup findApplicable(UserStorage user, ObtainedUnit obtainedUnit) {
+        return speedImpactGroupFinderBo.findApplicable(user, obtainedUnitFinderBo.determineTargetUnit(obtainedUnit));
+    }
 }
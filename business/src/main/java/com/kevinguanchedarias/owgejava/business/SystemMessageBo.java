@@ -1,10 +1,12 @@
 package com.kevinguanchedarias.owgejava.business;
 
+import com.kevinguanchedarias.owgejava.business.retention.RetentionPurgeService;
 import com.kevinguanchedarias.owgejava.business.util.TransactionUtilService;
 import com.kevinguanchedarias.owgejava.dto.SystemMessageDto;
 import com.kevinguanchedarias.owgejava.entity.SystemMessage;
 import com.kevinguanchedarias.owgejava.entity.UserReadSystemMessage;
 import com.kevinguanchedarias.owgejava.entity.UserStorage;
+import com.kevinguanchedarias.owgejava.pojo.RetentionPurgeDefinition;
 import com.kevinguanchedarias.owgejava.pojo.SystemMessageUser;
 import com.kevinguanchedarias.owgejava.repository.SystemMessageRepository;
 import com.kevinguanchedarias.owgejava.repository.UserReadSystemMessageRepository;
@@ -36,11 +38,18 @@ public class SystemMessageBo implements BaseBo<Integer, SystemMessage, SystemMes
     @Serial
     private static final long serialVersionUID = 2748430747376904932L;
 
+    private static final RetentionPurgeDefinition OLD_MESSAGES_PURGE_DEFINITION = RetentionPurgeDefinition.builder()
+            .table("system_messages")
+            .condition("creation_date < :" + RetentionPurgeService.LIMIT_DATE_PARAM)
+            .beforeDeleteStatement("DELETE FROM user_read_system_messages WHERE message_id IN (:" + RetentionPurgeService.IDS_PARAM + ")")
+            .build();
+
     private final transient SystemMessageRepository repository;
     private final transient TransactionUtilService transactionUtilService;
     private final transient SocketIoService socketIoService;
     private final UserStorageBo userStorageBo;
     private final transient UserReadSystemMessageRepository userReadRepository;
+    private final transient RetentionPurgeService retentionPurgeService;
 
     /**
      * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
@@ -48,13 +57,7 @@ public class SystemMessageBo implements BaseBo<Integer, SystemMessage, SystemMes
      */
     @Scheduled(cron = "0 0 1 * * *")
     public void deleteOld() {
-        transactionUtilService.runWithRequired(() -> {
-            var forDeleteMessages = repository
-                    .findByCreationDateLessThan(LocalDateTime.now(ZoneOffset.UTC).minusDays(7));
-            if (!forDeleteMessages.isEmpty()) {
-                repository.deleteAll(forDeleteMessages);
-            }
-        });
+        retentionPurgeService.purge(OLD_MESSAGES_PURGE_DEFINITION, LocalDateTime.now(ZoneOffset.UTC).minusDays(7));
     }
 
     /**
@@ -2,6 +2,7 @@ package com.kevinguanchedarias.owgejava.business;
 
 import com.kevinguanchedarias.owgejava.business.speedimpactgroup.SpeedImpactGroupFinderBo;
 import com.kevinguanchedarias.owgejava.business.unit.HiddenUnitBo;
+import com.kevinguanchedarias.owgejava.business.unit.PlanetInvolvedUnitsIndex;
 import com.kevinguanchedarias.owgejava.dto.InterceptableSpeedGroupDto;
 import com.kevinguanchedarias.owgejava.dto.UnitDto;
 import com.kevinguanchedarias.owgejava.entity.CriticalAttack;
@@ -44,6 +45,7 @@ public class UnitBo implements WithNameBo<Integer, Unit, UnitDto>, WithUnlockabl
     private final transient EntityManager entityManager;
     private final transient HiddenUnitBo hiddenUnitBo;
     private final transient SpeedImpactGroupFinderBo speedImpactGroupFinderBo;
+    private final transient PlanetInvolvedUnitsIndex planetInvolvedUnitsIndex;
 
     @Override
     public JpaRepository<Unit, Integer> getRepository() {
@@ -112,6 +114,8 @@ public class UnitBo implements WithNameBo<Integer, Unit, UnitDto>, WithUnlockabl
     }
 
     /**
+     * Drops the {@link PlanetInvolvedUnitsIndex}, as it keeps the speed impact groups intercepted by the units
+     *
      * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
      * @since 0.10.0
      */
@@ -127,6 +131,7 @@ public class UnitBo implements WithNameBo<Integer, Unit, UnitDto>, WithUnlockabl
                     .setSpeedImpactGroup(speedImpactGroupBo.getOne(current.getSpeedImpactGroup().getId()));
             interceptableSpeedGroupRepository.save(interceptableSpeedGroup);
         });
+        planetInvolvedUnitsIndex.invalidateAll();
     }
 
     public CriticalAttack findUsedCriticalAttack(int unitId) {
@@ -3,6 +3,7 @@ package com.kevinguanchedarias.owgejava.business;
 import com.kevinguanchedarias.owgejava.business.mission.MissionBaseService;
 import com.kevinguanchedarias.owgejava.business.mission.MissionEventEmitterBo;
 import com.kevinguanchedarias.owgejava.business.mission.MissionInterceptionManagerBo;
+import com.kevinguanchedarias.owgejava.business.mission.MissionTelemetryService;
 import com.kevinguanchedarias.owgejava.business.mission.processor.MissionProcessor;
 import com.kevinguanchedarias.owgejava.business.mission.report.MissionReportManagerBo;
 import com.kevinguanchedarias.owgejava.business.mission.unit.registration.UnitMissionRegistrationBo;
@@ -59,6 +60,7 @@ public class UnitMissionBo implements UserDeleteListener {
     private final MissionReportManagerBo missionReportManagerBo;
     private final MissionBaseService missionBaseService;
     private final TransactionUtilService transactionUtilService;
+    private final MissionTelemetryService missionTelemetryService;
 
     protected Map<MissionType, MissionProcessor> missionProcessorMap;
 
@@ -215,10 +217,20 @@ public class UnitMissionBo implements UserDeleteListener {
     @Retryable(value = CannotAcquireLockException.class, backoff = @Backoff(delay = 500, random = true, maxDelay = 750, multiplier = 2))
     public void runUnitMission(Long missionId, MissionType missionType) {
         var mission = SpringRepositoryUtil.findByIdOrDie(missionRepository, missionId);
-        planetLockUtilService.doInsideLock(
-                List.of(mission.getSourcePlanet(), mission.getTargetPlanet()),
-                () -> doRunUnitMission(mission, missionType)
-        );
+        var lockSpan = missionTelemetryService.startSpan(MissionTelemetryService.LOCK_SPAN);
+        try {
+            planetLockUtilService.doInsideLock(
+                    List.of(mission.getSourcePlanet(), mission.getTargetPlanet()),
+                    () -> {
+                        lockSpan.end();
+                        doRunUnitMission(mission, missionType);
+                    }
+            );
+        } finally {
+            if (lockSpan.isRecording()) {
+                lockSpan.end();
+            }
+        }
     }
 
     @Override
@@ -251,10 +263,16 @@ public class UnitMissionBo implements UserDeleteListener {
         var interceptionInformation = missionInterceptionManagerBo.loadInformation(mission, missionType);
         if (!interceptionInformation.isMissionIntercepted()) {
             var involvedUnits = interceptionInformation.getInvolvedUnits();
-            var reportBuilder = missionProcessorMap.get(missionType).process(mission, involvedUnits);
+            var reportBuilder = missionTelemetryService.inSpan(
+                    MissionTelemetryService.PROCESS_SPAN,
+                    () -> missionProcessorMap.get(missionType).process(mission, involvedUnits)
+            );
             missionInterceptionManagerBo.maybeAppendDataToMissionReport(mission, reportBuilder, interceptionInformation);
             if (reportBuilder != null) {
-                missionReportManagerBo.handleMissionReportSave(mission, reportBuilder);
+                missionTelemetryService.inSpan(
+                        MissionTelemetryService.REPORT_SPAN,
+                        () -> missionReportManagerBo.handleMissionReportSave(mission, reportBuilder)
+                );
             }
         } else {
             missionInterceptionManagerBo.handleMissionInterception(mission, interceptionInformation);
@@ -51,7 +51,8 @@ public class WebsocketEventsInformationBo
      */
     @Transactional
     public void clear() {
-        userStorageRepository.findAllIds().forEach(userId -> repository.updateLastSent(userId, Instant.now()));
+        var lastSent = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        userStorageRepository.findAllIds().forEach(userId -> repository.updateLastSent(userId, lastSent));
     }
 
     /**
@@ -64,7 +65,7 @@ public class WebsocketEventsInformationBo
                 .findById(websocketEventsInformation.getEventNameUserId());
         if (existing.isPresent()) {
             WebsocketEventsInformation existingEntity = existing.get();
-            existingEntity.setLastSent(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+            existingEntity.setLastSent(Instant.now().truncatedTo(ChronoUnit.MILLIS));
             return repository.save(existingEntity);
         } else {
             return repository.save(websocketEventsInformation);
@@ -2,6 +2,7 @@ package com.kevinguanchedarias.owgejava.business;
 
 import com.kevinguanchedarias.owgejava.business.user.UserSessionService;
 import com.kevinguanchedarias.owgejava.entity.UserStorage;
+import com.kevinguanchedarias.owgejava.entity.WebsocketEventsInformation;
 import com.kevinguanchedarias.owgejava.exception.ProgrammingException;
 import com.kevinguanchedarias.owgejava.interfaces.SyncSource;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +18,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
@@ -26,6 +28,9 @@ import java.util.function.Function;
 @RequiredArgsConstructor
 @Lazy
 public class WebsocketSyncService {
+    public static final String NOT_MODIFIED_KEY = "notModified";
+    public static final String LAST_SENT_KEY = "lastSent";
+
     private static final Logger LOG = Logger.getLogger(WebsocketSyncService.class);
 
     private final List<SyncSource> syncSources;
@@ -61,20 +66,63 @@ public class WebsocketSyncService {
         var loggedUser = userSessionService.findLoggedIn();
         keys.stream()
                 .filter(handlers::containsKey)
-                .forEach(key -> {
-                    var handler = handlers.get(key);
-                    var data = handler.apply(loggedUser);
-
-                    Map<String, Object> pair = new HashMap<>();
-                    var date = Instant.now().truncatedTo(ChronoUnit.SECONDS);
-                    pair.put("data", data);
-                    pair.put("lastSent", date);
-                    var userId = loggedUser.getId();
-                    websocketEventsInformationBo.save(key, userId, date);
-                    retVal.put(key, pair);
+                .forEach(key -> retVal.put(key, findData(key, loggedUser)));
+        return retVal;
+    }
 
+    /**
+     * Returns only the data that has changed since the version known by the client, the version of a key is the
+     * <i>lastSent</i> of its websocket event, which is updated each time the event is sent to the user
+     * <br>
+     * Unchanged keys are returned as <code>{notModified: true, lastSent: version}</code>
+     *
+     * @param knownVersions Map of key => lastSent known by the client, null when the client doesn't have the data
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    @Transactional
+    public Map<String, Object> findChangedData(Map<String, Instant> knownVersions) {
+        Map<String, Object> retVal = new HashMap<>();
+        var loggedUser = userSessionService.findLoggedIn();
+        var storedVersions = websocketEventsInformationBo.findByUserId(loggedUser.getId()).stream()
+                .collect(Collectors.toMap(
+                        information -> information.getEventNameUserId().getEventName(),
+                        WebsocketEventsInformation::getLastSent
+                ));
+        var now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        knownVersions.keySet().stream()
+                .filter(handlers::containsKey)
+                .forEach(key -> {
+                    var knownVersion = knownVersions.get(key);
+                    var storedVersion = storedVersions.get(key);
+                    if (isNotModified(knownVersion, storedVersion, now)) {
+                        Map<String, Object> pair = new HashMap<>();
+                        pair.put(NOT_MODIFIED_KEY, true);
+                        pair.put(LAST_SENT_KEY, storedVersion);
+                        retVal.put(key, pair);
+                    } else {
+                        retVal.put(key, findData(key, loggedUser));
+                    }
                 });
         return retVal;
     }
 
+    /**
+     * As versions have millis precision, a version from the current millisecond may still change within that
+     * millisecond, so it's never considered as not modified
+     */
+    private boolean isNotModified(Instant knownVersion, Instant storedVersion, Instant now) {
+        return knownVersion != null && storedVersion != null && storedVersion.isBefore(now)
+                && knownVersion.equals(storedVersion);
+    }
+
+    private Map<String, Object> findData(String key, UserStorage user) {
+        var data = handlers.get(key).apply(user);
+        Map<String, Object> pair = new HashMap<>();
+        var date = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        pair.put("data", data);
+        pair.put(LAST_SENT_KEY, date);
+        websocketEventsInformationBo.save(key, user.getId(), date);
+        return pair;
+    }
 }
@@ -0,0 +1,114 @@
+package com.kevinguanchedarias.owgejava.business.async;
+
+import com.kevinguanchedarias.owgejava.enumerations.AsyncPool;
+import com.kevinguanchedarias.owgejava.pojo.AsyncPoolStats;
+import com.kevinguanchedarias.owgejava.util.LatencyHistogram;
+import com.kevinguanchedarias.owgejava.util.PrometheusTextBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the background tasks that don't need the request context, in bounded pools, one per {@link AsyncPool}
+ * <br>
+ * Delayed tasks wait in the {@link DelayedTaskScheduler}, instead of in a sleeping thread, if their pool is full when
+ * they are due, they wait <i>OWGE_ASYNC_FULL_POOL_RETRY_MILLIS</i> again, so they never run in the scheduler thread
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Service
+public class AsyncExecutorService {
+    private final Map<AsyncPool, InstrumentedThreadPool> pools = new EnumMap<>(AsyncPool.class);
+    private final DelayedTaskScheduler delayedTaskScheduler;
+    private final long fullPoolRetryMillis;
+
+    public AsyncExecutorService(
+            @Value("${OWGE_ASYNC_EMIT_THREADS:8}") int emitThreads,
+            @Value("${OWGE_ASYNC_EMIT_QUEUE:10000}") int emitQueue,
+            @Value("${OWGE_ASYNC_AUDIT_THREADS:2}") int auditThreads,
+            @Value("${OWGE_ASYNC_AUDIT_QUEUE:1000}") int auditQueue,
+            @Value("${OWGE_ASYNC_SCHEDULED_TASK_THREADS:4}") int scheduledTaskThreads,
+            @Value("${OWGE_ASYNC_SCHEDULED_TASK_QUEUE:10000}") int scheduledTaskQueue,
+            @Value("${OWGE_ASYNC_DELAYED_MAX_PENDING:50000}") int delayedMaxPending,
+            @Value("${OWGE_ASYNC_FULL_POOL_RETRY_MILLIS:50}") long fullPoolRetryMillis
+    ) {
+        pools.put(AsyncPool.EMIT, createPool(AsyncPool.EMIT, emitThreads, emitQueue));
+        pools.put(AsyncPool.AUDIT, createPool(AsyncPool.AUDIT, auditThreads, auditQueue));
+        pools.put(AsyncPool.SCHEDULED_TASK, createPool(AsyncPool.SCHEDULED_TASK, scheduledTaskThreads, scheduledTaskQueue));
+        delayedTaskScheduler = new DelayedTaskScheduler(delayedMaxPending);
+        this.fullPoolRetryMillis = fullPoolRetryMillis;
+    }
+
+    public void execute(AsyncPool pool, Runnable task) {
+        pools.get(pool).execute(task);
+    }
+
+    /**
+     * @return false if the {@link DelayedTaskScheduler} is full and the task has been discarded, once accepted the task
+     * is never discarded, even if its pool is full when it's due
+     */
+    public boolean schedule(AsyncPool pool, Runnable task, long delayMillis) {
+        var targetPool = pools.get(pool);
+        return delayedTaskScheduler.schedule(() -> dispatchDelayed(targetPool, task), delayMillis);
+    }
+
+    public List<AsyncPoolStats> findStats() {
+        var result = new ArrayList<AsyncPoolStats>();
+        pools.values().forEach(pool -> result.add(pool.findStats()));
+        result.add(delayedTaskScheduler.findStats());
+        return result;
+    }
+
+    public String toPrometheusText() {
+        var builder = new PrometheusTextBuilder()
+                .declare("owge_async_queue_depth", "gauge", "Tasks waiting in the queue of the pool")
+                .declare("owge_async_active_threads", "gauge", "Threads running a task")
+                .declare("owge_async_tasks_submitted_total", "counter", "Tasks submitted to the pool")
+                .declare("owge_async_tasks_failed_total", "counter", "Tasks that threw an exception")
+                .declare("owge_async_tasks_rejected_total", "counter", "Tasks rejected because the pool was full")
+                .declare("owge_async_queue_wait_seconds", "summary", "Time the tasks waited before running, for the delayed pool how late they were dispatched")
+                .declare("owge_async_run_seconds", "summary", "Time the tasks took to run");
+        pools.values().forEach(pool -> addPool(builder, pool.findStats(), pool.getQueueWait(), pool.getRun()));
+        addPool(builder, delayedTaskScheduler.findStats(), delayedTaskScheduler.getLateness(), null);
+        return builder.build();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        delayedTaskScheduler.shutdown();
+        for (var pool : pools.values()) {
+            pool.shutdown();
+        }
+    }
+
+    private void dispatchDelayed(InstrumentedThreadPool targetPool, Runnable task) {
+        if (!targetPool.tryExecute(task)) {
+            delayedTaskScheduler.reschedule(() -> dispatchDelayed(targetPool, task), fullPoolRetryMillis);
+        }
+    }
+
+    private void addPool(PrometheusTextBuilder builder, AsyncPoolStats stats, LatencyHistogram queueWait, LatencyHistogram run) {
+        var label = "pool=\"" + stats.getName() + "\"";
+        builder.addSample("owge_async_queue_depth", label, stats.getQueueDepth())
+                .addSample("owge_async_active_threads", label, stats.getActiveThreads())
+                .addSample("owge_async_tasks_submitted_total", label, stats.getSubmitted())
+                .addSample("owge_async_tasks_failed_total", label, stats.getFailed())
+                .addSample("owge_async_tasks_rejected_total", label, stats.getRejected())
+                .addSummary("owge_async_queue_wait_seconds", label, queueWait);
+        if (run != null) {
+            builder.addSummary("owge_async_run_seconds", label, run);
+        }
+    }
+
+    private InstrumentedThreadPool createPool(AsyncPool pool, int threads, int queueCapacity) {
+        return new InstrumentedThreadPool(
+                pool.name(), threads, queueCapacity, pool.getThreadPriority(), pool.isCallerRunsWhenFull()
+        );
+    }
+}
@@ -0,0 +1,106 @@
+package com.kevinguanchedarias.owgejava.business.async;
+
+import com.kevinguanchedarias.owgejava.pojo.AsyncPoolStats;
+import com.kevinguanchedarias.owgejava.util.LatencyHistogram;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Waits the delay of the delayed tasks, and then hands them to their pool, so no thread sleeps waiting for them
+ * <br>
+ * The tasks never run in the scheduler thread, see {@link AsyncExecutorService#schedule(com.kevinguanchedarias.owgejava.enumerations.AsyncPool, Runnable, long)}
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Slf4j
+public class DelayedTaskScheduler {
+    public static final String NAME = "DELAYED";
+
+    private final int maxPending;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LatencyHistogram lateness = new LatencyHistogram();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public DelayedTaskScheduler(int maxPending) {
+        this.maxPending = maxPending;
+        scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            var thread = new Thread(runnable, "OWGE_ASYNC_" + NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * @param dispatch Hands the task to its pool, should not block
+     * @return false if there are already <i>maxPending</i> delayed tasks, the task is discarded
+     */
+    public boolean schedule(Runnable dispatch, long delayMillis) {
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            rejected.increment();
+            log.warn("There are already {} delayed tasks, discarding task", maxPending);
+            return false;
+        }
+        submitted.increment();
+        doSchedule(dispatch, delayMillis);
+        return true;
+    }
+
+    /**
+     * Schedules again a task that was already accepted, so it's never discarded, even if there are <i>maxPending</i>
+     * delayed tasks
+     */
+    public void reschedule(Runnable dispatch, long delayMillis) {
+        pending.incrementAndGet();
+        doSchedule(dispatch, delayMillis);
+    }
+
+    public AsyncPoolStats findStats() {
+        return AsyncPoolStats.builder()
+                .name(NAME)
+                .threads(scheduler.getPoolSize())
+                .activeThreads(scheduler.getActiveCount())
+                .queueDepth(pending.get())
+                .queueCapacity(maxPending)
+                .submitted(submitted.sum())
+                .completed(lateness.getCalls())
+                .rejected(rejected.sum())
+                .queueWaitP50Millis(lateness.findQuantileMicros(0.5) / 1_000D)
+                .queueWaitP99Millis(lateness.findQuantileMicros(0.99) / 1_000D)
+                .queueWaitMaxMillis(lateness.getMaxMicros() / 1_000D)
+                .build();
+    }
+
+    LatencyHistogram getLateness() {
+        return lateness;
+    }
+
+    /**
+     * Discards the pending tasks
+     */
+    public void shutdown() {
+        var discarded = scheduler.shutdownNow().size();
+        if (discarded > 0) {
+            log.warn("Discarded {} delayed tasks on shutdown", discarded);
+        }
+    }
+
+    private void doSchedule(Runnable dispatch, long delayMillis) {
+        var dueAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        scheduler.schedule(() -> {
+            pending.decrementAndGet();
+            lateness.addCall(false);
+            lateness.record(TimeUnit.NANOSECONDS.toMicros(Math.max(0, System.nanoTime() - dueAt)));
+            dispatch.run();
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+}
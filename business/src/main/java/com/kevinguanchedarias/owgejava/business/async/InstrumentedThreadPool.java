@@ -0,0 +1,164 @@
+package com.kevinguanchedarias.owgejava.business.async;
+
+import com.kevinguanchedarias.owgejava.pojo.AsyncPoolStats;
+import com.kevinguanchedarias.owgejava.util.LatencyHistogram;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread pool with a bounded queue, that measures how long the tasks wait in the queue, and how long they run
+ * <br>
+ * When the queue is full the task runs in the invoker thread, or is discarded, depending on <i>callerRunsWhenFull</i>,
+ * invokers that must not run it (as the delayed scheduler thread) use {@link #tryExecute(Runnable)}
+ * <br>
+ * Idle threads die after a minute, so quiet pools don't keep them
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Slf4j
+public class InstrumentedThreadPool {
+    private static final long KEEP_ALIVE_SECONDS = 60;
+    private static final long SHUTDOWN_WAIT_SECONDS = 5;
+
+    @Getter
+    private final String name;
+    private final int queueCapacity;
+    private final boolean callerRunsWhenFull;
+    private final ThreadPoolExecutor executor;
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+    private final LatencyHistogram run = new LatencyHistogram();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public InstrumentedThreadPool(String name, int threads, int queueCapacity, int threadPriority, boolean callerRunsWhenFull) {
+        this.name = name;
+        this.queueCapacity = queueCapacity;
+        this.callerRunsWhenFull = callerRunsWhenFull;
+        executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                createThreadFactory(name, threadPriority),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    public void execute(Runnable task) {
+        submitted.increment();
+        var submittedAt = System.nanoTime();
+        if (!offer(task, submittedAt)) {
+            if (callerRunsWhenFull && !executor.isShutdown()) {
+                runInstrumented(task, submittedAt);
+            } else {
+                log.warn("Pool {} is full or stopped, discarding task", name);
+            }
+        }
+    }
+
+    /**
+     * Never runs the task in the invoker thread
+     *
+     * @return False if the queue is full, so the invoker can retry later. When the pool is stopped the task is
+     * discarded, and true is returned, as retrying is useless
+     */
+    public boolean tryExecute(Runnable task) {
+        submitted.increment();
+        if (offer(task, System.nanoTime())) {
+            return true;
+        }
+        if (executor.isShutdown()) {
+            log.warn("Pool {} is stopped, discarding task", name);
+            return true;
+        }
+        return false;
+    }
+
+    public AsyncPoolStats findStats() {
+        return AsyncPoolStats.builder()
+                .name(name)
+                .threads(executor.getPoolSize())
+                .activeThreads(executor.getActiveCount())
+                .queueDepth(executor.getQueue().size())
+                .queueCapacity(queueCapacity)
+                .submitted(submitted.sum())
+                .completed(run.getCalls())
+                .failed(run.getErrors())
+                .rejected(rejected.sum())
+                .queueWaitP50Millis(toMillis(queueWait.findQuantileMicros(0.5)))
+                .queueWaitP99Millis(toMillis(queueWait.findQuantileMicros(0.99)))
+                .queueWaitMaxMillis(toMillis(queueWait.getMaxMicros()))
+                .runP50Millis(toMillis(run.findQuantileMicros(0.5)))
+                .runP99Millis(toMillis(run.findQuantileMicros(0.99)))
+                .runMaxMillis(toMillis(run.getMaxMicros()))
+                .build();
+    }
+
+    LatencyHistogram getQueueWait() {
+        return queueWait;
+    }
+
+    LatencyHistogram getRun() {
+        return run;
+    }
+
+    /**
+     * Stops accepting tasks, and waits a bit for the queued ones
+     */
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("Pool {} didn't finish in time, {} tasks discarded", name, executor.shutdownNow().size());
+        }
+    }
+
+    private void runInstrumented(Runnable task, long submittedAt) {
+        var startedAt = System.nanoTime();
+        queueWait.record(TimeUnit.NANOSECONDS.toMicros(startedAt - submittedAt));
+        var failed = true;
+        try {
+            task.run();
+            failed = false;
+        } catch (RuntimeException e) {
+            log.error("Background task of pool {} failed", name, e);
+        } finally {
+            run.addCall(failed);
+            run.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt));
+        }
+    }
+
+    private boolean offer(Runnable task, long submittedAt) {
+        try {
+            executor.execute(() -> runInstrumented(task, submittedAt));
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return false;
+        }
+    }
+
+    private double toMillis(long micros) {
+        return micros / 1_000D;
+    }
+
+    private static ThreadFactory createThreadFactory(String name, int threadPriority) {
+        var count = new AtomicInteger();
+        return runnable -> {
+            var thread = new Thread(runnable, "OWGE_ASYNC_" + name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(threadPriority);
+            return thread;
+        };
+    }
+}
@@ -4,17 +4,20 @@ import com.kevinguanchedarias.owgejava.business.AsyncRunnerBo;
 import com.kevinguanchedarias.owgejava.business.BaseBo;
 import com.kevinguanchedarias.owgejava.business.SocketIoService;
 import com.kevinguanchedarias.owgejava.business.TorClientBo;
+import com.kevinguanchedarias.owgejava.business.retention.RetentionPurgeService;
 import com.kevinguanchedarias.owgejava.business.user.UserSessionService;
 import com.kevinguanchedarias.owgejava.business.user.listener.UserDeleteListener;
 import com.kevinguanchedarias.owgejava.dto.AuditDto;
 import com.kevinguanchedarias.owgejava.entity.Audit;
 import com.kevinguanchedarias.owgejava.entity.UserStorage;
 import com.kevinguanchedarias.owgejava.entity.projection.AuditDataProjection;
+import com.kevinguanchedarias.owgejava.enumerations.AsyncPool;
 import com.kevinguanchedarias.owgejava.enumerations.AuditActionEnum;
 import com.kevinguanchedarias.owgejava.exception.ProgrammingException;
 import com.kevinguanchedarias.owgejava.exception.SgtBackendInvalidInputException;
+import com.kevinguanchedarias.owgejava.pojo.RetentionPurgeDefinition;
+import com.kevinguanchedarias.owgejava.pojo.audit.AuditRecord;
 import com.kevinguanchedarias.owgejava.repository.AuditRepository;
-import com.kevinguanchedarias.owgejava.repository.UserStorageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
@@ -22,6 +25,7 @@ import org.apache.commons.lang3.RandomUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,6 +33,7 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.util.WebUtils;
 
+import javax.annotation.PostConstruct;
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -52,14 +57,20 @@ public class AuditBo implements BaseBo<Long, Audit, AuditDto>, UserDeleteListene
 
     private static final int DAYS = 365;
     private static final String TRUSTED_PRIVATE_NET_KEYWORD = "PRIVATE";
+    private static final RetentionPurgeDefinition OLD_AUDITS_PURGE_DEFINITION = RetentionPurgeDefinition.builder()
+            .table("audit")
+            .condition("creation_date < :" + RetentionPurgeService.LIMIT_DATE_PARAM)
+            .beforeDeleteStatement("DELETE FROM suspicions WHERE audit_id IN (:" + RetentionPurgeService.IDS_PARAM + ")")
+            .build();
 
     private final transient AuditRepository repository;
     private final transient UserSessionService userSessionService;
     private final transient TorClientBo torClientBo;
     private final transient AsyncRunnerBo asyncRunnerBo;
     private final transient SocketIoService socketIoService;
-    private final UserStorageRepository userStorageRepository;
     private final transient AuditMultiAccountSuspicionsService auditMultiAccountSuspicionsService;
+    private final transient RetentionPurgeService retentionPurgeService;
+    private final transient AuditPipeline auditPipeline;
 
     @Value("${OWGE_PROXY_TRUSTED_NETWORKS:PRIVATE}")
     private String proxyTrustedNetworks;
@@ -67,6 +78,14 @@ public class AuditBo implements BaseBo<Long, Audit, AuditDto>, UserDeleteListene
     @Value("${OWGE_PROXY_TRUSTED_HEADER:X-OWGE-RMT-IP}")
     private String proxyTrustedHeader;
 
+    @Value("${OWGE_AUDIT_RETENTION_DAYS:0}")
+    private int auditRetentionDays;
+
+    @PostConstruct
+    public void init() {
+        auditPipeline.setWrittenListener(this::onWritten);
+    }
+
     @Override
     public JpaRepository<Audit, Long> getRepository() {
         return repository;
@@ -89,6 +108,16 @@ public class AuditBo implements BaseBo<Long, Audit, AuditDto>, UserDeleteListene
         }
     }
 
+    /**
+     * Deletes the audits (and their suspicions) older than OWGE_AUDIT_RETENTION_DAYS, zero means keep them forever
+     */
+    @Scheduled(cron = "0 30 1 * * *")
+    public void deleteOld() {
+        if (auditRetentionDays > 0) {
+            retentionPurgeService.purge(OLD_AUDITS_PURGE_DEFINITION, LocalDateTime.now().minusDays(auditRetentionDays));
+        }
+    }
+
     /**
      * Finds the nearest Audit (<b>With request</b>) of one user
      */
@@ -108,35 +137,30 @@ public class AuditBo implements BaseBo<Long, Audit, AuditDto>, UserDeleteListene
         return repository.findDistinctByUserIdAndCreationDateBetween(userId, now.minusDays(15), now, PageRequest.of(0, 100));
     }
 
+    /**
+     * Audits an action done without request (as a mission), taking the request data of the nearest request audit of
+     * the user, the ones still in the {@link AuditPipeline} are the nearest
+     */
     public void nonRequestAudit(AuditActionEnum action, String actionDetails, UserStorage user, Integer relatedUser) {
         var now = LocalDateTime.now();
-        var nearest = findNearest(now, user.getId());
-        String ipv4 = null;
-        String ipv6 = null;
-        String ua = null;
-        String cookie = null;
-        if (nearest.isPresent()) {
-            var nearestAudit = nearest.get();
-            ipv4 = nearestAudit.getIpv4();
-            ipv6 = nearestAudit.getIpv6();
-            ua = nearestAudit.getUserAgent();
-            cookie = nearestAudit.getCookie();
-        }
-        var saved = repository.save(Audit.builder()
+        var builder = AuditRecord.builder()
                 .action(action)
                 .actionDetail(actionDetails)
-                .ipv4(ipv4)
-                .ipv6(ipv6)
-                .userAgent(ua)
-                .cookie(cookie)
-                .user(user)
-                .relatedUser(relatedUser == null ? null : userStorageRepository.getReferenceById(relatedUser))
-                .creationDate(now)
-                .build()
+                .userId(user.getId())
+                .relatedUserId(relatedUser)
+                .creationDate(now);
+        auditPipeline.findPendingRequestAudit(user.getId()).ifPresentOrElse(
+                pending -> builder.ipv4(pending.getIpv4())
+                        .ipv6(pending.getIpv6())
+                        .userAgent(pending.getUserAgent())
+                        .cookie(pending.getCookie()),
+                () -> findNearest(now, user.getId()).ifPresent(nearestAudit -> builder.ipv4(nearestAudit.getIpv4())
+                        .ipv6(nearestAudit.getIpv6())
+                        .userAgent(nearestAudit.getUserAgent())
+                        .cookie(nearestAudit.getCookie())
+                )
         );
-        if (nearest.isPresent()) {
-            auditMultiAccountSuspicionsService.handle(saved);
-        }
+        auditPipeline.submit(builder.build());
     }
 
     @Transactional(propagation = Propagation.MANDATORY)
@@ -145,6 +169,8 @@ public class AuditBo implements BaseBo<Long, Audit, AuditDto>, UserDeleteListene
     }
 
     /**
+     * Captures the audit, it's written by the {@link AuditPipeline} after the transaction commits
+     * <br>
      * <b>NOTICE:</b> Has to be executed in the scope of an http request
      */
     @Transactional(propagation = Propagation.MANDATORY)
@@ -158,20 +184,21 @@ public class AuditBo implements BaseBo<Long, Audit, AuditDto>, UserDeleteListene
             if (cookie == null) {
                 throw new SgtBackendInvalidInputException("No dear hacker, you will never be able to defeat the strong security of this open security-by-obscurity");
             }
-            var transientEntity = Audit.builder()
+            var ip = resolveIp(request);
+            var isIpv4 = findAddressByIp(ip) instanceof Inet4Address;
+            auditPipeline.submit(AuditRecord.builder()
                     .action(action)
                     .actionDetail(actionDetails)
-                    .user(userSessionService.findLoggedInWithReference())
-                    .relatedUser(relatedUserId == null ? null : userStorageRepository.getReferenceById(relatedUserId))
+                    .userId(userSessionService.findLoggedIn().getId())
+                    .relatedUserId(relatedUserId)
                     .userAgent(request.getHeader("User-Agent"))
                     .cookie(cookie.getValue())
                     .creationDate(LocalDateTime.now())
-                    .build();
-            var ip = resolveIp(request);
-            maybeSetIpv4OrIpv6(transientEntity, findAddressByIp(ip), ip);
-            var saved = repository.save(transientEntity);
-            detectTorBrowser(request, saved);
-            auditMultiAccountSuspicionsService.handle(saved);
+                    .ipv4(isIpv4 ? ip : null)
+                    .ipv6(isIpv4 ? null : ip)
+                    .requestIp(ip)
+                    .build()
+            );
         }
     }
 
@@ -212,8 +239,14 @@ public class AuditBo implements BaseBo<Long, Audit, AuditDto>, UserDeleteListene
         );
     }
 
-    private void detectTorBrowser(HttpServletRequest request, Audit detachedAudit) {
-        var ip = resolveIp(request);
+    private void onWritten(AuditRecord auditRecord, Audit audit) {
+        if (auditRecord.getRequestIp() != null) {
+            detectTorBrowser(auditRecord.getRequestIp(), audit);
+        }
+        auditMultiAccountSuspicionsService.handle(audit);
+    }
+
+    private void detectTorBrowser(String ip, Audit detachedAudit) {
         asyncRunnerBo.runAsyncWithoutContextDelayed(() -> {
             try {
                 var inetAddress = InetAddress.getByName(ip);
@@ -225,15 +258,7 @@ public class AuditBo implements BaseBo<Long, Audit, AuditDto>, UserDeleteListene
             } catch (UnknownHostException e) {
                 log.warn("Can't resolve name for ip {}", ip);
             }
-        }, 3000);
-    }
-
-    private void maybeSetIpv4OrIpv6(Audit audit, InetAddress inetAddress, String ip) {
-        if (inetAddress instanceof Inet4Address) {
-            audit.setIpv4(ip);
-        } else {
-            audit.setIpv6(ip);
-        }
+        }, 3000, AsyncPool.AUDIT);
     }
 
     private boolean isPrivate(String ip) {
@@ -6,6 +6,7 @@ import com.kevinguanchedarias.owgejava.dto.SuspicionDto;
 import com.kevinguanchedarias.owgejava.entity.Audit;
 import com.kevinguanchedarias.owgejava.entity.Suspicion;
 import com.kevinguanchedarias.owgejava.entity.UserStorage;
+import com.kevinguanchedarias.owgejava.enumerations.AsyncPool;
 import com.kevinguanchedarias.owgejava.enumerations.SuspicionSourceEnum;
 import com.kevinguanchedarias.owgejava.repository.AuditRepository;
 import com.kevinguanchedarias.owgejava.repository.SuspicionRepository;
@@ -30,7 +31,7 @@ public class AuditMultiAccountSuspicionsService implements UserDeleteListener {
 
     public void handle(Audit audit) {
         if (audit.findIp() != null || audit.getCookie() != null) {
-            asyncRunnerBo.runAsyncWithoutContextDelayed(() -> doHandle(audit), WANTED_MS_DELAY, Thread.MIN_PRIORITY);
+            asyncRunnerBo.runAsyncWithoutContextDelayed(() -> doHandle(audit), WANTED_MS_DELAY, AsyncPool.AUDIT);
         }
     }
 
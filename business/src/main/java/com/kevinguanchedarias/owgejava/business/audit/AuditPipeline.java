@@ -0,0 +1,271 @@
+package com.kevinguanchedarias.owgejava.business.audit;
+
+import com.kevinguanchedarias.owgejava.entity.Audit;
+import com.kevinguanchedarias.owgejava.pojo.audit.AuditPipelineStats;
+import com.kevinguanchedarias.owgejava.pojo.audit.AuditRecord;
+import com.kevinguanchedarias.owgejava.repository.UserStorageRepository;
+import com.kevinguanchedarias.owgejava.util.PrometheusTextBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Writes the audits in background, the thread doing the action only puts the {@link AuditRecord} in a queue of
+ * <i>OWGE_AUDIT_QUEUE_CAPACITY</i> records, and every <i>OWGE_AUDIT_FLUSH_MILLIS</i> the queue is written in JDBC
+ * batches of <i>OWGE_AUDIT_BATCH_SIZE</i>, then each written audit is handed to the written listener
+ * <br>
+ * When the queue is full the audit is dropped (and counted), the requests never wait for the database. Each batch is
+ * written in its own transaction, when a row makes the batch fail, the rows are written one by one, so only the bad
+ * row is lost
+ * <br>
+ * <b>NOTICE:</b> The audits are queued when the transaction commits, so until the next flush they are not in the
+ * database, the last queued request audit of each user can be found with {@link #findPendingRequestAudit(Integer)}
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Service
+@Slf4j
+public class AuditPipeline {
+    private static final String INSERT_SQL = "INSERT INTO audit "
+            + "(action, action_detail, user_id, related_user_id, user_agent, cookie, is_tor, creation_date, ipv4, ipv6) "
+            + "VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserStorageRepository userStorageRepository;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long flushMillis;
+    private final BlockingQueue<AuditRecord> queue;
+    private final Map<Integer, AuditRecord> pendingRequestAuditByUser = new ConcurrentHashMap<>();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private BiConsumer<AuditRecord, Audit> writtenListener = (auditRecord, audit) -> {
+    };
+    private ScheduledExecutorService scheduler;
+
+    public AuditPipeline(
+            JdbcTemplate jdbcTemplate,
+            UserStorageRepository userStorageRepository,
+            @Value("${OWGE_AUDIT_QUEUE_CAPACITY:10000}") int queueCapacity,
+            @Value("${OWGE_AUDIT_BATCH_SIZE:500}") int batchSize,
+            @Value("${OWGE_AUDIT_FLUSH_MILLIS:200}") long flushMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userStorageRepository = userStorageRepository;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.flushMillis = flushMillis;
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void init() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "OWGE_AUDIT_WRITER");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flush, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            flush();
+        }
+    }
+
+    /**
+     * Invoked from the writer thread with each written audit, the audit has the id, and references to the users
+     */
+    public void setWrittenListener(BiConsumer<AuditRecord, Audit> writtenListener) {
+        this.writtenListener = writtenListener;
+    }
+
+    /**
+     * Queues the audit when the current transaction commits, or now if there is no transaction
+     */
+    public void submit(AuditRecord auditRecord) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(auditRecord);
+                }
+            });
+        } else {
+            offer(auditRecord);
+        }
+    }
+
+    /**
+     * Writes the queued audits
+     */
+    public void flush() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.forEach(auditRecord -> pendingRequestAuditByUser.remove(auditRecord.getUserId(), auditRecord));
+            batch.clear();
+        }
+    }
+
+    /**
+     * @return The last request audit of the user that is queued or being written, as it's newer than the ones of the
+     * database
+     */
+    public Optional<AuditRecord> findPendingRequestAudit(Integer userId) {
+        return Optional.ofNullable(pendingRequestAuditByUser.get(userId));
+    }
+
+    public AuditPipelineStats findStats() {
+        return AuditPipelineStats.builder()
+                .queueDepth(queue.size())
+                .queueCapacity(queueCapacity)
+                .accepted(accepted.sum())
+                .dropped(dropped.sum())
+                .written(written.sum())
+                .failed(failed.sum())
+                .batches(batches.sum())
+                .build();
+    }
+
+    public String toPrometheusText() {
+        var stats = findStats();
+        return new PrometheusTextBuilder()
+                .declare("owge_audit_queue_depth", "gauge", "Audits waiting to be written")
+                .declare("owge_audit_accepted_total", "counter", "Audits queued")
+                .declare("owge_audit_dropped_total", "counter", "Audits dropped because the queue was full")
+                .declare("owge_audit_written_total", "counter", "Audits written")
+                .declare("owge_audit_failed_total", "counter", "Audits of the batches that couldn't be written")
+                .declare("owge_audit_batches_total", "counter", "Batches written")
+                .addSample("owge_audit_queue_depth", "", stats.getQueueDepth())
+                .addSample("owge_audit_accepted_total", "", stats.getAccepted())
+                .addSample("owge_audit_dropped_total", "", stats.getDropped())
+                .addSample("owge_audit_written_total", "", stats.getWritten())
+                .addSample("owge_audit_failed_total", "", stats.getFailed())
+                .addSample("owge_audit_batches_total", "", stats.getBatches())
+                .build();
+    }
+
+    private void offer(AuditRecord auditRecord) {
+        if (queue.offer(auditRecord)) {
+            accepted.increment();
+            if (auditRecord.getRequestIp() != null) {
+                pendingRequestAuditByUser.merge(auditRecord.getUserId(), auditRecord, (current, offered) ->
+                        offered.getCreationDate().isBefore(current.getCreationDate()) ? current : offered
+                );
+            }
+        } else {
+            dropped.increment();
+            log.warn("Audit queue is full, dropping audit {} of user {}", auditRecord.getAction(), auditRecord.getUserId());
+        }
+    }
+
+    private void write(List<AuditRecord> batch) {
+        List<Long> ids;
+        try {
+            ids = insert(batch);
+            batches.increment();
+            written.add(batch.size());
+        } catch (RuntimeException e) {
+            if (batch.size() > 1 && ExceptionUtils.indexOfThrowable(e, BatchUpdateException.class) != -1) {
+                log.warn("Batch of {} audits failed, writing them one by one", batch.size(), e);
+                batch.forEach(auditRecord -> write(List.of(auditRecord)));
+            } else {
+                failed.add(batch.size());
+                log.error("Couldn't write a batch of {} audits", batch.size(), e);
+            }
+            return;
+        }
+        for (var i = 0; i < ids.size(); i++) {
+            notifyWritten(batch.get(i), ids.get(i));
+        }
+    }
+
+    private List<Long> insert(List<AuditRecord> batch) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            var previousAutoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (var statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (var auditRecord : batch) {
+                    statement.setString(1, auditRecord.getAction().name());
+                    statement.setString(2, auditRecord.getActionDetail());
+                    statement.setInt(3, auditRecord.getUserId());
+                    statement.setObject(4, auditRecord.getRelatedUserId(), Types.INTEGER);
+                    statement.setString(5, auditRecord.getUserAgent());
+                    statement.setString(6, auditRecord.getCookie());
+                    statement.setTimestamp(7, Timestamp.valueOf(auditRecord.getCreationDate()));
+                    statement.setString(8, auditRecord.getIpv4());
+                    statement.setString(9, auditRecord.getIpv6());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                List<Long> ids = new ArrayList<>(batch.size());
+                try (var generatedKeys = statement.getGeneratedKeys()) {
+                    while (generatedKeys.next()) {
+                        ids.add(generatedKeys.getLong(1));
+                    }
+                }
+                connection.commit();
+                return ids;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(previousAutoCommit);
+            }
+        });
+    }
+
+    private void notifyWritten(AuditRecord auditRecord, Long id) {
+        try {
+            var relatedUserId = auditRecord.getRelatedUserId();
+            writtenListener.accept(auditRecord, Audit.builder()
+                    .id(id)
+                    .action(auditRecord.getAction())
+                    .actionDetail(auditRecord.getActionDetail())
+                    .user(userStorageRepository.getReferenceById(auditRecord.getUserId()))
+                    .relatedUser(relatedUserId == null ? null : userStorageRepository.getReferenceById(relatedUserId))
+                    .userAgent(auditRecord.getUserAgent())
+                    .cookie(auditRecord.getCookie())
+                    .ipv4(auditRecord.getIpv4())
+                    .ipv6(auditRecord.getIpv6())
+                    .creationDate(auditRecord.getCreationDate())
+                    .build()
+            );
+        } catch (RuntimeException e) {
+            log.error("Written listener failed for audit {}", id, e);
+        }
+    }
+}
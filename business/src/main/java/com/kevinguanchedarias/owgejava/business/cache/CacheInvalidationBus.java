@@ -0,0 +1,28 @@
+package com.kevinguanchedarias.owgejava.business.cache;
+
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheInvalidationBatch;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries the cache evictions to all the nodes, as each node has its own caches
+ * <br>
+ * The default implementation is {@link InMemoryCacheInvalidationBus}, to run many nodes define another implementation as
+ * primary bean
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+public interface CacheInvalidationBus {
+    /**
+     * Sends the batch to all the subscribers, of all the nodes, including this one
+     */
+    void publish(CacheInvalidationBatch batch);
+
+    void subscribe(Consumer<CacheInvalidationBatch> subscriber);
+
+    /**
+     * If true there are no other nodes, so the evictions are not sent
+     */
+    boolean isLocal();
+}
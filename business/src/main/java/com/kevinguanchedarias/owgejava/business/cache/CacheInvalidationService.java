@@ -0,0 +1,274 @@
+package com.kevinguanchedarias.owgejava.business.cache;
+
+import com.kevinguanchedarias.owgejava.business.mission.MissionTimeManagerBo;
+import com.kevinguanchedarias.owgejava.business.planet.PlanetCoordinatesIndex;
+import com.kevinguanchedarias.owgejava.business.planet.PlanetOwnershipCacheService;
+import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitReadModel;
+import com.kevinguanchedarias.owgejava.business.unit.PlanetInvolvedUnitsIndex;
+import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
+import com.kevinguanchedarias.owgejava.enumerations.CacheInvalidationType;
+import com.kevinguanchedarias.owgejava.pojo.ConfigurationChangedEvent;
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheInvalidation;
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheInvalidationBatch;
+import com.kevinguanchedarias.taggablecache.manager.TaggableCacheManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends the evictions of the caches of this node (the taggable cache, the Spring caches, the Hibernate definitions
+ * cache, the planet ownership cache, the planet coordinates index and the configuration changes) to the other nodes, and
+ * applies the ones they send
+ * <br>
+ * The evictions are sent when the transaction completes (so the other nodes don't cache again the old state), and
+ * both the sent and the received ones wait in a set, so repeated evictions are done once, every
+ * <i>OWGE_CACHE_INVALIDATION_FLUSH_MILLIS</i> the pending evictions are sent and applied in background, that's the
+ * lag between nodes
+ * <br>
+ * When more than <i>OWGE_CACHE_INVALIDATION_MAX_PENDING</i> are waiting, they are replaced by clearing all the caches
+ * <br>
+ * Does nothing when the {@link CacheInvalidationBus} is local
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Service
+@Slf4j
+public class CacheInvalidationService {
+    private static final CacheInvalidation ALL = CacheInvalidation.builder().type(CacheInvalidationType.ALL).build();
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ObjectProvider<TaggableCacheManager> taggableCacheManagerProvider;
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+    private final ObtainedUnitReadModel obtainedUnitReadModel;
+    private final PlanetInvolvedUnitsIndex planetInvolvedUnitsIndex;
+    private final DefinitionCacheService definitionCacheService;
+    private final PlanetCoordinatesIndex planetCoordinatesIndex;
+    private final PlanetOwnershipCacheService planetOwnershipCacheService;
+    private final ObjectProvider<MissionTimeManagerBo> missionTimeManagerBoProvider;
+    private final long flushMillis;
+    private final int maxPending;
+    private final Set<CacheInvalidation> outgoing = new LinkedHashSet<>();
+    private final Set<CacheInvalidation> incoming = new LinkedHashSet<>();
+    private ScheduledExecutorService scheduler;
+
+    public CacheInvalidationService(
+            CacheInvalidationBus cacheInvalidationBus,
+            ObjectProvider<TaggableCacheManager> taggableCacheManagerProvider,
+            ObjectProvider<CacheManager> cacheManagerProvider,
+            ObtainedUnitReadModel obtainedUnitReadModel,
+            PlanetInvolvedUnitsIndex planetInvolvedUnitsIndex,
+            DefinitionCacheService definitionCacheService,
+            PlanetCoordinatesIndex planetCoordinatesIndex,
+            PlanetOwnershipCacheService planetOwnershipCacheService,
+            ObjectProvider<MissionTimeManagerBo> missionTimeManagerBoProvider,
+            @Value("${OWGE_CACHE_INVALIDATION_FLUSH_MILLIS:100}") long flushMillis,
+            @Value("${OWGE_CACHE_INVALIDATION_MAX_PENDING:10000}") int maxPending
+    ) {
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.taggableCacheManagerProvider = taggableCacheManagerProvider;
+        this.cacheManagerProvider = cacheManagerProvider;
+        this.obtainedUnitReadModel = obtainedUnitReadModel;
+        this.planetInvolvedUnitsIndex = planetInvolvedUnitsIndex;
+        this.definitionCacheService = definitionCacheService;
+        this.planetCoordinatesIndex = planetCoordinatesIndex;
+        this.planetOwnershipCacheService = planetOwnershipCacheService;
+        this.missionTimeManagerBoProvider = missionTimeManagerBoProvider;
+        this.flushMillis = flushMillis;
+        this.maxPending = maxPending;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!cacheInvalidationBus.isLocal()) {
+            cacheInvalidationBus.subscribe(this::receive);
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                var thread = new Thread(runnable, "OWGE_CACHE_INVALIDATION");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::flush, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            flush();
+        }
+    }
+
+    /**
+     * Sends the eviction to the other nodes, when the current transaction completes
+     */
+    public void publish(CacheInvalidation invalidation) {
+        if (cacheInvalidationBus.isLocal()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    enqueue(outgoing, invalidation);
+                }
+            });
+        } else {
+            enqueue(outgoing, invalidation);
+        }
+    }
+
+    /**
+     * Sends the changed configuration name, so the other nodes drop their parsed copies of it
+     */
+    @EventListener
+    public void onConfigurationChanged(ConfigurationChangedEvent event) {
+        publish(CacheInvalidation.builder().type(CacheInvalidationType.CONFIGURATION).name(event.getName()).build());
+    }
+
+    /**
+     * Clears all the caches and in memory indexes of this node now, and of the other nodes when the current
+     * transaction completes, for changes done without Hibernate, as the universe import
+     */
+    public void clearAll() {
+        apply(ALL);
+        publish(ALL);
+    }
+
+    /**
+     * Sends the pending evictions, and applies the received ones
+     */
+    public void flush() {
+        try {
+            var toSend = drain(outgoing);
+            if (!toSend.isEmpty()) {
+                cacheInvalidationBus.publish(
+                        CacheInvalidationBatch.builder().originNodeId(nodeId).invalidations(toSend).build()
+                );
+            }
+            drain(incoming).forEach(this::apply);
+        } catch (RuntimeException e) {
+            log.error("Couldn't flush the cache invalidations", e);
+        }
+    }
+
+    private void receive(CacheInvalidationBatch batch) {
+        if (!nodeId.equals(batch.getOriginNodeId())) {
+            batch.getInvalidations().forEach(invalidation -> enqueue(incoming, invalidation));
+        }
+    }
+
+    private void enqueue(Set<CacheInvalidation> pending, CacheInvalidation invalidation) {
+        synchronized (pending) {
+            if (pending.contains(ALL)) {
+                return;
+            }
+            if (pending.size() >= maxPending) {
+                log.warn("Too many pending cache invalidations, all the caches will be cleared");
+                pending.clear();
+                pending.add(ALL);
+            } else {
+                pending.add(invalidation);
+            }
+        }
+    }
+
+    private List<CacheInvalidation> drain(Set<CacheInvalidation> pending) {
+        synchronized (pending) {
+            List<CacheInvalidation> result = new ArrayList<>(pending);
+            pending.clear();
+            return result;
+        }
+    }
+
+    private void apply(CacheInvalidation invalidation) {
+        var name = invalidation.getName();
+        switch (invalidation.getType()) {
+            case TAG -> {
+                findLocalTaggableCacheManager().ifPresent(manager -> manager.evictByCacheTag(name));
+                obtainedUnitReadModel.onDefinitionChange(name);
+                planetInvolvedUnitsIndex.onDefinitionChange(name);
+            }
+            case TAG_KEY -> {
+                findLocalTaggableCacheManager().ifPresent(manager -> manager.evictByCacheTag(name, invalidation.findKey()));
+                if (ObtainedUnit.OBTAINED_UNIT_CACHE_TAG_BY_USER.equals(name) && invalidation.findKey() instanceof Number userId) {
+                    obtainedUnitReadModel.invalidate(userId.intValue());
+                    // The eviction doesn't say which units changed, so it can't mark only their planets
+                    planetInvolvedUnitsIndex.invalidateAll();
+                }
+            }
+            case TAGGABLE_CLEAR -> {
+                findLocalTaggableCacheManager().ifPresent(TaggableCacheManager::clear);
+                obtainedUnitReadModel.invalidateAll();
+                planetInvolvedUnitsIndex.invalidateAll();
+            }
+            case CACHE_KEY -> findLocalCache(name).ifPresent(cache -> cache.evict(invalidation.findKey()));
+            case CACHE_CLEAR -> findLocalCache(name).ifPresent(Cache::clear);
+            case DEFINITION -> definitionCacheService.evict(name);
+            case PLANET_OWNERSHIP -> {
+                if (invalidation.findKey() instanceof Number userId) {
+                    planetOwnershipCacheService.evict(userId.intValue());
+                }
+            }
+            case PLANET_COORDINATES -> {
+                if (invalidation.findKey() instanceof Number planetId) {
+                    planetCoordinatesIndex.evict(planetId.longValue());
+                } else {
+                    planetCoordinatesIndex.invalidateAll();
+                }
+            }
+            case CONFIGURATION -> missionTimeManagerBoProvider.ifAvailable(
+                    missionTimeManagerBo -> missionTimeManagerBo.onConfigurationChanged(new ConfigurationChangedEvent(name))
+            );
+            case ALL -> {
+                findLocalTaggableCacheManager().ifPresent(TaggableCacheManager::clear);
+                findLocalCacheManager().ifPresent(manager -> manager.getCacheNames()
+                        .forEach(cacheName -> Optional.ofNullable(manager.getCache(cacheName)).ifPresent(Cache::clear))
+                );
+                definitionCacheService.evictAll();
+                obtainedUnitReadModel.invalidateAll();
+                planetInvolvedUnitsIndex.invalidateAll();
+                planetCoordinatesIndex.invalidateAll();
+                planetOwnershipCacheService.clear();
+                missionTimeManagerBoProvider.ifAvailable(MissionTimeManagerBo::clearSpeedProfiles);
+            }
+        }
+    }
+
+    /**
+     * The managers are decorated to send the evictions, the received ones are applied to the decorated instance, so
+     * they are not sent back
+     */
+    private Optional<TaggableCacheManager> findLocalTaggableCacheManager() {
+        return Optional.ofNullable(taggableCacheManagerProvider.getIfAvailable())
+                .map(manager -> manager instanceof ClusterTaggableCacheManager cluster ? cluster.getDelegate() : manager);
+    }
+
+    private Optional<CacheManager> findLocalCacheManager() {
+        return Optional.ofNullable(cacheManagerProvider.getIfAvailable())
+                .map(manager -> manager instanceof ClusterCacheManager cluster ? cluster.getDelegate() : manager);
+    }
+
+    private Optional<Cache> findLocalCache(String name) {
+        return findLocalCacheManager().map(manager -> manager.getCache(name));
+    }
+}
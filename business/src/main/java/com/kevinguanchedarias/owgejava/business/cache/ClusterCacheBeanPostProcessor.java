@@ -0,0 +1,33 @@
+package com.kevinguanchedarias.owgejava.business.cache;
+
+import com.kevinguanchedarias.taggablecache.manager.TaggableCacheManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decorates the taggable cache manager and the Spring cache manager, so the evictions done by any code (including the
+ * cache aspects) are sent to the other nodes
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Component
+public class ClusterCacheBeanPostProcessor implements BeanPostProcessor {
+    private final ObjectProvider<CacheInvalidationService> cacheInvalidationServiceProvider;
+
+    public ClusterCacheBeanPostProcessor(ObjectProvider<CacheInvalidationService> cacheInvalidationServiceProvider) {
+        this.cacheInvalidationServiceProvider = cacheInvalidationServiceProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof TaggableCacheManager taggableCacheManager && !(bean instanceof ClusterTaggableCacheManager)) {
+            return new ClusterTaggableCacheManager(taggableCacheManager, cacheInvalidationServiceProvider);
+        } else if (bean instanceof CacheManager cacheManager && !(bean instanceof ClusterCacheManager)) {
+            return new ClusterCacheManager(cacheManager, cacheInvalidationServiceProvider);
+        }
+        return bean;
+    }
+}
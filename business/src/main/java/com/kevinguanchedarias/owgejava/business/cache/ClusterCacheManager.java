@@ -0,0 +1,142 @@
+package com.kevinguanchedarias.owgejava.business.cache;
+
+import com.kevinguanchedarias.owgejava.enumerations.CacheInvalidationType;
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheInvalidation;
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheKey;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Spring cache manager whose caches send their evictions to the other nodes, see {@link CacheInvalidationService}
+ * <br>
+ * The keys are sent with their type, the keys whose type can't be sent (as the composite ones) clear the cache in the
+ * other nodes
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+public class ClusterCacheManager implements CacheManager {
+    @Getter
+    private final CacheManager delegate;
+
+    private final ObjectProvider<CacheInvalidationService> cacheInvalidationServiceProvider;
+    private final Map<String, ClusterCache> caches = new ConcurrentHashMap<>();
+
+    public ClusterCacheManager(CacheManager delegate, ObjectProvider<CacheInvalidationService> cacheInvalidationServiceProvider) {
+        this.delegate = delegate;
+        this.cacheInvalidationServiceProvider = cacheInvalidationServiceProvider;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        var cache = delegate.getCache(name);
+        if (cache == null) {
+            return null;
+        }
+        var clusterCache = caches.get(name);
+        if (clusterCache == null || clusterCache.delegate != cache) {
+            clusterCache = new ClusterCache(cache);
+            caches.put(name, clusterCache);
+        }
+        return clusterCache;
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    private void publish(CacheInvalidation invalidation) {
+        var cacheInvalidationService = cacheInvalidationServiceProvider.getIfAvailable();
+        if (cacheInvalidationService != null) {
+            cacheInvalidationService.publish(invalidation);
+        }
+    }
+
+    @AllArgsConstructor
+    private class ClusterCache implements Cache {
+        private final Cache delegate;
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return delegate.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            return delegate.get(key);
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            return delegate.get(key, type);
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            return delegate.get(key, valueLoader);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            delegate.put(key, value);
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            return delegate.putIfAbsent(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            delegate.evict(key);
+            publishKey(key);
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            var result = delegate.evictIfPresent(key);
+            publishKey(key);
+            return result;
+        }
+
+        @Override
+        public void clear() {
+            delegate.clear();
+            publishClear();
+        }
+
+        @Override
+        public boolean invalidate() {
+            var result = delegate.invalidate();
+            publishClear();
+            return result;
+        }
+
+        private void publishKey(Object key) {
+            CacheKey.of(key).ifPresentOrElse(
+                    cacheKey -> publish(CacheInvalidation.builder()
+                            .type(CacheInvalidationType.CACHE_KEY).name(getName()).key(cacheKey).build()
+                    ),
+                    this::publishClear
+            );
+        }
+
+        private void publishClear() {
+            publish(CacheInvalidation.builder().type(CacheInvalidationType.CACHE_CLEAR).name(getName()).build());
+        }
+    }
+}
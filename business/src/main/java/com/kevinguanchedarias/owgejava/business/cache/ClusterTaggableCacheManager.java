@@ -0,0 +1,76 @@
+package com.kevinguanchedarias.owgejava.business.cache;
+
+import com.kevinguanchedarias.owgejava.enumerations.CacheInvalidationType;
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheInvalidation;
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheKey;
+import com.kevinguanchedarias.taggablecache.manager.TaggableCacheManager;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Taggable cache manager that sends its evictions to the other nodes, see {@link CacheInvalidationService}
+ * <br>
+ * The keys are sent with their type, the keys whose type can't be sent evict the whole tag in the other nodes
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@AllArgsConstructor
+public class ClusterTaggableCacheManager implements TaggableCacheManager {
+    @Getter
+    private final TaggableCacheManager delegate;
+
+    private final ObjectProvider<CacheInvalidationService> cacheInvalidationServiceProvider;
+
+    @Override
+    public boolean keyExists(String key) {
+        return delegate.keyExists(key);
+    }
+
+    @Override
+    public <T> T findByKey(String key) {
+        return delegate.findByKey(key);
+    }
+
+    @Override
+    public void saveEntry(String key, Object value, List<String> tags) {
+        delegate.saveEntry(key, value, tags);
+    }
+
+    @Override
+    public void evictByCacheTag(String tag) {
+        delegate.evictByCacheTag(tag);
+        publish(CacheInvalidation.builder().type(CacheInvalidationType.TAG).name(tag).build());
+    }
+
+    @Override
+    public void evictByCacheTag(String tag, Object key) {
+        delegate.evictByCacheTag(tag, key);
+        publish(CacheKey.of(key)
+                .map(cacheKey -> CacheInvalidation.builder().type(CacheInvalidationType.TAG_KEY).name(tag).key(cacheKey).build())
+                .orElseGet(() -> CacheInvalidation.builder().type(CacheInvalidationType.TAG).name(tag).build())
+        );
+    }
+
+    @Override
+    public <T> T computeIfAbsent(String key, List<String> tags, Supplier<T> supplier) {
+        return delegate.computeIfAbsent(key, tags, supplier);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        publish(CacheInvalidation.builder().type(CacheInvalidationType.TAGGABLE_CLEAR).build());
+    }
+
+    private void publish(CacheInvalidation invalidation) {
+        var cacheInvalidationService = cacheInvalidationServiceProvider.getIfAvailable();
+        if (cacheInvalidationService != null) {
+            cacheInvalidationService.publish(invalidation);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.kevinguanchedarias.owgejava.business.cache;
+
+import com.kevinguanchedarias.owgejava.enumerations.CacheInvalidationType;
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheInvalidation;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import java.io.Serial;
+
+/**
+ * Tells the other nodes which entities of the Hibernate second level cache (the game definitions) have changed, as
+ * Hibernate only updates the cache of the node that saved them
+ * <br>
+ * The whole entity is evicted in the other nodes, see {@link DefinitionCacheService#evict(String)}
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Component
+@RequiredArgsConstructor
+public class DefinitionCacheClusterListener
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+    @Serial
+    private static final long serialVersionUID = -2036530232860618418L;
+
+    private final transient EntityManagerFactory entityManagerFactory;
+    private final transient CacheInvalidationService cacheInvalidationService;
+
+    @PostConstruct
+    public void init() {
+        var registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getPersister());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister());
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+    private void publish(EntityPersister persister) {
+        if (persister.canWriteToCache()) {
+            cacheInvalidationService.publish(CacheInvalidation.builder()
+                    .type(CacheInvalidationType.DEFINITION)
+                    .name(persister.getEntityName())
+                    .build()
+            );
+        }
+    }
+}
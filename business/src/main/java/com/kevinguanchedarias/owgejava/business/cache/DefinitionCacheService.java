@@ -0,0 +1,70 @@
+package com.kevinguanchedarias.owgejava.business.cache;
+
+import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitReadModel;
+import com.kevinguanchedarias.owgejava.configurations.hibernate.DefinitionCacheStorageAccess;
+import com.kevinguanchedarias.owgejava.pojo.DefinitionCacheRegionStats;
+import lombok.AllArgsConstructor;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Service;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Evicts and reports the game definitions cache (the Hibernate second level cache)
+ * <br>
+ * Saving the entities updates the cache of this node, only changes that don't go through Hibernate have to evict it,
+ * the other nodes are told by {@link DefinitionCacheClusterListener}
+ * <br>
+ * Evicting all also drops the {@link ObtainedUnitReadModel} views, as they are built from the definitions
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Service
+@AllArgsConstructor
+public class DefinitionCacheService {
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObtainedUnitReadModel obtainedUnitReadModel;
+
+    public void evictAll() {
+        entityManagerFactory.getCache().evictAll();
+        obtainedUnitReadModel.invalidateAll();
+    }
+
+    public void evict(Class<?> entityClass) {
+        entityManagerFactory.getCache().evict(entityClass);
+    }
+
+    /**
+     * Evicts the entries of the entity, and all the cached collections, as the collections having the entity are not
+     * known (definitions almost never change)
+     */
+    public void evict(String entityName) {
+        var cache = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache();
+        cache.evictEntityData(entityName);
+        cache.evictCollectionData();
+    }
+
+    public List<DefinitionCacheRegionStats> findStats() {
+        var cache = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache();
+        return cache.getCacheRegionNames().stream()
+                .sorted()
+                .map(regionName -> {
+                    if (cache.getRegion(regionName) instanceof DomainDataRegionTemplate region
+                            && region.getCacheStorageAccess() instanceof DefinitionCacheStorageAccess storage) {
+                        return DefinitionCacheRegionStats.builder()
+                                .region(regionName)
+                                .entries(storage.getSize())
+                                .hits(storage.getHits())
+                                .misses(storage.getMisses())
+                                .build();
+                    }
+                    return null;
+                })
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
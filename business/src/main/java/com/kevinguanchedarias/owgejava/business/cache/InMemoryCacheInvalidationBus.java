@@ -0,0 +1,34 @@
+package com.kevinguanchedarias.owgejava.business.cache;
+
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheInvalidationBatch;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers the batches directly to the subscribers of this JVM, used when there is only one node
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Service
+public class InMemoryCacheInvalidationBus implements CacheInvalidationBus {
+    private final List<Consumer<CacheInvalidationBatch>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidationBatch batch) {
+        subscribers.forEach(subscriber -> subscriber.accept(batch));
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationBatch> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Override
+    public boolean isLocal() {
+        return true;
+    }
+}
@@ -27,10 +27,13 @@ public class MissionEventEmitterBo {
     private final RunningMissionFinderBo runningMissionFinderBo;
     private final MissionRepository missionRepository;
     private final MissionFinderBo missionFinderBo;
+    private final MissionTelemetryService missionTelemetryService;
 
     public void emitLocalMissionChangeAfterCommit(Mission mission) {
         UserStorage user = mission.getUser();
-        transactionUtilService.doAfterCommit(() -> emitLocalMissionChange(mission, user.getId()));
+        transactionUtilService.doAfterCommit(() -> missionTelemetryService.inSpan(
+                MissionTelemetryService.EMIT_SPAN, mission, () -> emitLocalMissionChange(mission, user.getId())
+        ));
     }
 
     /**
@@ -66,7 +69,9 @@ public class MissionEventEmitterBo {
     }
 
     public void emitUnitMissionsAfterCommit(Integer userId) {
-        transactionUtilService.doAfterCommit(() -> emitUnitMissions(userId));
+        transactionUtilService.doAfterCommit(
+                () -> missionTelemetryService.inSpan(MissionTelemetryService.EMIT_SPAN, () -> emitUnitMissions(userId))
+        );
     }
 
     public void emitLocalMissionChange(Mission mission, Integer userId) {
@@ -0,0 +1,137 @@
+package com.kevinguanchedarias.owgejava.business.mission;
+
+import com.kevinguanchedarias.owgejava.entity.Mission;
+import com.kevinguanchedarias.owgejava.enumerations.MissionType;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * Traces the lifecycle of the missions (registration, scheduling, execution and its steps), and measures how late
+ * the scheduler fires them
+ * <br>
+ * The execution starts a new trace, as the scheduler doesn't carry the context of the registration, use the
+ * <i>owge.mission.id</i> attribute to correlate both
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Service
+public class MissionTelemetryService {
+    public static final String INSTRUMENTATION_NAME = "owge-missions";
+    public static final String REGISTER_SPAN = "mission.register";
+    public static final String SCHEDULE_SPAN = "mission.schedule";
+    public static final String EXECUTE_SPAN = "mission.execute";
+    public static final String LOCK_SPAN = "mission.lock";
+    public static final String PROCESS_SPAN = "mission.process";
+    public static final String REPORT_SPAN = "mission.report";
+    public static final String EMIT_SPAN = "mission.emit";
+    public static final String FIRE_LATENESS_METRIC = "owge.mission.fire.lateness";
+    public static final AttributeKey<Long> MISSION_ID = AttributeKey.longKey("owge.mission.id");
+    public static final AttributeKey<String> MISSION_TYPE = AttributeKey.stringKey("owge.mission.type");
+    public static final AttributeKey<Long> FIRE_LATENESS = AttributeKey.longKey("owge.mission.fire_lateness_ms");
+
+    private final Tracer tracer;
+    private final LongHistogram fireLateness;
+
+    public MissionTelemetryService(OpenTelemetry openTelemetry) {
+        tracer = openTelemetry.getTracer(INSTRUMENTATION_NAME);
+        fireLateness = openTelemetry.getMeter(INSTRUMENTATION_NAME)
+                .histogramBuilder(FIRE_LATENESS_METRIC)
+                .setDescription("Time elapsed between the scheduled fire time of a mission, and the moment it's picked up")
+                .setUnit("ms")
+                .ofLongs()
+                .build();
+    }
+
+    /**
+     * Runs the action inside a span for a mission that doesn't exist yet, use {@link #tagCurrentSpan(Mission)} once
+     * it has an id
+     */
+    public void inSpan(String name, MissionType missionType, Runnable action) {
+        inSpan(tracer.spanBuilder(name).setAttribute(MISSION_TYPE, missionType.name()), toSupplier(action));
+    }
+
+    public void inSpan(String name, Mission mission, Runnable action) {
+        inSpan(tracer.spanBuilder(name).setAllAttributes(missionAttributes(mission)), toSupplier(action));
+    }
+
+    /**
+     * Runs the execution of the mission inside a new trace
+     */
+    public void inExecutionSpan(Mission mission, Runnable action) {
+        inSpan(tracer.spanBuilder(EXECUTE_SPAN).setNoParent().setAllAttributes(missionAttributes(mission)), toSupplier(action));
+    }
+
+    /**
+     * Runs the action inside a child span of the current one (if any)
+     */
+    public <T> T inSpan(String name, Supplier<T> action) {
+        return inSpan(tracer.spanBuilder(name), action);
+    }
+
+    public void inSpan(String name, Runnable action) {
+        inSpan(tracer.spanBuilder(name), toSupplier(action));
+    }
+
+    /**
+     * Starts a span that is not made current, for steps that can't be wrapped, for example the time spent waiting for
+     * a lock, <b>the invoker must end it</b>
+     */
+    public Span startSpan(String name) {
+        return tracer.spanBuilder(name).startSpan();
+    }
+
+    public void tagCurrentSpan(Mission mission) {
+        Span.current().setAllAttributes(missionAttributes(mission));
+    }
+
+    /**
+     * Records the lateness of the mission in the histogram, and in the current span
+     *
+     * @param scheduledFireTime The time the scheduler was asked to run the mission
+     */
+    public void recordFireLateness(Mission mission, Instant scheduledFireTime) {
+        var latenessMillis = Duration.between(scheduledFireTime, Instant.now()).toMillis();
+        fireLateness.record(latenessMillis, Attributes.of(MISSION_TYPE, mission.getType().getCode()));
+        Span.current().setAttribute(FIRE_LATENESS, latenessMillis);
+    }
+
+    private <T> T inSpan(SpanBuilder spanBuilder, Supplier<T> action) {
+        var span = spanBuilder.startSpan();
+        try (var ignored = span.makeCurrent()) {
+            return action.get();
+        } catch (RuntimeException e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private Attributes missionAttributes(Mission mission) {
+        var builder = Attributes.builder().put(MISSION_TYPE, mission.getType().getCode());
+        if (mission.getId() != null) {
+            builder.put(MISSION_ID, mission.getId());
+        }
+        return builder.build();
+    }
+
+    private Supplier<Void> toSupplier(Runnable action) {
+        return () -> {
+            action.run();
+            return null;
+        };
+    }
+}
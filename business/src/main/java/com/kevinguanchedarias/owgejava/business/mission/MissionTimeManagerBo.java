@@ -2,28 +2,61 @@ package com.kevinguanchedarias.owgejava.business.mission;
 
 import com.kevinguanchedarias.owgejava.business.ConfigurationBo;
 import com.kevinguanchedarias.owgejava.business.ImprovementBo;
+import com.kevinguanchedarias.owgejava.business.planet.PlanetCoordinatesIndex;
 import com.kevinguanchedarias.owgejava.entity.Mission;
 import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
-import com.kevinguanchedarias.owgejava.entity.Planet;
 import com.kevinguanchedarias.owgejava.entity.Unit;
+import com.kevinguanchedarias.owgejava.entity.UserStorage;
 import com.kevinguanchedarias.owgejava.enumerations.ImprovementTypeEnum;
 import com.kevinguanchedarias.owgejava.enumerations.MissionType;
+import com.kevinguanchedarias.owgejava.exception.NotFoundException;
 import com.kevinguanchedarias.owgejava.exception.ProgrammingException;
-import lombok.AllArgsConstructor;
+import com.kevinguanchedarias.owgejava.exception.SgtBackendInvalidInputException;
+import com.kevinguanchedarias.owgejava.pojo.ConfigurationChangedEvent;
+import com.kevinguanchedarias.owgejava.pojo.mission.MissionSpeedProfile;
+import com.kevinguanchedarias.owgejava.pojo.mission.MissionTimeEstimationRequest;
+import com.kevinguanchedarias.owgejava.pojo.planet.PlanetCoordinates;
+import com.kevinguanchedarias.owgejava.repository.ObtainedUnitRepository;
+import com.kevinguanchedarias.owgejava.repository.UnitRepository;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
-import java.util.List;
-import java.util.Optional;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Calculates the time of the missions
+ * <br>
+ * As of 0.11.4 the <i>MISSION_SPEED_*</i> configuration of each mission type is parsed once, and kept until it changes
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ */
 @Service
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class MissionTimeManagerBo {
+    /**
+     * Part of the travel time after which the units of a conquest mission are involved in the attacks to the target
+     * planet (see #316)
+     */
+    public static final double ATTACK_ELIGIBLE_TIME_RATIO = 0.1D;
+    private static final String MISSION_SPEED_PREFIX = "MISSION_SPEED_";
+    private static final int MAX_ESTIMATED_UNITS = 100;
+    private static final int MAX_ESTIMATED_TARGETS = 500;
+
     private final MissionConfigurationBo missionConfigurationBo;
     private final ImprovementBo improvementBo;
     private final ConfigurationBo configurationBo;
+    private final PlanetCoordinatesIndex planetCoordinatesIndex;
+    private final ObtainedUnitRepository obtainedUnitRepository;
+    private final UnitRepository unitRepository;
+
+    private final Map<MissionType, MissionSpeedProfile> speedProfiles = new ConcurrentHashMap<>();
 
     public LocalDateTime computeTerminationDate(Double requiredTime) {
         return LocalDateTime.now(ZoneOffset.UTC).plusSeconds(requiredTime.intValue());
@@ -43,28 +76,103 @@ public class MissionTimeManagerBo {
      */
     public void handleMissionTimeCalculation(List<ObtainedUnit> obtainedUnits, Mission mission, MissionType missionType) {
         if (!allUnitsHaveFixedSpeedImpactGroup(obtainedUnits)) {
-            var user = mission.getUser();
-            Optional<Double> lowestSpeedOptional = obtainedUnits.stream().map(ObtainedUnit::getUnit)
-                    .filter(unit -> unit.getSpeed() != null && unit.getSpeed() > 0.000D
-                            && (unit.getSpeedImpactGroup() == null || !Boolean.TRUE.equals(unit.getSpeedImpactGroup().getIsFixed())))
-                    .map(Unit::getSpeed).reduce((a, b) -> a > b ? b : a);
-            if (lowestSpeedOptional.isPresent()) {
-                double lowestSpeed = lowestSpeedOptional.get();
-                var unitType = obtainedUnits.stream()
-                        .map(ObtainedUnit::getUnit)
-                        .filter(unit -> unit.getSpeed() != null && lowestSpeed == unit.getSpeed())
-                        .map(Unit::getType)
-                        .findFirst()
-                        .orElseThrow(() -> new ProgrammingException("Should never ever happened, you know"));
-                var improvement = improvementBo.findUserImprovement(user);
-                var speedWithImprovement = lowestSpeed + (lowestSpeed * improvementBo.findAsRational(
-                        (double) improvement.findUnitTypeImprovement(ImprovementTypeEnum.SPEED, unitType)));
+            findSpeedWithImprovement(
+                    mission.getUser(), obtainedUnits.stream().map(ObtainedUnit::getUnit).toList()
+            ).ifPresent(speedWithImprovement -> {
                 double missionTypeTime = calculateRequiredTime(missionType);
-                double requiredTime = calculateTimeUsingSpeed(mission, missionType, missionTypeTime, speedWithImprovement);
+                double requiredTime = findSpeedProfile(missionType).calculateTime(
+                        missionTypeTime,
+                        speedWithImprovement,
+                        PlanetCoordinates.of(mission.getSourcePlanet()),
+                        PlanetCoordinates.of(mission.getTargetPlanet())
+                );
                 mission.setRequiredTime(requiredTime);
                 mission.setTerminationDate(computeTerminationDate(mission.getRequiredTime()));
-            }
+            });
+        }
+    }
+
+    /**
+     * Estimates the required time of a mission of the user with the units to each of the target planets
+     *
+     * @return The required time by target planet id, empty if none of the units has speed
+     * @throws SgtBackendInvalidInputException When there are no units or target planets, or too many of them
+     * @throws NotFoundException               When the user doesn't have some of the units in the source planet
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    public Map<Long, Double> estimateRequiredTimes(UserStorage user, MissionTimeEstimationRequest request) {
+        var sourcePlanetId = request.getSourcePlanetId();
+        if (request.getMissionType() == null || sourcePlanetId == null) {
+            throw new SgtBackendInvalidInputException("missionType and sourcePlanetId are required");
         }
+        var unitIds = findDistinctIds("unitIds", request.getUnitIds(), MAX_ESTIMATED_UNITS);
+        var targetPlanetIds = findDistinctIds("targetPlanetIds", request.getTargetPlanetIds(), MAX_ESTIMATED_TARGETS);
+        var unitIdsInPlanet = obtainedUnitRepository.findUnitIdsInPlanet(user.getId(), sourcePlanetId, unitIds);
+        unitIds.stream().filter(unitId -> !unitIdsInPlanet.contains(unitId)).findFirst().ifPresent(unitId -> {
+            throw new NotFoundException("No obtainedUnit for unit with id " + unitId + " was found in planet "
+                    + sourcePlanetId + ", nice try, dirty hacker!");
+        });
+        return findSpeedWithImprovement(user, unitRepository.findAllById(unitIds))
+                .map(speed -> estimateRequiredTimes(request.getMissionType(), sourcePlanetId, targetPlanetIds, speed))
+                .orElse(Map.of());
+    }
+
+    /**
+     * Estimates the required time to go from the source planet to each of the target planets, intended for the mission
+     * planning, as it doesn't load the planets
+     *
+     * @param speed The speed of the slowest unit, with improvements, see
+     *              {@link MissionTimeManagerBo#findSpeedWithImprovement(UserStorage, List)}
+     * @return The required time by target planet id, the planets that don't exist are not included
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    public Map<Long, Double> estimateRequiredTimes(
+            MissionType missionType, Long sourcePlanetId, Collection<Long> targetPlanetIds, double speed
+    ) {
+        var wantedPlanets = new HashSet<>(targetPlanetIds);
+        wantedPlanets.add(sourcePlanetId);
+        var coordinatesByPlanet = planetCoordinatesIndex.findAll(wantedPlanets);
+        var source = coordinatesByPlanet.get(sourcePlanetId);
+        if (source == null) {
+            throw new SgtBackendInvalidInputException("No such source planet " + sourcePlanetId);
+        }
+        var missionTypeTime = calculateRequiredTime(missionType);
+        var speedProfile = findSpeedProfile(missionType);
+        var result = new LinkedHashMap<Long, Double>();
+        targetPlanetIds.forEach(targetPlanetId -> {
+            var target = coordinatesByPlanet.get(targetPlanetId);
+            if (target != null) {
+                result.put(targetPlanetId, speedProfile.calculateTime(missionTypeTime, speed, source, target));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Finds the speed of the slowest unit, ignoring the units with fixed speed impact group or without speed, and adds
+     * the speed improvement of the user for the unit type of that unit
+     *
+     * @return empty if no unit has speed
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    public Optional<Double> findSpeedWithImprovement(UserStorage user, List<Unit> units) {
+        Optional<Double> lowestSpeedOptional = units.stream()
+                .filter(unit -> unit.getSpeed() != null && unit.getSpeed() > 0.000D
+                        && (unit.getSpeedImpactGroup() == null || !Boolean.TRUE.equals(unit.getSpeedImpactGroup().getIsFixed())))
+                .map(Unit::getSpeed).reduce((a, b) -> a > b ? b : a);
+        return lowestSpeedOptional.map(lowestSpeed -> {
+            var unitType = units.stream()
+                    .filter(unit -> unit.getSpeed() != null && lowestSpeed.doubleValue() == unit.getSpeed())
+                    .map(Unit::getType)
+                    .findFirst()
+                    .orElseThrow(() -> new ProgrammingException("Should never ever happened, you know"));
+            var improvement = improvementBo.findUserImprovement(user);
+            return lowestSpeed + (lowestSpeed * improvementBo.findAsRational(
+                    (double) improvement.findUnitTypeImprovement(ImprovementTypeEnum.SPEED, unitType)));
+        });
     }
 
     public void handleCustomDuration(Mission mission, Long customDuration) {
@@ -74,71 +182,67 @@ public class MissionTimeManagerBo {
         }
     }
 
-    private double calculateTimeUsingSpeed(Mission mission, MissionType missionType, double missionTypeTime,
-                                           double lowestUnitSpeed) {
-        int missionTypeDivisor = findMissionTypeDivisor(missionType);
-        missionTypeDivisor = missionTypeDivisor == 0 ? 1 : missionTypeDivisor;
-        int leftMultiplier = findSpeedLeftMultiplier(mission, missionType);
-        float moveCost = calculateMoveCost(missionType, mission.getSourcePlanet(), mission.getTargetPlanet());
-        double retVal = missionTypeTime + ((leftMultiplier * moveCost) * (100 - lowestUnitSpeed)) / missionTypeDivisor;
-        return Math.max(missionTypeTime, retVal);
-    }
-
-    private int findMissionTypeDivisor(MissionType missionType) {
-        return Integer.parseInt(
-                configurationBo.findOrSetDefault("MISSION_SPEED_DIVISOR_" + missionType.name(), "1").getValue());
+    /**
+     * Stores in the mission since when its units are involved in the attacks to the target planet, must be invoked
+     * after the required time is final
+     *
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    public void defineAttackEligibleFrom(Mission mission, MissionType missionType) {
+        if (missionType == MissionType.CONQUEST) {
+            mission.setAttackEligibleFrom(mission.getStartingDate().plus(
+                    Math.round(mission.getRequiredTime() * ATTACK_ELIGIBLE_TIME_RATIO * 1000), ChronoUnit.MILLIS
+            ));
+        }
     }
 
     /**
-     * Finds the speed left multiplier <b>also known as the "mission penalty"</b>
-     * which depends of the mission type and if it's on different quadrant
+     * Drops the parsed speed configuration when a <i>MISSION_SPEED_*</i> configuration changes, after the commit, so
+     * the next mission doesn't parse the old value again
+     *
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
      */
-    private int findSpeedLeftMultiplier(Mission mission, MissionType missionType) {
-        final String prefix = "MISSION_SPEED_";
-        String missionTypeName = missionType.name();
-        Long sourceQuadrant = mission.getSourcePlanet().getQuadrant();
-        Long targetQuadrant = mission.getTargetPlanet().getQuadrant();
-        Long sourceSector = mission.getSourcePlanet().getSector();
-        Long targetSector = mission.getTargetPlanet().getSector();
-        Integer sourceGalaxy = mission.getSourcePlanet().getGalaxy().getId();
-        Integer targetGalaxy = mission.getTargetPlanet().getGalaxy().getId();
-        int defaultMultiplier;
-        String configurationName;
-        if (sourceQuadrant.equals(targetQuadrant) && sourceSector.equals(targetSector)
-                && sourceGalaxy.equals(targetGalaxy)) {
-            configurationName = prefix + missionTypeName + "_SAME_Q";
-            defaultMultiplier = 50;
-        } else if (!sourceGalaxy.equals(targetGalaxy)) {
-            configurationName = prefix + missionTypeName + "_DIFF_G";
-            defaultMultiplier = 2000;
-        } else if (!sourceSector.equals(targetSector)) {
-            configurationName = prefix + missionTypeName + "_DIFF_S";
-            defaultMultiplier = 200;
-        } else {
-            configurationName = prefix + missionTypeName + "_DIFF_Q";
-            defaultMultiplier = 100;
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onConfigurationChanged(ConfigurationChangedEvent event) {
+        if (event.getName() != null && event.getName().startsWith(MISSION_SPEED_PREFIX)) {
+            speedProfiles.clear();
         }
+    }
+
+    public void clearSpeedProfiles() {
+        speedProfiles.clear();
+    }
+
+    MissionSpeedProfile findSpeedProfile(MissionType missionType) {
+        return speedProfiles.computeIfAbsent(missionType, this::buildSpeedProfile);
+    }
+
+    private MissionSpeedProfile buildSpeedProfile(MissionType missionType) {
+        var prefix = MISSION_SPEED_PREFIX + missionType.name();
+        int divisor = Integer.parseInt(
+                configurationBo.findOrSetDefault(MISSION_SPEED_PREFIX + "DIVISOR_" + missionType.name(), "1").getValue());
+        return MissionSpeedProfile.builder()
+                .divisor(divisor == 0 ? 1 : divisor)
+                .sameQuadrantMultiplier(findIntConfiguration(prefix + "_SAME_Q", 50))
+                .differentQuadrantMultiplier(findIntConfiguration(prefix + "_DIFF_Q", 100))
+                .differentSectorMultiplier(findIntConfiguration(prefix + "_DIFF_S", 200))
+                .differentGalaxyMultiplier(findIntConfiguration(prefix + "_DIFF_G", 2000))
+                .planetMoveCost(findFloatConfiguration(prefix + "_P_MOVE_COST", "0.01", 0.01f))
+                .quadrantMoveCost(findFloatConfiguration(prefix + "_Q_MOVE_COST", "0.02", 0.02f))
+                .sectorMoveCost(findFloatConfiguration(prefix + "_S_MOVE_COST", "0.03", 0.03f))
+                .galaxyMoveCost(findFloatConfiguration(prefix + "_G_MOVE_COST", "0.15", 0.15f))
+                .build();
+    }
+
+    private int findIntConfiguration(String name, int defaultValue) {
         return NumberUtils.toInt(
-                configurationBo.findOrSetDefault(configurationName, String.valueOf(defaultMultiplier)).getValue(),
-                defaultMultiplier);
-    }
-
-    private float calculateMoveCost(MissionType missionType, Planet sourcePlanet, Planet targetPlanet) {
-        final String prefix = "MISSION_SPEED_";
-        String missionTypeName = missionType.name();
-        long positionInQuadrant = Math.abs(sourcePlanet.getPlanetNumber() - targetPlanet.getPlanetNumber());
-        long quadrants = Math.abs(sourcePlanet.getQuadrant() - targetPlanet.getQuadrant());
-        long sectors = Math.abs(sourcePlanet.getSector() - targetPlanet.getSector());
-        float planetDiff = NumberUtils.toFloat(
-                configurationBo.findOrSetDefault(prefix + missionTypeName + "_P_MOVE_COST", "0.01").getValue(), 0.01f);
-        float quadrantDiff = NumberUtils.toFloat(
-                configurationBo.findOrSetDefault(prefix + missionTypeName + "_Q_MOVE_COST", "0.02").getValue(), 0.02f);
-        float sectorDiff = NumberUtils.toFloat(
-                configurationBo.findOrSetDefault(prefix + missionTypeName + "_S_MOVE_COST", "0.03").getValue(), 0.03f);
-        float galaxyDiff = NumberUtils.toFloat(
-                configurationBo.findOrSetDefault(prefix + missionTypeName + "_G_MOVE_COST", "0.15").getValue(), 0.15f);
-        return (positionInQuadrant * planetDiff) + (quadrants * quadrantDiff) + (sectors * sectorDiff)
-                + (!targetPlanet.getGalaxy().getId().equals(sourcePlanet.getGalaxy().getId()) ? galaxyDiff : 0);
+                configurationBo.findOrSetDefault(name, String.valueOf(defaultValue)).getValue(), defaultValue);
+    }
+
+    private float findFloatConfiguration(String name, String defaultValueAsString, float defaultValue) {
+        return NumberUtils.toFloat(configurationBo.findOrSetDefault(name, defaultValueAsString).getValue(), defaultValue);
     }
 
     private boolean allUnitsHaveFixedSpeedImpactGroup(List<ObtainedUnit> obtainedUnits) {
@@ -146,4 +250,12 @@ public class MissionTimeManagerBo {
                 .map(ou -> ou.getUnit().getSpeedImpactGroup())
                 .allMatch(speedImpactGroup -> speedImpactGroup != null && Boolean.TRUE.equals(speedImpactGroup.getIsFixed()));
     }
+
+    private <T> List<T> findDistinctIds(String name, List<T> ids, int max) {
+        var result = CollectionUtils.emptyIfNull(ids).stream().filter(Objects::nonNull).distinct().toList();
+        if (result.isEmpty() || result.size() > max) {
+            throw new SgtBackendInvalidInputException(name + " must have between 1 and " + max + " elements");
+        }
+        return result;
+    }
 }
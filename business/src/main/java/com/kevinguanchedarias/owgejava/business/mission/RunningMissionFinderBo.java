@@ -4,6 +4,7 @@ import com.kevinguanchedarias.owgejava.business.planet.PlanetCleanerService;
 import com.kevinguanchedarias.owgejava.business.planet.PlanetExplorationService;
 import com.kevinguanchedarias.owgejava.business.unit.HiddenUnitBo;
 import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitFinderBo;
+import com.kevinguanchedarias.owgejava.configurations.datasource.ReadReplica;
 import com.kevinguanchedarias.owgejava.dto.UnitRunningMissionDto;
 import com.kevinguanchedarias.owgejava.entity.Mission;
 import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
@@ -33,6 +34,10 @@ public class RunningMissionFinderBo {
     private final UserStorageRepository userStorageRepository;
     private final ObtainedUnitFinderBo obtainedUnitFinderBo;
 
+    /**
+     * Read from the replica, the other methods are cached, so they use the primary
+     */
+    @ReadReplica
     public List<UnitRunningMissionDto> findEnemyRunningMissions(UserStorage user) {
         List<Planet> myPlanets = planetRepository.findByOwnerId(user.getId());
         return missionRepository.findByTargetPlanetInAndResolvedFalseAndInvisibleFalseAndUserNot(myPlanets, user)
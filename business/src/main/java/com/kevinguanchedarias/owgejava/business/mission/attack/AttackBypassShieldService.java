@@ -14,8 +14,7 @@ public class AttackBypassShieldService {
 
     public boolean bypassShields(ObtainedUnit source, ObtainedUnit target) {
         var user = source.getUser();
-        return Boolean.TRUE.equals(source.getUnit().getBypassShield()) || activeTimeSpecialRuleFinderService.existsRuleMatchingUnitDestination(
-                user, target.getUnit(), RULE_TYPE
-        );
+        return Boolean.TRUE.equals(source.getUnit().getBypassShield()) || activeTimeSpecialRuleFinderService.findActiveEffects(user)
+                .hasRuleTargetingUnit(RULE_TYPE, target.getUnit());
     }
 }
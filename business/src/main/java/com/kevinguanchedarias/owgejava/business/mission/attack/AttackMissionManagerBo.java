@@ -4,7 +4,6 @@ import com.kevinguanchedarias.owgejava.business.*;
 import com.kevinguanchedarias.owgejava.business.mission.MissionEventEmitterBo;
 import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitEventEmitter;
 import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitFinderBo;
-import com.kevinguanchedarias.owgejava.business.unit.obtained.ObtainedUnitBo;
 import com.kevinguanchedarias.owgejava.business.unit.obtained.ObtainedUnitImprovementCalculationService;
 import com.kevinguanchedarias.owgejava.business.user.UserEventEmitterBo;
 import com.kevinguanchedarias.owgejava.business.util.TransactionUtilService;
@@ -13,35 +12,27 @@ import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
 import com.kevinguanchedarias.owgejava.entity.Planet;
 import com.kevinguanchedarias.owgejava.entity.UserStorage;
 import com.kevinguanchedarias.owgejava.enumerations.MissionType;
-import com.kevinguanchedarias.owgejava.exception.OwgeElementSideDeletedException;
 import com.kevinguanchedarias.owgejava.pojo.attack.AttackInformation;
 import com.kevinguanchedarias.owgejava.pojo.attack.AttackObtainedUnit;
 import com.kevinguanchedarias.owgejava.pojo.attack.AttackObtainedUnitWithScore;
 import com.kevinguanchedarias.owgejava.pojo.attack.AttackUserInformation;
-import com.kevinguanchedarias.owgejava.repository.MissionRepository;
 import com.kevinguanchedarias.owgejava.repository.ObtainedUnitRepository;
 import com.kevinguanchedarias.owgejava.repository.UserStorageRepository;
 import lombok.AllArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
 import org.springframework.stereotype.Service;
 
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 @Service
 @AllArgsConstructor
-@Slf4j
 public class AttackMissionManagerBo {
 
-    private final ObtainedUnitBo obtainedUnitBo;
     private final ImprovementBo improvementBo;
     private final AttackObtainedUnitBo attackObtainedUnitBo;
     private final AttackRuleBo attackRuleBo;
     private final CriticalAttackBo criticalAttackBo;
-    private final MissionRepository missionRepository;
-    private final UserStorageBo userStorageBo;
     private final UnitTypeBo unitTypeBo;
     private final AllianceBo allianceBo;
     private final AttackEventEmitter attackEventEmitter;
@@ -55,6 +46,7 @@ public class AttackMissionManagerBo {
     private final ObtainedUnitImprovementCalculationService obtainedUnitImprovementCalculationService;
     private final ConfigurationBo configurationBo;
     private final AttackBypassShieldService attackBypassShieldService;
+    private final AttackResultPersistenceService attackResultPersistenceService;
 
     public AttackInformation buildAttackInformation(Planet targetPlanet, Mission attackMission) {
         AttackInformation retVal = new AttackInformation(attackMission, targetPlanet);
@@ -124,22 +116,7 @@ public class AttackMissionManagerBo {
     }
 
     private void updatePoints(AttackInformation attackInformation) {
-        Set<Integer> alteredUsers = new HashSet<>();
-        attackInformation.getUsers().entrySet().forEach(current -> {
-            var attackUserInformation = current.getValue();
-            List<AttackObtainedUnit> userUnits = attackUserInformation.getUnits();
-            userStorageBo.addPointsToUser(attackUserInformation.getUser(), attackUserInformation.getEarnedPoints());
-            userUnits.stream().filter(currentUnit -> !currentUnit.getFinalCount().equals(0L)
-                    && !currentUnit.getInitialCount().equals(currentUnit.getFinalCount())).forEach(currentUnit -> {
-                long killed = currentUnit.getInitialCount() - currentUnit.getFinalCount();
-                try {
-                    obtainedUnitBo.saveWithChange(currentUnit.getObtainedUnit(), -killed);
-                    alteredUsers.add(attackUserInformation.getUser().getId());
-                } catch (OwgeElementSideDeletedException e) {
-                    log.warn("Element side deleted", e);
-                }
-            });
-        });
+        Set<Integer> alteredUsers = new HashSet<>(attackResultPersistenceService.persist(attackInformation));
         alteredUsers.addAll(attackInformation.getUsersWithChangedCounts());
         transactionUtilService.doAfterCommit(() -> alteredUsers.forEach(current -> {
             unitTypeBo.emitUserChange(current);
@@ -204,8 +181,6 @@ public class AttackMissionManagerBo {
             target.setAvailableHealth(0D);
             target.setAvailableShield(0D);
             maybeUnsetHolderUnit(attackInformation, target.getObtainedUnit());
-            obtainedUnitRepository.delete(target.getObtainedUnit());
-            deleteMissionIfRequired(attackInformation, target.getObtainedUnit());
             attackInformation.getUsersWithChangedCounts().add(target.getUser().getUser().getId());
         }
 
@@ -241,25 +216,6 @@ public class AttackMissionManagerBo {
         source.getUser().setEarnedPoints(source.getUser().getEarnedPoints() + killedCount * victimUnit.getObtainedUnit().getUnit().getPoints());
     }
 
-    /**
-     * Deletes the mission from the system, when all units involved are death
-     * <p>
-     * Notice, should be invoked after <b>removing the obtained unit</b>
-     *
-     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
-     */
-    private void deleteMissionIfRequired(AttackInformation attackInformation, ObtainedUnit obtainedUnit) {
-        var mission = obtainedUnit.getMission();
-        if (mission != null && !obtainedUnitRepository.existsByMission(mission)) {
-            if (attackInformation.getAttackMission().getId().equals(mission.getId())) {
-                attackInformation.setRemoved(true);
-            } else {
-                missionRepository.delete(mission);
-                attackInformation.getUsersWithDeletedMissions().add(mission.getUser().getId());
-            }
-        }
-    }
-
     private float findCriticalScore(AttackObtainedUnit attacker, AttackObtainedUnit target) {
         var unit = attacker.getObtainedUnit().getUnit();
         var criticalAttack = ObjectUtils.firstNonNull(unit.getCriticalAttack(), criticalAttackBo.findUsedCriticalAttack(unit.getType()));
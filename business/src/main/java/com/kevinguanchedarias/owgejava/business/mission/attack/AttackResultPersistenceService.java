@@ -0,0 +1,153 @@
+package com.kevinguanchedarias.owgejava.business.mission.attack;
+
+import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitReadModel;
+import com.kevinguanchedarias.owgejava.business.unit.PlanetInvolvedUnitsIndex;
+import com.kevinguanchedarias.owgejava.entity.Mission;
+import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
+import com.kevinguanchedarias.owgejava.entity.listener.EntityWithByUserCacheTagListener;
+import com.kevinguanchedarias.owgejava.pojo.attack.AttackInformation;
+import com.kevinguanchedarias.owgejava.pojo.attack.AttackObtainedUnit;
+import com.kevinguanchedarias.owgejava.repository.MissionRepository;
+import com.kevinguanchedarias.owgejava.repository.ObtainedUnitRepository;
+import com.kevinguanchedarias.taggablecache.manager.TaggableCacheManager;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.persistence.EntityManager;
+import java.util.*;
+
+/**
+ * Writes the result of a battle in a single phase, after all the units have attacked
+ * <br>
+ * The killed units are subtracted from the survivor counts with one JDBC batch of atomic <i>count = count - ?</i>
+ * updates (so a concurrent change of the count is not lost), and the survivors are refreshed, so a later save of them
+ * doesn't write back the old count, the destroyed units are removed with one bulk DELETE, both bypass the entity
+ * listeners, so the units are marked by hand in the {@link ObtainedUnitReadModel} and the
+ * {@link PlanetInvolvedUnitsIndex}, and their by-user cache tags are evicted by hand, as the
+ * {@link EntityWithByUserCacheTagListener} does, the emptied missions are found with one query, and the earned points
+ * are added as one JDBC batch
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Service
+@AllArgsConstructor
+public class AttackResultPersistenceService {
+    private static final String ADD_POINTS_SQL = "UPDATE user_storage SET points = points + ? WHERE id = ?";
+    private static final String SUBTRACT_COUNT_SQL = "UPDATE obtained_units SET count = count - ? WHERE id = ?";
+
+    private final ObtainedUnitRepository obtainedUnitRepository;
+    private final MissionRepository missionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TaggableCacheManager taggableCacheManager;
+    private final EntityManager entityManager;
+    private final ObtainedUnitReadModel obtainedUnitReadModel;
+    private final PlanetInvolvedUnitsIndex planetInvolvedUnitsIndex;
+
+    /**
+     * Persists the counts, the destroyed units, the emptied missions and the earned points
+     * <br>
+     * Marks the attack mission as removed when all its units died, and adds to the users with deleted missions the
+     * owners of the other emptied missions
+     *
+     * @return The users whose surviving units lost count
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    public Set<Integer> persist(AttackInformation attackInformation) {
+        Set<Integer> alteredUsers = new HashSet<>();
+        Map<Long, ObtainedUnit> destroyedUnits = new LinkedHashMap<>();
+        Map<ObtainedUnit, Long> killedBySurvivor = new LinkedHashMap<>();
+        attackInformation.getUsers().values().forEach(user -> user.getUnits().forEach(unit -> {
+            var obtainedUnit = unit.getObtainedUnit();
+            if (unit.getFinalCount().equals(0L)) {
+                destroyedUnits.put(obtainedUnit.getId(), obtainedUnit);
+            } else if (!unit.getInitialCount().equals(unit.getFinalCount())) {
+                killedBySurvivor.put(obtainedUnit, findKilled(unit));
+                alteredUsers.add(user.getUser().getId());
+            }
+        }));
+        entityManager.flush();
+        if (!killedBySurvivor.isEmpty()) {
+            subtractKilled(killedBySurvivor);
+        }
+        if (!destroyedUnits.isEmpty()) {
+            deleteDestroyed(attackInformation, destroyedUnits.values());
+        }
+        addPoints(attackInformation);
+        return alteredUsers;
+    }
+
+    private long findKilled(AttackObtainedUnit unit) {
+        return unit.getInitialCount() - unit.getFinalCount();
+    }
+
+    private void subtractKilled(Map<ObtainedUnit, Long> killedBySurvivor) {
+        jdbcTemplate.batchUpdate(SUBTRACT_COUNT_SQL, killedBySurvivor.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey().getId()})
+                .toList()
+        );
+        killedBySurvivor.keySet().forEach(entityManager::refresh);
+        markChanged(killedBySurvivor.keySet());
+    }
+
+    private void deleteDestroyed(AttackInformation attackInformation, Collection<ObtainedUnit> destroyedUnits) {
+        obtainedUnitRepository.deleteAllByIdInBatch(destroyedUnits.stream().map(ObtainedUnit::getId).toList());
+        Map<Long, Mission> touchedMissions = new HashMap<>();
+        destroyedUnits.forEach(obtainedUnit -> {
+            entityManager.detach(obtainedUnit);
+            var mission = obtainedUnit.getMission();
+            if (mission != null) {
+                touchedMissions.put(mission.getId(), mission);
+            }
+        });
+        markChanged(destroyedUnits);
+        if (!touchedMissions.isEmpty()) {
+            deleteEmptiedMissions(attackInformation, touchedMissions);
+        }
+    }
+
+    private void deleteEmptiedMissions(AttackInformation attackInformation, Map<Long, Mission> touchedMissions) {
+        var missionsWithUnits = obtainedUnitRepository.findMissionIdsHavingUnits(touchedMissions.keySet());
+        var attackMissionId = attackInformation.getAttackMission().getId();
+        List<Mission> emptiedMissions = new ArrayList<>();
+        touchedMissions.forEach((missionId, mission) -> {
+            if (missionsWithUnits.contains(missionId)) {
+                return;
+            }
+            if (attackMissionId.equals(missionId)) {
+                attackInformation.setRemoved(true);
+            } else {
+                emptiedMissions.add(mission);
+                attackInformation.getUsersWithDeletedMissions().add(mission.getUser().getId());
+            }
+        });
+        if (!emptiedMissions.isEmpty()) {
+            missionRepository.deleteAll(emptiedMissions);
+        }
+    }
+
+    private void markChanged(Collection<ObtainedUnit> obtainedUnits) {
+        Map<String, Set<Integer>> usersByCacheTag = new HashMap<>();
+        obtainedUnits.forEach(obtainedUnit -> {
+            obtainedUnitReadModel.markChanged(obtainedUnit);
+            planetInvolvedUnitsIndex.markChanged(obtainedUnit);
+            usersByCacheTag.computeIfAbsent(obtainedUnit.getByUserCacheTag(), key -> new HashSet<>())
+                    .add(obtainedUnit.getUser().getId());
+        });
+        usersByCacheTag.forEach((cacheTag, userIds) ->
+                userIds.forEach(userId -> taggableCacheManager.evictByCacheTag(cacheTag, userId))
+        );
+    }
+
+    private void addPoints(AttackInformation attackInformation) {
+        var args = attackInformation.getUsers().values().stream()
+                .filter(user -> user.getEarnedPoints() != 0D)
+                .map(user -> new Object[]{user.getEarnedPoints(), user.getUser().getId()})
+                .toList();
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(ADD_POINTS_SQL, args);
+        }
+    }
+}
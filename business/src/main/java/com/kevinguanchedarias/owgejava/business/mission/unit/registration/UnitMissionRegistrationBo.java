@@ -2,6 +2,7 @@ package com.kevinguanchedarias.owgejava.business.mission.unit.registration;
 
 import com.kevinguanchedarias.owgejava.business.MissionSchedulerService;
 import com.kevinguanchedarias.owgejava.business.mission.MissionEventEmitterBo;
+import com.kevinguanchedarias.owgejava.business.mission.MissionTelemetryService;
 import com.kevinguanchedarias.owgejava.business.mission.MissionTimeManagerBo;
 import com.kevinguanchedarias.owgejava.business.mission.checker.CrossGalaxyMissionChecker;
 import com.kevinguanchedarias.owgejava.business.mission.unit.registration.checker.MissionRegistrationCanDeployChecker;
@@ -38,6 +39,7 @@ public class UnitMissionRegistrationBo {
     private final MissionSchedulerService missionSchedulerService;
     private final MissionEventEmitterBo missionEventEmitterBo;
     private final ObtainedUnitEventEmitter obtainedUnitEventEmitter;
+    private final MissionTelemetryService missionTelemetryService;
 
     @Transactional(propagation = Propagation.MANDATORY)
     public void doCommonMissionRegister(
@@ -46,11 +48,24 @@ public class UnitMissionRegistrationBo {
             MissionType missionType,
             UserStorage user,
             boolean isDeployMission
+    ) {
+        missionTelemetryService.inSpan(MissionTelemetryService.REGISTER_SPAN, missionType, () -> doRegister(
+                missionInformation, targetMissionInformation, missionType, user, isDeployMission
+        ));
+    }
+
+    private void doRegister(
+            UnitMissionInformation missionInformation,
+            UnitMissionInformation targetMissionInformation,
+            MissionType missionType,
+            UserStorage user,
+            boolean isDeployMission
     ) {
         missionRegistrationUserExistsChecker.checkUserExists(user.getId());
         missionRegistrationCanDeployChecker.checkDeployedAllowed(missionType);
         var dbUnits = missionRegistrationObtainedUnitLoader.checkAndLoadObtainedUnits(missionInformation);
         var mission = missionRepository.saveAndFlush((missionRegistrationPreparer.prepareMission(targetMissionInformation, missionType)));
+        missionTelemetryService.tagCurrentSpan(mission);
         boolean isEnemyPlanet = planetUtilService.isEnemyPlanet(user, mission.getSourcePlanet());
         missionRegistrationAuditor.auditMissionRegistration(mission, isDeployMission);
         var unitManagementResult = missionRegistrationUnitManager.manageUnitsRegistration(
@@ -63,6 +78,7 @@ public class UnitMissionRegistrationBo {
         obtainedUnitRepository.saveAll(unitManagementResult.getUnits());
         missionTimeManagerBo.handleMissionTimeCalculation(unitManagementResult.getUnits(), mission, missionType);
         missionTimeManagerBo.handleCustomDuration(mission, missionInformation.getWantedTime());
+        missionTimeManagerBo.defineAttackEligibleFrom(mission, missionType);
         missionRegistrationInvisibleManager.handleDefineMissionAsInvisible(mission, unitManagementResult.getUnits());
         missionRepository.save(mission);
         missionSchedulerService.scheduleMission(mission);
@@ -0,0 +1,143 @@
+package com.kevinguanchedarias.owgejava.business.mysql;
+
+import com.kevinguanchedarias.owgejava.pojo.lock.ContendedLockInformation;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Counts the acquisitions and the wait time of each lock key over a sliding window
+ * <br>
+ * The window is split in slots, which are recycled when their time has passed, so the memory is bounded by the keys
+ * used inside the window
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+public class LockContentionWindow {
+    private final long slotMillis;
+    private final int slots;
+    private final long contendedThresholdMicros;
+    private final LongSupplier currentTimeMillis;
+    private final AtomicReferenceArray<Slot> ring;
+
+    /**
+     * @param contendedThresholdMicros Acquisitions that wait this or more are counted as contended
+     */
+    public LockContentionWindow(long windowMillis, int slots, long contendedThresholdMicros, LongSupplier currentTimeMillis) {
+        this.slotMillis = Math.max(1, windowMillis / slots);
+        this.slots = slots;
+        this.contendedThresholdMicros = contendedThresholdMicros;
+        this.currentTimeMillis = currentTimeMillis;
+        ring = new AtomicReferenceArray<>(slots);
+    }
+
+    public long getWindowMillis() {
+        return slotMillis * slots;
+    }
+
+    public void record(String key, long waitMicros, boolean timedOut) {
+        var stats = findCurrentSlot().stats.computeIfAbsent(key, k -> new KeyStats());
+        stats.acquisitions.increment();
+        if (waitMicros >= contendedThresholdMicros) {
+            stats.contended.increment();
+        }
+        if (timedOut) {
+            stats.timeouts.increment();
+        }
+        stats.waitMicros.add(waitMicros);
+        stats.maxWaitMicros.accumulateAndGet(waitMicros, Math::max);
+    }
+
+    /**
+     * @return The keys with the most wait time inside the window
+     */
+    public List<ContendedLockInformation> findTop(int limit) {
+        var oldestSlotId = currentSlotId() - slots + 1;
+        var totals = new HashMap<String, Totals>();
+        for (int i = 0; i < slots; i++) {
+            var slot = ring.get(i);
+            if (slot != null && slot.id >= oldestSlotId) {
+                slot.stats.forEach((key, stats) -> totals.computeIfAbsent(key, k -> new Totals()).add(stats));
+            }
+        }
+        return totals.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Totals> entry) -> entry.getValue().waitMicros).reversed()
+                        .thenComparing(Map.Entry::getKey))
+                .limit(limit)
+                .map(entry -> entry.getValue().toInformation(entry.getKey()))
+                .toList();
+    }
+
+    public void reset() {
+        for (int i = 0; i < slots; i++) {
+            ring.set(i, null);
+        }
+    }
+
+    private Slot findCurrentSlot() {
+        var slotId = currentSlotId();
+        var index = (int) (slotId % slots);
+        var slot = ring.get(index);
+        while (slot == null || slot.id < slotId) {
+            var candidate = new Slot(slotId);
+            if (ring.compareAndSet(index, slot, candidate)) {
+                return candidate;
+            }
+            slot = ring.get(index);
+        }
+        return slot;
+    }
+
+    private long currentSlotId() {
+        return currentTimeMillis.getAsLong() / slotMillis;
+    }
+
+    private record Slot(long id, Map<String, KeyStats> stats) {
+        Slot(long id) {
+            this(id, new ConcurrentHashMap<>());
+        }
+    }
+
+    private static class KeyStats {
+        private final LongAdder acquisitions = new LongAdder();
+        private final LongAdder contended = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder waitMicros = new LongAdder();
+        private final AtomicLong maxWaitMicros = new AtomicLong();
+    }
+
+    private static class Totals {
+        private long acquisitions;
+        private long contended;
+        private long timeouts;
+        private long waitMicros;
+        private long maxWaitMicros;
+
+        private void add(KeyStats stats) {
+            acquisitions += stats.acquisitions.sum();
+            contended += stats.contended.sum();
+            timeouts += stats.timeouts.sum();
+            waitMicros += stats.waitMicros.sum();
+            maxWaitMicros = Math.max(maxWaitMicros, stats.maxWaitMicros.get());
+        }
+
+        private ContendedLockInformation toInformation(String key) {
+            return ContendedLockInformation.builder()
+                    .key(key)
+                    .acquisitions(acquisitions)
+                    .contendedAcquisitions(contended)
+                    .timeouts(timeouts)
+                    .totalWaitMillis(waitMicros / 1_000D)
+                    .maxWaitMillis(maxWaitMicros / 1_000D)
+                    .build();
+        }
+    }
+}
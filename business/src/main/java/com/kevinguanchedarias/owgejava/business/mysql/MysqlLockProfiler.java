@@ -0,0 +1,245 @@
+package com.kevinguanchedarias.owgejava.business.mysql;
+
+import com.kevinguanchedarias.owgejava.pojo.lock.*;
+import com.kevinguanchedarias.owgejava.util.LatencyHistogram;
+import com.kevinguanchedarias.owgejava.util.PrometheusTextBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the telemetry of the locks taken by the {@link MysqlLockUtilService}: wait and hold time histograms by key
+ * prefix, the current holders and waiters, and the most contended keys of the last minutes
+ * <br>
+ * A holder that never goes away is a lock that was never released, for example because the transaction was rolled
+ * back, such locks stay in the pooled connection
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Service
+public class MysqlLockProfiler {
+    private static final Pattern KEY_ID_SUFFIX = Pattern.compile("\\d+$");
+    private static final int WINDOW_SLOTS = 30;
+    private static final int PROMETHEUS_TOP_KEYS = 10;
+
+    private final Map<String, PrefixStats> statsByPrefix = new ConcurrentHashMap<>();
+    private final Map<String, Holder> holders = new ConcurrentHashMap<>();
+    private final Set<LockAttempt> waiters = ConcurrentHashMap.newKeySet();
+    private final LockContentionWindow contentionWindow;
+
+    public MysqlLockProfiler(
+            @Value("${OWGE_LOCK_CONTENTION_WINDOW_SECONDS:300}") long windowSeconds,
+            @Value("${OWGE_LOCK_CONTENTION_THRESHOLD_MS:5}") long contendedThresholdMillis
+    ) {
+        contentionWindow = new LockContentionWindow(
+                TimeUnit.SECONDS.toMillis(windowSeconds),
+                WINDOW_SLOTS,
+                TimeUnit.MILLISECONDS.toMicros(contendedThresholdMillis),
+                System::currentTimeMillis
+        );
+    }
+
+    /**
+     * Should be invoked just before asking for the locks
+     *
+     * @param keys The keys, in the order they are locked
+     */
+    public LockAttempt startWaiting(List<String> keys) {
+        var attempt = new LockAttempt(keys, Thread.currentThread().getName(), Instant.now(), System.nanoTime());
+        waiters.add(attempt);
+        return attempt;
+    }
+
+    /**
+     * @param timedOut true if some key could not be locked before the timeout, then only the wait is recorded, the
+     *                 attempt is not a holder of the keys
+     */
+    public void acquired(LockAttempt attempt, boolean timedOut) {
+        var endedAtNanos = System.nanoTime();
+        waiters.remove(attempt);
+        var waitMicros = TimeUnit.NANOSECONDS.toMicros(endedAtNanos - attempt.startedAtNanos);
+        attempt.keys.forEach(key -> {
+            var waitHistogram = findPrefixStats(key).wait;
+            waitHistogram.addCall(timedOut);
+            waitHistogram.record(waitMicros);
+            contentionWindow.record(key, waitMicros, timedOut);
+        });
+        if (!timedOut) {
+            attempt.acquiredAtNanos = endedAtNanos;
+            attempt.acquiredAt = Instant.now();
+            attempt.keys.forEach(key -> holders.merge(key, new Holder(attempt.threadName, attempt.acquiredAt, 1), (current, added) ->
+                    current.threadName.equals(added.threadName)
+                            ? new Holder(current.threadName, current.since, current.depth + 1)
+                            : added
+            ));
+        }
+    }
+
+    /**
+     * Should be invoked after releasing the locks
+     */
+    public void released(LockAttempt attempt) {
+        if (attempt.acquiredAt == null) {
+            return;
+        }
+        var holdMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - attempt.acquiredAtNanos);
+        attempt.keys.forEach(key -> {
+            var holdHistogram = findPrefixStats(key).hold;
+            holdHistogram.addCall(false);
+            holdHistogram.record(holdMicros);
+            holders.computeIfPresent(key, (k, current) -> {
+                if (!current.threadName.equals(attempt.threadName)) {
+                    return current;
+                }
+                return current.depth > 1 ? new Holder(current.threadName, current.since, current.depth - 1) : null;
+            });
+        });
+    }
+
+    /**
+     * Removes the attempt from the waiters, if it's still there, for example because locking failed
+     */
+    public void stopWaiting(LockAttempt attempt) {
+        waiters.remove(attempt);
+    }
+
+    public LockContentionReport findReport(int topLimit) {
+        return LockContentionReport.builder()
+                .windowSeconds(TimeUnit.MILLISECONDS.toSeconds(contentionWindow.getWindowMillis()))
+                .prefixes(findPrefixMetrics())
+                .holders(findHolders())
+                .waiters(findWaiters())
+                .topContended(contentionWindow.findTop(topLimit))
+                .build();
+    }
+
+    public List<LockPrefixMetrics> findPrefixMetrics() {
+        return statsByPrefix.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> {
+                    var stats = entry.getValue();
+                    return LockPrefixMetrics.builder()
+                            .prefix(entry.getKey())
+                            .acquisitions(stats.wait.getCalls())
+                            .timeouts(stats.wait.getErrors())
+                            .waitP50Millis(toMillis(stats.wait.findQuantileMicros(0.5)))
+                            .waitP99Millis(toMillis(stats.wait.findQuantileMicros(0.99)))
+                            .waitMaxMillis(toMillis(stats.wait.getMaxMicros()))
+                            .holdP50Millis(toMillis(stats.hold.findQuantileMicros(0.5)))
+                            .holdP99Millis(toMillis(stats.hold.findQuantileMicros(0.99)))
+                            .holdMaxMillis(toMillis(stats.hold.getMaxMicros()))
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * @return The holders, the oldest first
+     */
+    public List<LockHolderInformation> findHolders() {
+        var now = Instant.now();
+        return holders.entrySet().stream()
+                .map(entry -> LockHolderInformation.builder()
+                        .key(entry.getKey())
+                        .threadName(entry.getValue().threadName)
+                        .depth(entry.getValue().depth)
+                        .heldMillis(Duration.between(entry.getValue().since, now).toMillis())
+                        .build())
+                .sorted(Comparator.comparingLong(LockHolderInformation::getHeldMillis).reversed())
+                .toList();
+    }
+
+    /**
+     * @return The waiters, the oldest first
+     */
+    public List<LockWaiterInformation> findWaiters() {
+        var now = Instant.now();
+        return waiters.stream()
+                .map(attempt -> LockWaiterInformation.builder()
+                        .threadName(attempt.threadName)
+                        .keys(attempt.keys)
+                        .waitingMillis(Duration.between(attempt.startedAt, now).toMillis())
+                        .build())
+                .sorted(Comparator.comparingLong(LockWaiterInformation::getWaitingMillis).reversed())
+                .toList();
+    }
+
+    public String toPrometheusText() {
+        var builder = new PrometheusTextBuilder()
+                .declare("owge_lock_wait_seconds", "summary", "Time spent waiting for the MySQL named locks")
+                .declare("owge_lock_hold_seconds", "summary", "Time the MySQL named locks were held")
+                .declare("owge_lock_timeouts_total", "counter", "Lock acquisitions that timed out")
+                .declare("owge_lock_holders", "gauge", "Keys currently locked")
+                .declare("owge_lock_waiters", "gauge", "Threads currently waiting for a lock")
+                .declare("owge_lock_window_wait_seconds", "gauge", "Wait time of the most contended keys inside the sliding window");
+        statsByPrefix.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+            var label = "prefix=\"" + PrometheusTextBuilder.escape(entry.getKey()) + "\"";
+            builder.addSummary("owge_lock_wait_seconds", label, entry.getValue().wait)
+                    .addSummary("owge_lock_hold_seconds", label, entry.getValue().hold)
+                    .addSample("owge_lock_timeouts_total", label, entry.getValue().wait.getErrors());
+        });
+        builder.addSample("owge_lock_holders", "", holders.size())
+                .addSample("owge_lock_waiters", "", waiters.size());
+        contentionWindow.findTop(PROMETHEUS_TOP_KEYS).forEach(contended -> builder.addSample(
+                "owge_lock_window_wait_seconds",
+                "key=\"" + PrometheusTextBuilder.escape(contended.getKey()) + "\"",
+                contended.getTotalWaitMillis() / 1_000D
+        ));
+        return builder.build();
+    }
+
+    /**
+     * Clears everything, including the holders of the locks that were never released
+     */
+    public void reset() {
+        statsByPrefix.clear();
+        holders.clear();
+        waiters.clear();
+        contentionWindow.reset();
+    }
+
+    private PrefixStats findPrefixStats(String key) {
+        return statsByPrefix.computeIfAbsent(KEY_ID_SUFFIX.matcher(key).replaceFirst(""), prefix -> new PrefixStats());
+    }
+
+    private double toMillis(long micros) {
+        return micros / 1_000D;
+    }
+
+    /**
+     * A request of locks, returned by {@link #startWaiting(List)}
+     */
+    public static final class LockAttempt {
+        private final List<String> keys;
+        private final String threadName;
+        private final Instant startedAt;
+        private final long startedAtNanos;
+        private volatile Instant acquiredAt;
+        private volatile long acquiredAtNanos;
+
+        private LockAttempt(List<String> keys, String threadName, Instant startedAt, long startedAtNanos) {
+            this.keys = keys;
+            this.threadName = threadName;
+            this.startedAt = startedAt;
+            this.startedAtNanos = startedAtNanos;
+        }
+    }
+
+    private record Holder(String threadName, Instant since, int depth) {
+    }
+
+    private static class PrefixStats {
+        private final LatencyHistogram wait = new LatencyHistogram();
+        private final LatencyHistogram hold = new LatencyHistogram();
+    }
+}
@@ -8,7 +8,6 @@ import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomUtils;
-import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCallback;
 import org.springframework.stereotype.Service;
@@ -16,11 +15,8 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
@@ -31,26 +27,23 @@ public class MysqlLockUtilService {
     private final JdbcTemplate jdbcTemplate;
     private final TransactionUtilService transactionUtilService;
     private final MysqlInformationRepository mysqlInformationRepository;
-    private final Map<String, List<Pair<Integer, List<String>>>> locksInformation = new ConcurrentHashMap<>();
+    private final MysqlLockProfiler mysqlLockProfiler;
 
     public void doInsideLock(Set<String> keys, Runnable runnable) {
         if (keys.isEmpty()) {
             runnable.run();
         } else {
-            locksInformation.putIfAbsent(Thread.currentThread().getName(), new ArrayList<>());
-            var entry = locksInformation.get(Thread.currentThread().getName());
             var keysAsList = keys.stream().sorted().toList();
             var tries = new AtomicInteger();
-            var index = entry.size();
+            var attempt = mysqlLockProfiler.startWaiting(keysAsList);
             var commandLambda = (PreparedStatementCallback<Object>) ps -> {
-                var numTries = generateBindParams(keysAsList, ps);
-                entry.add(Pair.of(numTries, keys.stream().toList()));
-                tries.set(numTries);
+                tries.set(generateBindParams(keysAsList, ps));
+                mysqlLockProfiler.acquired(attempt, hasTimedOut(ps));
                 return null;
             };
             var releaseLockLambda = (PreparedStatementCallback<Object>) ps -> {
                 generateBindParamsForReleaseLock(keysAsList, ps, tries.get());
-                entry.remove(index);
+                mysqlLockProfiler.released(attempt);
                 return null;
             };
 
@@ -58,6 +51,7 @@ public class MysqlLockUtilService {
                 jdbcTemplate.execute(generateSql("GET_LOCK(?,?)", keysAsList), commandLambda);
                 runnable.run();
             } finally {
+                mysqlLockProfiler.stopWaiting(attempt);
                 if (TransactionSynchronizationManager.isActualTransactionActive()) {
                     log.debug("Mysql lock was invoked with an active transaction");
                     transactionUtilService.doAfterCommit(() -> doReleaseLock(keysAsList, releaseLockLambda));
@@ -74,6 +68,20 @@ public class MysqlLockUtilService {
                 .reduce("", (buffer, result) -> buffer + "SELECT " + part + (result.equals(lastKey) ? ";" : " UNION "));
     }
 
+    /**
+     * GET_LOCK returns 0 when the timeout is reached, as the statement is an UNION, equal rows are merged
+     */
+    private boolean hasTimedOut(PreparedStatement preparedStatement) throws SQLException {
+        try (var resultSet = preparedStatement.getResultSet()) {
+            while (resultSet != null && resultSet.next()) {
+                if (resultSet.getInt(1) == 0 && !resultSet.wasNull()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
     private void doReleaseLock(List<String> keysAsList, PreparedStatementCallback<Object> releaseLockLambda) {
         jdbcTemplate.execute(
                 generateSql("RELEASE_LOCK(?)", keysAsList),
@@ -120,11 +128,12 @@ public class MysqlLockUtilService {
                     throw new CommonException("Unhandled deadlock", e);
                 } else {
                     log.warn(
-                            "Deadlock, retrying lock of ids {}, info: {}, process: {}, lock map: {}",
+                            "Deadlock, retrying lock of ids {}, info: {}, process: {}, holders: {}, waiters: {}",
                             keys,
                             mysqlInformationRepository.findInnoDbStatus(),
                             mysqlInformationRepository.findFullProcessInformation(),
-                            locksInformation
+                            mysqlLockProfiler.findHolders(),
+                            mysqlLockProfiler.findWaiters()
                     );
                     ThreadUtil.sleep(RandomUtils.nextInt(100, 300));
                     return tryAndRetryIfDeadlock(keys, preparedStatement, tries + 1);
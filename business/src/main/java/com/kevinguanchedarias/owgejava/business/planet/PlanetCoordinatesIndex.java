@@ -0,0 +1,88 @@
+package com.kevinguanchedarias.owgejava.business.planet;
+
+import com.kevinguanchedarias.owgejava.pojo.planet.PlanetCoordinates;
+import com.kevinguanchedarias.owgejava.repository.PlanetRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps in memory the coordinates of the planets, loading the missing ones in a single query
+ * <br>
+ * The coordinates of a planet never change, but its id may be reused by other planet, when a galaxy is changed or
+ * removed, or when a universe is imported, so the removed planets are evicted, and the galaxy changes drop all the
+ * entries (now, and again when the transaction completes)
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Service
+@RequiredArgsConstructor
+public class PlanetCoordinatesIndex {
+    private final PlanetRepository planetRepository;
+
+    private final Map<Long, PlanetCoordinates> coordinatesByPlanet = new ConcurrentHashMap<>();
+
+    /**
+     * @return The coordinates by planet id, the planets that don't exist are not included
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    public Map<Long, PlanetCoordinates> findAll(Collection<Long> planetIds) {
+        var result = new HashMap<Long, PlanetCoordinates>();
+        var missing = new HashSet<Long>();
+        planetIds.forEach(planetId -> {
+            var coordinates = coordinatesByPlanet.get(planetId);
+            if (coordinates == null) {
+                missing.add(planetId);
+            } else {
+                result.put(planetId, coordinates);
+            }
+        });
+        if (!missing.isEmpty()) {
+            load(missing).forEach((planetId, coordinates) -> {
+                coordinatesByPlanet.put(planetId, coordinates);
+                result.put(planetId, coordinates);
+            });
+        }
+        return result;
+    }
+
+    public void evict(Long planetId) {
+        runNowAndOnCompletion(() -> coordinatesByPlanet.remove(planetId));
+    }
+
+    public void invalidateAll() {
+        runNowAndOnCompletion(coordinatesByPlanet::clear);
+    }
+
+    private Map<Long, PlanetCoordinates> load(Collection<Long> planetIds) {
+        var result = new HashMap<Long, PlanetCoordinates>();
+        planetRepository.findCoordinatesByIdIn(planetIds).forEach(projection -> result.put(
+                projection.getId(),
+                new PlanetCoordinates(
+                        projection.getGalaxyId(), projection.getSector(), projection.getQuadrant(), projection.getPlanetNumber()
+                )
+        ));
+        return result;
+    }
+
+    private void runNowAndOnCompletion(Runnable action) {
+        action.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+}
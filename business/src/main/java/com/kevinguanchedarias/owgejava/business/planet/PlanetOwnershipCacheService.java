@@ -0,0 +1,65 @@
+package com.kevinguanchedarias.owgejava.business.planet;
+
+import com.kevinguanchedarias.owgejava.entity.Planet;
+import com.kevinguanchedarias.owgejava.repository.PlanetRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps in memory the planets owned by each user, so the selected planet can be resolved without hitting the database
+ * <br>
+ * Entries are evicted when the owned planets of the user change, see
+ * {@link com.kevinguanchedarias.owgejava.business.PlanetBo#emitPlanetOwnedChange(Integer)}. As the load runs inside
+ * the map computation, an eviction issued while loading always wins over the loaded entry
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Service
+@RequiredArgsConstructor
+public class PlanetOwnershipCacheService {
+    private final PlanetRepository planetRepository;
+
+    private final Map<Integer, OwnedPlanets> ownedPlanetsByUser = new ConcurrentHashMap<>();
+
+    /**
+     * @return The wanted planet if owned by the user, else its home planet, or null if the user has no home planet
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    public Long findOwnedPlanetOrHome(Integer userId, Long wantedPlanetId) {
+        var ownedPlanets = ownedPlanetsByUser.computeIfAbsent(userId, this::loadOwnedPlanets);
+        if (ownedPlanets == null) {
+            return null;
+        }
+        return ownedPlanets.planetIds().contains(wantedPlanetId) ? wantedPlanetId : ownedPlanets.homePlanetId();
+    }
+
+    public void evict(Integer userId) {
+        ownedPlanetsByUser.remove(userId);
+    }
+
+    public void clear() {
+        ownedPlanetsByUser.clear();
+    }
+
+    private OwnedPlanets loadOwnedPlanets(Integer userId) {
+        var planets = planetRepository.findByOwnerId(userId);
+        var homePlanetId = planets.stream()
+                .filter(planet -> Boolean.TRUE.equals(planet.getHome()))
+                .map(Planet::getId)
+                .findFirst()
+                .orElse(null);
+        return homePlanetId == null
+                ? null
+                : new OwnedPlanets(planets.stream().map(Planet::getId).collect(Collectors.toUnmodifiableSet()), homePlanetId);
+    }
+
+    private record OwnedPlanets(Set<Long> planetIds, Long homePlanetId) {
+    }
+}
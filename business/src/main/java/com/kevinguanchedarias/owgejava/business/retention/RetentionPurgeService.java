@@ -0,0 +1,88 @@
+package com.kevinguanchedarias.owgejava.business.retention;
+
+import com.kevinguanchedarias.owgejava.business.util.TransactionUtilService;
+import com.kevinguanchedarias.owgejava.pojo.RetentionPurgeDefinition;
+import com.kevinguanchedarias.owgejava.util.ThreadUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Purges old rows using set-based statements, in chunks, each chunk runs in its own short transaction
+ * <br>
+ * <b>NOTICE:</b> Must NOT be invoked inside a transaction, or all chunks would share it
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RetentionPurgeService {
+    public static final String IDS_PARAM = "ids";
+    public static final String LIMIT_DATE_PARAM = "limitDate";
+
+    private static final String CHUNK_SIZE_PARAM = "chunkSize";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionUtilService transactionUtilService;
+
+    @Value("${OWGE_PURGE_CHUNK_SIZE:500}")
+    private int chunkSize;
+
+    @Value("${OWGE_PURGE_THROTTLE_MILLIS:100}")
+    private long throttleMillis;
+
+    /**
+     * Deletes all the rows matching the definition condition
+     *
+     * @return Number of deleted rows
+     */
+    public long purge(RetentionPurgeDefinition definition, LocalDateTime limitDate) {
+        var selectSql = "SELECT " + definition.getIdColumn() + " FROM " + definition.getTable()
+                + " WHERE " + definition.getCondition() + " LIMIT :" + CHUNK_SIZE_PARAM;
+        var deleteSql = "DELETE FROM " + definition.getTable() + " WHERE " + definition.getIdColumn() + " IN (:" + IDS_PARAM + ")";
+        var params = new MapSqlParameterSource()
+                .addValue(LIMIT_DATE_PARAM, limitDate)
+                .addValue(CHUNK_SIZE_PARAM, chunkSize);
+        long total = 0;
+        var deletedInChunk = new AtomicInteger();
+        do {
+            transactionUtilService.runWithRequired(() -> deletedInChunk.set(purgeChunk(definition, selectSql, deleteSql, params)));
+            total += deletedInChunk.get();
+        } while (deletedInChunk.get() >= chunkSize && throttle());
+        log.debug("Purged {} rows from table {}", total, definition.getTable());
+        return total;
+    }
+
+    private int purgeChunk(
+            RetentionPurgeDefinition definition, String selectSql, String deleteSql, MapSqlParameterSource params
+    ) {
+        List<Long> ids = namedParameterJdbcTemplate.queryForList(selectSql, params, Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        var idsParam = new MapSqlParameterSource(IDS_PARAM, ids);
+        definition.getBeforeDeleteStatements().forEach(statement -> namedParameterJdbcTemplate.update(statement, idsParam));
+        namedParameterJdbcTemplate.update(deleteSql, idsParam);
+        return ids.size();
+    }
+
+    private boolean throttle() {
+        try {
+            ThreadUtil.sleep(throttleMillis);
+            return true;
+        } catch (InterruptedException e) {
+            log.warn("Purge interrupted, remaining rows will be purged in the next run");
+            ThreadUtil.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,17 +1,13 @@
 package com.kevinguanchedarias.owgejava.business.rule;
 
 import com.kevinguanchedarias.owgejava.business.rule.itemtype.UnitRuleItemTypeProviderBo;
+import com.kevinguanchedarias.owgejava.business.rule.timespecial.ActiveTimeSpecialRuleFinderService;
 import com.kevinguanchedarias.owgejava.entity.*;
-import com.kevinguanchedarias.owgejava.enumerations.ObjectEnum;
-import com.kevinguanchedarias.owgejava.enumerations.TimeSpecialStateEnum;
-import com.kevinguanchedarias.owgejava.repository.ActiveTimeSpecialRepository;
 import com.kevinguanchedarias.owgejava.repository.RuleRepository;
 import com.kevinguanchedarias.taggablecache.aspect.TaggableCacheable;
-import com.kevinguanchedarias.taggablecache.manager.TaggableCacheManager;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 import java.util.Optional;
 
 import static java.util.Optional.ofNullable;
@@ -21,8 +17,7 @@ import static java.util.Optional.ofNullable;
 public class UnitRuleFinderService {
     public static final String UNIT_TYPE = "UNIT_TYPE";
     private final RuleRepository ruleRepository;
-    private final ActiveTimeSpecialRepository activeTimeSpecialRepository;
-    private final TaggableCacheManager taggableCacheManager;
+    private final ActiveTimeSpecialRuleFinderService activeTimeSpecialRuleFinderService;
 
     @TaggableCacheable(
             tags = {
@@ -39,22 +34,8 @@ public class UnitRuleFinderService {
                 .or(() -> unitTypeVsUnitTypeOptional(ruleTypeId, fromUnitType, toUnitType));
     }
 
-    @TaggableCacheable(
-            tags = {
-                    Rule.RULE_CACHE_TAG,
-                    Unit.UNIT_CACHE_TAG,
-                    UnitType.UNIT_TYPE_CACHE_TAG,
-                    ActiveTimeSpecial.ACTIVE_TIME_SPECIAL_BY_USER_CACHE_TAG + ":" + "#user.id"
-            },
-            keySuffix = "#ruleTypeId #user.id #to.id"
-    )
     public Optional<Rule> findRuleByActiveTimeSpecialsAndTargetUnit(String ruleTypeId, UserStorage user, Unit to) {
-        return activeTimeSpecialRepository.findByUserIdAndState(user.getId(), TimeSpecialStateEnum.ACTIVE).stream()
-                .map(ActiveTimeSpecial::getTimeSpecial)
-                .map(timeSpecial -> findRule(ruleTypeId, timeSpecial, to))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .findFirst();
+        return activeTimeSpecialRuleFinderService.findActiveEffects(user).findRuleTargetingUnit(ruleTypeId, to);
     }
 
     private Optional<Rule> unitVsUnitOptional(String ruleTypeId, Unit from, Unit to) {
@@ -109,36 +90,4 @@ public class UnitRuleFinderService {
                         .flatMap(fromParent -> unitTypeVsUnitTypeOptional(ruleTypeId, fromParent, toUnitType))
         );
     }
-
-    private Optional<Rule> timeSpecialVsUnit(String ruleTypeId, TimeSpecial from, Unit to) {
-        return ruleRepository.findOneByTypeAndOriginTypeAndOriginIdAndDestinationTypeAndDestinationId(
-                ruleTypeId,
-                ObjectEnum.TIME_SPECIAL.name(),
-                from.getId().longValue(),
-                "UNIT",
-                to.getId().longValue()
-        );
-    }
-
-    private Optional<Rule> timeSpecialVsUnitType(String ruleTypeId, TimeSpecial from, UnitType toUnitType) {
-        return ruleRepository.findOneByTypeAndOriginTypeAndOriginIdAndDestinationTypeAndDestinationId(
-                ruleTypeId,
-                ObjectEnum.TIME_SPECIAL.name(),
-                from.getId().longValue(),
-                UNIT_TYPE,
-                toUnitType.getId().longValue()
-        ).or(() ->
-                ofNullable(toUnitType.getParent())
-                        .flatMap(toParentType -> timeSpecialVsUnitType(ruleTypeId, from, toParentType))
-        );
-    }
-
-    private Optional<Rule> findRule(String ruleTypeId, TimeSpecial from, Unit to) {
-        return taggableCacheManager.computeIfAbsent(
-                UnitRuleFinderService.class.getName() + "_findRule from_time_special" + ruleTypeId + " " + from.getId() + " " + to.getId(),
-                List.of(Rule.RULE_CACHE_TAG, Unit.UNIT_CACHE_TAG, UnitType.UNIT_TYPE_CACHE_TAG, TimeSpecial.TIME_SPECIAL_CACHE_TAG),
-                () -> timeSpecialVsUnit(ruleTypeId, from, to)
-                        .or(() -> timeSpecialVsUnitType(ruleTypeId, from, to.getType()))
-        );
-    }
 }
@@ -0,0 +1,152 @@
+package com.kevinguanchedarias.owgejava.business.schedule;
+
+import com.kevinguanchedarias.owgejava.business.async.AsyncExecutorService;
+import com.kevinguanchedarias.owgejava.enumerations.AsyncPool;
+import com.kevinguanchedarias.owgejava.pojo.ScheduledTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the due scheduled tasks in the {@link AsyncPool#SCHEDULED_TASK} pool, so the job store thread only hands them
+ * over
+ * <br>
+ * Tasks with the same ordering key run one after the other, in the order they were submitted, while the rest run in
+ * parallel. The coalesced tasks wait a bit for the other tasks of the same type, and are submitted together, if the
+ * wait can't be scheduled (the delayed tasks are full) the task is submitted right away
+ * <br>
+ * <b>NOTICE:</b> A task is no longer in the job store once dispatched, if the node stops before running it, it's
+ * lost, as happened before when the node stopped in the middle of the job
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Service
+@Slf4j
+public class ScheduledTaskDispatcher {
+    private final AsyncExecutorService asyncExecutorService;
+    private final long coalesceMillis;
+    private final int maxBatchSize;
+    private final Map<String, PendingBatch> pendingByType = new HashMap<>();
+    private final Map<String, CompletableFuture<Void>> lastByKey = new HashMap<>();
+
+    public ScheduledTaskDispatcher(
+            AsyncExecutorService asyncExecutorService,
+            @Value("${OWGE_SCHEDULED_TASKS_COALESCE_MILLIS:200}") long coalesceMillis,
+            @Value("${OWGE_SCHEDULED_TASKS_MAX_BATCH:100}") int maxBatchSize
+    ) {
+        this.asyncExecutorService = asyncExecutorService;
+        this.coalesceMillis = coalesceMillis;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * @param coalesce            If true, the task is delivered with the other tasks of the same type due at the
+     *                            same time
+     * @param orderingKeyResolver Tasks with the same key don't run at the same time
+     * @param runner              Runs tasks of the type of the task
+     */
+    public void dispatch(
+            ScheduledTask task,
+            boolean coalesce,
+            Function<ScheduledTask, String> orderingKeyResolver,
+            Consumer<List<ScheduledTask>> runner
+    ) {
+        if (!coalesce) {
+            submit(new PendingBatch(orderingKeyResolver, runner, List.of(task)));
+            return;
+        }
+        var type = task.getType();
+        PendingBatch full = null;
+        synchronized (pendingByType) {
+            var batch = pendingByType.get(type);
+            if (batch == null) {
+                batch = new PendingBatch(orderingKeyResolver, runner, new ArrayList<>());
+                var scheduledBatch = batch;
+                if (asyncExecutorService.schedule(AsyncPool.SCHEDULED_TASK, () -> flush(type, scheduledBatch), coalesceMillis)) {
+                    pendingByType.put(type, batch);
+                } else {
+                    full = batch;
+                }
+            }
+            batch.tasks().add(task);
+            if (full == null && batch.tasks().size() >= maxBatchSize) {
+                pendingByType.remove(type);
+                full = batch;
+            }
+        }
+        if (full != null) {
+            submit(full);
+        }
+    }
+
+    private void flush(String type, PendingBatch batch) {
+        synchronized (pendingByType) {
+            if (!pendingByType.remove(type, batch)) {
+                return;
+            }
+        }
+        submit(batch);
+    }
+
+    private void submit(PendingBatch batch) {
+        Set<String> keys = batch.tasks().stream().map(batch.orderingKeyResolver()).collect(Collectors.toSet());
+        var done = new CompletableFuture<Void>();
+        CompletableFuture<?>[] previous;
+        synchronized (lastByKey) {
+            previous = keys.stream().map(lastByKey::get).filter(Objects::nonNull).toArray(CompletableFuture[]::new);
+            keys.forEach(key -> lastByKey.put(key, done));
+        }
+        CompletableFuture.allOf(previous).whenComplete((result, e) ->
+                asyncExecutorService.execute(AsyncPool.SCHEDULED_TASK, () -> {
+                    try {
+                        run(batch);
+                    } finally {
+                        synchronized (lastByKey) {
+                            keys.forEach(key -> lastByKey.remove(key, done));
+                        }
+                        done.complete(null);
+                    }
+                })
+        );
+    }
+
+    private void run(PendingBatch batch) {
+        if (batch.tasks().size() == 1) {
+            batch.runner().accept(batch.tasks());
+        } else {
+            try {
+                batch.runner().accept(batch.tasks());
+            } catch (RuntimeException e) {
+                log.warn("Batch of {} tasks of type {} failed, running them one by one", batch.tasks().size(), batch.tasks().get(0).getType(), e);
+                batch.tasks().forEach(task -> runAlone(batch, task));
+            }
+        }
+    }
+
+    private void runAlone(PendingBatch batch, ScheduledTask task) {
+        try {
+            batch.runner().accept(List.of(task));
+        } catch (RuntimeException e) {
+            log.error("Scheduled task {} of type {} failed", task.getId(), task.getType(), e);
+        }
+    }
+
+    private record PendingBatch(
+            Function<ScheduledTask, String> orderingKeyResolver,
+            Consumer<List<ScheduledTask>> runner,
+            List<ScheduledTask> tasks
+    ) {
+    }
+}
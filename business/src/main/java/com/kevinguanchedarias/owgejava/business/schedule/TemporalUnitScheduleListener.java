@@ -24,10 +24,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import static com.kevinguanchedarias.owgejava.business.rule.type.timespecial.TimeSpecialIsActiveTemporalUnitsTypeProviderBo.TIME_SPECIAL_IS_ACTIVE_TEMPORAL_UNITS_ID;
 
@@ -51,14 +53,22 @@ public class TemporalUnitScheduleListener implements RequirementComplianceListen
     private final RuleBo ruleBo;
     private final ObjectRelationsRepository objectRelationsRepository;
 
+    /**
+     * The expirations due at the same time are deleted together, in one transaction, and locking their planets once
+     */
     @PostConstruct
     public void init() {
-        scheduledTasksManagerService.addHandler(TASK_NAME, task -> {
-            log.debug("Deleting expired unit: {}", task.getContent());
-            var expirationId = ((Double) task.getContent()).longValue();
-            if (obtainedUnitTemporalInformationRepository.existsById(expirationId)) {
+        scheduledTasksManagerService.addBatchHandler(TASK_NAME, tasks -> {
+            var expirationIds = tasks.stream()
+                    .map(task -> ((Double) task.getContent()).longValue())
+                    .collect(Collectors.toSet());
+            log.debug("Deleting expired units: {}", expirationIds);
+            var existingIds = StreamSupport.stream(obtainedUnitTemporalInformationRepository.findAllById(expirationIds).spliterator(), false)
+                    .map(ObtainedUnitTemporalInformation::getId)
+                    .collect(Collectors.toSet());
+            if (!existingIds.isEmpty()) {
                 transactionUtilService.runWithRequired(() ->
-                        aggressiveLockAcquire(expirationId, () -> doDeleteExpiredOrOrDemand(expirationId))
+                        aggressiveLockAcquire(existingIds, () -> doDeleteExpiredOrOrDemand(existingIds))
                 );
             }
         });
@@ -91,30 +101,34 @@ public class TemporalUnitScheduleListener implements RequirementComplianceListen
     }
 
     private void deleteOnDemand(long expirationId) {
-        aggressiveLockAcquire(expirationId, () -> doDeleteExpiredOrOrDemand(expirationId));
+        var expirationIds = Set.of(expirationId);
+        aggressiveLockAcquire(expirationIds, () -> doDeleteExpiredOrOrDemand(expirationIds));
     }
 
-    private void doDeleteExpiredOrOrDemand(long expirationId) {
-        var ouList = obtainedUnitRepository.findByExpirationId(expirationId);
+    private void doDeleteExpiredOrOrDemand(Set<Long> expirationIds) {
+        var ouList = obtainedUnitRepository.findByExpirationIdIn(expirationIds);
         obtainedUnitRepository.deleteAll(ouList);
-        if (!ouList.isEmpty()) {
-            var user = ouList.get(0).getUser();
-            unitImprovementUtilService.maybeTriggerClearImprovement(user, ouList);
-            obtainedUnitEventEmitter.emitObtainedUnitsAfterCommit(user);
-            handleAffectedMissions(affectedMissions(ouList));
-        }
-        obtainedUnitTemporalInformationRepository.deleteById(expirationId);
+        ouList.stream()
+                .collect(Collectors.groupingBy(ou -> ou.getUser().getId(), LinkedHashMap::new, Collectors.toList()))
+                .values()
+                .forEach(userUnits -> {
+                    var user = userUnits.get(0).getUser();
+                    unitImprovementUtilService.maybeTriggerClearImprovement(user, userUnits);
+                    obtainedUnitEventEmitter.emitObtainedUnitsAfterCommit(user);
+                    handleAffectedMissions(affectedMissions(userUnits));
+                });
+        obtainedUnitTemporalInformationRepository.deleteAllById(expirationIds);
     }
 
-    private void aggressiveLockAcquire(long expirationId, Runnable runnable) {
-        var planetIds = obtainedUnitRepository.findPlanetIdsByExpirationId(expirationId);
+    private void aggressiveLockAcquire(Set<Long> expirationIds, Runnable runnable) {
+        var planetIds = obtainedUnitRepository.findPlanetIdsByExpirationIdIn(expirationIds);
         if (!planetIds.isEmpty()) {
             planetLockUtilService.doInsideLockById(planetIds.stream().toList(), () -> {
-                var innerPlanetIds = obtainedUnitRepository.findPlanetIdsByExpirationId(expirationId);
+                var innerPlanetIds = obtainedUnitRepository.findPlanetIdsByExpirationIdIn(expirationIds);
                 if (innerPlanetIds.equals(planetIds)) {
                     runnable.run();
                 } else {
-                    aggressiveLockAcquire(expirationId, runnable);
+                    aggressiveLockAcquire(expirationIds, runnable);
                 }
             });
         }
@@ -1,12 +1,9 @@
 package com.kevinguanchedarias.owgejava.business.speedimpactgroup;
 
 import com.kevinguanchedarias.owgejava.business.rule.RuleBo;
+import com.kevinguanchedarias.owgejava.business.rule.timespecial.ActiveTimeSpecialRuleFinderService;
 import com.kevinguanchedarias.owgejava.business.unit.util.UnitTypeInheritanceFinderService;
-import com.kevinguanchedarias.owgejava.dto.rule.RuleDto;
 import com.kevinguanchedarias.owgejava.entity.*;
-import com.kevinguanchedarias.owgejava.enumerations.ObjectEnum;
-import com.kevinguanchedarias.owgejava.enumerations.TimeSpecialStateEnum;
-import com.kevinguanchedarias.owgejava.repository.ActiveTimeSpecialRepository;
 import com.kevinguanchedarias.owgejava.repository.SpeedImpactGroupRepository;
 import com.kevinguanchedarias.taggablecache.aspect.TaggableCacheable;
 import lombok.AllArgsConstructor;
@@ -15,15 +12,13 @@ import org.springframework.stereotype.Service;
 import java.util.Optional;
 
 import static com.kevinguanchedarias.owgejava.business.rule.type.timespecial.TimeSpecialIsActiveSwapSpeedImpactGroupProviderBo.TIME_SPECIAL_IS_ACTIVE_SWAP_SPEED_IMPACT_GROUP_ID;
-import static com.kevinguanchedarias.owgejava.entity.Rule.RULE_CACHE_TAG;
-import static com.kevinguanchedarias.owgejava.entity.SpeedImpactGroup.SPEED_IMPACT_GROUP_CACHE_TAG;
 import static com.kevinguanchedarias.owgejava.entity.Unit.UNIT_CACHE_TAG;
 import static com.kevinguanchedarias.owgejava.entity.UnitType.UNIT_TYPE_CACHE_TAG;
 
 @Service
 @AllArgsConstructor
 public class SpeedImpactGroupFinderBo {
-    private final ActiveTimeSpecialRepository activeTimeSpecialRepository;
+    private final ActiveTimeSpecialRuleFinderService activeTimeSpecialRuleFinderService;
     private final RuleBo ruleBo;
     private final SpeedImpactGroupRepository speedImpactGroupRepository;
     private final UnitTypeInheritanceFinderService unitTypeInheritanceFinderService;
@@ -43,31 +38,22 @@ public class SpeedImpactGroupFinderBo {
         }
     }
 
-    @TaggableCacheable(
-            tags = {
-                    UNIT_CACHE_TAG + ":#unit.id",
-                    UNIT_TYPE_CACHE_TAG,
-                    ActiveTimeSpecial.ACTIVE_TIME_SPECIAL_BY_USER_CACHE_TAG + ":#user.id",
-                    RULE_CACHE_TAG,
-                    SPEED_IMPACT_GROUP_CACHE_TAG
-            },
-            keySuffix = "#user.id_#unit.id"
-    )
+    /**
+     * Uses the speed impact group of the first swap rule having it defined, or the one of the unit
+     */
     public SpeedImpactGroup findApplicable(UserStorage user, Unit unit) {
-        return activeTimeSpecialRepository.findByUserIdAndState(user.getId(), TimeSpecialStateEnum.ACTIVE).stream()
-                .flatMap(activeTimeSpecial ->
-                        ruleBo.findByOriginTypeAndOriginId(
-                                ObjectEnum.TIME_SPECIAL.name(), activeTimeSpecial.getTimeSpecial().getId().longValue()
-                        ).stream()
-                ).filter(ruleDto -> ruleBo.isWantedType(ruleDto, TIME_SPECIAL_IS_ACTIVE_SWAP_SPEED_IMPACT_GROUP_ID))
-                .filter(ruleDto -> !ruleDto.getExtraArgs().isEmpty())
+        return activeTimeSpecialRuleFinderService.findActiveEffects(user)
+                .findRules(TIME_SPECIAL_IS_ACTIVE_SWAP_SPEED_IMPACT_GROUP_ID).stream()
+                .filter(rule -> !rule.getExtraArgs().isEmpty())
+                .map(rule -> ruleBo.findExtraArg(rule, 0))
+                .flatMap(Optional::stream)
                 .findFirst()
-                .flatMap(this::ruleToEntity)
+                .flatMap(this::findById)
                 .orElseGet(() -> findHisOrInherited(unit));
     }
 
-    private Optional<SpeedImpactGroup> ruleToEntity(RuleDto ruleDto) {
-        return speedImpactGroupRepository.findById(Integer.parseInt((String) ruleDto.getExtraArgs().get(0)));
+    private Optional<SpeedImpactGroup> findById(String speedImpactGroupId) {
+        return speedImpactGroupRepository.findById(Integer.parseInt(speedImpactGroupId));
     }
 
 }
@@ -5,6 +5,7 @@ import com.kevinguanchedarias.owgejava.business.AllianceBo;
 import com.kevinguanchedarias.owgejava.business.MissionReportBo;
 import com.kevinguanchedarias.owgejava.business.SpeedImpactGroupBo;
 import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitFinderBo;
+import com.kevinguanchedarias.owgejava.business.unit.PlanetInvolvedUnitsIndex;
 import com.kevinguanchedarias.owgejava.entity.Mission;
 import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
 import com.kevinguanchedarias.owgejava.entity.Planet;
@@ -12,7 +13,6 @@ import com.kevinguanchedarias.owgejava.entity.UserStorage;
 import com.kevinguanchedarias.owgejava.pojo.InterceptedUnitsInformation;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.util.CollectionUtils;
 
 import java.util.*;
 
@@ -25,28 +25,45 @@ public class UnitInterceptionFinderBo {
     private final MissionReportBo missionReportBo;
 
 
+    /**
+     * Finds the involved units intercepted by the units in the target planet
+     * <br>
+     * The interceptors come from the {@link PlanetInvolvedUnitsIndex} by the speed impact groups they intercept, so
+     * when there are none the involved units are not checked, each involved unit is intercepted by the first enemy
+     * interceptor of its speed impact group, in the order of the index: first the units present in the planet, then the
+     * units of conquest missions, each by ascending id
+     *
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     */
     public List<InterceptedUnitsInformation> checkInterceptsSpeedImpactGroup(Mission mission,
                                                                              List<ObtainedUnit> involvedUnits) {
-        Set<ObtainedUnit> alreadyIntercepted = new HashSet<>();
+        var interceptors = obtainedUnitFinderBo.findInterceptorsInAttack(mission.getTargetPlanet());
+        if (interceptors.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Integer, List<ObtainedUnit>> interceptorsBySpeedImpactGroup = new HashMap<>();
+        interceptors.forEach((interceptor, speedImpactGroupIds) -> speedImpactGroupIds.forEach(speedImpactGroupId ->
+                interceptorsBySpeedImpactGroup.computeIfAbsent(speedImpactGroupId, key -> new ArrayList<>()).add(interceptor)
+        ));
+        Map<ObtainedUnit, Set<ObtainedUnit>> interceptedByInterceptor = new HashMap<>();
+        involvedUnits.forEach(involved -> {
+            var speedImpactGroup = speedImpactGroupBo.findApplicable(involved.getUser(), involved);
+            if (speedImpactGroup != null) {
+                interceptorsBySpeedImpactGroup.getOrDefault(speedImpactGroup.getId(), List.of()).stream()
+                        .filter(interceptor -> allianceBo.areEnemies(interceptor.getUser(), involved.getUser()))
+                        .findFirst()
+                        .ifPresent(interceptor -> interceptedByInterceptor
+                                .computeIfAbsent(interceptor, key -> new HashSet<>()).add(involved)
+                        );
+            }
+        });
         Map<Integer, InterceptedUnitsInformation> interceptedMap = new HashMap<>();
-        List<ObtainedUnit> unitsWithInterception = obtainedUnitFinderBo.findInvolvedInAttack(mission.getTargetPlanet())
-                .stream().filter(current -> !CollectionUtils.isEmpty(current.getUnit().getInterceptableSpeedGroups()))
-                .toList();
-        unitsWithInterception.forEach(unitWithInterception -> involvedUnits.stream().filter(
-                        involved -> speedImpactGroupBo.canIntercept(
-                                unitWithInterception.getUnit().getInterceptableSpeedGroups(), involved.getUser(), involved
-                        )
-                ).filter(involved -> !alreadyIntercepted.contains(involved) && allianceBo.areEnemies(unitWithInterception.getUser(), involved.getUser()))
-                .forEach(interceptedUnit -> {
-                    UserStorage interceptorUser = unitWithInterception.getUser();
-                    Integer interceptorUserId = interceptorUser.getId();
-                    if (!interceptedMap.containsKey(interceptorUserId)) {
-                        interceptedMap.put(interceptorUserId, new InterceptedUnitsInformation(
-                                unitWithInterception.getUser(), unitWithInterception, new HashSet<>()));
-                    }
-                    interceptedMap.get(interceptorUserId).getInterceptedUnits().add(interceptedUnit);
-                    alreadyIntercepted.add(interceptedUnit);
-                }));
+        interceptors.keySet().stream().filter(interceptedByInterceptor::containsKey).forEach(interceptor -> {
+            UserStorage interceptorUser = interceptor.getUser();
+            interceptedMap.computeIfAbsent(interceptorUser.getId(), userId ->
+                    new InterceptedUnitsInformation(interceptorUser, interceptor, new HashSet<>())
+            ).getInterceptedUnits().addAll(interceptedByInterceptor.get(interceptor));
+        });
         return new ArrayList<>(interceptedMap.values());
     }
 
@@ -10,16 +10,21 @@ import com.kevinguanchedarias.owgejava.entity.Unit;
 import com.kevinguanchedarias.owgejava.entity.UserStorage;
 import com.kevinguanchedarias.owgejava.enumerations.MissionType;
 import com.kevinguanchedarias.owgejava.repository.ObtainedUnitRepository;
-import com.kevinguanchedarias.taggablecache.aspect.TaggableCacheable;
 import lombok.AllArgsConstructor;
 import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 
 import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.IntStream;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
@@ -29,18 +34,28 @@ public class ObtainedUnitFinderBo implements WithToDtoTrait<ObtainedUnit, Obtain
     private final EntityManager entityManager;
     private final HiddenUnitBo hiddenUnitBo;
     private final SpeedImpactGroupFinderBo speedImpactGroupFinderBo;
+    private final ObtainedUnitReadModel obtainedUnitReadModel;
+    private final PlanetInvolvedUnitsIndex planetInvolvedUnitsIndex;
 
     @Override
     public Class<ObtainedUnitDto> getDtoClass() {
         return ObtainedUnitDto.class;
     }
 
-    @TaggableCacheable(tags = {
-            Unit.UNIT_CACHE_TAG,
-            ObtainedUnit.OBTAINED_UNIT_CACHE_TAG_BY_USER + ":#user.id"
-    }, keySuffix = "#user.id")
+    /**
+     * Finds the units deployed in the planets of the user, served from the {@link ObtainedUnitReadModel}
+     *
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     */
     public List<ObtainedUnitDto> findCompletedAsDto(UserStorage user) {
-        return findCompletedAsDto(user, obtainedUnitRepository.findDeployedInUserOwnedPlanets(user.getId()));
+        var userId = user.getId();
+        return obtainedUnitReadModel.find(
+                userId,
+                () -> findCompletedAsDto(user, obtainedUnitRepository.findDeployedInUserOwnedPlanets(userId)),
+                changedIds -> findCompletedAsDto(user, obtainedUnitRepository.findAllById(changedIds).stream()
+                        .filter(obtainedUnit -> isDeployedInUserPlanet(obtainedUnit, userId))
+                        .toList())
+        );
     }
 
     public List<ObtainedUnitDto> findCompletedAsDto(UserStorage user, List<ObtainedUnit> sourceEntities) {
@@ -82,17 +97,37 @@ public class ObtainedUnitFinderBo implements WithToDtoTrait<ObtainedUnit, Obtain
     }
 
     /**
-     * Finds the involved units in an attack
+     * Finds the involved units in an attack, served from the {@link PlanetInvolvedUnitsIndex}
      *
      * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
      */
     public List<ObtainedUnit> findInvolvedInAttack(Planet attackedPlanet) {
-        List<ObtainedUnit> retVal = new ArrayList<>();
-        List<String> allowedMissions = new ArrayList<>();
-        allowedMissions.add(MissionType.CONQUEST.name());
-        retVal.addAll(findInPlanetOrInMissionToPlanet(attackedPlanet));
-        retVal.addAll(obtainedUnitRepository.findByTargetPlanetIdWhereReferencePercentageTimePassed(attackedPlanet.getId(), 0.1d,
-                allowedMissions, new Date()));
+        var involvedIds = planetInvolvedUnitsIndex.findInvolvedInAttack(
+                attackedPlanet.getId(),
+                LocalDateTime.now(ZoneOffset.UTC),
+                () -> findAttackCandidates(attackedPlanet),
+                obtainedUnitRepository::findAllById
+        );
+        return findAllByIdInOrder(involvedIds);
+    }
+
+    /**
+     * Finds the units involved in an attack able to intercept, with the ids of the speed impact groups they
+     * intercept, in the order of {@link #findInvolvedInAttack(Planet)}
+     *
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    public Map<ObtainedUnit, Set<Integer>> findInterceptorsInAttack(Planet attackedPlanet) {
+        var interceptors = planetInvolvedUnitsIndex.findInterceptors(
+                attackedPlanet.getId(),
+                LocalDateTime.now(ZoneOffset.UTC),
+                () -> findAttackCandidates(attackedPlanet),
+                obtainedUnitRepository::findAllById
+        );
+        Map<ObtainedUnit, Set<Integer>> retVal = new LinkedHashMap<>();
+        findAllByIdInOrder(new ArrayList<>(interceptors.keySet()))
+                .forEach(interceptor -> retVal.put(interceptor, interceptors.get(interceptor.getId())));
         return retVal;
     }
 
@@ -102,11 +137,33 @@ public class ObtainedUnitFinderBo implements WithToDtoTrait<ObtainedUnit, Obtain
                 : obtainedUnit.getUnit();
     }
 
+    private List<ObtainedUnit> findAttackCandidates(Planet attackedPlanet) {
+        var candidates = findInPlanetOrInMissionToPlanet(attackedPlanet);
+        candidates.addAll(obtainedUnitRepository.findAttackCandidatesByTargetPlanetId(attackedPlanet.getId()));
+        return candidates;
+    }
+
+    private List<ObtainedUnit> findAllByIdInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, ObtainedUnit> byId = obtainedUnitRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(ObtainedUnit::getId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Same condition as {@link ObtainedUnitRepository#findDeployedInUserOwnedPlanets(Integer)}
+     */
+    private boolean isDeployedInUserPlanet(ObtainedUnit obtainedUnit, Integer userId) {
+        return obtainedUnit.getSourcePlanet() != null
+                && obtainedUnit.getMission() == null
+                && userId.equals(obtainedUnit.getUser().getId());
+    }
+
     private void loadExtraDataToDto(List<ObtainedUnit> entities, List<ObtainedUnitDto> dtoList) {
-        IntStream.range(0, dtoList.size()).forEach(i -> {
-            var entity = entities.get(i);
-            var dto = dtoList.get(i);
-            unitDataLoaders.forEach(loader -> loader.addInformationToDto(entity, dto));
-        });
+        if (!entities.isEmpty()) {
+            unitDataLoaders.forEach(loader -> loader.addInformationToDtos(entities, dtoList));
+        }
     }
 }
@@ -0,0 +1,146 @@
+package com.kevinguanchedarias.owgejava.business.unit;
+
+import com.kevinguanchedarias.owgejava.dto.ObtainedUnitDto;
+import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
+import com.kevinguanchedarias.owgejava.entity.Rule;
+import com.kevinguanchedarias.owgejava.entity.SpeedImpactGroup;
+import com.kevinguanchedarias.owgejava.entity.TimeSpecial;
+import com.kevinguanchedarias.owgejava.entity.Unit;
+import com.kevinguanchedarias.owgejava.entity.UnitType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Keeps, by user, the obtained units deployed in his planets as DTO, so they are not converted again on each read
+ * <br>
+ * The changed rows are marked, and on the next read only those rows are loaded again (or removed if they no longer
+ * belong to the view), the whole view is only built again when the definitions it depends on change
+ * <br>
+ * The changes are marked when they happen, and again when the transaction completes, so a read running in the
+ * middle doesn't keep the not yet committed state
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Service
+public class ObtainedUnitReadModel {
+    /**
+     * Cache tags of the definitions used when converting the obtained units
+     */
+    private static final Set<String> DEFINITION_CACHE_TAGS = Set.of(
+            Unit.UNIT_CACHE_TAG,
+            UnitType.UNIT_TYPE_CACHE_TAG,
+            SpeedImpactGroup.SPEED_IMPACT_GROUP_CACHE_TAG,
+            Rule.RULE_CACHE_TAG,
+            TimeSpecial.TIME_SPECIAL_CACHE_TAG
+    );
+
+    private final Map<Integer, UserUnitView> views = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the view of the user, building it, or applying the pending row changes
+     *
+     * @param viewLoader    Loads all the rows of the view
+     * @param changedLoader Loads the given rows, excluding the ones that don't belong to the view
+     */
+    public List<ObtainedUnitDto> find(
+            Integer userId,
+            Supplier<List<ObtainedUnitDto>> viewLoader,
+            Function<Collection<Long>, List<ObtainedUnitDto>> changedLoader
+    ) {
+        var view = views.computeIfAbsent(userId, key -> new UserUnitView());
+        synchronized (view) {
+            if (view.built) {
+                applyChanges(view, changedLoader);
+            } else {
+                view.changedIds.clear();
+                view.units.clear();
+                viewLoader.get().forEach(dto -> view.units.put(dto.getId(), dto));
+                view.built = true;
+            }
+            return new ArrayList<>(view.units.values());
+        }
+    }
+
+    /**
+     * Marks the row as changed, and the unit storing it, as the stored units are part of its DTO
+     */
+    public void markChanged(ObtainedUnit obtainedUnit) {
+        var userId = obtainedUnit.getUser().getId();
+        markChanged(userId, obtainedUnit.getId());
+        if (obtainedUnit.getOwnerUnit() != null) {
+            markChanged(userId, obtainedUnit.getOwnerUnit().getId());
+        }
+    }
+
+    public void markChanged(Integer userId, Long obtainedUnitId) {
+        runNowAndOnCompletion(() -> {
+            var view = views.get(userId);
+            if (view != null) {
+                view.changedIds.add(obtainedUnitId);
+            }
+        });
+    }
+
+    /**
+     * Drops the view of the user, used when something affecting all his units changes, for example an active time
+     * special
+     */
+    public void invalidate(Integer userId) {
+        runNowAndOnCompletion(() -> views.remove(userId));
+    }
+
+    public void invalidateAll() {
+        runNowAndOnCompletion(views::clear);
+    }
+
+    /**
+     * Drops all the views if the changed entity is one of the definitions used by them
+     */
+    public void onDefinitionChange(String cacheTag) {
+        if (DEFINITION_CACHE_TAGS.contains(cacheTag)) {
+            invalidateAll();
+        }
+    }
+
+    private void applyChanges(UserUnitView view, Function<Collection<Long>, List<ObtainedUnitDto>> changedLoader) {
+        if (!view.changedIds.isEmpty()) {
+            Set<Long> changedIds = new HashSet<>(view.changedIds);
+            view.changedIds.removeAll(changedIds);
+            Map<Long, ObtainedUnitDto> reloaded = new LinkedHashMap<>();
+            changedLoader.apply(changedIds).forEach(dto -> reloaded.put(dto.getId(), dto));
+            changedIds.stream().filter(id -> !reloaded.containsKey(id)).forEach(view.units::remove);
+            view.units.putAll(reloaded);
+        }
+    }
+
+    private void runNowAndOnCompletion(Runnable action) {
+        action.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private static class UserUnitView {
+        private final Map<Long, ObtainedUnitDto> units = new LinkedHashMap<>();
+        private final Set<Long> changedIds = ConcurrentHashMap.newKeySet();
+        private boolean built;
+    }
+}
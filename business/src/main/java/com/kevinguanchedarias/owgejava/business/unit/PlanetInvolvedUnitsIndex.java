@@ -0,0 +1,249 @@
+package com.kevinguanchedarias.owgejava.business.unit;
+
+import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
+import com.kevinguanchedarias.owgejava.entity.Planet;
+import com.kevinguanchedarias.owgejava.entity.SpeedImpactGroup;
+import com.kevinguanchedarias.owgejava.entity.Unit;
+import com.kevinguanchedarias.owgejava.enumerations.MissionType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.CollectionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps, by planet, the obtained units that may be involved in an attack to it, so the arriving missions don't query
+ * them again
+ * <br>
+ * The units present in the planet are involved always, the units of a conquest mission going to the planet are
+ * involved since the <i>attackEligibleFrom</i> of the mission, so the same entry answers until the units arrive or
+ * leave
+ * <br>
+ * The units able to intercept are kept with the speed impact groups they intercept, so the interception of the arriving
+ * units is resolved by speed impact group, without loading the other units
+ * <br>
+ * As the {@link ObtainedUnitReadModel} does, the changed rows are marked (now, and again when the transaction
+ * completes), and on the next read only those rows are loaded again
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Service
+public class PlanetInvolvedUnitsIndex {
+    /**
+     * Cache tags of the definitions that say which speed impact groups a unit intercepts
+     */
+    private static final Set<String> DEFINITION_CACHE_TAGS = Set.of(
+            Unit.UNIT_CACHE_TAG,
+            SpeedImpactGroup.SPEED_IMPACT_GROUP_CACHE_TAG
+    );
+
+    private final Map<Long, PlanetEntry> planets = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> planetsByUnit = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the ids of the units involved at the given date, first the present ones, then the ones of conquest
+     * missions
+     *
+     * @param planetLoader  Loads the present units, and the units of all the conquest missions going to the planet
+     * @param changedLoader Loads the given rows, no matter where they are
+     */
+    public List<Long> findInvolvedInAttack(
+            Long planetId,
+            LocalDateTime now,
+            Supplier<List<ObtainedUnit>> planetLoader,
+            Function<Collection<Long>, List<ObtainedUnit>> changedLoader
+    ) {
+        return read(planetId, planetLoader, changedLoader, entry -> findInvolvedIds(entry, now));
+    }
+
+    /**
+     * Returns the involved units able to intercept, with the ids of the speed impact groups they intercept, in the same
+     * order as {@link #findInvolvedInAttack(Long, LocalDateTime, Supplier, Function)}
+     *
+     * @param planetLoader  Loads the present units, and the units of all the conquest missions going to the planet
+     * @param changedLoader Loads the given rows, no matter where they are
+     */
+    public Map<Long, Set<Integer>> findInterceptors(
+            Long planetId,
+            LocalDateTime now,
+            Supplier<List<ObtainedUnit>> planetLoader,
+            Function<Collection<Long>, List<ObtainedUnit>> changedLoader
+    ) {
+        return read(planetId, planetLoader, changedLoader, entry -> {
+            Map<Long, Set<Integer>> interceptors = new LinkedHashMap<>();
+            findInvolvedIds(entry, now).stream()
+                    .filter(entry.interceptedGroups::containsKey)
+                    .forEach(unitId -> interceptors.put(unitId, entry.interceptedGroups.get(unitId)));
+            return interceptors;
+        });
+    }
+
+    /**
+     * Marks the row as changed in the planets where it was, and in the planets where it may be now
+     */
+    public void markChanged(ObtainedUnit obtainedUnit) {
+        var unitId = obtainedUnit.getId();
+        Set<Long> planetIds = new HashSet<>(planetsByUnit.getOrDefault(unitId, Set.of()));
+        addPlanetId(planetIds, obtainedUnit.getSourcePlanet());
+        addPlanetId(planetIds, obtainedUnit.getTargetPlanet());
+        runNowAndOnCompletion(() -> planetIds.forEach(planetId -> {
+            var entry = planets.get(planetId);
+            if (entry != null) {
+                entry.changedIds.add(unitId);
+            }
+        }));
+    }
+
+    /**
+     * Drops all the entries if the changed entity may change the speed impact groups the units intercept
+     */
+    public void onDefinitionChange(String cacheTag) {
+        if (DEFINITION_CACHE_TAGS.contains(cacheTag)) {
+            invalidateAll();
+        }
+    }
+
+    public void invalidateAll() {
+        runNowAndOnCompletion(() -> {
+            planets.clear();
+            planetsByUnit.clear();
+        });
+    }
+
+    private <T> T read(
+            Long planetId,
+            Supplier<List<ObtainedUnit>> planetLoader,
+            Function<Collection<Long>, List<ObtainedUnit>> changedLoader,
+            Function<PlanetEntry, T> reader
+    ) {
+        var entry = planets.computeIfAbsent(planetId, key -> new PlanetEntry());
+        synchronized (entry) {
+            if (entry.built) {
+                applyChanges(planetId, entry, changedLoader);
+            } else {
+                entry.changedIds.clear();
+                entry.involvedFrom.keySet().forEach(unitId -> removeReverse(unitId, planetId));
+                entry.involvedFrom.clear();
+                entry.interceptedGroups.clear();
+                planetLoader.get().forEach(obtainedUnit -> put(planetId, entry, obtainedUnit));
+                entry.built = true;
+            }
+            return reader.apply(entry);
+        }
+    }
+
+    private List<Long> findInvolvedIds(PlanetEntry entry, LocalDateTime now) {
+        List<Long> present = new ArrayList<>();
+        List<Long> eligible = new ArrayList<>();
+        entry.involvedFrom.forEach((unitId, involvedFrom) -> {
+            if (involvedFrom == LocalDateTime.MIN) {
+                present.add(unitId);
+            } else if (involvedFrom.isBefore(now)) {
+                eligible.add(unitId);
+            }
+        });
+        present.addAll(eligible);
+        return present;
+    }
+
+    private void applyChanges(
+            Long planetId,
+            PlanetEntry entry,
+            Function<Collection<Long>, List<ObtainedUnit>> changedLoader
+    ) {
+        if (!entry.changedIds.isEmpty()) {
+            Set<Long> changedIds = new HashSet<>(entry.changedIds);
+            entry.changedIds.removeAll(changedIds);
+            changedIds.forEach(unitId -> {
+                entry.involvedFrom.remove(unitId);
+                entry.interceptedGroups.remove(unitId);
+                removeReverse(unitId, planetId);
+            });
+            changedLoader.apply(changedIds).forEach(obtainedUnit -> put(planetId, entry, obtainedUnit));
+        }
+    }
+
+    private void put(Long planetId, PlanetEntry entry, ObtainedUnit obtainedUnit) {
+        var involvedFrom = findInvolvedFrom(planetId, obtainedUnit);
+        if (involvedFrom != null) {
+            entry.involvedFrom.put(obtainedUnit.getId(), involvedFrom);
+            var interceptableSpeedGroups = obtainedUnit.getUnit().getInterceptableSpeedGroups();
+            if (!CollectionUtils.isEmpty(interceptableSpeedGroups)) {
+                entry.interceptedGroups.put(obtainedUnit.getId(), interceptableSpeedGroups.stream()
+                        .map(interceptableSpeedGroup -> interceptableSpeedGroup.getSpeedImpactGroup().getId())
+                        .collect(Collectors.toSet()));
+            }
+            planetsByUnit.computeIfAbsent(obtainedUnit.getId(), key -> ConcurrentHashMap.newKeySet()).add(planetId);
+        }
+    }
+
+    /**
+     * Same conditions as {@link ObtainedUnitFinderBo#findInPlanetOrInMissionToPlanet(Planet)} for the present units
+     *
+     * @return {@link LocalDateTime#MIN} for the present units, the date since the unit is involved, or null if it's
+     * not involved in the attacks to the planet
+     */
+    private LocalDateTime findInvolvedFrom(Long planetId, ObtainedUnit obtainedUnit) {
+        var mission = obtainedUnit.getMission();
+        if (mission == null) {
+            return isPlanet(obtainedUnit.getSourcePlanet(), planetId) ? LocalDateTime.MIN : null;
+        } else if (!isPlanet(obtainedUnit.getTargetPlanet(), planetId)) {
+            return null;
+        } else if (MissionType.DEPLOYED.name().equals(mission.getType().getCode())) {
+            return LocalDateTime.MIN;
+        } else {
+            return mission.getAttackEligibleFrom();
+        }
+    }
+
+    private boolean isPlanet(Planet planet, Long planetId) {
+        return planet != null && planetId.equals(planet.getId());
+    }
+
+    private void addPlanetId(Set<Long> planetIds, Planet planet) {
+        if (planet != null && planet.getId() != null) {
+            planetIds.add(planet.getId());
+        }
+    }
+
+    private void removeReverse(Long unitId, Long planetId) {
+        planetsByUnit.computeIfPresent(unitId, (key, unitPlanets) -> {
+            unitPlanets.remove(planetId);
+            return unitPlanets.isEmpty() ? null : unitPlanets;
+        });
+    }
+
+    private void runNowAndOnCompletion(Runnable action) {
+        action.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private static class PlanetEntry {
+        private final Map<Long, LocalDateTime> involvedFrom = new TreeMap<>();
+        private final Map<Long, Set<Integer>> interceptedGroups = new HashMap<>();
+        private final Set<Long> changedIds = ConcurrentHashMap.newKeySet();
+        private boolean built;
+    }
+}
@@ -5,12 +5,17 @@ import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
 import com.kevinguanchedarias.owgejava.repository.ObtainedUnitRepository;
 import com.kevinguanchedarias.owgejava.util.DtoUtilService;
 import lombok.AllArgsConstructor;
-import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
+/**
+ * Loads the stored units of all the units with one query, and then the information of all the stored units with
+ * the other loaders, also at once
+ */
 @Service
 @AllArgsConstructor
 public class StoredUnitDataLoader implements UnitDataLoader {
@@ -22,16 +27,26 @@ public class StoredUnitDataLoader implements UnitDataLoader {
 
     @Override
     @Transactional
-    public void addInformationToDto(ObtainedUnit obtainedUnit, ObtainedUnitDto targetDto) {
-        targetDto.setStoredUnits(CollectionUtils.emptyIfNull(obtainedUnitRepository.findByOwnerUnitId(obtainedUnit.getId())).stream()
-                .map(this::mapStoredUnit)
-                .toList()
-        );
-    }
-
-    private ObtainedUnitDto mapStoredUnit(ObtainedUnit obtainedUnit) {
-        var retVal = dtoUtilService.dtoFromEntity(ObtainedUnitDto.class, obtainedUnit);
-        unitDataLoaders.forEach(unitDataLoader -> unitDataLoader.addInformationToDto(obtainedUnit, retVal));
-        return retVal;
+    public void addInformationToDtos(List<ObtainedUnit> obtainedUnits, List<ObtainedUnitDto> targetDtos) {
+        if (obtainedUnits.isEmpty()) {
+            return;
+        }
+        var storedUnitsByOwner = obtainedUnitRepository.findByOwnerUnitIdIn(obtainedUnits.stream().map(ObtainedUnit::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(storedUnit -> storedUnit.getOwnerUnit().getId()));
+        List<ObtainedUnit> allStoredUnits = new ArrayList<>();
+        List<ObtainedUnitDto> allStoredUnitDtos = new ArrayList<>();
+        for (int i = 0; i < obtainedUnits.size(); i++) {
+            var storedUnits = storedUnitsByOwner.getOrDefault(obtainedUnits.get(i).getId(), List.of());
+            var storedUnitDtos = storedUnits.stream()
+                    .map(storedUnit -> dtoUtilService.dtoFromEntity(ObtainedUnitDto.class, storedUnit))
+                    .toList();
+            targetDtos.get(i).setStoredUnits(storedUnitDtos);
+            allStoredUnits.addAll(storedUnits);
+            allStoredUnitDtos.addAll(storedUnitDtos);
+        }
+        if (!allStoredUnits.isEmpty()) {
+            unitDataLoaders.forEach(unitDataLoader -> unitDataLoader.addInformationToDtos(allStoredUnits, allStoredUnitDtos));
+        }
     }
 }
@@ -2,12 +2,17 @@ package com.kevinguanchedarias.owgejava.business.unit.loader;
 
 import com.kevinguanchedarias.owgejava.dto.ObtainedUnitDto;
 import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
+import com.kevinguanchedarias.owgejava.entity.jdbc.ObtainedUnitTemporalInformation;
 import com.kevinguanchedarias.owgejava.repository.jdbc.ObtainedUnitTemporalInformationRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 @AllArgsConstructor
@@ -16,16 +21,22 @@ public class TemporalInformationUnitDataLoaderService implements UnitDataLoader
     private final ObtainedUnitTemporalInformationRepository obtainedUnitTemporalInformationRepository;
 
     @Override
-    public void addInformationToDto(ObtainedUnit obtainedUnit, ObtainedUnitDto targetDto) {
-        var expirationId = obtainedUnit.getExpirationId();
-        if (expirationId != null) {
-            var temporalInformationOpt = obtainedUnitTemporalInformationRepository.findById(expirationId);
-            temporalInformationOpt.ifPresent(temporalInformation -> {
-                temporalInformation.setPendingMillis(
-                        ChronoUnit.MILLIS.between(Instant.now(), temporalInformation.getExpiration())
-                );
-                targetDto.setTemporalInformation(temporalInformation);
-            });
+    public void addInformationToDtos(List<ObtainedUnit> obtainedUnits, List<ObtainedUnitDto> targetDtos) {
+        var expirationIds = obtainedUnits.stream().map(ObtainedUnit::getExpirationId).filter(Objects::nonNull).distinct().toList();
+        if (expirationIds.isEmpty()) {
+            return;
+        }
+        var now = Instant.now();
+        Map<Long, ObtainedUnitTemporalInformation> temporalInformationById = new HashMap<>();
+        obtainedUnitTemporalInformationRepository.findAllById(expirationIds).forEach(temporalInformation -> {
+            temporalInformation.setPendingMillis(ChronoUnit.MILLIS.between(now, temporalInformation.getExpiration()));
+            temporalInformationById.put(temporalInformation.getId(), temporalInformation);
+        });
+        for (int i = 0; i < obtainedUnits.size(); i++) {
+            var expirationId = obtainedUnits.get(i).getExpirationId();
+            if (expirationId != null && temporalInformationById.containsKey(expirationId)) {
+                targetDtos.get(i).setTemporalInformation(temporalInformationById.get(expirationId));
+            }
         }
     }
 }
@@ -3,9 +3,14 @@ package com.kevinguanchedarias.owgejava.business.unit.loader;
 import com.kevinguanchedarias.owgejava.dto.ObtainedUnitDto;
 import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
 
+import java.util.List;
+
 public interface UnitDataLoader {
     /**
-     * Allows to set extra information in the DTO
+     * Allows to set extra information in the DTOs, should load the information of all the units at once
+     *
+     * @param obtainedUnits The entities, in the same order as the DTOs
+     * @param targetDtos    The DTO of each entity
      */
-    void addInformationToDto(ObtainedUnit obtainedUnit, ObtainedUnitDto targetDto);
+    void addInformationToDtos(List<ObtainedUnit> obtainedUnits, List<ObtainedUnitDto> targetDtos);
 }
@@ -4,6 +4,7 @@ import com.kevinguanchedarias.owgejava.business.*;
 import com.kevinguanchedarias.owgejava.business.mission.MissionFinderBo;
 import com.kevinguanchedarias.owgejava.business.unit.HiddenUnitBo;
 import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitEventEmitter;
+import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitReadModel;
 import com.kevinguanchedarias.owgejava.business.user.UserEventEmitterBo;
 import com.kevinguanchedarias.owgejava.business.user.listener.UserDeleteListener;
 import com.kevinguanchedarias.owgejava.business.util.TransactionUtilService;
@@ -54,6 +55,7 @@ public class ObtainedUnitBo implements BaseBo<Long, ObtainedUnit, ObtainedUnitDt
     private final transient UserEventEmitterBo userEventEmitterBo;
     private final UnitTypeBo unitTypeBo;
     private final transient TaggableCacheManager taggableCacheManager;
+    private final transient ObtainedUnitReadModel obtainedUnitReadModel;
 
     @Override
     public JpaRepository<ObtainedUnit, Long> getRepository() {
@@ -181,12 +183,13 @@ public class ObtainedUnitBo implements BaseBo<Long, ObtainedUnit, ObtainedUnitDt
     /**
      * Updates the count,
      * <b>Notice:</b> due to spring jpa repository Modifying not triggering the {@link com.kevinguanchedarias.owgejava.entity.listener.EntityWithByUserCacheTagListener}
-     * Will have to manually drop cache tag
+     * Will have to manually drop cache tag, and mark the row in the {@link ObtainedUnitReadModel}
      */
     public ObtainedUnit saveWithChange(ObtainedUnit obtainedUnit, long sumValue) {
         repository.updateCount(obtainedUnit, sumValue);
         entityManager.refresh(obtainedUnit);
         taggableCacheManager.evictByCacheTag(obtainedUnit.getByUserCacheTag(), obtainedUnit.getUser().getId());
+        obtainedUnitReadModel.markChanged(obtainedUnit);
         return obtainedUnit;
     }
 
@@ -255,5 +258,6 @@ public class ObtainedUnitBo implements BaseBo<Long, ObtainedUnit, ObtainedUnitDt
     @Override
     public void doDeleteUser(UserStorage user) {
         repository.deleteByUser(user);
+        obtainedUnitReadModel.invalidate(user.getId());
     }
 }
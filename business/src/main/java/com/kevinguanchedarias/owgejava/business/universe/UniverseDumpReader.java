@@ -0,0 +1,114 @@
+package com.kevinguanchedarias.owgejava.business.universe;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kevinguanchedarias.owgejava.exception.SgtBackendInvalidInputException;
+import com.kevinguanchedarias.owgejava.pojo.universe.UniverseDumpTableHeader;
+import lombok.Getter;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads an universe dump written by {@link UniverseDumpWriter}, line by line
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+public class UniverseDumpReader implements Closeable {
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    private static final Set<Integer> BINARY_TYPES = Set.of(
+            Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY, Types.BLOB
+    );
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final BufferedReader reader;
+
+    /**
+     * The header of the table the current row belongs to
+     */
+    @Getter
+    private UniverseDumpTableHeader header;
+
+    /**
+     * The current row, null when the current line is a header
+     */
+    @Getter
+    private Object[] row;
+
+    public UniverseDumpReader(InputStream inputStream) throws IOException {
+        reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(inputStream, GZIP_BUFFER_SIZE), StandardCharsets.UTF_8
+        ));
+    }
+
+    /**
+     * Moves to the next line
+     *
+     * @return false when there are no more lines
+     * @throws SgtBackendInvalidInputException When the line is not a header nor a row of the current table
+     */
+    public boolean next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+        } while (line != null && line.isBlank());
+        if (line == null) {
+            return false;
+        }
+        var node = MAPPER.readTree(line);
+        if (node.isObject()) {
+            header = MAPPER.treeToValue(node, UniverseDumpTableHeader.class);
+            row = null;
+            checkHeader(line);
+        } else if (node.isArray() && header != null && node.size() == header.getColumns().size()) {
+            row = toRow(node);
+        } else {
+            throw new SgtBackendInvalidInputException("Malformed universe dump line: " + line);
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void checkHeader(String line) {
+        if (header.getTable() == null || header.getColumns() == null || header.getTypes() == null
+                || header.getColumns().size() != header.getTypes().size()) {
+            throw new SgtBackendInvalidInputException("Malformed universe dump header: " + line);
+        }
+    }
+
+    private Object[] toRow(JsonNode node) throws IOException {
+        var result = new Object[node.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = toValue(node.get(i), header.getTypes().get(i));
+        }
+        return result;
+    }
+
+    private Object toValue(JsonNode value, int type) throws IOException {
+        if (value.isNull()) {
+            return null;
+        } else if (value.isBoolean()) {
+            return value.booleanValue();
+        } else if (value.isNumber()) {
+            return value.numberValue();
+        } else if (BINARY_TYPES.contains(type)) {
+            return value.binaryValue();
+        } else {
+            return value.textValue();
+        }
+    }
+}
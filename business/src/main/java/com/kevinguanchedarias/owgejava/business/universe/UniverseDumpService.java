@@ -0,0 +1,302 @@
+package com.kevinguanchedarias.owgejava.business.universe;
+
+import com.kevinguanchedarias.owgejava.business.MissionSchedulerService;
+import com.kevinguanchedarias.owgejava.business.cache.CacheInvalidationService;
+import com.kevinguanchedarias.owgejava.enumerations.UniverseDumpTable;
+import com.kevinguanchedarias.owgejava.exception.CommonException;
+import com.kevinguanchedarias.owgejava.exception.SgtBackendInvalidInputException;
+import com.kevinguanchedarias.owgejava.job.DbSchedulerRealizationJob;
+import com.kevinguanchedarias.owgejava.pojo.universe.UniverseDumpTableHeader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Exports and imports the universe data (see {@link UniverseDumpTable}), used to clone an universe into another
+ * database
+ * <br>
+ * The export streams the rows from the database, reading all the tables in a single read only transaction with a
+ * consistent snapshot, so the rows of the dump reference each other even if the universe is being played. The import
+ * inserts them in multi-row batches, so memory usage doesn't depend on the size of the universe, and commits once at
+ * the end, if it fails nothing changes
+ * <br>
+ * The scheduled tasks are not in the dump, after importing the unresolved missions are scheduled to run at their
+ * termination date
+ * <br>
+ * <b>NOTICE:</b> The import disables the foreign key checks of its connection, as some tables reference each other
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UniverseDumpService {
+    /**
+     * MySQL driver only streams the rows (instead of loading the whole result) with this fetch size
+     */
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+    private static final int MAX_PLACEHOLDERS = 65_535;
+
+    /**
+     * Tables not in the dump with rows of the users, planets, missions or units, deleted when replacing, as they would
+     * reference the imported rows that reuse the ids
+     */
+    private static final List<String> REPLACED_DEPENDENT_TABLES = List.of(
+            "suspicions",
+            "audit",
+            "stored_units",
+            "obtained_unit_temporal_information",
+            "explored_planets",
+            "planet_list",
+            "active_time_specials",
+            "alliance_join_request",
+            "alliances",
+            "mission_reports",
+            "obtained_upgrades",
+            "unlocked_relation",
+            "user_improvements",
+            "user_read_system_messages",
+            "visited_tutorial_entries",
+            "websocket_events_information",
+            "websocket_messages_status"
+    );
+    private static final String DELETE_MISSION_TASKS_SQL = "DELETE FROM `scheduled_tasks` WHERE `task_name` = ?";
+    private static final String UNRESOLVED_MISSIONS_SQL =
+            "SELECT `id`, `termination_date` FROM `missions` WHERE `resolved` = 0 AND `termination_date` IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final MissionSchedulerService missionSchedulerService;
+
+    @Value("${OWGE_UNIVERSE_IMPORT_BATCH_SIZE:500}")
+    private int batchSize;
+
+    /**
+     * Writes the universe dump to the output stream
+     */
+    public void exportUniverse(OutputStream outputStream) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            var previousAutoCommit = connection.getAutoCommit();
+            var previousReadOnly = connection.isReadOnly();
+            var previousIsolation = connection.getTransactionIsolation();
+            connection.setReadOnly(true);
+            connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            connection.setAutoCommit(false);
+            try (var writer = new UniverseDumpWriter(outputStream)) {
+                try (var statement = connection.createStatement()) {
+                    statement.execute("START TRANSACTION WITH CONSISTENT SNAPSHOT");
+                }
+                for (var table : UniverseDumpTable.values()) {
+                    log.debug("Exported {} rows from table {}", exportTable(connection, writer, table), table.getTableName());
+                }
+            } catch (IOException e) {
+                throw new CommonException("Couldn't write the universe dump", e);
+            } finally {
+                connection.commit();
+                connection.setAutoCommit(previousAutoCommit);
+                connection.setTransactionIsolation(previousIsolation);
+                connection.setReadOnly(previousReadOnly);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Inserts the rows of the universe dump
+     *
+     * Clears all the caches of all the nodes after importing (see {@link CacheInvalidationService#clearAll()}), as the
+     * rows don't go through Hibernate, and when replacing the ids are reused by different rows
+     *
+     * @param replace If true deletes the rows of all the dump tables, the user rows of the tables that reference them
+     *                (as the audits or the reports) and the scheduled missions before importing
+     * @return The inserted rows by table
+     * @throws SgtBackendInvalidInputException When the dump has unknown tables or columns, or is malformed
+     */
+    public Map<String, Long> importUniverse(InputStream inputStream, boolean replace) {
+        Map<String, Long> result;
+        try {
+            result = doImportUniverse(inputStream, replace);
+        } finally {
+            cacheInvalidationService.clearAll();
+        }
+        scheduleUnresolvedMissions();
+        return result;
+    }
+
+    private Map<String, Long> doImportUniverse(InputStream inputStream, boolean replace) {
+        return jdbcTemplate.execute((ConnectionCallback<Map<String, Long>>) connection -> {
+            var previousAutoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            setForeignKeyChecks(connection, false);
+            try (var reader = new UniverseDumpReader(inputStream)) {
+                if (replace) {
+                    deleteAll(connection);
+                }
+                var result = importRows(connection, reader);
+                connection.commit();
+                return result;
+            } catch (IOException e) {
+                connection.rollback();
+                throw new SgtBackendInvalidInputException("Couldn't read the universe dump", e);
+            } catch (RuntimeException | SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                setForeignKeyChecks(connection, true);
+                connection.setAutoCommit(previousAutoCommit);
+            }
+        });
+    }
+
+    private long exportTable(Connection connection, UniverseDumpWriter writer, UniverseDumpTable table)
+            throws SQLException, IOException {
+        try (var statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(STREAMING_FETCH_SIZE);
+            try (var resultSet = statement.executeQuery("SELECT * FROM `" + table.getTableName() + "`")) {
+                var metadata = resultSet.getMetaData();
+                var columnCount = metadata.getColumnCount();
+                List<String> columns = new ArrayList<>(columnCount);
+                List<Integer> types = new ArrayList<>(columnCount);
+                for (int i = 1; i <= columnCount; i++) {
+                    columns.add(metadata.getColumnName(i));
+                    types.add(metadata.getColumnType(i));
+                }
+                writer.writeHeader(new UniverseDumpTableHeader(table.getTableName(), columns, types));
+                long rows = 0;
+                while (resultSet.next()) {
+                    writer.writeRow(resultSet, columnCount);
+                    rows++;
+                }
+                return rows;
+            }
+        }
+    }
+
+    private void deleteAll(Connection connection) throws SQLException {
+        var tables = UniverseDumpTable.values();
+        try (var statement = connection.createStatement()) {
+            for (var dependentTable : REPLACED_DEPENDENT_TABLES) {
+                statement.executeUpdate("DELETE FROM `" + dependentTable + "`");
+            }
+            for (int i = tables.length - 1; i >= 0; i--) {
+                statement.executeUpdate("DELETE FROM `" + tables[i].getTableName() + "`");
+            }
+        }
+        try (var statement = connection.prepareStatement(DELETE_MISSION_TASKS_SQL)) {
+            statement.setString(1, DbSchedulerRealizationJob.BASIC_ONE_TIME_TASK.getTaskName());
+            statement.executeUpdate();
+        }
+    }
+
+    private void scheduleUnresolvedMissions() {
+        jdbcTemplate.query(UNRESOLVED_MISSIONS_SQL, (RowCallbackHandler) resultSet -> missionSchedulerService.scheduleMission(
+                resultSet.getLong("id"), resultSet.getTimestamp("termination_date").toLocalDateTime()
+        ));
+    }
+
+    private Map<String, Long> importRows(Connection connection, UniverseDumpReader reader)
+            throws IOException, SQLException {
+        Map<String, Long> result = new LinkedHashMap<>();
+        UniverseTableImport tableImport = null;
+        while (reader.next()) {
+            if (reader.getRow() == null) {
+                flush(connection, tableImport, result);
+                tableImport = new UniverseTableImport(connection, reader.getHeader());
+            } else {
+                tableImport.pendingRows.add(reader.getRow());
+                if (tableImport.pendingRows.size() >= tableImport.rowsPerStatement) {
+                    flush(connection, tableImport, result);
+                }
+            }
+        }
+        flush(connection, tableImport, result);
+        return result;
+    }
+
+    private void flush(Connection connection, UniverseTableImport tableImport, Map<String, Long> result)
+            throws SQLException {
+        if (tableImport == null) {
+            return;
+        }
+        result.merge(tableImport.tableName, (long) tableImport.pendingRows.size(), Long::sum);
+        if (!tableImport.pendingRows.isEmpty()) {
+            try (var statement = connection.prepareStatement(tableImport.buildInsert(tableImport.pendingRows.size()))) {
+                var parameterIndex = 1;
+                for (var row : tableImport.pendingRows) {
+                    for (var value : row) {
+                        statement.setObject(parameterIndex++, value);
+                    }
+                }
+                statement.executeUpdate();
+            }
+            tableImport.pendingRows.clear();
+        }
+    }
+
+    private void setForeignKeyChecks(Connection connection, boolean enabled) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute("SET FOREIGN_KEY_CHECKS = " + (enabled ? 1 : 0));
+        }
+    }
+
+    /**
+     * The table being imported, with the rows waiting to be inserted
+     */
+    private class UniverseTableImport {
+        private final String tableName;
+        private final String insertPrefix;
+        private final String rowPlaceholders;
+        private final int rowsPerStatement;
+        private final List<Object[]> pendingRows = new ArrayList<>();
+
+        UniverseTableImport(Connection connection, UniverseDumpTableHeader header) throws SQLException {
+            tableName = UniverseDumpTable.findByTableName(header.getTable())
+                    .orElseThrow(() -> new SgtBackendInvalidInputException("Table not allowed in the dump: " + header.getTable()))
+                    .getTableName();
+            var columns = header.getColumns();
+            var existingColumns = findColumns(connection, tableName);
+            columns.stream().filter(column -> !existingColumns.contains(column)).findFirst().ifPresent(column -> {
+                throw new SgtBackendInvalidInputException("Table " + tableName + " has no column " + column);
+            });
+            insertPrefix = "INSERT INTO `" + tableName + "` ("
+                    + columns.stream().map(column -> "`" + column + "`").collect(Collectors.joining(","))
+                    + ") VALUES ";
+            rowPlaceholders = "(" + String.join(",", columns.stream().map(column -> "?").toList()) + ")";
+            rowsPerStatement = Math.max(1, Math.min(batchSize, MAX_PLACEHOLDERS / Math.max(1, columns.size())));
+        }
+
+        String buildInsert(int rows) {
+            return insertPrefix + String.join(",", Collections.nCopies(rows, rowPlaceholders));
+        }
+
+        private Set<String> findColumns(Connection connection, String table) throws SQLException {
+            Set<String> result = new HashSet<>();
+            try (var resultSet = connection.getMetaData().getColumns(connection.getCatalog(), null, table, null)) {
+                while (resultSet.next()) {
+                    result.add(resultSet.getString("COLUMN_NAME"));
+                }
+            }
+            return result;
+        }
+    }
+}
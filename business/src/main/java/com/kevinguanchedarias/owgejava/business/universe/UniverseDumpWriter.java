@@ -0,0 +1,76 @@
+package com.kevinguanchedarias.owgejava.business.universe;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kevinguanchedarias.owgejava.pojo.universe.UniverseDumpTableHeader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes an universe dump, gzip compressed, with one JSON value per line
+ * <br>
+ * Only the current row is held in memory, so the size of the tables doesn't matter
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+public class UniverseDumpWriter implements Closeable {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final JsonGenerator generator;
+
+    public UniverseDumpWriter(OutputStream outputStream) throws IOException {
+        generator = MAPPER.getFactory().createGenerator(new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE));
+        generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+    }
+
+    public void writeHeader(UniverseDumpTableHeader header) throws IOException {
+        generator.writeObject(header);
+    }
+
+    /**
+     * Writes the current row of the result set, the dates go as the text the database returns
+     */
+    public void writeRow(ResultSet resultSet, int columnCount) throws IOException, SQLException {
+        generator.writeStartArray();
+        for (int i = 1; i <= columnCount; i++) {
+            writeValue(resultSet, i);
+        }
+        generator.writeEndArray();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+
+    private void writeValue(ResultSet resultSet, int columnIndex) throws IOException, SQLException {
+        var value = resultSet.getObject(columnIndex);
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof BigDecimal decimal) {
+            generator.writeNumber(decimal);
+        } else if (value instanceof BigInteger bigInteger) {
+            generator.writeNumber(bigInteger);
+        } else if (value instanceof Double || value instanceof Float) {
+            generator.writeNumber(((Number) value).doubleValue());
+        } else if (value instanceof Number number) {
+            generator.writeNumber(number.longValue());
+        } else if (value instanceof Boolean bool) {
+            generator.writeBoolean(bool);
+        } else if (value instanceof byte[] bytes) {
+            generator.writeBinary(bytes);
+        } else {
+            generator.writeString(resultSet.getString(columnIndex));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.kevinguanchedarias.owgejava.business.websocket;
+
+import com.kevinguanchedarias.owgejava.pojo.websocket.WebsocketBusMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers the messages directly to the subscribers of this JVM, used when there is only one node
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Service
+@Slf4j
+public class InMemoryWebsocketMessageBus implements WebsocketMessageBus {
+    private final List<Consumer<WebsocketBusMessage>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(WebsocketBusMessage message) {
+        subscribers.forEach(subscriber -> {
+            try {
+                subscriber.accept(message);
+            } catch (RuntimeException e) {
+                log.error("Couldn't deliver websocket message {}", message.getEventName(), e);
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(Consumer<WebsocketBusMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Override
+    public boolean isLocal() {
+        return true;
+    }
+}
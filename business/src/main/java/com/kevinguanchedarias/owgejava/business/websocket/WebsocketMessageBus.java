@@ -0,0 +1,31 @@
+package com.kevinguanchedarias.owgejava.business.websocket;
+
+import com.kevinguanchedarias.owgejava.pojo.websocket.WebsocketBusMessage;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries the websocket messages to all the nodes, as the sockets of a user may be connected to any of them
+ * <br>
+ * The default implementation is {@link InMemoryWebsocketMessageBus}, to run many nodes define another implementation as
+ * primary bean
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+public interface WebsocketMessageBus {
+    /**
+     * Sends the message to all the subscribers, of all the nodes, including this one
+     */
+    void publish(WebsocketBusMessage message);
+
+    /**
+     * Registers the delivery of this node
+     */
+    void subscribe(Consumer<WebsocketBusMessage> subscriber);
+
+    /**
+     * If true the messages only reach this node, so a user without sockets here is not connected
+     */
+    boolean isLocal();
+}
@@ -0,0 +1,61 @@
+package com.kevinguanchedarias.owgejava.business.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.kevinguanchedarias.owgejava.configurations.WebsocketConfiguration;
+import com.kevinguanchedarias.owgejava.exception.CommonException;
+import com.kevinguanchedarias.owgejava.pojo.websocket.EncodedWebsocketPayload;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodes the content of the websocket messages one time, instead of one time per target socket
+ * <br>
+ * Uses the mapper of netty-socketio, so the JSON is the same than when it encodes the content
+ * <br>
+ * When <i>OWGE_WS_COMPRESSION_THRESHOLD</i> is greater than 0, the contents of that size or bigger are sent
+ * compressed, the frontend decompresses them
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Service
+public class WebsocketPayloadEncoder {
+    private final WebsocketConfiguration websocketConfiguration;
+    private final int compressionThreshold;
+
+    public WebsocketPayloadEncoder(
+            WebsocketConfiguration websocketConfiguration,
+            @Value("${OWGE_WS_COMPRESSION_THRESHOLD:0}") int compressionThreshold
+    ) {
+        this.websocketConfiguration = websocketConfiguration;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public EncodedWebsocketPayload encode(Object content) {
+        try {
+            var json = websocketConfiguration.getWebsocketJsonSupport().getObjectMapper().writeValueAsString(content);
+            var bytes = json.getBytes(StandardCharsets.UTF_8);
+            if (compressionThreshold > 0 && bytes.length >= compressionThreshold) {
+                return EncodedWebsocketPayload.builder().compressedValue(gzip(bytes)).size(bytes.length).build();
+            }
+            return EncodedWebsocketPayload.builder().value(json).size(bytes.length).build();
+        } catch (JsonProcessingException e) {
+            throw new CommonException("Couldn't encode the websocket message", e);
+        }
+    }
+
+    private byte[] gzip(byte[] bytes) {
+        var outputStream = new ByteArrayOutputStream(bytes.length / 4);
+        try (var gzipStream = new GZIPOutputStream(outputStream)) {
+            gzipStream.write(bytes);
+        } catch (IOException e) {
+            throw new CommonException("Couldn't compress the websocket message", e);
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -11,6 +11,8 @@ public class DbSchedulerConfiguration {
     @Bean
     Task<Void> missionProcessingTask(DbSchedulerRealizationJob dbSchedulerRealizationJob) {
         return Tasks.oneTime(DbSchedulerRealizationJob.BASIC_ONE_TIME_TASK)
-                .execute((instance, ctx) -> dbSchedulerRealizationJob.execute(Long.parseLong(instance.getId())));
+                .execute((instance, ctx) -> dbSchedulerRealizationJob.execute(
+                        Long.parseLong(instance.getId()), ctx.getExecution().executionTime
+                ));
     }
 }
@@ -0,0 +1,33 @@
+package com.kevinguanchedarias.owgejava.configurations;
+
+import com.kevinguanchedarias.owgejava.configurations.hibernate.DefinitionCacheRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.persistence.SharedCacheMode;
+
+/**
+ * Enables the Hibernate second level cache for the entities annotated with {@link javax.persistence.Cacheable}
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Configuration
+public class DefinitionCacheConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer definitionCacheHibernatePropertiesCustomizer(
+            @Value("${OWGE_DEFINITION_CACHE_ENABLED:true}") boolean enabled
+    ) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            if (enabled) {
+                properties.put(AvailableSettings.CACHE_REGION_FACTORY, DefinitionCacheRegionFactory.class.getName());
+                properties.put(AvailableSettings.JPA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE);
+            }
+        };
+    }
+}
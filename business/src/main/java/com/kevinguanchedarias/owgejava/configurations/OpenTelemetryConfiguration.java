@@ -0,0 +1,21 @@
+package com.kevinguanchedarias.owgejava.configurations;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.OpenTelemetry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Exposes the global OpenTelemetry instance, it's a no-op unless the OpenTelemetry java agent is attached (or some
+ * SDK has been registered as global before the context starts), so tracing costs nothing when not used
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Configuration
+public class OpenTelemetryConfiguration {
+    @Bean
+    public OpenTelemetry openTelemetry() {
+        return GlobalOpenTelemetry.get();
+    }
+}
@@ -0,0 +1,34 @@
+package com.kevinguanchedarias.owgejava.configurations;
+
+import com.kevinguanchedarias.owgejava.configurations.datasource.ReadReplica;
+import com.kevinguanchedarias.owgejava.configurations.datasource.ReadReplicaInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * Applies the {@link ReadReplicaInterceptor} to the {@link ReadReplica} classes and methods, before the transaction
+ * starts
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Configuration
+public class ReadReplicaConfiguration {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor readReplicaAdvisor() {
+        var pointcut = new ComposablePointcut(AnnotationMatchingPointcut.forClassAnnotation(ReadReplica.class))
+                .union(AnnotationMatchingPointcut.forMethodAnnotation(ReadReplica.class));
+        var advisor = new DefaultPointcutAdvisor(pointcut, new ReadReplicaInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -1,7 +1,6 @@
 package com.kevinguanchedarias.owgejava.configurations;
 
 import com.corundumstudio.socketio.Configuration;
-import com.corundumstudio.socketio.protocol.JacksonJsonSupport;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -21,6 +20,10 @@ public class WebsocketConfiguration extends Configuration {
         setHostname(host);
         setPort(Integer.parseInt(port));
         setRandomSession(true);
-        setJsonSupport(new JacksonJsonSupport(new JavaTimeModule()));
+        setJsonSupport(new WebsocketJsonSupport(new JavaTimeModule()));
+    }
+
+    public WebsocketJsonSupport getWebsocketJsonSupport() {
+        return (WebsocketJsonSupport) getJsonSupport();
     }
 }
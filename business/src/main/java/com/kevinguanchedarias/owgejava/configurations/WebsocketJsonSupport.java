@@ -0,0 +1,22 @@
+package com.kevinguanchedarias.owgejava.configurations;
+
+import com.corundumstudio.socketio.protocol.JacksonJsonSupport;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Exposes the mapper used by netty-socketio, so the payloads can be encoded before handing them to the sockets, with
+ * the same format
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+public class WebsocketJsonSupport extends JacksonJsonSupport {
+    public WebsocketJsonSupport(Module... modules) {
+        super(modules);
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+}
@@ -0,0 +1,25 @@
+package com.kevinguanchedarias.owgejava.configurations.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the methods (or all the methods of the class) whose reads can go to the read replica, as they tolerate a bit
+ * of staleness
+ * <br>
+ * Only applies when there is no transaction, or it's read only, see {@link ReadReplicaDataSource}
+ * <br>
+ * <b>NOTICE:</b> In cached methods the stale result remains until the next eviction, only use it there if that's
+ * acceptable
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadReplica {
+}
@@ -0,0 +1,128 @@
+package com.kevinguanchedarias.owgejava.configurations.datasource;
+
+import com.kevinguanchedarias.kevinsuite.commons.rest.security.TokenUser;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends the reads of the {@link ReadReplica} methods to the replica, when there is no transaction or it's read only,
+ * all the other work goes to the primary
+ * <br>
+ * The read only transactions without the marker stay in the primary, as Spring Data marks all the repository reads as
+ * read only, and they must see the writes done just before
+ * <br>
+ * When a write transaction of an user commits, the user doesn't use the replica until the allowed lag passes, so the
+ * user sees its own changes, whatever the thread handling the next request. The work without a logged in user
+ * (as the missions) shares one key, so the events emitted after a change are built with it. While the
+ * {@link ReadReplicaLagMonitor} says the replica is behind, the primary is used
+ * <br>
+ * The connection is taken when the first statement runs, so the transaction is already known
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+public class ReadReplicaDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+    private final Router router;
+
+    public ReadReplicaDataSource(DataSource primary, DataSource replica, ReadReplicaLagMonitor lagMonitor, long stickyMillis) {
+        this(new Router(primary, replica, lagMonitor, stickyMillis));
+    }
+
+    private ReadReplicaDataSource(Router router) {
+        super(router);
+        this.router = router;
+    }
+
+    @Override
+    public void close() throws Exception {
+        router.lagMonitor.close();
+        if (router.replica instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        if (router.primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static class Router extends AbstractDataSource {
+        private static final Object NO_USER_KEY = new Object();
+
+        private final DataSource primary;
+        private final DataSource replica;
+        private final ReadReplicaLagMonitor lagMonitor;
+        private final long stickyMillis;
+        private final Map<Object, Long> lastWriteByUser = new ConcurrentHashMap<>();
+        private final AtomicLong lastPurge = new AtomicLong();
+
+        Router(DataSource primary, DataSource replica, ReadReplicaLagMonitor lagMonitor, long stickyMillis) {
+            this.primary = primary;
+            this.replica = replica;
+            this.lagMonitor = lagMonitor;
+            this.stickyMillis = stickyMillis;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (shouldUseReplica()) {
+                try {
+                    return replica.getConnection();
+                } catch (SQLException e) {
+                    lagMonitor.markUnavailable(e);
+                }
+            } else if (TransactionSynchronizationManager.isSynchronizationActive()
+                    && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                var userKey = findUserKey();
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        markWritten(userKey);
+                    }
+                });
+            }
+            return primary.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+
+        private boolean shouldUseReplica() {
+            if (!ReadReplicaInterceptor.isActive()
+                    || (TransactionSynchronizationManager.isActualTransactionActive()
+                    && !TransactionSynchronizationManager.isCurrentTransactionReadOnly())) {
+                return false;
+            }
+            var lastWriteMillis = lastWriteByUser.get(findUserKey());
+            return (lastWriteMillis == null || System.currentTimeMillis() - lastWriteMillis > stickyMillis)
+                    && lagMonitor.isReplicaUsable();
+        }
+
+        private void markWritten(Object userKey) {
+            var now = System.currentTimeMillis();
+            lastWriteByUser.put(userKey, now);
+            var previousPurge = lastPurge.get();
+            if (now - previousPurge > stickyMillis && lastPurge.compareAndSet(previousPurge, now)) {
+                lastWriteByUser.values().removeIf(lastWriteMillis -> now - lastWriteMillis > stickyMillis);
+            }
+        }
+
+        private Object findUserKey() {
+            var authentication = SecurityContextHolder.getContext().getAuthentication();
+            return authentication != null && authentication.getDetails() instanceof TokenUser tokenUser
+                    && tokenUser.getId() != null
+                    ? tokenUser.getId()
+                    : NO_USER_KEY;
+        }
+    }
+}
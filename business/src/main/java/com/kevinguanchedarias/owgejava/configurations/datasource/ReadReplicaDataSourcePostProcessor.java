@@ -0,0 +1,74 @@
+package com.kevinguanchedarias.owgejava.configurations.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * When <i>OWGE_DB_REPLICA_URL</i> is defined, wraps the application data source in a {@link ReadReplicaDataSource}
+ * <br>
+ * The replica url has the same format than <i>OWGE_DB_URL</i>, and the connection parameters of the primary are used,
+ * by default with the same credentials
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Component
+public class ReadReplicaDataSourcePostProcessor implements BeanPostProcessor {
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    private final String replicaUrl;
+    private final String replicaUser;
+    private final String replicaPassword;
+    private final int poolSize;
+    private final long maxLagSeconds;
+    private final long lagCheckMillis;
+
+    public ReadReplicaDataSourcePostProcessor(
+            @Value("${OWGE_DB_REPLICA_URL:}") String replicaUrl,
+            @Value("${OWGE_DB_REPLICA_USER:${OWGE_DB_USER:}}") String replicaUser,
+            @Value("${OWGE_DB_REPLICA_PASS:${OWGE_DB_PASS:}}") String replicaPassword,
+            @Value("${OWGE_DB_REPLICA_POOL_SIZE:50}") int poolSize,
+            @Value("${OWGE_DB_REPLICA_MAX_LAG_SECONDS:1}") long maxLagSeconds,
+            @Value("${OWGE_DB_REPLICA_LAG_CHECK_MILLIS:1000}") long lagCheckMillis
+    ) {
+        this.replicaUrl = replicaUrl;
+        this.replicaUser = replicaUser;
+        this.replicaPassword = replicaPassword;
+        this.poolSize = poolSize;
+        this.maxLagSeconds = maxLagSeconds;
+        this.lagCheckMillis = lagCheckMillis;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource primary && !(bean instanceof ReadReplicaDataSource)
+                && DATA_SOURCE_BEAN_NAME.equals(beanName) && StringUtils.isNotBlank(replicaUrl)) {
+            var replica = createReplica(primary);
+            var lagMonitor = new ReadReplicaLagMonitor(replica, maxLagSeconds);
+            lagMonitor.start(lagCheckMillis);
+            return new ReadReplicaDataSource(primary, replica, lagMonitor, maxLagSeconds * 1000 + lagCheckMillis);
+        }
+        return bean;
+    }
+
+    private HikariDataSource createReplica(DataSource primary) {
+        var replica = new HikariDataSource();
+        var parameters = "";
+        if (primary instanceof HikariDataSource primaryHikari && primaryHikari.getJdbcUrl() != null
+                && primaryHikari.getJdbcUrl().contains("?")) {
+            parameters = primaryHikari.getJdbcUrl().substring(primaryHikari.getJdbcUrl().indexOf('?'));
+        }
+        replica.setJdbcUrl("jdbc:mysql://" + replicaUrl + parameters);
+        replica.setUsername(replicaUser);
+        replica.setPassword(replicaPassword);
+        replica.setMaximumPoolSize(poolSize);
+        replica.setReadOnly(true);
+        replica.setPoolName("OWGE_REPLICA");
+        return replica;
+    }
+}
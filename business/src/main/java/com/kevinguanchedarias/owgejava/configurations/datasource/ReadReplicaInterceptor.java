@@ -0,0 +1,33 @@
+package com.kevinguanchedarias.owgejava.configurations.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Tracks, by thread, if a {@link ReadReplica} method is running
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+public class ReadReplicaInterceptor implements MethodInterceptor {
+    private static final ThreadLocal<Integer> DEPTH = ThreadLocal.withInitial(() -> 0);
+
+    public static boolean isActive() {
+        return DEPTH.get() > 0;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        DEPTH.set(DEPTH.get() + 1);
+        try {
+            return invocation.proceed();
+        } finally {
+            var depth = DEPTH.get() - 1;
+            if (depth == 0) {
+                DEPTH.remove();
+            } else {
+                DEPTH.set(depth);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.kevinguanchedarias.owgejava.configurations.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks periodically how far the replica is behind the primary, the replica is not used while the lag is unknown or
+ * greater than the allowed one, or when it fails to give a connection
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Slf4j
+public class ReadReplicaLagMonitor implements AutoCloseable {
+    private static final String LAG_QUERY = "SHOW SLAVE STATUS";
+    private static final String LAG_COLUMN = "Seconds_Behind_Master";
+
+    private final DataSource replica;
+    private final long maxLagSeconds;
+    private volatile boolean usable;
+    private ScheduledExecutorService scheduler;
+
+    public ReadReplicaLagMonitor(DataSource replica, long maxLagSeconds) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public void start(long checkIntervalMillis) {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "OWGE_REPLICA_LAG");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    public void check() {
+        try (var connection = replica.getConnection();
+             var statement = connection.createStatement();
+             var resultSet = statement.executeQuery(LAG_QUERY)) {
+            Long lag = null;
+            if (resultSet.next()) {
+                lag = resultSet.getLong(LAG_COLUMN);
+                if (resultSet.wasNull()) {
+                    lag = null;
+                }
+            }
+            var wasUsable = usable;
+            usable = lag != null && lag <= maxLagSeconds;
+            if (wasUsable != usable) {
+                log.warn("Read replica is {}, lag: {} seconds", usable ? "usable again" : "not usable", lag);
+            }
+        } catch (SQLException | RuntimeException e) {
+            markUnavailable(e);
+        }
+    }
+
+    /**
+     * Stops using the replica until the next successful check
+     */
+    public void markUnavailable(Exception cause) {
+        if (usable) {
+            log.warn("Read replica is not usable", cause);
+        }
+        usable = false;
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
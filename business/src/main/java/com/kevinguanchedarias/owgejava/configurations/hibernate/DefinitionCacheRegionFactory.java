@@ -0,0 +1,59 @@
+package com.kevinguanchedarias.owgejava.configurations.hibernate;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.Map;
+
+/**
+ * Hibernate second level cache, kept in the JVM heap, for the game definitions (units, upgrades, factions...) which
+ * are admin edited and almost never change
+ * <br>
+ * Regions don't expire nor have size limit, so only entities with few rows should be cacheable, the entries are
+ * updated by Hibernate when the entities are saved, changes done with plain SQL must evict them (see
+ * {@link com.kevinguanchedarias.owgejava.business.cache.DefinitionCacheService})
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+public class DefinitionCacheRegionFactory extends RegionFactoryTemplate {
+    private static final long serialVersionUID = -2317045284815128706L;
+
+    @Override
+    public AccessType getDefaultAccessType() {
+        return AccessType.READ_WRITE;
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, @SuppressWarnings("rawtypes") Map configValues) {
+        // Nothing to start, the storage is a map
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        // Nothing to stop, the regions release their maps
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(
+            DomainDataRegionConfig regionConfig, DomainDataRegionBuildingContext buildingContext
+    ) {
+        return new DefinitionCacheStorageAccess();
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return new DefinitionCacheStorageAccess();
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return new DefinitionCacheStorageAccess();
+    }
+}
@@ -0,0 +1,73 @@
+package com.kevinguanchedarias.owgejava.configurations.hibernate;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Storage of a region of the {@link DefinitionCacheRegionFactory}, counts the lookups that found and didn't find
+ * the key
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+public class DefinitionCacheStorageAccess implements DomainDataStorageAccess {
+    private final Map<Object, Object> data = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Override
+    public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        var value = data.get(key);
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    @Override
+    public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        if (value == null) {
+            data.remove(key);
+        } else {
+            data.put(key, value);
+        }
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        return data.containsKey(key);
+    }
+
+    @Override
+    public void evictData() {
+        data.clear();
+    }
+
+    @Override
+    public void evictData(Object key) {
+        data.remove(key);
+    }
+
+    @Override
+    public void release() {
+        data.clear();
+    }
+
+    public int getSize() {
+        return data.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+}
@@ -1,6 +1,8 @@
 package com.kevinguanchedarias.owgejava.entity;
 
+import com.kevinguanchedarias.owgejava.entity.listener.GalaxyListener;
 import lombok.*;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.CascadeType;
 
@@ -10,11 +12,14 @@ import java.util.List;
 
 @Entity
 @Table(name = "galaxies")
+@EntityListeners(GalaxyListener.class)
 @Data
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
+@Cacheable
+@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Galaxy implements EntityWithId<Integer> {
     @Serial
     private static final long serialVersionUID = -230625496064517670L;
@@ -104,6 +104,15 @@ public class Mission implements EntityWithCache<Long>, EntityWithTaggableCacheBy
     @Column(nullable = false)
     private Boolean invisible = false;
 
+    /**
+     * Since when the units of the mission are involved in the attacks to the target planet, only defined for conquest
+     * missions (see #316)
+     *
+     * @since 0.11.4
+     */
+    @Column(name = "attack_eligible_from")
+    private LocalDateTime attackEligibleFrom;
+
     @Override
     public String getCacheTag() {
         return MISSION_CACHE_TAG;
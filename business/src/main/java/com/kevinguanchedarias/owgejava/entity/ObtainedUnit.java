@@ -2,6 +2,7 @@ package com.kevinguanchedarias.owgejava.entity;
 
 import com.kevinguanchedarias.owgejava.entity.cache.EntityWithTaggableCacheByUser;
 import com.kevinguanchedarias.owgejava.entity.listener.EntityWithByUserCacheTagListener;
+import com.kevinguanchedarias.owgejava.entity.listener.ObtainedUnitListener;
 import lombok.*;
 
 import javax.persistence.*;
@@ -15,7 +16,10 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
-@EntityListeners(EntityWithByUserCacheTagListener.class)
+@EntityListeners({
+        EntityWithByUserCacheTagListener.class,
+        ObtainedUnitListener.class
+})
 public class ObtainedUnit implements EntityWithTaggableCacheByUser<Long> {
     public static final String OBTAINED_UNIT_CACHE_TAG_BY_USER = "obtained_unit_by_user";
 
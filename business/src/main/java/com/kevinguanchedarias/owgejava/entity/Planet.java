@@ -1,5 +1,6 @@
 package com.kevinguanchedarias.owgejava.entity;
 
+import com.kevinguanchedarias.owgejava.entity.listener.PlanetListener;
 import lombok.*;
 
 import javax.persistence.*;
@@ -7,6 +8,7 @@ import java.io.Serial;
 
 @Entity
 @Table(name = "planets")
+@EntityListeners(PlanetListener.class)
 @Data
 @ToString
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
@@ -7,6 +7,7 @@ import com.kevinguanchedarias.owgejava.entity.listener.EntityWithTaggableCacheLi
 import com.kevinguanchedarias.owgejava.enumerations.ObjectEnum;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.io.Serial;
@@ -30,6 +31,8 @@ import java.util.List;
 @EntityListeners({
         EntityWithRelationListener.class, EntityWithRequirementGroupsListener.class, EntityWithTaggableCacheListener.class
 })
+@Cacheable
+@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class SpeedImpactGroup extends EntityWithMissionLimitation<Integer> implements EntityWithRequirementGroups, EntityWithTaggableCache<Integer> {
     public static final String SPEED_IMPACT_GROUP_CACHE_TAG = "speed_impact_group";
 
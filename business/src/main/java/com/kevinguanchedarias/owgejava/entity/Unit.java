@@ -4,6 +4,7 @@ import com.kevinguanchedarias.owgejava.entity.cache.EntityWithTaggableCache;
 import com.kevinguanchedarias.owgejava.entity.listener.EntityWithTaggableCacheListener;
 import com.kevinguanchedarias.owgejava.entity.listener.UnitListener;
 import lombok.*;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.CascadeType;
 import org.hibernate.annotations.Fetch;
@@ -25,6 +26,8 @@ import java.util.List;
 @Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
+@Cacheable
+@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Unit extends CommonEntityWithImageStore<Integer> implements EntityWithImprovements<Integer>, EntityWithTaggableCache<Integer> {
     public static final String UNIT_CACHE_TAG = "unit";
 
@@ -35,7 +35,7 @@ public class WebsocketEventsInformation implements Serializable {
     private EventNameUserId eventNameUserId;
 
     @Column(nullable = false)
-    private Instant lastSent = dateWithoutMs();
+    private Instant lastSent = dateWithoutMicros();
 
     /**
      * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
@@ -47,7 +47,7 @@ public class WebsocketEventsInformation implements Serializable {
         eventNameUserId.setUserId(userId);
     }
 
-    private Instant dateWithoutMs() {
-        return Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    private Instant dateWithoutMicros() {
+        return Instant.now().truncatedTo(ChronoUnit.MILLIS);
     }
 }
@@ -1,5 +1,7 @@
 package com.kevinguanchedarias.owgejava.entity.listener;
 
+import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitReadModel;
+import com.kevinguanchedarias.owgejava.business.unit.PlanetInvolvedUnitsIndex;
 import com.kevinguanchedarias.owgejava.entity.cache.EntityWithTaggableCache;
 import com.kevinguanchedarias.taggablecache.manager.TaggableCacheManager;
 import lombok.AllArgsConstructor;
@@ -15,6 +17,8 @@ import javax.persistence.PostUpdate;
 @AllArgsConstructor
 public class EntityWithTaggableCacheListener {
     private final TaggableCacheManager taggableCacheManager;
+    private final ObtainedUnitReadModel obtainedUnitReadModel;
+    private final PlanetInvolvedUnitsIndex planetInvolvedUnitsIndex;
 
     @PostUpdate
     public void postUpdate(EntityWithTaggableCache<Object> entity) {
@@ -24,6 +28,8 @@ public class EntityWithTaggableCacheListener {
     @PostPersist
     public void postPersist(EntityWithTaggableCache<Object> entity) {
         taggableCacheManager.evictByCacheTag(entity.getCacheTag());
+        obtainedUnitReadModel.onDefinitionChange(entity.getCacheTag());
+        planetInvolvedUnitsIndex.onDefinitionChange(entity.getCacheTag());
     }
 
     @PostRemove
@@ -35,5 +41,7 @@ public class EntityWithTaggableCacheListener {
         var cacheTag = entity.getCacheTag();
         taggableCacheManager.evictByCacheTag(cacheTag);
         taggableCacheManager.evictByCacheTag(cacheTag, entity.getId());
+        obtainedUnitReadModel.onDefinitionChange(cacheTag);
+        planetInvolvedUnitsIndex.onDefinitionChange(cacheTag);
     }
 }
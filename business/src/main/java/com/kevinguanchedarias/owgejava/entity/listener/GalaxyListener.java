@@ -0,0 +1,39 @@
+package com.kevinguanchedarias.owgejava.entity.listener;
+
+import com.kevinguanchedarias.owgejava.business.cache.CacheInvalidationService;
+import com.kevinguanchedarias.owgejava.business.planet.PlanetCoordinatesIndex;
+import com.kevinguanchedarias.owgejava.entity.Galaxy;
+import com.kevinguanchedarias.owgejava.enumerations.CacheInvalidationType;
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheInvalidation;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * Drops the {@link PlanetCoordinatesIndex} of this node and of the other nodes when a galaxy changes, as its planets
+ * may have been generated again
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Component
+@Lazy
+public class GalaxyListener {
+    private final PlanetCoordinatesIndex planetCoordinatesIndex;
+    private final CacheInvalidationService cacheInvalidationService;
+
+    @Lazy
+    public GalaxyListener(PlanetCoordinatesIndex planetCoordinatesIndex, CacheInvalidationService cacheInvalidationService) {
+        this.planetCoordinatesIndex = planetCoordinatesIndex;
+        this.cacheInvalidationService = cacheInvalidationService;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChangeInvalidateCoordinates(Galaxy galaxy) {
+        planetCoordinatesIndex.invalidateAll();
+        cacheInvalidationService.publish(CacheInvalidation.builder().type(CacheInvalidationType.PLANET_COORDINATES).build());
+    }
+}
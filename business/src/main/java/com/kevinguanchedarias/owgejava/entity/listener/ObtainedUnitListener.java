@@ -0,0 +1,35 @@
+package com.kevinguanchedarias.owgejava.entity.listener;
+
+import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitReadModel;
+import com.kevinguanchedarias.owgejava.business.unit.PlanetInvolvedUnitsIndex;
+import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * Marks the saved or removed rows as changed in the {@link ObtainedUnitReadModel} and the
+ * {@link PlanetInvolvedUnitsIndex}
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Component
+@Lazy
+@AllArgsConstructor
+public class ObtainedUnitListener {
+    private final ObtainedUnitReadModel obtainedUnitReadModel;
+    private final PlanetInvolvedUnitsIndex planetInvolvedUnitsIndex;
+
+    @PostUpdate
+    @PostPersist
+    @PostRemove
+    public void onChangeMarkInReadModel(ObtainedUnit obtainedUnit) {
+        obtainedUnitReadModel.markChanged(obtainedUnit);
+        planetInvolvedUnitsIndex.markChanged(obtainedUnit);
+    }
+}
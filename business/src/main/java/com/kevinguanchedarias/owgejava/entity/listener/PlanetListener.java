@@ -0,0 +1,39 @@
+package com.kevinguanchedarias.owgejava.entity.listener;
+
+import com.kevinguanchedarias.owgejava.business.cache.CacheInvalidationService;
+import com.kevinguanchedarias.owgejava.business.planet.PlanetCoordinatesIndex;
+import com.kevinguanchedarias.owgejava.entity.Planet;
+import com.kevinguanchedarias.owgejava.enumerations.CacheInvalidationType;
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheInvalidation;
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheKey;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostRemove;
+
+/**
+ * Evicts the removed planets from the {@link PlanetCoordinatesIndex}, of this node and of the other nodes
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Component
+@Lazy
+public class PlanetListener {
+    private final PlanetCoordinatesIndex planetCoordinatesIndex;
+    private final CacheInvalidationService cacheInvalidationService;
+
+    @Lazy
+    public PlanetListener(PlanetCoordinatesIndex planetCoordinatesIndex, CacheInvalidationService cacheInvalidationService) {
+        this.planetCoordinatesIndex = planetCoordinatesIndex;
+        this.cacheInvalidationService = cacheInvalidationService;
+    }
+
+    @PostRemove
+    public void onRemoveEvictCoordinates(Planet planet) {
+        planetCoordinatesIndex.evict(planet.getId());
+        cacheInvalidationService.publish(CacheInvalidation.builder()
+                .type(CacheInvalidationType.PLANET_COORDINATES).key(CacheKey.ofLong(planet.getId())).build()
+        );
+    }
+}
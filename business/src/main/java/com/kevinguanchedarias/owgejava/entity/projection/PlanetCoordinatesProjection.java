@@ -0,0 +1,13 @@
+package com.kevinguanchedarias.owgejava.entity.projection;
+
+public interface PlanetCoordinatesProjection {
+    Long getId();
+
+    Integer getGalaxyId();
+
+    Long getSector();
+
+    Long getQuadrant();
+
+    Integer getPlanetNumber();
+}
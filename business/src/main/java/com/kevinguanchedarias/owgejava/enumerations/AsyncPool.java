@@ -0,0 +1,34 @@
+package com.kevinguanchedarias.owgejava.enumerations;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The pools of the background tasks, see {@link com.kevinguanchedarias.owgejava.business.async.AsyncExecutorService}
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@AllArgsConstructor
+@Getter
+public enum AsyncPool {
+    /**
+     * Websocket emits, when full the task runs in the invoker thread, as losing a message leaves the frontend stale
+     */
+    EMIT(Thread.NORM_PRIORITY - 1, true),
+
+    /**
+     * Audit checks (suspicions, tor detection), when full the task is discarded, as it's best effort
+     */
+    AUDIT(Thread.MIN_PRIORITY, false),
+
+    /**
+     * Handlers of the due scheduled tasks (time specials, temporal units), when full the task runs in the invoker
+     * thread, as the task is no longer in the job store, except the delayed ones (the coalesced flushes), that wait
+     * again, so they don't block the delayed scheduler thread
+     */
+    SCHEDULED_TASK(Thread.NORM_PRIORITY, true);
+
+    private final int threadPriority;
+    private final boolean callerRunsWhenFull;
+}
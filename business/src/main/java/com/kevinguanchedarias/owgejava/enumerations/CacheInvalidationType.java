@@ -0,0 +1,60 @@
+package com.kevinguanchedarias.owgejava.enumerations;
+
+/**
+ * The evictions sent to the other nodes, see {@link com.kevinguanchedarias.owgejava.business.cache.CacheInvalidationService}
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+public enum CacheInvalidationType {
+    /**
+     * Taggable cache entries having the tag
+     */
+    TAG,
+
+    /**
+     * Taggable cache entries having the tag with the key, for example the cache of an user
+     */
+    TAG_KEY,
+
+    /**
+     * All the taggable cache entries
+     */
+    TAGGABLE_CLEAR,
+
+    /**
+     * A key of a Spring cache
+     */
+    CACHE_KEY,
+
+    /**
+     * All the entries of a Spring cache
+     */
+    CACHE_CLEAR,
+
+    /**
+     * The Hibernate second level cache entries of the entity (the name), and the cached collections
+     */
+    DEFINITION,
+
+    /**
+     * The owned planets of the user (the key), see {@link com.kevinguanchedarias.owgejava.business.planet.PlanetOwnershipCacheService}
+     */
+    PLANET_OWNERSHIP,
+
+    /**
+     * The coordinates of the planet (the key), or of all the planets when there is no key, see
+     * {@link com.kevinguanchedarias.owgejava.business.planet.PlanetCoordinatesIndex}
+     */
+    PLANET_COORDINATES,
+
+    /**
+     * The configuration (the name) changed, so the parsed copies of it are dropped
+     */
+    CONFIGURATION,
+
+    /**
+     * All the entries of all the caches, sent instead of the evictions when there are too many pending
+     */
+    ALL
+}
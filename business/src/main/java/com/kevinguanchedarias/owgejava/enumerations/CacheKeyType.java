@@ -0,0 +1,33 @@
+package com.kevinguanchedarias.owgejava.enumerations;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * The types of the cache keys that can be sent to the other nodes, as the caches compare the keys by type, and a
+ * JSON number comes back as the smallest type that can hold it
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@AllArgsConstructor
+@Getter
+public enum CacheKeyType {
+    STRING(String.class, value -> value),
+    INTEGER(Integer.class, Integer::valueOf),
+    LONG(Long.class, Long::valueOf),
+    SHORT(Short.class, Short::valueOf),
+    DOUBLE(Double.class, Double::valueOf),
+    BOOLEAN(Boolean.class, Boolean::valueOf);
+
+    private final Class<?> keyClass;
+    private final Function<String, Object> parser;
+
+    public static Optional<CacheKeyType> findByKeyClass(Class<?> keyClass) {
+        return Arrays.stream(values()).filter(type -> type.keyClass.equals(keyClass)).findFirst();
+    }
+}
@@ -0,0 +1,31 @@
+package com.kevinguanchedarias.owgejava.enumerations;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * The tables of an universe dump, in the order they are exported and imported
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@AllArgsConstructor
+@Getter
+public enum UniverseDumpTable {
+    CONFIGURATION("configuration"),
+    GALAXIES("galaxies"),
+    USER_STORAGE("user_storage"),
+    PLANETS("planets"),
+    MISSIONS("missions"),
+    MISSION_INFORMATION("mission_information"),
+    OBTAINED_UNITS("obtained_units");
+
+    private final String tableName;
+
+    public static Optional<UniverseDumpTable> findByTableName(String tableName) {
+        return Arrays.stream(values()).filter(table -> table.tableName.equals(tableName)).findFirst();
+    }
+}
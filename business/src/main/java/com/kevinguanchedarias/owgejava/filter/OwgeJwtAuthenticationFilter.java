@@ -4,6 +4,10 @@ import org.apache.log4j.Logger;
 
 import com.kevinguanchedarias.kevinsuite.commons.rest.security.JwtAuthenticationFilter;
 import com.kevinguanchedarias.kevinsuite.commons.rest.security.TokenUser;
+import com.kevinguanchedarias.owgejava.pojo.VerifiedTokenCacheStats;
+import com.kevinguanchedarias.owgejava.security.VerifiedTokenCache;
+
+import lombok.SneakyThrows;
 
 /**
  * This class exposes the token validation logic
@@ -15,6 +19,11 @@ import com.kevinguanchedarias.kevinsuite.commons.rest.security.TokenUser;
 public class OwgeJwtAuthenticationFilter extends JwtAuthenticationFilter {
 	private static final Logger LOG = Logger.getLogger(OwgeJwtAuthenticationFilter.class);
 
+	/**
+	 * Each filter has its own cache, as each one verifies using its own token config
+	 */
+	private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache();
+
 	public OwgeJwtAuthenticationFilter() {
 		super();
 	}
@@ -39,4 +48,41 @@ public class OwgeJwtAuthenticationFilter extends JwtAuthenticationFilter {
 			return null;
 		}
 	}
+
+	/**
+	 * Finds the user for given token, only if it has been already verified by this filter
+	 *
+	 * @since 0.11.4
+	 * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+	 */
+	public TokenUser findCachedUserFromToken(String jwtToken) {
+		return verifiedTokenCache.find(jwtToken);
+	}
+
+	/**
+	 * @since 0.11.4
+	 * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+	 */
+	public VerifiedTokenCacheStats findTokenCacheStats() {
+		return verifiedTokenCache.findStats();
+	}
+
+	/**
+	 * Skips the signature verification and claims parsing when the token has been already verified, and has not expired
+	 *
+	 * @since 0.11.4
+	 * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+	 */
+	@Override
+	@SneakyThrows
+	protected TokenUser decodeTokenIfPossible(String jwtToken) {
+		var cached = verifiedTokenCache.find(jwtToken);
+		if (cached != null) {
+			return cached;
+		}
+		verifiedTokenCache.recordVerification();
+		var tokenUser = super.decodeTokenIfPossible(jwtToken);
+		verifiedTokenCache.put(jwtToken, tokenUser);
+		return tokenUser;
+	}
 }
@@ -5,6 +5,8 @@ import com.kevinguanchedarias.owgejava.business.MissionBo;
 import com.kevinguanchedarias.owgejava.business.UnitMissionBo;
 import com.kevinguanchedarias.owgejava.business.mission.MissionBaseService;
 import com.kevinguanchedarias.owgejava.business.mission.MissionEventEmitterBo;
+import com.kevinguanchedarias.owgejava.business.mission.MissionTelemetryService;
+import com.kevinguanchedarias.owgejava.entity.Mission;
 import com.kevinguanchedarias.owgejava.enumerations.MissionType;
 import com.kevinguanchedarias.owgejava.exception.ProgrammingException;
 import com.kevinguanchedarias.owgejava.repository.MissionRepository;
@@ -16,6 +18,8 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+
 @Component
 @Slf4j
 @RequiredArgsConstructor
@@ -26,39 +30,55 @@ public class DbSchedulerRealizationJob {
     private final MissionBaseService missionBaseService;
     private final MissionEventEmitterBo missionEventEmitterBo;
     private final MysqlInformationRepository mysqlInformationRepository;
+    private final MissionTelemetryService missionTelemetryService;
 
     @Autowired
     @Lazy
     private MissionBo missionBo;
 
-    public void execute(Long missionId) {
+    /**
+     * @param scheduledFireTime The time the mission was scheduled to run, used to measure how late the scheduler is
+     */
+    public void execute(Long missionId, Instant scheduledFireTime) {
         Thread.currentThread().setName("OWGE_BACKGROUND_" + missionId);
         var mission = missionRepository.findById(missionId).orElse(null);
         if (mission != null && !mission.getResolved()) {
-            var missionType = MissionType.valueOf(mission.getType().getCode());
-            try {
-                log.debug("Executing mission id {} of type {}", missionId, MissionType.valueOf(mission.getType().getCode()));
-                if (missionType == MissionType.BUILD_UNIT || missionType == MissionType.LEVEL_UP) {
-                    missionBo.runMission(missionId, missionType);
-                } else {
-                    unitMissionBo.runUnitMission(missionId, missionType);
-                }
-            } catch (Exception e) {
-                log.error("Unexpected fatal exception when executing mission {}", missionId, e);
-                missionBaseService.retryMissionIfPossible(missionId, missionType);
-                var user = mission.getUser();
-                if (missionType.isUnitMission()) {
-                    missionEventEmitterBo.emitUnitMissions(user.getId());
-                    missionEventEmitterBo.emitEnemyMissionsChange(mission);
-                } else if (missionType == MissionType.LEVEL_UP) {
-                    missionBo.emitRunningUpgrade(user);
-                } else if (missionType == MissionType.BUILD_UNIT) {
-                    missionEventEmitterBo.emitUnitBuildChange(user.getId());
-                } else {
-                    throw new ProgrammingException("It's impossible!!!!");
-                }
-                maybeLogPessimistic(e);
+            missionTelemetryService.inExecutionSpan(mission, () -> {
+                missionTelemetryService.recordFireLateness(mission, scheduledFireTime);
+                doExecute(mission);
+            });
+        }
+    }
+
+    private void doExecute(Mission mission) {
+        var missionId = mission.getId();
+        var missionType = MissionType.valueOf(mission.getType().getCode());
+        try {
+            log.debug("Executing mission id {} of type {}", missionId, missionType);
+            if (missionType == MissionType.BUILD_UNIT || missionType == MissionType.LEVEL_UP) {
+                missionBo.runMission(missionId, missionType);
+            } else {
+                unitMissionBo.runUnitMission(missionId, missionType);
             }
+        } catch (Exception e) {
+            log.error("Unexpected fatal exception when executing mission {}", missionId, e);
+            missionBaseService.retryMissionIfPossible(missionId, missionType);
+            missionTelemetryService.inSpan(MissionTelemetryService.EMIT_SPAN, () -> emitFailedMissionChange(mission, missionType));
+            maybeLogPessimistic(e);
+        }
+    }
+
+    private void emitFailedMissionChange(Mission mission, MissionType missionType) {
+        var user = mission.getUser();
+        if (missionType.isUnitMission()) {
+            missionEventEmitterBo.emitUnitMissions(user.getId());
+            missionEventEmitterBo.emitEnemyMissionsChange(mission);
+        } else if (missionType == MissionType.LEVEL_UP) {
+            missionBo.emitRunningUpgrade(user);
+        } else if (missionType == MissionType.BUILD_UNIT) {
+            missionEventEmitterBo.emitUnitBuildChange(user.getId());
+        } else {
+            throw new ProgrammingException("It's impossible!!!!");
         }
     }
 
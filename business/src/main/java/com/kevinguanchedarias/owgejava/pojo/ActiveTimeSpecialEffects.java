@@ -0,0 +1,110 @@
+package com.kevinguanchedarias.owgejava.pojo;
+
+import com.kevinguanchedarias.owgejava.entity.Rule;
+import com.kevinguanchedarias.owgejava.entity.Unit;
+import com.kevinguanchedarias.owgejava.entity.UnitType;
+import com.kevinguanchedarias.owgejava.enumerations.ObjectEnum;
+import lombok.Getter;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Represents the effects of all the active time specials of an user, so per-unit questions are answered without
+ * querying the active time specials, or their rules, again
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+public class ActiveTimeSpecialEffects {
+    private static final String UNIT_DESTINATION = ObjectEnum.UNIT.name();
+    private static final String UNIT_TYPE_DESTINATION = "UNIT_TYPE";
+
+    /**
+     * Rules having as origin an active time special, in the order of the active time specials
+     */
+    @Getter
+    private final List<Rule> rules;
+
+    private final Map<String, List<Rule>> rulesByType;
+    private final Map<String, Set<Long>> unitIdsByType;
+    private final Map<String, Set<Long>> unitTypeIdsByType;
+
+    public ActiveTimeSpecialEffects(List<Rule> rules) {
+        this.rules = List.copyOf(rules);
+        rulesByType = rules.stream().collect(Collectors.groupingBy(Rule::getType, LinkedHashMap::new, Collectors.toList()));
+        unitIdsByType = indexDestinations(rules, UNIT_DESTINATION);
+        unitTypeIdsByType = indexDestinations(rules, UNIT_TYPE_DESTINATION);
+    }
+
+    /**
+     * @return True if any rule of the given type has as destination the unit, or any of its unit types (including parents)
+     */
+    public boolean hasRuleTargetingUnit(String ruleType, Unit unit) {
+        if (unitIdsByType.getOrDefault(ruleType, Set.of()).contains(unit.getId().longValue())) {
+            return true;
+        }
+        var unitTypeIds = unitTypeIdsByType.getOrDefault(ruleType, Set.of());
+        return !unitTypeIds.isEmpty() && findUnitTypeChain(unit).stream()
+                .anyMatch(unitType -> unitTypeIds.contains(unitType.getId().longValue()));
+    }
+
+    /**
+     * @return The rules of the given type, in the order of the active time specials
+     */
+    public List<Rule> findRules(String ruleType) {
+        return rulesByType.getOrDefault(ruleType, List.of());
+    }
+
+    /**
+     * Finds the rule targeting the unit, for each time special a rule targeting the unit wins over the ones targeting
+     * its unit type, and a rule targeting the unit type wins over the ones targeting its parents
+     */
+    public Optional<Rule> findRuleTargetingUnit(String ruleType, Unit unit) {
+        var rulesOfType = rulesByType.getOrDefault(ruleType, List.of());
+        if (rulesOfType.isEmpty()) {
+            return Optional.empty();
+        }
+        var unitTypeChain = findUnitTypeChain(unit);
+        return rulesOfType.stream()
+                .map(Rule::getOriginId)
+                .distinct()
+                .map(originId -> rulesOfType.stream().filter(rule -> originId.equals(rule.getOriginId())).toList())
+                .map(originRules -> findRuleTargetingUnit(originRules, unit, unitTypeChain))
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    private Optional<Rule> findRuleTargetingUnit(List<Rule> originRules, Unit unit, List<UnitType> unitTypeChain) {
+        return originRules.stream()
+                .filter(rule -> isDestination(rule, UNIT_DESTINATION, unit.getId().longValue()))
+                .findFirst()
+                .or(() -> unitTypeChain.stream()
+                        .flatMap(unitType -> originRules.stream()
+                                .filter(rule -> isDestination(rule, UNIT_TYPE_DESTINATION, unitType.getId().longValue()))
+                        )
+                        .findFirst()
+                );
+    }
+
+    private boolean isDestination(Rule rule, String destinationType, long destinationId) {
+        return destinationType.equals(rule.getDestinationType()) && rule.getDestinationId() != null
+                && rule.getDestinationId() == destinationId;
+    }
+
+    private List<UnitType> findUnitTypeChain(Unit unit) {
+        List<UnitType> retVal = new ArrayList<>();
+        var current = unit.getType();
+        while (current != null) {
+            retVal.add(current);
+            current = current.getParent();
+        }
+        return retVal;
+    }
+
+    private static Map<String, Set<Long>> indexDestinations(List<Rule> rules, String destinationType) {
+        return rules.stream()
+                .filter(rule -> destinationType.equals(rule.getDestinationType()) && rule.getDestinationId() != null)
+                .collect(Collectors.groupingBy(Rule::getType, Collectors.mapping(Rule::getDestinationId, Collectors.toSet())));
+    }
+}
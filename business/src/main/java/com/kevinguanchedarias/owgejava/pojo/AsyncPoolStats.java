@@ -0,0 +1,31 @@
+package com.kevinguanchedarias.owgejava.pojo;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Stats of a background tasks pool, for the delayed tasks scheduler the queue is the pending tasks, and the queue
+ * wait is how late they were handed to their pool
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Value
+@Builder
+public class AsyncPoolStats {
+    String name;
+    int threads;
+    int activeThreads;
+    int queueDepth;
+    int queueCapacity;
+    long submitted;
+    long completed;
+    long failed;
+    long rejected;
+    double queueWaitP50Millis;
+    double queueWaitP99Millis;
+    double queueWaitMaxMillis;
+    double runP50Millis;
+    double runP99Millis;
+    double runMaxMillis;
+}
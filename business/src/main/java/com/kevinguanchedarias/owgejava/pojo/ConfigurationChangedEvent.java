@@ -0,0 +1,14 @@
+package com.kevinguanchedarias.owgejava.pojo;
+
+import lombok.Value;
+
+/**
+ * Published when a configuration is saved or deleted, so the components that keep a parsed copy can rebuild it
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Value
+public class ConfigurationChangedEvent {
+    String name;
+}
@@ -0,0 +1,19 @@
+package com.kevinguanchedarias.owgejava.pojo;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Stats of a region of the definitions cache, the regions are named after the entity class or collection role
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Value
+@Builder
+public class DefinitionCacheRegionStats {
+    String region;
+    int entries;
+    long hits;
+    long misses;
+}
@@ -0,0 +1,24 @@
+package com.kevinguanchedarias.owgejava.pojo;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Latency of a business method, the percentiles are computed from the sampled calls only
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Value
+@Builder
+public class MethodMetrics {
+    String method;
+    long calls;
+    long errors;
+    long samples;
+    double meanMillis;
+    double p50Millis;
+    double p90Millis;
+    double p99Millis;
+    double maxMillis;
+}
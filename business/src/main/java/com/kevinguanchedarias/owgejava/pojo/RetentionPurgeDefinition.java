@@ -0,0 +1,33 @@
+package com.kevinguanchedarias.owgejava.pojo;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Describes how old rows of a table should be purged by the RetentionPurgeService
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Value
+@Builder
+public class RetentionPurgeDefinition {
+    String table;
+
+    @Builder.Default
+    String idColumn = "id";
+
+    /**
+     * SQL condition that selects the rows to purge, may use the <i>:limitDate</i> named param
+     */
+    String condition;
+
+    /**
+     * Statements to run (in order) before deleting each chunk, they receive the chunk ids as the <i>:ids</i> named param
+     */
+    @Singular
+    List<String> beforeDeleteStatements;
+}
@@ -0,0 +1,17 @@
+package com.kevinguanchedarias.owgejava.pojo;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Value
+@Builder
+public class VerifiedTokenCacheStats {
+    long hits;
+    long misses;
+    int size;
+    double hitRate;
+}
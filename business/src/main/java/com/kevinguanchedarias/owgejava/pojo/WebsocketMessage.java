@@ -2,6 +2,7 @@ package com.kevinguanchedarias.owgejava.pojo;
 
 import java.time.Instant;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.kevinguanchedarias.owgejava.entity.WebsocketEventsInformation;
 import com.kevinguanchedarias.owgejava.exception.ProgrammingException;
 
@@ -13,6 +14,9 @@ public class WebsocketMessage<T> {
 	private String status;
 	private Instant lastSent;
 
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private byte[] compressedValue;
+
 	public WebsocketMessage() {
 		this.status = "ok";
 	}
@@ -96,4 +100,17 @@ public class WebsocketMessage<T> {
 		this.lastSent = lastSent;
 	}
 
+	/**
+	 * @return The gzip of the JSON value, when the value is too big to send it as is
+	 * @since 0.11.4
+	 * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+	 */
+	public byte[] getCompressedValue() {
+		return compressedValue;
+	}
+
+	public void setCompressedValue(byte[] compressedValue) {
+		this.compressedValue = compressedValue;
+	}
+
 }
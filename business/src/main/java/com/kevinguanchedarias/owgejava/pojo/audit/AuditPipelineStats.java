@@ -0,0 +1,23 @@
+package com.kevinguanchedarias.owgejava.pojo.audit;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Stats of the audit pipeline, the dropped audits are the ones that didn't fit in the queue, the failed ones are the
+ * ones of the batches that couldn't be written
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Value
+@Builder
+public class AuditPipelineStats {
+    int queueDepth;
+    int queueCapacity;
+    long accepted;
+    long dropped;
+    long written;
+    long failed;
+    long batches;
+}
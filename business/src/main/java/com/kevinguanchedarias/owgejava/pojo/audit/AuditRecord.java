@@ -0,0 +1,33 @@
+package com.kevinguanchedarias.owgejava.pojo.audit;
+
+import com.kevinguanchedarias.owgejava.enumerations.AuditActionEnum;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * An audit captured by the thread doing the action, waiting to be written by the
+ * {@link com.kevinguanchedarias.owgejava.business.audit.AuditPipeline}
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Value
+@Builder
+public class AuditRecord {
+    AuditActionEnum action;
+    String actionDetail;
+    Integer userId;
+    Integer relatedUserId;
+    String userAgent;
+    String cookie;
+    String ipv4;
+    String ipv6;
+    LocalDateTime creationDate;
+
+    /**
+     * The ip of the request, to check if it's a Tor exit node once written, null if the audit has no request
+     */
+    String requestIp;
+}
@@ -0,0 +1,33 @@
+package com.kevinguanchedarias.owgejava.pojo.cache;
+
+import com.kevinguanchedarias.owgejava.enumerations.CacheInvalidationType;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * An eviction done in a node, that the other nodes have to do too
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Value
+@Builder
+@Jacksonized
+public class CacheInvalidation {
+    CacheInvalidationType type;
+
+    /**
+     * The cache tag, the name of the Spring cache, the entity name or the configuration name
+     */
+    String name;
+
+    CacheKey key;
+
+    /**
+     * @return The key, with the type it had in the sender node, null if none
+     */
+    public Object findKey() {
+        return key == null ? null : key.toKey();
+    }
+}
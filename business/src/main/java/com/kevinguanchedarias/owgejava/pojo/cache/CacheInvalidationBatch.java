@@ -0,0 +1,25 @@
+package com.kevinguanchedarias.owgejava.pojo.cache;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+
+/**
+ * The evictions done by a node since the previous batch, without repeated ones
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Value
+@Builder
+@Jacksonized
+public class CacheInvalidationBatch {
+    /**
+     * The node that did the evictions, it ignores its own batches
+     */
+    String originNodeId;
+
+    List<CacheInvalidation> invalidations;
+}
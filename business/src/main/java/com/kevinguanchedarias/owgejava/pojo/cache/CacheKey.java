@@ -0,0 +1,47 @@
+package com.kevinguanchedarias.owgejava.pojo.cache;
+
+import com.kevinguanchedarias.owgejava.enumerations.CacheKeyType;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.Optional;
+
+/**
+ * A cache key with its type, so the other nodes evict the same key they have, see {@link CacheKeyType}
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Value
+@Builder
+@Jacksonized
+public class CacheKey {
+    CacheKeyType type;
+    String value;
+
+    /**
+     * @return empty when the type of the key can't be sent, as the composite keys, the caller has to evict more
+     */
+    public static Optional<CacheKey> of(Object key) {
+        return key == null
+                ? Optional.empty()
+                : CacheKeyType.findByKeyClass(key.getClass())
+                .map(type -> CacheKey.builder().type(type).value(key.toString()).build());
+    }
+
+    public static CacheKey ofInteger(Integer key) {
+        return CacheKey.builder().type(CacheKeyType.INTEGER).value(key.toString()).build();
+    }
+
+    public static CacheKey ofLong(Long key) {
+        return CacheKey.builder().type(CacheKeyType.LONG).value(key.toString()).build();
+    }
+
+    /**
+     * @return The key, with the type it had in the sender node
+     */
+    public Object toKey() {
+        return type.getParser().apply(value);
+    }
+}
@@ -0,0 +1,21 @@
+package com.kevinguanchedarias.owgejava.pojo.lock;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Contention of a lock key inside the sliding window
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Value
+@Builder
+public class ContendedLockInformation {
+    String key;
+    long acquisitions;
+    long contendedAcquisitions;
+    long timeouts;
+    double totalWaitMillis;
+    double maxWaitMillis;
+}
@@ -0,0 +1,22 @@
+package com.kevinguanchedarias.owgejava.pojo.lock;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Snapshot of the lock telemetry
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Value
+@Builder
+public class LockContentionReport {
+    long windowSeconds;
+    List<LockPrefixMetrics> prefixes;
+    List<LockHolderInformation> holders;
+    List<LockWaiterInformation> waiters;
+    List<ContendedLockInformation> topContended;
+}
@@ -0,0 +1,19 @@
+package com.kevinguanchedarias.owgejava.pojo.lock;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A lock currently held, <i>depth</i> is greater than 1 when the holder has locked the key again
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Value
+@Builder
+public class LockHolderInformation {
+    String key;
+    String threadName;
+    int depth;
+    long heldMillis;
+}
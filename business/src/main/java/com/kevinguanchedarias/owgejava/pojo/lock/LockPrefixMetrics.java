@@ -0,0 +1,24 @@
+package com.kevinguanchedarias.owgejava.pojo.lock;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Wait and hold times of the locks sharing a key prefix (for example <i>planet_lock_</i>)
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Value
+@Builder
+public class LockPrefixMetrics {
+    String prefix;
+    long acquisitions;
+    long timeouts;
+    double waitP50Millis;
+    double waitP99Millis;
+    double waitMaxMillis;
+    double holdP50Millis;
+    double holdP99Millis;
+    double holdMaxMillis;
+}
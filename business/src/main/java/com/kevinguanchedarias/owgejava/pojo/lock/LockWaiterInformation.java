@@ -0,0 +1,20 @@
+package com.kevinguanchedarias.owgejava.pojo.lock;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * A thread waiting for locks
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Value
+@Builder
+public class LockWaiterInformation {
+    String threadName;
+    List<String> keys;
+    long waitingMillis;
+}
@@ -0,0 +1,60 @@
+package com.kevinguanchedarias.owgejava.pojo.mission;
+
+import com.kevinguanchedarias.owgejava.pojo.planet.PlanetCoordinates;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The speed configuration of a mission type (the <i>MISSION_SPEED_*</i> configuration), already parsed
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Value
+@Builder
+public class MissionSpeedProfile {
+    int divisor;
+    int sameQuadrantMultiplier;
+    int differentQuadrantMultiplier;
+    int differentSectorMultiplier;
+    int differentGalaxyMultiplier;
+    float planetMoveCost;
+    float quadrantMoveCost;
+    float sectorMoveCost;
+    float galaxyMoveCost;
+
+    /**
+     * @param missionTypeTime The base time of the mission type, the result is never lower
+     * @param speed           The speed of the slowest unit, with improvements
+     */
+    public double calculateTime(double missionTypeTime, double speed, PlanetCoordinates source, PlanetCoordinates target) {
+        int leftMultiplier = findLeftMultiplier(source, target);
+        float moveCost = calculateMoveCost(source, target);
+        double retVal = missionTypeTime + ((leftMultiplier * moveCost) * (100 - speed)) / divisor;
+        return Math.max(missionTypeTime, retVal);
+    }
+
+    /**
+     * Finds the speed left multiplier <b>also known as the "mission penalty"</b>
+     * which depends on if it's on different quadrant, sector or galaxy
+     */
+    public int findLeftMultiplier(PlanetCoordinates source, PlanetCoordinates target) {
+        if (source.getGalaxyId() != target.getGalaxyId()) {
+            return differentGalaxyMultiplier;
+        } else if (source.getSector() != target.getSector()) {
+            return differentSectorMultiplier;
+        } else if (source.getQuadrant() != target.getQuadrant()) {
+            return differentQuadrantMultiplier;
+        } else {
+            return sameQuadrantMultiplier;
+        }
+    }
+
+    public float calculateMoveCost(PlanetCoordinates source, PlanetCoordinates target) {
+        long positionInQuadrant = Math.abs(source.getPlanetNumber() - target.getPlanetNumber());
+        long quadrants = Math.abs(source.getQuadrant() - target.getQuadrant());
+        long sectors = Math.abs(source.getSector() - target.getSector());
+        return (positionInQuadrant * planetMoveCost) + (quadrants * quadrantMoveCost) + (sectors * sectorMoveCost)
+                + (source.getGalaxyId() != target.getGalaxyId() ? galaxyMoveCost : 0);
+    }
+}
@@ -0,0 +1,26 @@
+package com.kevinguanchedarias.owgejava.pojo.mission;
+
+import com.kevinguanchedarias.owgejava.enumerations.MissionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The required information to estimate the time of a mission to many target planets
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Data
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class MissionTimeEstimationRequest {
+    private MissionType missionType;
+    private Long sourcePlanetId;
+    private List<Long> targetPlanetIds;
+    private List<Integer> unitIds;
+}
@@ -0,0 +1,27 @@
+package com.kevinguanchedarias.owgejava.pojo.planet;
+
+import com.kevinguanchedarias.owgejava.entity.Planet;
+import lombok.Value;
+
+/**
+ * The position of a planet in the universe, as primitives, so comparing two planets doesn't touch the entities
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Value
+public class PlanetCoordinates {
+    int galaxyId;
+    long sector;
+    long quadrant;
+    int planetNumber;
+
+    /**
+     * Only reads the galaxy id, so a lazy galaxy is not initialized
+     */
+    public static PlanetCoordinates of(Planet planet) {
+        return new PlanetCoordinates(
+                planet.getGalaxy().getId(), planet.getSector(), planet.getQuadrant(), planet.getPlanetNumber()
+        );
+    }
+}
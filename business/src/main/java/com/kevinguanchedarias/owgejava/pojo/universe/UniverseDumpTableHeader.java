@@ -0,0 +1,27 @@
+package com.kevinguanchedarias.owgejava.pojo.universe;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * First line of each table of an universe dump, the next lines are the rows, as arrays in the same order as the
+ * columns
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UniverseDumpTableHeader {
+    private String table;
+    private List<String> columns;
+
+    /**
+     * The {@link java.sql.Types} of the columns, binary columns go as base64
+     */
+    private List<Integer> types;
+}
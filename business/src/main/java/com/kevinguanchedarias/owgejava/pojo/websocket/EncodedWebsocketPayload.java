@@ -0,0 +1,33 @@
+package com.kevinguanchedarias.owgejava.pojo.websocket;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * The content of a websocket message, already encoded, so it's written as is to all the target sockets
+ * <br>
+ * Only one of <i>value</i> and <i>compressedValue</i> is present
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Value
+@Builder
+@Jacksonized
+public class EncodedWebsocketPayload {
+    /**
+     * The JSON content
+     */
+    String value;
+
+    /**
+     * The gzip of the JSON content, sent as binary attachment
+     */
+    byte[] compressedValue;
+
+    /**
+     * The size of the JSON content in bytes
+     */
+    int size;
+}
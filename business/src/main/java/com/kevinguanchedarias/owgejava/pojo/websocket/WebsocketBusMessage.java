@@ -0,0 +1,39 @@
+package com.kevinguanchedarias.owgejava.pojo.websocket;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * A websocket message travelling through the {@link com.kevinguanchedarias.owgejava.business.websocket.WebsocketMessageBus},
+ * each node delivers it to the sockets it has
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Value
+@Builder
+@Jacksonized
+public class WebsocketBusMessage {
+    /**
+     * If 0 the message goes to all the connected users
+     */
+    int targetUserId;
+
+    String eventName;
+
+    /**
+     * The last sent date saved for each target user, null for the one time messages
+     */
+    Map<Integer, Instant> lastSentByUser;
+
+    EncodedWebsocketPayload payload;
+
+    /**
+     * If true, it's not a message, the sockets are told to clear their cache
+     */
+    boolean cacheClear;
+}
@@ -31,7 +31,8 @@ public interface MissionReportRepository extends JpaRepository<MissionReport, Lo
     @Modifying
     void markAsReadIfUserIsOwner(List<Long> reportsIds, Integer userId);
 
-    List<MissionReport> findByReportDateLessThan(Date date, Pageable pageable);
+    @Query("SELECT DISTINCT rp.user.id FROM MissionReport rp WHERE rp.reportDate < ?1")
+    List<Integer> findDistinctUserIdByReportDateLessThan(Date date);
 
     void deleteByUser(UserStorage user);
 }
@@ -55,15 +55,6 @@ public interface MissionRepository extends JpaRepository<Mission, Long>, Seriali
     @Query("SELECT m FROM Mission m WHERE m.terminationDate IS NOT NULL AND  m.terminationDate < ?1 AND m.resolved = false ")
     List<Mission> findHangMissions(LocalDateTime terminationDate);
 
-    /**
-     * Delete by resolved true and termination date less than.
-     *
-     * @param limitDate the limit date
-     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
-     * @since 0.9.20
-     */
-    List<Mission> findByResolvedTrueAndTerminationDateLessThan(LocalDateTime limitDate);
-
     List<Mission> findByTargetPlanetInAndResolvedFalseAndInvisibleFalseAndUserNot(List<Planet> myPlanets, UserStorage user);
 
     Optional<Mission> findOneByResolvedFalseAndTypeCodeAndMissionInformationValue(String typeCode, Double planetId);
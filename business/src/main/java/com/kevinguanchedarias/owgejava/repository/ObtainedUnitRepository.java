@@ -6,7 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.io.Serializable;
-import java.util.Date;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -15,6 +15,9 @@ public interface ObtainedUnitRepository extends JpaRepository<ObtainedUnit, Long
 
     boolean existsByMission(Mission mission);
 
+    @Query("SELECT DISTINCT ou.mission.id FROM ObtainedUnit ou WHERE ou.mission.id IN ?1")
+    Set<Long> findMissionIdsHavingUnits(Collection<Long> missionIds);
+
     @Query("SELECT ou.unit FROM ObtainedUnit ou WHERE ou.id = ?1")
     Unit findUnitByOuId(Long ouId);
 
@@ -102,15 +105,14 @@ public interface ObtainedUnitRepository extends JpaRepository<ObtainedUnit, Long
     List<ObtainedUnit> findByTargetPlanetIdAndMissionTypeCode(Long id, String missionType);
 
     /**
-     * finds units according to #316
+     * Finds the units of the missions going to the planet that may be involved in its attacks (see #316), uses the
+     * <i>target_planet_attack_eligible_from</i> index
      *
-     * @param referenceRationalTime from 0 to 1
      * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
-     * @since 0.9.6
+     * @since 0.11.4
      */
-    @Query("SELECT ou FROM ObtainedUnit ou WHERE ou.targetPlanet.id = ?1 AND ou.mission IS NOT NULL AND ou.mission.type.code IN (?3) AND ou.mission.requiredTime * ?2  < TIME_TO_SEC(TIMEDIFF(?4, ou.mission.startingDate))  ")
-    List<ObtainedUnit> findByTargetPlanetIdWhereReferencePercentageTimePassed(Long planetId,
-                                                                              Double referenceRationalTime, List<String> allowedMissions, Date nowReference);
+    @Query("SELECT ou FROM ObtainedUnit ou JOIN ou.mission m WHERE m.targetPlanet.id = ?1 AND m.attackEligibleFrom IS NOT NULL")
+    List<ObtainedUnit> findAttackCandidatesByTargetPlanetId(Long planetId);
 
     /**
      * @param alliance or null
@@ -145,18 +147,27 @@ public interface ObtainedUnitRepository extends JpaRepository<ObtainedUnit, Long
     );
 
     @Query(nativeQuery = true, value = "SELECT DISTINCT * FROM (SELECT p.id FROM obtained_units ou " +
-            "INNER JOIN planets p ON p.id = ou.source_planet WHERE ou.expiration_id = ?1 AND ou.source_planet IS NOT NULL " +
+            "INNER JOIN planets p ON p.id = ou.source_planet WHERE ou.expiration_id IN ?1 AND ou.source_planet IS NOT NULL " +
             "UNION SELECT p.id FROM obtained_units ou " +
-            "INNER JOIN planets p ON p.id = ou.target_planet WHERE ou.expiration_id = ?1 AND ou.target_planet IS NOT NULL) AS foo")
-    Set<Long> findPlanetIdsByExpirationId(long expirationId);
+            "INNER JOIN planets p ON p.id = ou.target_planet WHERE ou.expiration_id IN ?1 AND ou.target_planet IS NOT NULL) AS foo")
+    Set<Long> findPlanetIdsByExpirationIdIn(Collection<Long> expirationIds);
 
-    List<ObtainedUnit> findByExpirationId(long expirationId);
+    List<ObtainedUnit> findByExpirationIdIn(Collection<Long> expirationIds);
 
     ObtainedUnit findOneByUserIdAndUnitIdAndTargetPlanetIdAndExpirationIdAndMissionTypeCode(Integer userId, Integer unitId, Long planetId, Long expirationId, String name);
 
     ObtainedUnit findOneByUserIdAndUnitIdAndSourcePlanetIdAndExpirationIdAndMissionIsNull(Integer userId, Integer unitId, Long planetId, Long expirationId);
 
-    List<ObtainedUnit> findByOwnerUnitId(Long id);
+    List<ObtainedUnit> findByOwnerUnitIdIn(Collection<Long> ids);
+
+    /**
+     * @return The ids of the wanted units the user has in the planet, idle or deployed
+     * @since 0.11.4
+     */
+    @Query("SELECT DISTINCT ou.unit.id FROM ObtainedUnit ou LEFT JOIN ou.mission m LEFT JOIN m.type mt "
+            + "WHERE ou.user.id = ?1 AND ou.unit.id IN ?3 "
+            + "AND ((m.id IS NULL AND ou.sourcePlanet.id = ?2) OR (mt.code = 'DEPLOYED' AND ou.targetPlanet.id = ?2))")
+    Set<Integer> findUnitIdsInPlanet(Integer userId, Long planetId, Collection<Integer> unitIds);
 
     void deleteByUser(UserStorage user);
 }
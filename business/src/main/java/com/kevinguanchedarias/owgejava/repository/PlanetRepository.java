@@ -3,13 +3,14 @@ package com.kevinguanchedarias.owgejava.repository;
 import com.kevinguanchedarias.owgejava.entity.Planet;
 import com.kevinguanchedarias.owgejava.entity.SpecialLocation;
 import com.kevinguanchedarias.owgejava.entity.UserStorage;
+import com.kevinguanchedarias.owgejava.entity.projection.PlanetCoordinatesProjection;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 public interface PlanetRepository extends WithNameRepository<Planet, Long>, Serializable {
 
@@ -24,10 +25,6 @@ public interface PlanetRepository extends WithNameRepository<Planet, Long>, Seri
 
     List<Planet> findByOwnerIsNullAndSpecialLocationIsNull(Pageable pageable);
 
-    Optional<Planet> findOneByIdAndOwnerId(Long planetId, Integer ownerId);
-
-    Planet findOneByOwnerIdAndHomeTrue(Integer ownerId);
-
     @Query("SELECT case when count(p)> 0 then true else false end FROM Planet p WHERE p.id = ?2 AND p.owner.id = ?1 ")
     boolean isOfUserProperty(Integer ownerId, Long planetId);
 
@@ -40,6 +37,9 @@ public interface PlanetRepository extends WithNameRepository<Planet, Long>, Seri
 
     List<Planet> findByGalaxyIdAndSectorAndQuadrant(Integer galaxy, Long sector, Long quadrant);
 
+    @Query("SELECT p.id AS id, p.galaxy.id AS galaxyId, p.sector AS sector, p.quadrant AS quadrant, p.planetNumber AS planetNumber FROM Planet p WHERE p.id IN ?1")
+    List<PlanetCoordinatesProjection> findCoordinatesByIdIn(Collection<Long> ids);
+
     Planet findOneByIdAndHomeTrue(Long planetId);
 
     /**
@@ -0,0 +1,131 @@
+package com.kevinguanchedarias.owgejava.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kevinguanchedarias.kevinsuite.commons.rest.security.TokenUser;
+import com.kevinguanchedarias.owgejava.pojo.VerifiedTokenCacheStats;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the users of tokens whose signature has already been verified, until the token <i>exp</i> claim is reached
+ * <br>
+ * Entries are keyed by the SHA-256 of the token, so the raw token is never kept in memory
+ * <br>
+ * A lookup that finds nothing is not a miss by itself, as the same token may be looked up several times before being
+ * verified, the misses are the verifications recorded with {@link #recordVerification()}
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Slf4j
+public class VerifiedTokenCache {
+    public static final int DEFAULT_MAX_ENTRIES = 20000;
+
+    private static final ObjectMapper CLAIMS_MAPPER = new ObjectMapper();
+
+    private final int maxEntries;
+    private final Clock clock;
+    private final Map<String, CachedTokenUser> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public VerifiedTokenCache() {
+        this(DEFAULT_MAX_ENTRIES, Clock.systemUTC());
+    }
+
+    public VerifiedTokenCache(int maxEntries, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * @return The cached user, or null if the token was never verified or has expired
+     */
+    public TokenUser find(String token) {
+        var key = hash(token);
+        var cached = entries.get(key);
+        if (cached == null) {
+            return null;
+        } else if (cached.expiresAtMillis() <= clock.millis()) {
+            entries.remove(key, cached);
+            return null;
+        } else {
+            hits.increment();
+            return cached.tokenUser();
+        }
+    }
+
+    /**
+     * Counts a miss, invoke it once per verification of a token that was not in the cache
+     */
+    public void recordVerification() {
+        misses.increment();
+    }
+
+    /**
+     * Stores an already verified token, tokens without <i>exp</i> claim are not cached
+     */
+    public void put(String token, TokenUser tokenUser) {
+        var expiresAtMillis = findExpirationMillis(token);
+        if (tokenUser != null && expiresAtMillis > clock.millis()) {
+            if (entries.size() >= maxEntries) {
+                evict();
+            }
+            entries.put(hash(token), new CachedTokenUser(tokenUser, expiresAtMillis));
+        }
+    }
+
+    public VerifiedTokenCacheStats findStats() {
+        var hitCount = hits.sum();
+        var total = hitCount + misses.sum();
+        return VerifiedTokenCacheStats.builder()
+                .hits(hitCount)
+                .misses(total - hitCount)
+                .size(entries.size())
+                .hitRate(total == 0 ? 0D : (double) hitCount / total)
+                .build();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private void evict() {
+        var now = clock.millis();
+        entries.values().removeIf(cached -> cached.expiresAtMillis() <= now);
+        var iterator = entries.keySet().iterator();
+        while (entries.size() >= maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private long findExpirationMillis(String token) {
+        try {
+            var parts = token.split("\\.");
+            var exp = CLAIMS_MAPPER.readTree(Base64.getUrlDecoder().decode(parts[1])).get("exp");
+            return exp != null && exp.canConvertToLong() ? exp.asLong() * 1000 : 0;
+        } catch (Exception e) {
+            log.debug("Can't read exp claim from token", e);
+            return 0;
+        }
+    }
+
+    @SneakyThrows
+    private String hash(String token) {
+        var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest);
+    }
+
+    private record CachedTokenUser(TokenUser tokenUser, long expiresAtMillis) {
+    }
+}
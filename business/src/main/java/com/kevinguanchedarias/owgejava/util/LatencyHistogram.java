@@ -0,0 +1,115 @@
+package com.kevinguanchedarias.owgejava.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram, with log-linear buckets (same idea as HdrHistogram)
+ * <br>
+ * Values under 64 microseconds have their own bucket, bigger ones are split in 32 buckets per power of two, so the
+ * reported percentiles have an error of at most ~3%, values above 2^36 microseconds (~19 hours) go to the last bucket
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+public class LatencyHistogram {
+    private static final int LINEAR_BUCKETS = 64;
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BITS = 6;
+    private static final int MAX_EXPONENT = 35;
+    static final int BUCKETS = LINEAR_BUCKETS + (MAX_EXPONENT - LINEAR_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void addCall(boolean failed) {
+        calls.increment();
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    public void record(long micros) {
+        var value = Math.max(0, micros);
+        buckets.incrementAndGet(bucketIndex(value));
+        samples.increment();
+        totalMicros.add(value);
+        if (value > maxMicros.get()) {
+            maxMicros.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getSamples() {
+        return samples.sum();
+    }
+
+    public long getTotalMicros() {
+        return totalMicros.sum();
+    }
+
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    /**
+     * @param quantile from 0 to 1
+     * @return The highest value of the bucket containing the quantile, never more than the max recorded value, 0 if
+     * nothing has been recorded
+     */
+    public long findQuantileMicros(double quantile) {
+        var counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        var rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(bucketHighestValue(i), getMaxMicros());
+            }
+        }
+        return getMaxMicros();
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        var exponent = Math.min(63 - Long.numberOfLeadingZeros(value), MAX_EXPONENT);
+        if (exponent == MAX_EXPONENT && value >= (1L << (MAX_EXPONENT + 1))) {
+            return BUCKETS - 1;
+        }
+        var mantissa = (int) (value >> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+        return LINEAR_BUCKETS + (exponent - LINEAR_BITS) * SUB_BUCKETS + mantissa;
+    }
+
+    static long bucketHighestValue(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        var logIndex = index - LINEAR_BUCKETS;
+        var exponent = LINEAR_BITS + logIndex / SUB_BUCKETS;
+        var mantissa = SUB_BUCKETS + logIndex % SUB_BUCKETS;
+        return ((long) (mantissa + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,130 @@
+package com.kevinguanchedarias.owgejava.util;
+
+import com.kevinguanchedarias.owgejava.exception.SgtBackendInvalidInputException;
+import com.kevinguanchedarias.owgejava.pojo.MethodMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Holds the latency histograms of the business methods, filled by the {@link OwgeMethodMetricsInterceptor} (when
+ * the <i>methodtiming</i> profile is active)
+ * <br>
+ * All the calls, and errors are counted, but only one of each <i>sampleRate</i> calls is timed
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@Service
+public class MethodMetricsRegistry {
+    private volatile Histograms histograms = new Histograms();
+    private volatile int sampleRate;
+
+    public MethodMetricsRegistry(@Value("${OWGE_METHOD_METRICS_SAMPLE_RATE:1}") int sampleRate) {
+        setSampleRate(sampleRate);
+    }
+
+    /**
+     * @param targetClass The class of the invoked bean, methods inherited by different beans are tracked separately
+     */
+    public LatencyHistogram findHistogram(Class<?> targetClass, Method method) {
+        var current = histograms;
+        return current.byMethod.computeIfAbsent(
+                new MethodKey(targetClass, method),
+                key -> current.byName.computeIfAbsent(
+                        targetClass.getSimpleName() + "." + method.getName(), name -> new LatencyHistogram()
+                )
+        );
+    }
+
+    public boolean shouldSample() {
+        var rate = sampleRate;
+        return rate == 1 || ThreadLocalRandom.current().nextInt(rate) == 0;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * @param sampleRate 1 times all the calls, N times one of each N calls
+     */
+    public void setSampleRate(int sampleRate) {
+        if (sampleRate < 1) {
+            throw new SgtBackendInvalidInputException("Sample rate must be 1 or more, " + sampleRate + " given");
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * @return The methods sorted by p99 descending
+     */
+    public List<MethodMetrics> findAll() {
+        return histograms.byName.entrySet().stream()
+                .map(entry -> toMetrics(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingDouble(MethodMetrics::getP99Millis).reversed()
+                        .thenComparing(MethodMetrics::getMethod))
+                .toList();
+    }
+
+    /**
+     * Renders the metrics in the Prometheus text exposition format, the latency is a summary, and its count is the
+     * number of sampled calls, use <i>owge_method_calls_total</i> for the real number of calls
+     */
+    public String toPrometheusText() {
+        var builder = new PrometheusTextBuilder()
+                .declare("owge_method_duration_seconds", "summary", "Latency of the sampled business method calls")
+                .declare("owge_method_calls_total", "counter", "Business method calls")
+                .declare("owge_method_errors_total", "counter", "Business method calls that threw an exception");
+        histograms.byName.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+            var label = "method=\"" + entry.getKey() + "\"";
+            var histogram = entry.getValue();
+            builder.addSummary("owge_method_duration_seconds", label, histogram)
+                    .addSample("owge_method_calls_total", label, histogram.getCalls())
+                    .addSample("owge_method_errors_total", label, histogram.getErrors());
+        });
+        return builder.build();
+    }
+
+    /**
+     * Swaps both maps at once, so a concurrent call never sees a method bound to a histogram that is not listed, the
+     * calls that already took their histogram record into the dropped one
+     */
+    public void reset() {
+        histograms = new Histograms();
+    }
+
+    private MethodMetrics toMetrics(String name, LatencyHistogram histogram) {
+        var samples = histogram.getSamples();
+        return MethodMetrics.builder()
+                .method(name)
+                .calls(histogram.getCalls())
+                .errors(histogram.getErrors())
+                .samples(samples)
+                .meanMillis(samples == 0 ? 0 : toMillis(histogram.getTotalMicros()) / samples)
+                .p50Millis(toMillis(histogram.findQuantileMicros(0.5)))
+                .p90Millis(toMillis(histogram.findQuantileMicros(0.9)))
+                .p99Millis(toMillis(histogram.findQuantileMicros(0.99)))
+                .maxMillis(toMillis(histogram.getMaxMicros()))
+                .build();
+    }
+
+    private double toMillis(long micros) {
+        return micros / 1_000D;
+    }
+
+    private record MethodKey(Class<?> targetClass, Method method) {
+    }
+
+    private record Histograms(Map<MethodKey, LatencyHistogram> byMethod, Map<String, LatencyHistogram> byName) {
+        Histograms() {
+            this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.kevinguanchedarias.owgejava.util;
+
+import lombok.AllArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Counts the calls of the intercepted methods, and records their latency in the {@link MethodMetricsRegistry}
+ * <br>
+ * Replaces the old performance monitor, which logged a warning for each slow call
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@AllArgsConstructor
+public class OwgeMethodMetricsInterceptor implements MethodInterceptor {
+    private final MethodMetricsRegistry methodMetricsRegistry;
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        var target = invocation.getThis();
+        var targetClass = target == null ? invocation.getMethod().getDeclaringClass() : ClassUtils.getUserClass(target);
+        var histogram = methodMetricsRegistry.findHistogram(targetClass, invocation.getMethod());
+        var sampled = methodMetricsRegistry.shouldSample();
+        var start = sampled ? System.nanoTime() : 0;
+        var failed = true;
+        try {
+            var result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            histogram.addCall(failed);
+            if (sampled) {
+                histogram.record((System.nanoTime() - start) / 1_000);
+            }
+        }
+    }
+}
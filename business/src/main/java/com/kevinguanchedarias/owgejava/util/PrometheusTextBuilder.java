@@ -0,0 +1,83 @@
+package com.kevinguanchedarias.owgejava.util;
+
+import com.kevinguanchedarias.owgejava.exception.ProgrammingException;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Builds a document in the Prometheus text exposition format, the samples are grouped by family, no matter the order
+ * in which they are added
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+public class PrometheusTextBuilder {
+    private static final double[] SUMMARY_QUANTILES = {0.5, 0.9, 0.99};
+
+    private final Map<String, StringBuilder> families = new LinkedHashMap<>();
+
+    /**
+     * @param type counter, gauge or summary
+     */
+    public PrometheusTextBuilder declare(String family, String type, String help) {
+        families.computeIfAbsent(family, key -> new StringBuilder()
+                .append("# HELP ").append(family).append(' ').append(help).append('\n')
+                .append("# TYPE ").append(family).append(' ').append(type).append('\n')
+        );
+        return this;
+    }
+
+    /**
+     * @param labels The labels without the braces, for example <i>method="foo"</i>
+     */
+    public PrometheusTextBuilder addSample(String family, String labels, long value) {
+        return addSample(family, "", labels, Long.toString(value));
+    }
+
+    public PrometheusTextBuilder addSample(String family, String labels, double value) {
+        return addSample(family, "", labels, String.format(Locale.ROOT, "%.6f", value));
+    }
+
+    /**
+     * Adds the 0.5, 0.9 and 0.99 quantiles, the sum and the count of the histogram, in seconds
+     */
+    public PrometheusTextBuilder addSummary(String family, String labels, LatencyHistogram histogram) {
+        for (var quantile : SUMMARY_QUANTILES) {
+            addSample(family, "", labels + ",quantile=\"" + quantile + "\"", toSeconds(histogram.findQuantileMicros(quantile)));
+        }
+        addSample(family, "_sum", labels, toSeconds(histogram.getTotalMicros()));
+        return addSample(family, "_count", labels, Long.toString(histogram.getSamples()));
+    }
+
+    public String build() {
+        var result = new StringBuilder();
+        families.values().forEach(result::append);
+        return result.toString();
+    }
+
+    /**
+     * Escapes a label value
+     */
+    public static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private PrometheusTextBuilder addSample(String family, String suffix, String labels, String value) {
+        var builder = families.get(family);
+        if (builder == null) {
+            throw new ProgrammingException("Family " + family + " has not been declared");
+        }
+        builder.append(family).append(suffix);
+        if (!labels.isEmpty()) {
+            builder.append('{').append(labels).append('}');
+        }
+        builder.append(' ').append(value).append('\n');
+        return this;
+    }
+
+    private String toSeconds(long micros) {
+        return String.format(Locale.ROOT, "%.6f", micros / 1_000_000D);
+    }
+}
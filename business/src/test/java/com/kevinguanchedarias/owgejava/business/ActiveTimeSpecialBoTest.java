@@ -2,6 +2,7 @@ package com.kevinguanchedarias.owgejava.business;
 
 import com.kevinguanchedarias.owgejava.business.timespecial.UnlockableTimeSpecialService;
 import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitEventEmitter;
+import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitReadModel;
 import com.kevinguanchedarias.owgejava.business.user.UserSessionService;
 import com.kevinguanchedarias.owgejava.dto.ActiveTimeSpecialDto;
 import com.kevinguanchedarias.owgejava.dto.TimeSpecialDto;
@@ -60,7 +61,8 @@ import static org.mockito.Mockito.*;
         RequirementBo.class,
         RuleRepository.class,
         ObtainedUnitEventEmitter.class,
-        UnlockableTimeSpecialService.class
+        UnlockableTimeSpecialService.class,
+        ObtainedUnitReadModel.class
 })
 @Import(SpyEventPublisherConfiguration.class)
 class ActiveTimeSpecialBoTest {
@@ -77,6 +79,7 @@ class ActiveTimeSpecialBoTest {
     private final ApplicationEventPublisher applicationEventPublisher;
     private final ObtainedUnitEventEmitter obtainedUnitEventEmitter;
     private final UnlockableTimeSpecialService unlockableTimeSpecialService;
+    private final ObtainedUnitReadModel obtainedUnitReadModel;
 
     @Autowired
     ActiveTimeSpecialBoTest(
@@ -92,7 +95,8 @@ class ActiveTimeSpecialBoTest {
             RuleRepository ruleRepository,
             ApplicationEventPublisher applicationEventPublisher,
             ObtainedUnitEventEmitter obtainedUnitEventEmitter,
-            UnlockableTimeSpecialService unlockableTimeSpecialService
+            UnlockableTimeSpecialService unlockableTimeSpecialService,
+            ObtainedUnitReadModel obtainedUnitReadModel
     ) {
         this.activeTimeSpecialBo = activeTimeSpecialBo;
         this.timeSpecialBo = timeSpecialBo;
@@ -107,6 +111,7 @@ class ActiveTimeSpecialBoTest {
         this.ruleRepository = ruleRepository;
         this.applicationEventPublisher = applicationEventPublisher;
         this.unlockableTimeSpecialService = unlockableTimeSpecialService;
+        this.obtainedUnitReadModel = obtainedUnitReadModel;
     }
 
     @Test
@@ -122,6 +127,8 @@ class ActiveTimeSpecialBoTest {
         verify(improvementBo, times(1)).addImprovementSource(activeTimeSpecialBo);
         verify(scheduledTasksManagerService, times(1)).addHandler(eq("TIME_SPECIAL_EFFECT_END"), any());
         verify(scheduledTasksManagerService, times(1)).addHandler(eq("TIME_SPECIAL_IS_READY"), any());
+        verify(scheduledTasksManagerService, times(1)).setOrderingGroup("TIME_SPECIAL_EFFECT_END", "ActiveTimeSpecial");
+        verify(scheduledTasksManagerService, times(1)).setOrderingGroup("TIME_SPECIAL_IS_READY", "ActiveTimeSpecial");
     }
 
     @Test
@@ -187,6 +194,7 @@ class ActiveTimeSpecialBoTest {
         verify(socketIoService, times(1)).sendMessage(eq(user), eq("time_special_change"), any());
         verify(requirementBo, times(1)).triggerTimeSpecialStateChange(user, activeTimeSpecial.getTimeSpecial());
         verify(obtainedUnitEventEmitter, times(emitUnitsTimes)).emitObtainedUnits(user);
+        verify(obtainedUnitReadModel, times(1)).invalidate(user.getId());
     }
 
     @Test
@@ -294,6 +302,7 @@ class ActiveTimeSpecialBoTest {
         assertThat(scheduledTask.getContent()).isEqualTo(activeTimeSpecialId);
         verify(requirementBo, times(1)).triggerTimeSpecialStateChange(user, timeSpecial);
         verify(obtainedUnitEventEmitter, times(emitUnitsTimes)).emitObtainedUnits(user);
+        verify(obtainedUnitReadModel, times(1)).invalidate(user.getId());
         verify(applicationEventPublisher, times(1)).publishEvent(savedActive);
     }
 
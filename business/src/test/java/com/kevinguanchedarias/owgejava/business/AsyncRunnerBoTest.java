@@ -1,27 +1,25 @@
 package com.kevinguanchedarias.owgejava.business;
 
-import com.kevinguanchedarias.owgejava.util.ThreadUtil;
+import com.kevinguanchedarias.owgejava.business.async.AsyncExecutorService;
+import com.kevinguanchedarias.owgejava.enumerations.AsyncPool;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.springframework.boot.test.system.CapturedOutput;
-import org.springframework.boot.test.system.OutputCaptureExtension;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
-@ExtendWith(OutputCaptureExtension.class)
 class AsyncRunnerBoTest {
+    private AsyncExecutorService asyncExecutorService;
     private AsyncRunnerBo asyncRunnerBo;
 
     @BeforeEach
     void setup() {
-        asyncRunnerBo = new AsyncRunnerBo();
+        asyncExecutorService = mock(AsyncExecutorService.class);
+        asyncRunnerBo = new AsyncRunnerBo(asyncExecutorService);
     }
 
     @SuppressWarnings("unchecked")
@@ -45,68 +43,37 @@ class AsyncRunnerBoTest {
     @Test
     void runAsyncWithoutContext_should_work() {
         var runnableMock = mock(Runnable.class);
-        var atomicReference = new AtomicReference<Runnable>();
-        try (var mockedConstruction = mockConstruction(Thread.class,
-                (mock, context) -> atomicReference.set((Runnable) context.arguments().get(0)))
-        ) {
 
-            asyncRunnerBo.runAsyncWithoutContext(runnableMock);
+        asyncRunnerBo.runAsyncWithoutContext(runnableMock);
 
-            var threadInstance = mockedConstruction.constructed().get(0);
+        verify(asyncExecutorService, times(1)).execute(AsyncPool.EMIT, runnableMock);
+        verify(runnableMock, never()).run();
+    }
 
-            assertThat(atomicReference.get()).isSameAs(runnableMock);
-            verify(threadInstance, times(1)).start();
-        }
+    @Test
+    void runAsyncWithoutContextDelayed_should_use_emit_pool_and_default_delay() {
+        var runnableMock = mock(Runnable.class);
+
+        asyncRunnerBo.runAsyncWithoutContextDelayed(runnableMock);
+
+        verify(asyncExecutorService, times(1)).schedule(AsyncPool.EMIT, runnableMock, 200);
     }
 
     @Test
-    void runAsyncWithoutContextDelayed_should_work() {
+    void runAsyncWithoutContextDelayed_should_use_emit_pool_when_no_pool_passed() {
         var runnableMock = mock(Runnable.class);
-        var atomicReference = new AtomicReference<Runnable>();
-        try (
-                var mockedConstruction = mockConstruction(Thread.class,
-                        (mock, context) -> atomicReference.set((Runnable) context.arguments().get(0)));
-                var mockedStatic = mockStatic(ThreadUtil.class)
-        ) {
-
-            asyncRunnerBo.runAsyncWithoutContextDelayed(runnableMock);
-
-            var threadInstance = mockedConstruction.constructed().get(0);
-            var threadBody = atomicReference.get();
-            verify(runnableMock, never()).run();
-            mockedStatic.verify(() -> ThreadUtil.sleep(200), never());
-            verify(threadInstance, times(1)).setPriority(Thread.NORM_PRIORITY - 1);
-            verify(threadInstance, times(1)).start();
-
-            // Run actual body
-            threadBody.run();
-
-            verify(runnableMock, times(1)).run();
-            mockedStatic.verify(() -> ThreadUtil.sleep(200), times(1));
-        }
+
+        asyncRunnerBo.runAsyncWithoutContextDelayed(runnableMock, 500);
+
+        verify(asyncExecutorService, times(1)).schedule(AsyncPool.EMIT, runnableMock, 500);
     }
 
     @Test
-    void runAsyncWithoutContextDelayed_should_handle_interrupt_exception(CapturedOutput capturedOutput) {
-        var atomicReference = new AtomicReference<Runnable>();
+    void runAsyncWithoutContextDelayed_should_use_passed_pool() {
         var runnableMock = mock(Runnable.class);
-        try (
-                var unused = mockConstruction(Thread.class,
-                        (mock, context) -> atomicReference.set((Runnable) context.arguments().get(0)));
-                var mockedStatic = mockStatic(ThreadUtil.class)
-        ) {
-            var currentThreadMock = mock(Thread.class);
-            mockedStatic.when(() -> ThreadUtil.sleep(200)).thenThrow(new InterruptedException());
-            mockedStatic.when(ThreadUtil::currentThread).thenReturn(currentThreadMock);
-
-            asyncRunnerBo.runAsyncWithoutContextDelayed(runnableMock);
-
-            var threadBody = atomicReference.get();
-
-            // Run actual body
-            threadBody.run();
-            assertThat(capturedOutput.getOut()).contains("Da fuck");
-            verify(currentThreadMock, times(1)).interrupt();
-        }
+
+        asyncRunnerBo.runAsyncWithoutContextDelayed(runnableMock, 3000, AsyncPool.AUDIT);
+
+        verify(asyncExecutorService, times(1)).schedule(AsyncPool.AUDIT, runnableMock, 3000);
     }
 }
@@ -6,6 +6,7 @@ import com.kevinguanchedarias.owgejava.business.mission.report.MissionReportMana
 import com.kevinguanchedarias.owgejava.business.mission.unit.registration.returns.ReturnMissionRegistrationBo;
 import com.kevinguanchedarias.owgejava.business.planet.PlanetCheckerService;
 import com.kevinguanchedarias.owgejava.business.planet.PlanetLockUtilService;
+import com.kevinguanchedarias.owgejava.business.retention.RetentionPurgeService;
 import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitEventEmitter;
 import com.kevinguanchedarias.owgejava.business.unit.obtained.ObtainedUnitBo;
 import com.kevinguanchedarias.owgejava.business.unit.obtained.ObtainedUnitImprovementCalculationService;
@@ -21,6 +22,7 @@ import com.kevinguanchedarias.owgejava.exception.*;
 import com.kevinguanchedarias.owgejava.mock.MissionTypeMock;
 import com.kevinguanchedarias.owgejava.pojo.GroupedImprovement;
 import com.kevinguanchedarias.owgejava.pojo.ResourceRequirementsPojo;
+import com.kevinguanchedarias.owgejava.pojo.RetentionPurgeDefinition;
 import com.kevinguanchedarias.owgejava.repository.*;
 import com.kevinguanchedarias.owgejava.test.answer.InvokeRunnableLambdaAnswer;
 import com.kevinguanchedarias.owgejava.test.answer.InvokeSupplierLambdaAnswer;
@@ -115,7 +117,8 @@ import static org.mockito.Mockito.*;
         MissionEventEmitterBo.class,
         MissionCancelBuildService.class,
         MissionBaseService.class,
-        UserEventEmitterBo.class
+        UserEventEmitterBo.class,
+        RetentionPurgeService.class
 })
 class MissionBoTest {
     private final MissionBo missionBo;
@@ -150,6 +153,7 @@ class MissionBoTest {
     private final AsyncRunnerBo asyncRunnerBo;
     private final ObtainedUnitEventEmitter obtainedUnitEventEmitter;
     private final UserEventEmitterBo userEventEmitterBo;
+    private final RetentionPurgeService retentionPurgeService;
 
     @Autowired
     public MissionBoTest(
@@ -183,7 +187,8 @@ class MissionBoTest {
             MissionCancelBuildService missionCancelBuildService,
             AsyncRunnerBo asyncRunnerBo,
             ObtainedUnitEventEmitter obtainedUnitEventEmitter,
-            UserEventEmitterBo userEventEmitterBo
+            UserEventEmitterBo userEventEmitterBo,
+            RetentionPurgeService retentionPurgeService
     ) {
         this.missionBo = missionBo;
         this.planetBo = planetBo;
@@ -217,21 +222,18 @@ class MissionBoTest {
         this.asyncRunnerBo = asyncRunnerBo;
         this.obtainedUnitEventEmitter = obtainedUnitEventEmitter;
         this.userEventEmitterBo = userEventEmitterBo;
+        this.retentionPurgeService = retentionPurgeService;
     }
 
     @Test
     void deleteOldMissions_should_work() {
-        var mission = givenExploreMission();
-        var linkedMission = givenGatherMission();
-        linkedMission.setRelatedMission(givenReturnMission());
-        mission.setLinkedRelated(List.of(linkedMission));
-        doAnswer(new InvokeRunnableLambdaAnswer(0)).when(transactionUtilService).runWithRequired(any());
-        given(missionRepository.findByResolvedTrueAndTerminationDateLessThan(isNotNull())).willReturn(List.of(mission));
-
         missionBo.deleteOldMissions();
 
-        verify(missionRepository, times(1)).delete(mission);
-        assertThat(linkedMission.getRelatedMission()).isNull();
+        var captor = ArgumentCaptor.forClass(RetentionPurgeDefinition.class);
+        verify(retentionPurgeService, atLeastOnce()).purge(captor.capture(), isNotNull());
+        var definition = captor.getValue();
+        assertThat(definition.getTable()).isEqualTo("missions");
+        assertThat(definition.getBeforeDeleteStatements()).hasSize(2);
     }
 
     @Test
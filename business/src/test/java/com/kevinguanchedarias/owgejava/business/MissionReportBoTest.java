@@ -4,10 +4,12 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kevinguanchedarias.owgejava.builder.UnitMissionReportBuilder;
+import com.kevinguanchedarias.owgejava.business.retention.RetentionPurgeService;
 import com.kevinguanchedarias.owgejava.business.util.TransactionUtilService;
 import com.kevinguanchedarias.owgejava.dto.MissionReportDto;
 import com.kevinguanchedarias.owgejava.entity.Mission;
 import com.kevinguanchedarias.owgejava.entity.MissionReport;
+import com.kevinguanchedarias.owgejava.pojo.RetentionPurgeDefinition;
 import com.kevinguanchedarias.owgejava.repository.MissionReportRepository;
 import com.kevinguanchedarias.owgejava.repository.MissionRepository;
 import com.kevinguanchedarias.owgejava.responses.MissionReportResponse;
@@ -48,7 +50,8 @@ import static org.mockito.Mockito.*;
         SocketIoService.class,
         ObjectMapper.class,
         TransactionUtilService.class,
-        MissionRepository.class
+        MissionRepository.class,
+        RetentionPurgeService.class
 })
 class MissionReportBoTest {
     private final MissionReportBo missionReportBo;
@@ -57,6 +60,7 @@ class MissionReportBoTest {
     private final SocketIoService socketIoService;
     private final ObjectMapper mapper;
     private final MissionRepository missionRepository;
+    private final RetentionPurgeService retentionPurgeService;
 
     @Autowired
     public MissionReportBoTest(
@@ -65,7 +69,8 @@ class MissionReportBoTest {
             TransactionUtilService transactionUtilService,
             SocketIoService socketIoService,
             ObjectMapper mapper,
-            MissionRepository missionRepository
+            MissionRepository missionRepository,
+            RetentionPurgeService retentionPurgeService
     ) {
         this.missionReportBo = missionReportBo;
         this.missionReportRepository = missionReportRepository;
@@ -73,6 +78,29 @@ class MissionReportBoTest {
         this.socketIoService = socketIoService;
         this.mapper = mapper;
         this.missionRepository = missionRepository;
+        this.retentionPurgeService = retentionPurgeService;
+    }
+
+    @Test
+    void deleteOldMessages_should_purge_reports_when_there_are_old_ones() {
+        given(missionReportRepository.findDistinctUserIdByReportDateLessThan(any())).willReturn(List.of(USER_ID_1));
+
+        missionReportBo.deleteOldMessages();
+
+        var captor = ArgumentCaptor.forClass(RetentionPurgeDefinition.class);
+        verify(retentionPurgeService, times(1)).purge(captor.capture(), any());
+        var definition = captor.getValue();
+        assertThat(definition.getTable()).isEqualTo("mission_reports");
+        assertThat(definition.getBeforeDeleteStatements()).hasSize(1);
+    }
+
+    @Test
+    void deleteOldMessages_should_do_nothing_if_no_old_reports() {
+        given(missionReportRepository.findDistinctUserIdByReportDateLessThan(any())).willReturn(List.of());
+
+        missionReportBo.deleteOldMessages();
+
+        verify(retentionPurgeService, never()).purge(any(), any());
     }
 
     @Test
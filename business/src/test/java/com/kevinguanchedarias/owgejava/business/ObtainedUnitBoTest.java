@@ -3,6 +3,7 @@ package com.kevinguanchedarias.owgejava.business;
 import com.kevinguanchedarias.owgejava.business.mission.MissionFinderBo;
 import com.kevinguanchedarias.owgejava.business.unit.HiddenUnitBo;
 import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitEventEmitter;
+import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitReadModel;
 import com.kevinguanchedarias.owgejava.business.unit.obtained.ObtainedUnitBo;
 import com.kevinguanchedarias.owgejava.business.unit.obtained.ObtainedUnitImprovementCalculationService;
 import com.kevinguanchedarias.owgejava.business.user.UserEventEmitterBo;
@@ -69,7 +70,8 @@ import static org.mockito.Mockito.*;
         TransactionUtilService.class,
         ObtainedUnitImprovementCalculationService.class,
         UserEventEmitterBo.class,
-        TaggableCacheManager.class
+        TaggableCacheManager.class,
+        ObtainedUnitReadModel.class
 })
 class ObtainedUnitBoTest {
     private final ObtainedUnitBo obtainedUnitBo;
@@ -86,6 +88,7 @@ class ObtainedUnitBoTest {
     private final UserEventEmitterBo userEventEmitterBo;
     private final UnitTypeBo unitTypeBo;
     private final TaggableCacheManager taggableCacheManager;
+    private final ObtainedUnitReadModel obtainedUnitReadModel;
 
     @Autowired
     ObtainedUnitBoTest(
@@ -102,7 +105,8 @@ class ObtainedUnitBoTest {
             RequirementBo requirementBo,
             UserEventEmitterBo userEventEmitterBo,
             UnitTypeBo unitTypeBo,
-            TaggableCacheManager taggableCacheManager
+            TaggableCacheManager taggableCacheManager,
+            ObtainedUnitReadModel obtainedUnitReadModel
     ) {
         // Some methods have not all branches covered, only touched lines
         this.obtainedUnitBo = obtainedUnitBo;
@@ -119,6 +123,7 @@ class ObtainedUnitBoTest {
         this.userEventEmitterBo = userEventEmitterBo;
         this.unitTypeBo = unitTypeBo;
         this.taggableCacheManager = taggableCacheManager;
+        this.obtainedUnitReadModel = obtainedUnitReadModel;
     }
 
     @Test
@@ -214,6 +219,7 @@ class ObtainedUnitBoTest {
 
         verify(obtainedUnitRepository, times(1)).updateCount(ou, sumValue);
         verify(entityManager, times(1)).refresh(ou);
+        verify(obtainedUnitReadModel, times(1)).markChanged(ou);
     }
 
     @Test
@@ -405,6 +411,7 @@ class ObtainedUnitBoTest {
         obtainedUnitBo.doDeleteUser(user);
 
         verify(obtainedUnitRepository, times(1)).deleteByUser(user);
+        verify(obtainedUnitReadModel, times(1)).invalidate(USER_ID_1);
     }
 
     private static Stream<Arguments> saveWithAdding_should_work_parameters() {
@@ -1,7 +1,9 @@
 package com.kevinguanchedarias.owgejava.business;
 
+import com.kevinguanchedarias.owgejava.business.cache.CacheInvalidationService;
 import com.kevinguanchedarias.owgejava.business.mission.MissionEventEmitterBo;
 import com.kevinguanchedarias.owgejava.business.mission.MissionFinderBo;
+import com.kevinguanchedarias.owgejava.business.planet.PlanetOwnershipCacheService;
 import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitEventEmitter;
 import com.kevinguanchedarias.owgejava.business.unit.obtained.ObtainedUnitBo;
 import com.kevinguanchedarias.owgejava.business.user.UserSessionService;
@@ -11,9 +13,12 @@ import com.kevinguanchedarias.owgejava.dto.RunningUnitBuildDto;
 import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
 import com.kevinguanchedarias.owgejava.entity.Planet;
 import com.kevinguanchedarias.owgejava.entity.SpecialLocation;
+import com.kevinguanchedarias.owgejava.enumerations.CacheInvalidationType;
 import com.kevinguanchedarias.owgejava.enumerations.MissionType;
 import com.kevinguanchedarias.owgejava.exception.SgtBackendInvalidInputException;
 import com.kevinguanchedarias.owgejava.exception.SgtBackendUniverseIsFull;
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheInvalidation;
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheKey;
 import com.kevinguanchedarias.owgejava.repository.ExploredPlanetRepository;
 import com.kevinguanchedarias.owgejava.repository.MissionRepository;
 import com.kevinguanchedarias.owgejava.repository.ObtainedUnitRepository;
@@ -72,7 +77,9 @@ import static org.mockito.Mockito.*;
         ObtainedUnitEventEmitter.class,
         MissionFinderBo.class,
         DtoUtilService.class,
-        ExploredPlanetRepository.class
+        ExploredPlanetRepository.class,
+        PlanetOwnershipCacheService.class,
+        CacheInvalidationService.class
 })
 class PlanetBoTest {
     private final PlanetBo planetBo;
@@ -92,6 +99,8 @@ class PlanetBoTest {
     private final MissionFinderBo missionFinderBo;
     private final DtoUtilService dtoUtilService;
     private final ExploredPlanetRepository exploredPlanetRepository;
+    private final PlanetOwnershipCacheService planetOwnershipCacheService;
+    private final CacheInvalidationService cacheInvalidationService;
 
     @Autowired
     PlanetBoTest(
@@ -110,7 +119,9 @@ class PlanetBoTest {
             ObtainedUnitEventEmitter obtainedUnitEventEmitter,
             MissionFinderBo missionFinderBo,
             DtoUtilService dtoUtilService,
-            ExploredPlanetRepository exploredPlanetRepository) {
+            ExploredPlanetRepository exploredPlanetRepository,
+            PlanetOwnershipCacheService planetOwnershipCacheService,
+            CacheInvalidationService cacheInvalidationService) {
         this.planetBo = planetBo;
         this.planetRepository = planetRepository;
         this.userSessionService = userSessionService;
@@ -127,6 +138,8 @@ class PlanetBoTest {
         this.missionFinderBo = missionFinderBo;
         this.dtoUtilService = dtoUtilService;
         this.exploredPlanetRepository = exploredPlanetRepository;
+        this.planetOwnershipCacheService = planetOwnershipCacheService;
+        this.cacheInvalidationService = cacheInvalidationService;
     }
 
     @Test
@@ -223,6 +236,10 @@ class PlanetBoTest {
         verify(planetRepository, times(1)).save(planet);
         verify(requirementBo, times(timesTriggerSpecialLocation)).triggerSpecialLocation(user, specialLocation);
         verify(planetListBo, times(1)).emitByChangedPlanet(planet);
+        verify(planetOwnershipCacheService, times(1)).evict(USER_ID_1);
+        verify(cacheInvalidationService, times(1)).publish(
+                CacheInvalidation.builder().type(CacheInvalidationType.PLANET_OWNERSHIP).key(CacheKey.ofInteger(USER_ID_1)).build()
+        );
         assertThat(planetOwnedChangedSocketAnswer.getResult()).isEqualTo(planetForSocketList);
     }
 
@@ -281,6 +298,7 @@ class PlanetBoTest {
         homePlanet.setHome(true);
         var user = givenUser1();
         user.setHomePlanet(homePlanet);
+        doAnswer(new InvokeRunnableLambdaAnswer(0)).when(transactionUtilService).doAfterCommit(any());
 
         planetBo.doDeleteUser(user);
 
@@ -291,6 +309,10 @@ class PlanetBoTest {
         assertThat(savedPlanet.getHome()).isFalse();
         verify(planetRepository, times(1)).nullifyGivenOwner(user);
         verify(exploredPlanetRepository, times(1)).deleteByUser(user);
+        verify(planetOwnershipCacheService, times(1)).evict(USER_ID_1);
+        verify(cacheInvalidationService, times(1)).publish(
+                CacheInvalidation.builder().type(CacheInvalidationType.PLANET_OWNERSHIP).key(CacheKey.ofInteger(USER_ID_1)).build()
+        );
     }
 
     private static Stream<Arguments> doLeavePlanet_should_throw_because_cant_leave_arguments() {
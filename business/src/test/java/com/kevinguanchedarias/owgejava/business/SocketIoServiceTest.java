@@ -6,12 +6,17 @@ import com.corundumstudio.socketio.listener.ConnectListener;
 import com.corundumstudio.socketio.listener.DataListener;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.kevinguanchedarias.owgejava.business.websocket.WebsocketMessageBus;
+import com.kevinguanchedarias.owgejava.business.websocket.WebsocketPayloadEncoder;
 import com.kevinguanchedarias.owgejava.configurations.WebsocketConfiguration;
 import com.kevinguanchedarias.owgejava.dto.WebsocketEventsInformationDto;
 import com.kevinguanchedarias.owgejava.entity.WebsocketEventsInformation;
+import com.kevinguanchedarias.owgejava.fake.FakeClusterWebsocketMessageBus;
 import com.kevinguanchedarias.owgejava.fake.NonPostConstructSocketIoService;
 import com.kevinguanchedarias.owgejava.filter.OwgeJwtAuthenticationFilter;
 import com.kevinguanchedarias.owgejava.pojo.WebsocketMessage;
+import com.kevinguanchedarias.owgejava.pojo.websocket.EncodedWebsocketPayload;
 import com.kevinguanchedarias.owgejava.repository.UserStorageRepository;
 import com.kevinguanchedarias.owgejava.test.answer.InvokeRunnableLambdaAnswer;
 import org.junit.jupiter.api.Test;
@@ -50,7 +55,9 @@ import static org.mockito.Mockito.*;
         UserStorageRepository.class,
         AsyncRunnerBo.class,
         OwgeJwtAuthenticationFilter.class,
-        ObjectMapper.class
+        ObjectMapper.class,
+        WebsocketPayloadEncoder.class,
+        WebsocketMessageBus.class
 })
 @ExtendWith(OutputCaptureExtension.class)
 class SocketIoServiceTest {
@@ -64,7 +71,8 @@ class SocketIoServiceTest {
     private final AsyncRunnerBo asyncRunnerBo;
     private final UserStorageRepository userStorageRepository;
     private final WebsocketConfiguration websocketConfiguration;
-
+    private final WebsocketPayloadEncoder websocketPayloadEncoder;
+    private final WebsocketMessageBus websocketMessageBus;
 
     @Autowired
     SocketIoServiceTest(
@@ -74,7 +82,10 @@ class SocketIoServiceTest {
             ConfigurationBo configurationBo,
             AsyncRunnerBo asyncRunnerBo,
             UserStorageRepository userStorageRepository,
-            WebsocketConfiguration websocketConfiguration) {
+            WebsocketConfiguration websocketConfiguration,
+            WebsocketPayloadEncoder websocketPayloadEncoder,
+            WebsocketMessageBus websocketMessageBus
+    ) {
         this.socketIoService = socketIoService;
         this.owgeJwtAuthenticationFilter = owgeJwtAuthenticationFilter;
         this.websocketEventsInformationBo = websocketEventsInformationBo;
@@ -82,6 +93,8 @@ class SocketIoServiceTest {
         this.asyncRunnerBo = asyncRunnerBo;
         this.userStorageRepository = userStorageRepository;
         this.websocketConfiguration = websocketConfiguration;
+        this.websocketPayloadEncoder = websocketPayloadEncoder;
+        this.websocketMessageBus = websocketMessageBus;
     }
 
     @Test
@@ -93,6 +106,7 @@ class SocketIoServiceTest {
 
             verify(serverMock, times(1)).addConnectListener(any());
             verify(serverMock, times(1)).addEventListener(eq(SocketIoService.AUTHENTICATION), eq(String.class), any());
+            verify(websocketMessageBus, times(1)).subscribe(any());
         }
     }
 
@@ -208,6 +222,30 @@ class SocketIoServiceTest {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    void authenticationListener_should_not_verify_token_when_already_cached() throws Exception {
+        try (var mockedConstructor = mockConstruction(SocketIOServer.class)) {
+            socketIoService.realInit();
+            var serverMock = mockedConstructor.constructed().get(0);
+            var clientMock = mock(SocketIOClient.class);
+            var captor = ArgumentCaptor.forClass(DataListener.class);
+            verify(serverMock, times(1)).addEventListener(eq(SocketIoService.AUTHENTICATION), eq(String.class), captor.capture());
+            var listener = captor.getValue();
+            var tokenUser = givenTokenUser();
+            given(socketIoService.mapper.readValue(eq(AUTHENTICATION_DATA), any(TypeReference.class)))
+                    .willReturn(Map.of("value", AUTHENTICATION_TOKEN));
+            given(owgeJwtAuthenticationFilter.findCachedUserFromToken(AUTHENTICATION_TOKEN)).willReturn(tokenUser);
+            given(websocketEventsInformationBo.toDto(anyList())).willReturn(new ArrayList<>());
+            given(configurationBo.findConfigurationParam("UNIVERSE_ID")).willReturn(givenConfiguration("1"));
+
+            listener.onData(clientMock, AUTHENTICATION_DATA, null);
+
+            verify(owgeJwtAuthenticationFilter, never()).findUserFromToken(any());
+            verify(clientMock, times(1)).set(SocketIoService.USER_TOKEN_KEY, tokenUser);
+        }
+    }
+
     @Test
     void onContextReady_should_work(CapturedOutput capturedOutput) {
         var host = "foo.com";
@@ -247,6 +285,8 @@ class SocketIoServiceTest {
         given(websocketEventsInformationBo.save(any(WebsocketEventsInformation.class))).will(returnsFirstArg());
         socketIoService.server = server;
         doAnswer(new InvokeRunnableLambdaAnswer(0)).when(asyncRunnerBo).runAsyncWithoutContext(any());
+        givenLocalBus();
+        var payload = givenEncodedPayload(content);
 
         socketIoService.sendMessage(user, eventName, () -> content);
 
@@ -259,7 +299,8 @@ class SocketIoServiceTest {
         verify(validClientMock, times(1)).sendEvent(eq("deliver_message"), sentMessageCaptor.capture());
         var sentMessage = sentMessageCaptor.getValue();
         assertThat(sentMessage.getEventName()).isEqualTo(eventName);
-        assertThat(sentMessage.getValue()).isEqualTo(content);
+        assertThat(((RawValue) sentMessage.getValue()).rawValue()).hasToString(payload.getValue());
+        assertThat(sentMessage.getCompressedValue()).isNull();
     }
 
     @Test
@@ -274,6 +315,8 @@ class SocketIoServiceTest {
         given(userStorageRepository.findAll()).willReturn(List.of(user));
         socketIoService.server = server;
         doAnswer(new InvokeRunnableLambdaAnswer(0)).when(asyncRunnerBo).runAsyncWithoutContext(any());
+        givenLocalBus();
+        var payload = givenEncodedPayload(content);
 
         socketIoService.sendMessage(0, eventName, () -> content);
 
@@ -286,7 +329,8 @@ class SocketIoServiceTest {
         verify(clientMock, times(1)).sendEvent(eq("deliver_message"), sentMessageCaptor.capture());
         var sentMessage = sentMessageCaptor.getValue();
         assertThat(sentMessage.getEventName()).isEqualTo(eventName);
-        assertThat(sentMessage.getValue()).isEqualTo(content);
+        assertThat(((RawValue) sentMessage.getValue()).rawValue()).hasToString(payload.getValue());
+        assertThat(sentMessage.getCompressedValue()).isNull();
     }
 
     @Test
@@ -301,6 +345,8 @@ class SocketIoServiceTest {
         given(userStorageRepository.findAll()).willReturn(List.of(user));
         socketIoService.server = server;
         doAnswer(new InvokeRunnableLambdaAnswer(0)).when(asyncRunnerBo).runAsyncWithoutContext(any());
+        givenLocalBus();
+        var payload = givenEncodedPayload(content);
 
         try (var mockedStatic = mockStatic(TransactionSynchronizationManager.class)) {
             mockedStatic.when(TransactionSynchronizationManager::isActualTransactionActive).thenReturn(true);
@@ -316,7 +362,8 @@ class SocketIoServiceTest {
             verify(clientMock, times(1)).sendEvent(eq("deliver_message"), sentMessageCaptor.capture());
             var sentMessage = sentMessageCaptor.getValue();
             assertThat(sentMessage.getEventName()).isEqualTo(eventName);
-            assertThat(sentMessage.getValue()).isEqualTo(content);
+            assertThat(((RawValue) sentMessage.getValue()).rawValue()).hasToString(payload.getValue());
+            assertThat(sentMessage.getCompressedValue()).isNull();
             assertThat(capturedOutput.getOut()).contains("if everything is nice");
         }
     }
@@ -331,6 +378,7 @@ class SocketIoServiceTest {
         given(userStorageRepository.findAll()).willReturn(List.of(user));
         socketIoService.server = server;
         var notConnectedActionMock = mock(Runnable.class);
+        givenLocalBus();
 
         socketIoService.sendMessage(0, eventName, () -> content, notConnectedActionMock);
 
@@ -342,7 +390,9 @@ class SocketIoServiceTest {
     void sendMessage_should_do_nothing_on_empty_users_and_null_not_connected_action() {
         var server = mock(SocketIOServer.class);
         given(server.getAllClients()).willReturn(List.of());
+        given(websocketEventsInformationBo.save(any(WebsocketEventsInformation.class))).will(returnsFirstArg());
         socketIoService.server = server;
+        givenLocalBus();
 
         socketIoService.sendMessage(givenUser1(), "FOO", () -> "BAR", null);
 
@@ -355,10 +405,92 @@ class SocketIoServiceTest {
         socketIoService.server = server;
         var clientMock = mock(SocketIOClient.class);
         given(server.getAllClients()).willReturn(List.of(clientMock));
+        givenLocalBus();
 
         socketIoService.clearCache();
 
         verify(websocketEventsInformationBo, times(1)).clear();
         verify(clientMock).sendEvent("cache_clear", "null");
     }
+
+    @Test
+    void sendMessage_should_encode_once_and_share_the_message_between_the_sockets_of_the_same_user() {
+        var content = "HelloWorld";
+        var server = mock(SocketIOServer.class);
+        var firstTab = mock(SocketIOClient.class);
+        var secondTab = mock(SocketIOClient.class);
+        given(server.getAllClients()).willReturn(List.of(firstTab, secondTab));
+        given(firstTab.get(SocketIoService.USER_TOKEN_KEY)).willReturn(givenTokenUser());
+        given(secondTab.get(SocketIoService.USER_TOKEN_KEY)).willReturn(givenTokenUser());
+        socketIoService.server = server;
+        doAnswer(new InvokeRunnableLambdaAnswer(0)).when(asyncRunnerBo).runAsyncWithoutContext(any());
+        givenLocalBus();
+        var compressed = new byte[]{1, 2};
+        given(websocketPayloadEncoder.encode(content))
+                .willReturn(EncodedWebsocketPayload.builder().compressedValue(compressed).size(600).build());
+
+        socketIoService.sendOneTimeMessage(TOKEN_USER_ID, "HELLO", () -> content, null);
+
+        verify(websocketPayloadEncoder, times(1)).encode(content);
+        var firstCaptor = ArgumentCaptor.forClass(WebsocketMessage.class);
+        var secondCaptor = ArgumentCaptor.forClass(WebsocketMessage.class);
+        verify(firstTab, times(1)).sendEvent(eq("deliver_message"), firstCaptor.capture());
+        verify(secondTab, times(1)).sendEvent(eq("deliver_message"), secondCaptor.capture());
+        var message = firstCaptor.getValue();
+        assertThat(secondCaptor.getValue()).isSameAs(message);
+        assertThat(message.getEventName()).isEqualTo("HELLO");
+        assertThat(message.getValue()).isNull();
+        assertThat(message.getCompressedValue()).isSameAs(compressed);
+    }
+
+    @Test
+    void sendMessage_should_publish_to_the_other_nodes_when_not_connected_to_this_one() {
+        var content = "HelloWorld";
+        var server = mock(SocketIOServer.class);
+        var otherNodeServer = mock(SocketIOServer.class);
+        var otherNodeClient = mock(SocketIOClient.class);
+        var notConnectedActionMock = mock(Runnable.class);
+        given(server.getAllClients()).willReturn(List.of());
+        given(otherNodeServer.getAllClients()).willReturn(List.of(otherNodeClient));
+        given(otherNodeClient.get(SocketIoService.USER_TOKEN_KEY)).willReturn(givenTokenUser());
+        given(websocketEventsInformationBo.save(any(WebsocketEventsInformation.class))).will(returnsFirstArg());
+        socketIoService.server = server;
+        doAnswer(new InvokeRunnableLambdaAnswer(0)).when(asyncRunnerBo).runAsyncWithoutContext(any());
+        var payload = givenEncodedPayload(content);
+        var clusterBus = new FakeClusterWebsocketMessageBus();
+        var otherNode = new NonPostConstructSocketIoService();
+        otherNode.server = otherNodeServer;
+        clusterBus.subscribe(socketIoService::deliverLocally);
+        clusterBus.subscribe(otherNode::deliverLocally);
+        doAnswer(invocation -> {
+            clusterBus.publish(invocation.getArgument(0));
+            return null;
+        }).when(websocketMessageBus).publish(any());
+
+        socketIoService.sendMessage(TOKEN_USER_ID, "HELLO", () -> content, notConnectedActionMock);
+
+        verify(notConnectedActionMock, never()).run();
+        var saveCaptor = ArgumentCaptor.forClass(WebsocketEventsInformation.class);
+        verify(websocketEventsInformationBo, times(1)).save(saveCaptor.capture());
+        var sentMessageCaptor = ArgumentCaptor.forClass(WebsocketMessage.class);
+        verify(otherNodeClient, times(1)).sendEvent(eq("deliver_message"), sentMessageCaptor.capture());
+        var sentMessage = sentMessageCaptor.getValue();
+        assertThat(sentMessage.getEventName()).isEqualTo("HELLO");
+        assertThat(((RawValue) sentMessage.getValue()).rawValue()).hasToString(payload.getValue());
+        assertThat(sentMessage.getLastSent()).isEqualTo(saveCaptor.getValue().getLastSent());
+    }
+
+    private void givenLocalBus() {
+        given(websocketMessageBus.isLocal()).willReturn(true);
+        doAnswer(invocation -> {
+            socketIoService.deliverLocally(invocation.getArgument(0));
+            return null;
+        }).when(websocketMessageBus).publish(any());
+    }
+
+    private EncodedWebsocketPayload givenEncodedPayload(String content) {
+        var payload = EncodedWebsocketPayload.builder().value("\"" + content + "\"").size(12).build();
+        given(websocketPayloadEncoder.encode(content)).willReturn(payload);
+        return payload;
+    }
 }
@@ -1,8 +1,10 @@
 package com.kevinguanchedarias.owgejava.business;
 
+import com.kevinguanchedarias.owgejava.business.retention.RetentionPurgeService;
 import com.kevinguanchedarias.owgejava.business.util.TransactionUtilService;
 import com.kevinguanchedarias.owgejava.entity.SystemMessage;
 import com.kevinguanchedarias.owgejava.entity.UserReadSystemMessage;
+import com.kevinguanchedarias.owgejava.pojo.RetentionPurgeDefinition;
 import com.kevinguanchedarias.owgejava.pojo.SystemMessageUser;
 import com.kevinguanchedarias.owgejava.repository.SystemMessageRepository;
 import com.kevinguanchedarias.owgejava.repository.UserReadSystemMessageRepository;
@@ -36,7 +38,8 @@ import static org.mockito.Mockito.*;
         TransactionUtilService.class,
         SocketIoService.class,
         UserStorageBo.class,
-        UserReadSystemMessageRepository.class
+        UserReadSystemMessageRepository.class,
+        RetentionPurgeService.class
 })
 class SystemMessageBoTest {
 
@@ -46,6 +49,7 @@ class SystemMessageBoTest {
     private final transient SocketIoService socketIoService;
     private final UserStorageBo userStorageBo;
     private final transient UserReadSystemMessageRepository userReadRepository;
+    private final RetentionPurgeService retentionPurgeService;
 
     private InvokeSupplierLambdaAnswer<List<SystemMessageUser>> emitChangesSocketAnswer;
 
@@ -56,7 +60,8 @@ class SystemMessageBoTest {
             TransactionUtilService transactionUtilService,
             SocketIoService socketIoService,
             UserStorageBo userStorageBo,
-            UserReadSystemMessageRepository userReadRepository
+            UserReadSystemMessageRepository userReadRepository,
+            RetentionPurgeService retentionPurgeService
     ) {
         this.systemMessageBo = systemMessageBo;
         this.repository = repository;
@@ -64,6 +69,7 @@ class SystemMessageBoTest {
         this.socketIoService = socketIoService;
         this.userStorageBo = userStorageBo;
         this.userReadRepository = userReadRepository;
+        this.retentionPurgeService = retentionPurgeService;
     }
 
     @BeforeEach
@@ -76,22 +82,13 @@ class SystemMessageBoTest {
 
     @Test
     void deleteOld_should_work() {
-        var systemMessage = givenSystemMessage();
-        doAnswer(new InvokeRunnableLambdaAnswer(0)).when(transactionUtilService).runWithRequired(any());
-        given(repository.findByCreationDateLessThan(any())).willReturn(List.of(systemMessage));
-
-        systemMessageBo.deleteOld();
-
-        verify(repository, times(1)).deleteAll(List.of(systemMessage));
-    }
-
-    @Test
-    void deleteOld_should_do_nothing_if_empty_result() {
-        doAnswer(new InvokeRunnableLambdaAnswer(0)).when(transactionUtilService).runWithRequired(any());
-
         systemMessageBo.deleteOld();
 
-        verify(repository, never()).deleteAll(any());
+        var captor = ArgumentCaptor.forClass(RetentionPurgeDefinition.class);
+        verify(retentionPurgeService, times(1)).purge(captor.capture(), any());
+        var definition = captor.getValue();
+        assertThat(definition.getTable()).isEqualTo("system_messages");
+        assertThat(definition.getBeforeDeleteStatements()).hasSize(1);
     }
 
     @Test
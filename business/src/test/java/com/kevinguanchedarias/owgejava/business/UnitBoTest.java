@@ -2,7 +2,10 @@ package com.kevinguanchedarias.owgejava.business;
 
 import com.kevinguanchedarias.owgejava.business.speedimpactgroup.SpeedImpactGroupFinderBo;
 import com.kevinguanchedarias.owgejava.business.unit.HiddenUnitBo;
+import com.kevinguanchedarias.owgejava.business.unit.PlanetInvolvedUnitsIndex;
+import com.kevinguanchedarias.owgejava.dto.InterceptableSpeedGroupDto;
 import com.kevinguanchedarias.owgejava.dto.UnitDto;
+import com.kevinguanchedarias.owgejava.entity.InterceptableSpeedGroup;
 import com.kevinguanchedarias.owgejava.entity.RequirementGroup;
 import com.kevinguanchedarias.owgejava.entity.SpeedImpactGroup;
 import com.kevinguanchedarias.owgejava.entity.Unit;
@@ -11,6 +14,7 @@ import com.kevinguanchedarias.owgejava.repository.InterceptableSpeedGroupReposit
 import com.kevinguanchedarias.owgejava.repository.ObtainedUnitRepository;
 import com.kevinguanchedarias.owgejava.repository.UnitRepository;
 import com.kevinguanchedarias.owgejava.util.DtoUtilService;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -24,15 +28,19 @@ import java.util.List;
 import java.util.stream.Stream;
 
 import static com.kevinguanchedarias.owgejava.mock.ObjectRelationMock.givenUnlockedRelation;
+import static com.kevinguanchedarias.owgejava.mock.SpeedImpactGroupMock.SPEED_IMPACT_GROUP_ID;
 import static com.kevinguanchedarias.owgejava.mock.SpeedImpactGroupMock.givenSpeedImpactGroup;
 import static com.kevinguanchedarias.owgejava.mock.UnitMock.UNIT_ID_1;
 import static com.kevinguanchedarias.owgejava.mock.UnitMock.givenUnit1;
 import static com.kevinguanchedarias.owgejava.mock.UserMock.USER_ID_1;
 import static com.kevinguanchedarias.owgejava.mock.UserMock.givenUser1;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 
 @SpringBootTest(
         classes = UnitBo.class,
@@ -48,7 +56,8 @@ import static org.mockito.Mockito.mockStatic;
         EntityManager.class,
         HiddenUnitBo.class,
         SpeedImpactGroupBo.class,
-        SpeedImpactGroupFinderBo.class
+        SpeedImpactGroupFinderBo.class,
+        PlanetInvolvedUnitsIndex.class
 })
 class UnitBoTest {
     private final UnitBo unitBo;
@@ -56,6 +65,10 @@ class UnitBoTest {
     private final EntityManager entityManager;
     private final HiddenUnitBo hiddenUnitBo;
     private final SpeedImpactGroupFinderBo speedImpactGroupFinderBo;
+    private final UnitRepository unitRepository;
+    private final InterceptableSpeedGroupRepository interceptableSpeedGroupRepository;
+    private final SpeedImpactGroupBo speedImpactGroupBo;
+    private final PlanetInvolvedUnitsIndex planetInvolvedUnitsIndex;
 
     @Autowired
     UnitBoTest(
@@ -63,13 +76,21 @@ class UnitBoTest {
             UnlockedRelationBo unlockedRelationBo,
             EntityManager entityManager,
             HiddenUnitBo hiddenUnitBo,
-            SpeedImpactGroupFinderBo speedImpactGroupFinderBo
+            SpeedImpactGroupFinderBo speedImpactGroupFinderBo,
+            UnitRepository unitRepository,
+            InterceptableSpeedGroupRepository interceptableSpeedGroupRepository,
+            SpeedImpactGroupBo speedImpactGroupBo,
+            PlanetInvolvedUnitsIndex planetInvolvedUnitsIndex
     ) {
         this.unitBo = unitBo;
         this.unlockedRelationBo = unlockedRelationBo;
         this.entityManager = entityManager;
         this.hiddenUnitBo = hiddenUnitBo;
         this.speedImpactGroupFinderBo = speedImpactGroupFinderBo;
+        this.unitRepository = unitRepository;
+        this.interceptableSpeedGroupRepository = interceptableSpeedGroupRepository;
+        this.speedImpactGroupBo = speedImpactGroupBo;
+        this.planetInvolvedUnitsIndex = planetInvolvedUnitsIndex;
     }
 
     @ParameterizedTest
@@ -108,6 +129,23 @@ class UnitBoTest {
         }
     }
 
+    @Test
+    void saveSpeedImpactGroupInterceptors_should_replace_the_interceptors_and_drop_the_planet_index() {
+        var unit = givenUnit1();
+        var speedImpactGroup = givenSpeedImpactGroup();
+        var interceptableDto = new InterceptableSpeedGroupDto();
+        interceptableDto.dtoFromEntity(InterceptableSpeedGroup.builder().speedImpactGroup(speedImpactGroup).build());
+        given(unitRepository.getById(UNIT_ID_1)).willReturn(unit);
+        given(speedImpactGroupBo.getOne(SPEED_IMPACT_GROUP_ID)).willReturn(speedImpactGroup);
+
+        unitBo.saveSpeedImpactGroupInterceptors(UNIT_ID_1, List.of(interceptableDto));
+
+        var inOrder = inOrder(interceptableSpeedGroupRepository, planetInvolvedUnitsIndex);
+        inOrder.verify(interceptableSpeedGroupRepository, times(1)).deleteByUnit(unit);
+        inOrder.verify(interceptableSpeedGroupRepository, times(1)).save(any());
+        inOrder.verify(planetInvolvedUnitsIndex, times(1)).invalidateAll();
+    }
+
     private static Stream<Arguments> findAllByUser_should_work_arguments() {
         var spi = givenSpeedImpactGroup();
         spi.setRequirementGroups(List.of(new RequirementGroup()));
@@ -15,6 +15,7 @@ import com.kevinguanchedarias.owgejava.business.speedimpactgroup.UnitInterceptio
 import com.kevinguanchedarias.owgejava.business.unit.obtained.ObtainedUnitModificationBo;
 import com.kevinguanchedarias.owgejava.business.user.UserSessionService;
 import com.kevinguanchedarias.owgejava.business.util.TransactionUtilService;
+import com.kevinguanchedarias.owgejava.configurations.OpenTelemetryConfiguration;
 import com.kevinguanchedarias.owgejava.entity.Mission;
 import com.kevinguanchedarias.owgejava.enumerations.DocTypeEnum;
 import com.kevinguanchedarias.owgejava.enumerations.GameProjectsEnum;
@@ -70,7 +71,7 @@ import static org.mockito.Mockito.*;
 @ExtendWith(SpringExtension.class)
 @SpringBootTest(
         webEnvironment = SpringBootTest.WebEnvironment.NONE,
-        classes = NonPostConstructUnitMissionBo.class
+        classes = {NonPostConstructUnitMissionBo.class, MissionTelemetryService.class, OpenTelemetryConfiguration.class}
 )
 @MockBean({
         MissionRepository.class,
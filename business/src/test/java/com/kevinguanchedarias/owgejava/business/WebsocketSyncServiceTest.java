@@ -2,6 +2,7 @@ package com.kevinguanchedarias.owgejava.business;
 
 import com.kevinguanchedarias.owgejava.business.user.UserSessionService;
 import com.kevinguanchedarias.owgejava.entity.UserStorage;
+import com.kevinguanchedarias.owgejava.entity.WebsocketEventsInformation;
 import com.kevinguanchedarias.owgejava.exception.ProgrammingException;
 import com.kevinguanchedarias.owgejava.fake.NonPostConstructWebsocketSyncService;
 import com.kevinguanchedarias.owgejava.interfaces.SyncSource;
@@ -14,6 +15,9 @@ import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -22,6 +26,7 @@ import static com.kevinguanchedarias.owgejava.mock.UserMock.USER_ID_1;
 import static com.kevinguanchedarias.owgejava.mock.UserMock.givenUser1;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.BDDMockito.given;
@@ -118,4 +123,78 @@ class WebsocketSyncServiceTest {
                 .containsKey("lastSent");
 
     }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void findChangedData_should_return_not_modified_when_version_matches() {
+        var notModifiedKey = "power";
+        var modifiedKey = "noob";
+        var unknownByClientKey = "newbie";
+        var functionMock = mock(Function.class);
+        var data = "Hello World";
+        var version = Instant.now().truncatedTo(ChronoUnit.SECONDS).minusSeconds(60);
+        var newerVersion = version.plusSeconds(30);
+        ReflectionTestUtils.setField(websocketSyncService, "handlers",
+                new HashMap<>(Map.of(notModifiedKey, functionMock, modifiedKey, functionMock, unknownByClientKey, functionMock)));
+        var user = givenUser1();
+        given(userSessionService.findLoggedIn()).willReturn(user);
+        given(functionMock.apply(user)).willReturn(data);
+        given(websocketEventsInformationBo.findByUserId(USER_ID_1)).willReturn(List.of(
+                givenEventInformation(notModifiedKey, version),
+                givenEventInformation(modifiedKey, newerVersion),
+                givenEventInformation(unknownByClientKey, version)
+        ));
+        Map<String, Instant> knownVersions = new HashMap<>();
+        knownVersions.put(notModifiedKey, version);
+        knownVersions.put(modifiedKey, version);
+        knownVersions.put(unknownByClientKey, null);
+
+        var result = websocketSyncService.findChangedData(knownVersions);
+
+        assertThat((Map<String, Object>) result.get(notModifiedKey))
+                .containsEntry(WebsocketSyncService.NOT_MODIFIED_KEY, true)
+                .containsEntry(WebsocketSyncService.LAST_SENT_KEY, version)
+                .doesNotContainKey("data");
+        assertThat((Map<String, Object>) result.get(modifiedKey)).containsEntry("data", data);
+        assertThat((Map<String, Object>) result.get(unknownByClientKey)).containsEntry("data", data);
+        verify(functionMock, times(2)).apply(user);
+        verify(websocketEventsInformationBo, never()).save(eq(notModifiedKey), any(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void findChangedData_should_send_data_when_version_is_from_current_millisecond() {
+        var key = "power";
+        Function<UserStorage, Object> handler = user -> "Hello World";
+        var version = Instant.now().truncatedTo(ChronoUnit.MILLIS).plusMillis(5);
+        ReflectionTestUtils.setField(websocketSyncService, "handlers", new HashMap<>(Map.of(key, handler)));
+        given(userSessionService.findLoggedIn()).willReturn(givenUser1());
+        given(websocketEventsInformationBo.findByUserId(USER_ID_1)).willReturn(List.of(givenEventInformation(key, version)));
+
+        var result = websocketSyncService.findChangedData(Map.of(key, version));
+
+        assertThat((Map<String, Object>) result.get(key)).containsEntry("data", "Hello World");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void findChangedData_should_send_data_when_version_changed_within_the_same_second() {
+        var key = "power";
+        Function<UserStorage, Object> handler = user -> "Hello World";
+        var knownVersion = Instant.now().truncatedTo(ChronoUnit.SECONDS).minusSeconds(60).plusMillis(200);
+        ReflectionTestUtils.setField(websocketSyncService, "handlers", new HashMap<>(Map.of(key, handler)));
+        given(userSessionService.findLoggedIn()).willReturn(givenUser1());
+        given(websocketEventsInformationBo.findByUserId(USER_ID_1))
+                .willReturn(List.of(givenEventInformation(key, knownVersion.plusMillis(600))));
+
+        var result = websocketSyncService.findChangedData(Map.of(key, knownVersion));
+
+        assertThat((Map<String, Object>) result.get(key)).containsEntry("data", "Hello World");
+    }
+
+    private WebsocketEventsInformation givenEventInformation(String eventName, Instant lastSent) {
+        var information = new WebsocketEventsInformation(eventName, USER_ID_1);
+        information.setLastSent(lastSent);
+        return information;
+    }
 }
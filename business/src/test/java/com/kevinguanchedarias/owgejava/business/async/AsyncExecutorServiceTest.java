@@ -0,0 +1,102 @@
+package com.kevinguanchedarias.owgejava.business.async;
+
+import com.kevinguanchedarias.owgejava.enumerations.AsyncPool;
+import com.kevinguanchedarias.owgejava.pojo.AsyncPoolStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncExecutorServiceTest {
+    private AsyncExecutorService asyncExecutorService;
+
+    @BeforeEach
+    void setup() {
+        asyncExecutorService = new AsyncExecutorService(2, 10, 1, 10, 1, 10, 10, 10);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        asyncExecutorService.shutdown();
+    }
+
+    @Test
+    void execute_should_run_in_the_pool() throws InterruptedException {
+        var threadName = new AtomicReference<String>();
+        var latch = new CountDownLatch(1);
+
+        asyncExecutorService.execute(AsyncPool.AUDIT, () -> {
+            threadName.set(Thread.currentThread().getName());
+            latch.countDown();
+        });
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threadName.get()).startsWith("OWGE_ASYNC_AUDIT-");
+    }
+
+    @Test
+    void schedule_should_run_in_the_pool_after_delay() throws InterruptedException {
+        var threadName = new AtomicReference<String>();
+        var latch = new CountDownLatch(1);
+
+        asyncExecutorService.schedule(AsyncPool.EMIT, () -> {
+            threadName.set(Thread.currentThread().getName());
+            latch.countDown();
+        }, 20);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threadName.get()).startsWith("OWGE_ASYNC_EMIT-");
+    }
+
+    @Test
+    void schedule_should_wait_again_instead_of_running_in_the_scheduler_thread_when_the_pool_is_full() throws InterruptedException {
+        var release = new CountDownLatch(1);
+        var threadName = new AtomicReference<String>();
+        var latch = new CountDownLatch(1);
+        for (var i = 0; i < 11; i++) {
+            asyncExecutorService.execute(AsyncPool.SCHEDULED_TASK, () -> awaitQuietly(release));
+        }
+
+        asyncExecutorService.schedule(AsyncPool.SCHEDULED_TASK, () -> {
+            threadName.set(Thread.currentThread().getName());
+            latch.countDown();
+        }, 1);
+        assertThat(latch.await(100, TimeUnit.MILLISECONDS)).isFalse();
+        release.countDown();
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threadName.get()).startsWith("OWGE_ASYNC_SCHEDULED_TASK-");
+    }
+
+    @Test
+    void findStats_should_include_pools_and_delayed_scheduler() {
+        assertThat(asyncExecutorService.findStats())
+                .extracting(AsyncPoolStats::getName)
+                .containsExactly("EMIT", "AUDIT", "SCHEDULED_TASK", DelayedTaskScheduler.NAME);
+    }
+
+    @Test
+    void toPrometheusText_should_label_by_pool() {
+        var result = asyncExecutorService.toPrometheusText();
+
+        assertThat(result)
+                .contains("# TYPE owge_async_queue_depth gauge")
+                .contains("owge_async_queue_depth{pool=\"EMIT\"} 0")
+                .contains("owge_async_tasks_rejected_total{pool=\"DELAYED\"} 0")
+                .contains("owge_async_run_seconds_count{pool=\"AUDIT\"} 0")
+                .doesNotContain("owge_async_run_seconds_count{pool=\"DELAYED\"}");
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
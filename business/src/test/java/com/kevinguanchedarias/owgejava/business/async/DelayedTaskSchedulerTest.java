@@ -0,0 +1,61 @@
+package com.kevinguanchedarias.owgejava.business.async;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class DelayedTaskSchedulerTest {
+    private DelayedTaskScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void schedule_should_dispatch_after_delay() throws InterruptedException {
+        scheduler = new DelayedTaskScheduler(10);
+        var latch = new CountDownLatch(1);
+        var startedAt = System.nanoTime();
+
+        scheduler.schedule(latch::countDown, 50);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(50);
+        var stats = scheduler.findStats();
+        assertThat(stats.getName()).isEqualTo(DelayedTaskScheduler.NAME);
+        assertThat(stats.getSubmitted()).isEqualTo(1);
+    }
+
+    @Test
+    void schedule_should_discard_when_too_many_pending() {
+        scheduler = new DelayedTaskScheduler(1);
+        var discarded = mock(Runnable.class);
+        scheduler.schedule(mock(Runnable.class), 60_000);
+
+        var accepted = scheduler.schedule(discarded, 0);
+
+        assertThat(accepted).isFalse();
+        var stats = scheduler.findStats();
+        assertThat(stats.getQueueDepth()).isEqualTo(1);
+        assertThat(stats.getRejected()).isEqualTo(1);
+        verify(discarded, after(100).never()).run();
+    }
+
+    @Test
+    void reschedule_should_dispatch_even_when_too_many_pending() throws InterruptedException {
+        scheduler = new DelayedTaskScheduler(1);
+        var latch = new CountDownLatch(1);
+        scheduler.schedule(mock(Runnable.class), 60_000);
+
+        scheduler.reschedule(latch::countDown, 0);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(scheduler.findStats().getRejected()).isZero();
+    }
+}
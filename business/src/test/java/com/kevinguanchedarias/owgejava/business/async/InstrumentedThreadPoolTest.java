@@ -0,0 +1,118 @@
+package com.kevinguanchedarias.owgejava.business.async;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InstrumentedThreadPoolTest {
+    private InstrumentedThreadPool pool;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pool.shutdown();
+    }
+
+    @Test
+    void execute_should_run_task_in_named_thread_with_priority() throws InterruptedException {
+        pool = new InstrumentedThreadPool("FOO", 1, 10, Thread.MIN_PRIORITY, true);
+        var threadReference = new AtomicReference<Thread>();
+        var latch = new CountDownLatch(1);
+
+        pool.execute(() -> {
+            threadReference.set(Thread.currentThread());
+            latch.countDown();
+        });
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threadReference.get().getName()).isEqualTo("OWGE_ASYNC_FOO-1");
+        assertThat(threadReference.get().getPriority()).isEqualTo(Thread.MIN_PRIORITY);
+        assertThat(threadReference.get().isDaemon()).isTrue();
+    }
+
+    @Test
+    void execute_should_count_failed_tasks() throws InterruptedException {
+        pool = new InstrumentedThreadPool("FOO", 1, 10, Thread.NORM_PRIORITY, true);
+
+        pool.execute(() -> {
+            throw new IllegalStateException("boom");
+        });
+        pool.shutdown();
+
+        var stats = pool.findStats();
+        assertThat(stats.getSubmitted()).isEqualTo(1);
+        assertThat(stats.getCompleted()).isEqualTo(1);
+        assertThat(stats.getFailed()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_should_run_in_caller_when_full_and_caller_runs() throws InterruptedException {
+        pool = new InstrumentedThreadPool("FOO", 1, 1, Thread.NORM_PRIORITY, true);
+        var release = new CountDownLatch(1);
+        var callerThread = new AtomicReference<Thread>();
+        pool.execute(() -> awaitQuietly(release));
+        pool.execute(() -> awaitQuietly(release));
+
+        pool.execute(() -> callerThread.set(Thread.currentThread()));
+        release.countDown();
+
+        assertThat(callerThread.get()).isSameAs(Thread.currentThread());
+        assertThat(pool.findStats().getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_should_discard_when_full_and_not_caller_runs() {
+        pool = new InstrumentedThreadPool("FOO", 1, 1, Thread.NORM_PRIORITY, false);
+        var release = new CountDownLatch(1);
+        var discardedRan = new AtomicReference<>(false);
+        pool.execute(() -> awaitQuietly(release));
+        pool.execute(() -> awaitQuietly(release));
+
+        pool.execute(() -> discardedRan.set(true));
+        release.countDown();
+
+        assertThat(discardedRan.get()).isFalse();
+        var stats = pool.findStats();
+        assertThat(stats.getRejected()).isEqualTo(1);
+        assertThat(stats.getSubmitted()).isEqualTo(3);
+        assertThat(stats.getQueueCapacity()).isEqualTo(1);
+    }
+
+    @Test
+    void tryExecute_should_not_run_in_caller_when_full() {
+        pool = new InstrumentedThreadPool("FOO", 1, 1, Thread.NORM_PRIORITY, true);
+        var release = new CountDownLatch(1);
+        var rejectedRan = new AtomicReference<>(false);
+        pool.execute(() -> awaitQuietly(release));
+        pool.execute(() -> awaitQuietly(release));
+
+        var result = pool.tryExecute(() -> rejectedRan.set(true));
+        release.countDown();
+
+        assertThat(result).isFalse();
+        assertThat(rejectedRan.get()).isFalse();
+        assertThat(pool.findStats().getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void tryExecute_should_discard_when_stopped() throws InterruptedException {
+        pool = new InstrumentedThreadPool("FOO", 1, 1, Thread.NORM_PRIORITY, true);
+        pool.shutdown();
+
+        assertThat(pool.tryExecute(() -> {
+        })).isTrue();
+        assertThat(pool.findStats().getRejected()).isEqualTo(1);
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
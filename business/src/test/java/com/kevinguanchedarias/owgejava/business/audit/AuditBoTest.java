@@ -3,26 +3,30 @@ package com.kevinguanchedarias.owgejava.business.audit;
 import com.kevinguanchedarias.owgejava.business.AsyncRunnerBo;
 import com.kevinguanchedarias.owgejava.business.SocketIoService;
 import com.kevinguanchedarias.owgejava.business.TorClientBo;
+import com.kevinguanchedarias.owgejava.business.retention.RetentionPurgeService;
 import com.kevinguanchedarias.owgejava.business.user.UserSessionService;
 import com.kevinguanchedarias.owgejava.dto.AuditDto;
 import com.kevinguanchedarias.owgejava.entity.Audit;
-import com.kevinguanchedarias.owgejava.entity.UserStorage;
 import com.kevinguanchedarias.owgejava.entity.projection.AuditDataProjection;
+import com.kevinguanchedarias.owgejava.enumerations.AsyncPool;
 import com.kevinguanchedarias.owgejava.enumerations.AuditActionEnum;
 import com.kevinguanchedarias.owgejava.exception.ProgrammingException;
 import com.kevinguanchedarias.owgejava.exception.SgtBackendInvalidInputException;
+import com.kevinguanchedarias.owgejava.pojo.RetentionPurgeDefinition;
+import com.kevinguanchedarias.owgejava.pojo.audit.AuditRecord;
 import com.kevinguanchedarias.owgejava.repository.AuditRepository;
-import com.kevinguanchedarias.owgejava.repository.UserStorageRepository;
 import com.kevinguanchedarias.owgejava.test.answer.InvokeRunnableLambdaAnswer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.util.WebUtils;
@@ -36,12 +40,13 @@ import java.net.InetAddress;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
 import static com.kevinguanchedarias.owgejava.mock.AuditMock.*;
 import static com.kevinguanchedarias.owgejava.mock.UserMock.*;
 import static org.assertj.core.api.Assertions.*;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -57,32 +62,64 @@ import static org.mockito.Mockito.*;
         TorClientBo.class,
         AsyncRunnerBo.class,
         SocketIoService.class,
-        UserStorageRepository.class,
-        AuditMultiAccountSuspicionsService.class
+        AuditMultiAccountSuspicionsService.class,
+        RetentionPurgeService.class,
+        AuditPipeline.class
 })
 class AuditBoTest {
     private final AuditBo auditBo;
     private final AuditRepository repository;
     private final UserSessionService userSessionService;
-    private final UserStorageRepository userStorageRepository;
     private final AsyncRunnerBo asyncRunnerBo;
+    private final TorClientBo torClientBo;
+    private final SocketIoService socketIoService;
     private final AuditMultiAccountSuspicionsService auditMultiAccountSuspicionsService;
+    private final RetentionPurgeService retentionPurgeService;
+    private final AuditPipeline auditPipeline;
 
     @Autowired
     AuditBoTest(
             AuditBo auditBo,
             AuditRepository repository,
             UserSessionService userSessionService,
-            UserStorageRepository userStorageRepository,
             AsyncRunnerBo asyncRunnerBo,
-            AuditMultiAccountSuspicionsService auditMultiAccountSuspicionsService
+            TorClientBo torClientBo,
+            SocketIoService socketIoService,
+            AuditMultiAccountSuspicionsService auditMultiAccountSuspicionsService,
+            RetentionPurgeService retentionPurgeService,
+            AuditPipeline auditPipeline
     ) {
         this.auditBo = auditBo;
         this.repository = repository;
         this.userSessionService = userSessionService;
-        this.userStorageRepository = userStorageRepository;
         this.asyncRunnerBo = asyncRunnerBo;
+        this.torClientBo = torClientBo;
+        this.socketIoService = socketIoService;
         this.auditMultiAccountSuspicionsService = auditMultiAccountSuspicionsService;
+        this.retentionPurgeService = retentionPurgeService;
+        this.auditPipeline = auditPipeline;
+    }
+
+    @Test
+    void deleteOld_should_do_nothing_when_retention_is_disabled() {
+        auditBo.deleteOld();
+
+        verify(retentionPurgeService, never()).purge(any(), any());
+    }
+
+    @Test
+    void deleteOld_should_purge_audits_and_suspicions() {
+        ReflectionTestUtils.setField(auditBo, "auditRetentionDays", 90);
+
+        auditBo.deleteOld();
+
+        var captor = ArgumentCaptor.forClass(RetentionPurgeDefinition.class);
+        var dateCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(retentionPurgeService, times(1)).purge(captor.capture(), dateCaptor.capture());
+        assertThat(captor.getValue().getTable()).isEqualTo("audit");
+        assertThat(captor.getValue().getBeforeDeleteStatements()).hasSize(1);
+        assertThat(dateCaptor.getValue()).isCloseTo(LocalDateTime.now().minusDays(90), within(1, ChronoUnit.MINUTES));
+        ReflectionTestUtils.setField(auditBo, "auditRetentionDays", 0);
     }
 
     @Test
@@ -159,25 +196,45 @@ class AuditBoTest {
         var nearestAudit = givenAudit();
         given(repository.findNearestRequestAction(any(), eq(USER_ID_1), any())).willReturn(List.of(nearestAudit));
         var user = givenUser1();
-        var relatedUser = givenUser2();
         var actionDetail = "foo";
-        given(userStorageRepository.getReferenceById(USER_ID_2)).willReturn(relatedUser);
-        given(repository.save(any())).willAnswer(returnsFirstArg());
 
         auditBo.nonRequestAudit(AuditActionEnum.REGISTER_MISSION, actionDetail, user, USER_ID_2);
 
-        var captor = ArgumentCaptor.forClass(Audit.class);
-        verify(repository, times(1)).save(captor.capture());
-        var saved = captor.getValue();
-        assertThat(saved.getAction()).isEqualTo(AuditActionEnum.REGISTER_MISSION);
-        assertThat(saved.getActionDetail()).isEqualTo(actionDetail);
-        assertThat(saved.getIpv4()).isEqualTo(AUDIT_IP);
-        assertThat(saved.getUserAgent()).isEqualTo(AUDIT_USER_AGENT);
-        assertThat(saved.getCookie()).isEqualTo(AUDIT_COOKIE);
-        assertThat(saved.getUser()).isSameAs(user);
-        assertThat(saved.getRelatedUser()).isSameAs(relatedUser);
-        assertThat(saved.getCreationDate()).isBetween(LocalDateTime.now().minusMinutes(10), LocalDateTime.now().plusMinutes(10));
-        verify(auditMultiAccountSuspicionsService, times(1)).handle(saved);
+        var captor = ArgumentCaptor.forClass(AuditRecord.class);
+        verify(auditPipeline, times(1)).submit(captor.capture());
+        var submitted = captor.getValue();
+        assertThat(submitted.getAction()).isEqualTo(AuditActionEnum.REGISTER_MISSION);
+        assertThat(submitted.getActionDetail()).isEqualTo(actionDetail);
+        assertThat(submitted.getIpv4()).isEqualTo(AUDIT_IP);
+        assertThat(submitted.getUserAgent()).isEqualTo(AUDIT_USER_AGENT);
+        assertThat(submitted.getCookie()).isEqualTo(AUDIT_COOKIE);
+        assertThat(submitted.getUserId()).isEqualTo(USER_ID_1);
+        assertThat(submitted.getRelatedUserId()).isEqualTo(USER_ID_2);
+        assertThat(submitted.getRequestIp()).isNull();
+        assertThat(submitted.getCreationDate()).isBetween(LocalDateTime.now().minusMinutes(10), LocalDateTime.now().plusMinutes(10));
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void nonRequestAudit_should_use_the_pending_request_audit_if_present() {
+        var pendingRecord = AuditRecord.builder()
+                .ipv6("::1")
+                .userAgent(AUDIT_USER_AGENT)
+                .cookie(AUDIT_COOKIE)
+                .build();
+        given(auditPipeline.findPendingRequestAudit(USER_ID_1)).willReturn(Optional.of(pendingRecord));
+        var user = givenUser1();
+
+        auditBo.nonRequestAudit(AuditActionEnum.REGISTER_MISSION, null, user, null);
+
+        var captor = ArgumentCaptor.forClass(AuditRecord.class);
+        verify(auditPipeline, times(1)).submit(captor.capture());
+        var submitted = captor.getValue();
+        assertThat(submitted.getIpv4()).isNull();
+        assertThat(submitted.getIpv6()).isEqualTo("::1");
+        assertThat(submitted.getUserAgent()).isEqualTo(AUDIT_USER_AGENT);
+        assertThat(submitted.getCookie()).isEqualTo(AUDIT_COOKIE);
+        verify(repository, never()).findNearestRequestAction(any(), any(), any());
     }
 
     @Test
@@ -186,16 +243,14 @@ class AuditBoTest {
 
         auditBo.nonRequestAudit(AuditActionEnum.REGISTER_MISSION, null, user, null);
 
-        var captor = ArgumentCaptor.forClass(Audit.class);
-        verify(repository, times(1)).save(captor.capture());
-        var saved = captor.getValue();
-        assertThat(saved.getIpv4()).isNull();
-        assertThat(saved.getIpv6()).isNull();
-        assertThat(saved.getUserAgent()).isNull();
-        assertThat(saved.getCookie()).isNull();
-        assertThat(saved.getRelatedUser()).isNull();
-        verify(userStorageRepository, never()).getReferenceById(any());
-        verify(auditMultiAccountSuspicionsService, never()).handle(any());
+        var captor = ArgumentCaptor.forClass(AuditRecord.class);
+        verify(auditPipeline, times(1)).submit(captor.capture());
+        var submitted = captor.getValue();
+        assertThat(submitted.getIpv4()).isNull();
+        assertThat(submitted.getIpv6()).isNull();
+        assertThat(submitted.getUserAgent()).isNull();
+        assertThat(submitted.getCookie()).isNull();
+        assertThat(submitted.getRelatedUserId()).isNull();
     }
 
     @Test
@@ -223,11 +278,9 @@ class AuditBoTest {
     @MethodSource("doAudit_should_work_arguments")
     void doAudit_should_work(
             Integer relatedUser,
-            UserStorage expectedRelatedUser,
             InetAddress inetAddressMock,
             String expectedSavedIpv4,
-            String expectedSavedIpv6,
-            int timesGetReference
+            String expectedSavedIpv6
     ) {
         var requestAttributes = mock(ServletRequestAttributes.class);
         var request = mock(HttpServletRequest.class);
@@ -240,17 +293,13 @@ class AuditBoTest {
         given(request.getHeader("User-Agent")).willReturn(AUDIT_USER_AGENT);
         given(request.getRemoteAddr()).willReturn(proxyIp);
         given(request.getHeader("X-OWGE-RMT-IP")).willReturn(AUDIT_IP);
-        given(userSessionService.findLoggedInWithReference()).willReturn(user);
-        given(userStorageRepository.getReferenceById(relatedUser)).willReturn(expectedRelatedUser);
-        given(repository.save(any())).willAnswer(returnsFirstArg());
-        doAnswer(new InvokeRunnableLambdaAnswer(0)).when(asyncRunnerBo).runAsyncWithoutContextDelayed(any(), anyLong());
+        given(userSessionService.findLoggedIn()).willReturn(user);
 
         try (
                 var requestContextHolderMockedStatic = mockStatic(RequestContextHolder.class);
                 var webUtilsMockedStatic = mockStatic(WebUtils.class);
                 var inetAddressMockedStatic = mockStatic(InetAddress.class)
         ) {
-            given(inetAddressMock.getHostName()).willReturn("fake-host.com");
             given(inetAddressMock.isSiteLocalAddress()).willReturn(true);
             requestContextHolderMockedStatic.when(RequestContextHolder::getRequestAttributes).thenReturn(requestAttributes);
             webUtilsMockedStatic.when(() -> WebUtils.getCookie(request, AuditBo.CONTROL_COOKIE_NAME)).thenReturn(cookie);
@@ -258,24 +307,58 @@ class AuditBoTest {
 
             auditBo.doAudit(AuditActionEnum.REGISTER_MISSION, null, relatedUser);
 
-            var captor = ArgumentCaptor.forClass(Audit.class);
-            verify(repository, times(1)).save(captor.capture());
-            var saved = captor.getValue();
-            assertThat(saved.getAction()).isEqualTo(AuditActionEnum.REGISTER_MISSION);
-            assertThat(saved.getActionDetail()).isNull();
-            assertThat(saved.getIpv4()).isEqualTo(expectedSavedIpv4);
-            assertThat(saved.getIpv6()).isEqualTo(expectedSavedIpv6);
-            assertThat(saved.getUserAgent()).isEqualTo(AUDIT_USER_AGENT);
-            assertThat(saved.getCookie()).isEqualTo(cookieValue);
-            assertThat(saved.getUser()).isSameAs(user);
-            assertThat(saved.getRelatedUser()).isEqualTo(expectedRelatedUser);
-            assertThat(saved.getCreationDate()).isBetween(LocalDateTime.now().minusMinutes(10), LocalDateTime.now().plusMinutes(10));
-            verify(inetAddressMock, times(1)).getHostName();
-            verify(userStorageRepository, times(timesGetReference)).getReferenceById(relatedUser);
-            verify(auditMultiAccountSuspicionsService, times(1)).handle(saved);
+            var captor = ArgumentCaptor.forClass(AuditRecord.class);
+            verify(auditPipeline, times(1)).submit(captor.capture());
+            var submitted = captor.getValue();
+            assertThat(submitted.getAction()).isEqualTo(AuditActionEnum.REGISTER_MISSION);
+            assertThat(submitted.getActionDetail()).isNull();
+            assertThat(submitted.getIpv4()).isEqualTo(expectedSavedIpv4);
+            assertThat(submitted.getIpv6()).isEqualTo(expectedSavedIpv6);
+            assertThat(submitted.getUserAgent()).isEqualTo(AUDIT_USER_AGENT);
+            assertThat(submitted.getCookie()).isEqualTo(cookieValue);
+            assertThat(submitted.getUserId()).isEqualTo(USER_ID_1);
+            assertThat(submitted.getRelatedUserId()).isEqualTo(relatedUser);
+            assertThat(submitted.getRequestIp()).isEqualTo(AUDIT_IP);
+            assertThat(submitted.getCreationDate()).isBetween(LocalDateTime.now().minusMinutes(10), LocalDateTime.now().plusMinutes(10));
+            verify(repository, never()).save(any());
+            verify(auditMultiAccountSuspicionsService, never()).handle(any());
         }
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "tor-exit.example.com,false,1",
+            "fake-host.com,true,1",
+            "fake-host.com,false,0"
+    })
+    void onWritten_should_detect_tor_and_handle_suspicions(String host, boolean inTorList, int timesTor) {
+        var audit = givenAudit();
+        var inetAddressMock = mock(Inet4Address.class);
+        given(inetAddressMock.getHostName()).willReturn(host);
+        given(torClientBo.isTor(AUDIT_IP)).willReturn(inTorList);
+        doAnswer(new InvokeRunnableLambdaAnswer(0)).when(asyncRunnerBo).runAsyncWithoutContextDelayed(any(), anyLong(), eq(AsyncPool.AUDIT));
+
+        try (var inetAddressMockedStatic = mockStatic(InetAddress.class)) {
+            inetAddressMockedStatic.when(() -> InetAddress.getByName(AUDIT_IP)).thenReturn(inetAddressMock);
+
+            findWrittenListener().accept(AuditRecord.builder().requestIp(AUDIT_IP).build(), audit);
+        }
+
+        verify(repository, times(timesTor)).updateIsTor(audit, true);
+        verify(socketIoService, times(timesTor)).sendWarning(audit.getUser(), "I18N_WARN_TOR");
+        verify(auditMultiAccountSuspicionsService, times(1)).handle(audit);
+    }
+
+    @Test
+    void onWritten_should_not_detect_tor_when_the_audit_has_no_request() {
+        var audit = givenAudit();
+
+        findWrittenListener().accept(AuditRecord.builder().build(), audit);
+
+        verify(asyncRunnerBo, never()).runAsyncWithoutContextDelayed(any(), anyLong(), any());
+        verify(auditMultiAccountSuspicionsService, times(1)).handle(audit);
+    }
+
     @Test
     void order_should_return_zero() {
         assertThat(auditBo.order()).isZero();
@@ -290,13 +373,21 @@ class AuditBoTest {
         verify(repository, times(1)).deleteByUserOrRelatedUser(user, user);
     }
 
+    @SuppressWarnings("unchecked")
+    private BiConsumer<AuditRecord, Audit> findWrittenListener() {
+        auditBo.init();
+        var captor = ArgumentCaptor.forClass(BiConsumer.class);
+        verify(auditPipeline, atLeastOnce()).setWrittenListener(captor.capture());
+        return captor.getValue();
+    }
+
     private static Stream<Arguments> doAudit_should_work_arguments() {
         var ipv4Address = mock(Inet4Address.class);
         var ipv6Address = mock(Inet6Address.class);
         return Stream.of(
-                Arguments.of(null, null, ipv4Address, AUDIT_IP, null, 0),
-                Arguments.of(null, null, ipv6Address, null, AUDIT_IP, 0),
-                Arguments.of(USER_ID_2, givenUser2(), mock(Inet4Address.class), AUDIT_IP, null, 1)
+                Arguments.of(null, ipv4Address, AUDIT_IP, null),
+                Arguments.of(null, ipv6Address, null, AUDIT_IP),
+                Arguments.of(USER_ID_2, mock(Inet4Address.class), AUDIT_IP, null)
         );
     }
 }
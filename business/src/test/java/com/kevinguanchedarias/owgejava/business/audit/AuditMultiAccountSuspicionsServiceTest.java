@@ -4,6 +4,7 @@ import com.kevinguanchedarias.owgejava.business.AsyncRunnerBo;
 import com.kevinguanchedarias.owgejava.entity.Audit;
 import com.kevinguanchedarias.owgejava.entity.Suspicion;
 import com.kevinguanchedarias.owgejava.entity.UserStorage;
+import com.kevinguanchedarias.owgejava.enumerations.AsyncPool;
 import com.kevinguanchedarias.owgejava.enumerations.SuspicionSourceEnum;
 import com.kevinguanchedarias.owgejava.repository.AuditRepository;
 import com.kevinguanchedarias.owgejava.repository.SuspicionRepository;
@@ -70,7 +71,7 @@ class AuditMultiAccountSuspicionsServiceTest {
         var bothMatchingAudit = givenAudit().toBuilder().id(146L).build();
 
         doAnswer(new InvokeRunnableLambdaAnswer(0)).when(asyncRunnerBo)
-                .runAsyncWithoutContextDelayed(any(), eq(AuditMultiAccountSuspicionsService.WANTED_MS_DELAY), eq(Thread.MIN_PRIORITY));
+                .runAsyncWithoutContextDelayed(any(), eq(AuditMultiAccountSuspicionsService.WANTED_MS_DELAY), eq(AsyncPool.AUDIT));
         given(auditRepository.findSuspicions(any(), eq(user), eq(AUDIT_COOKIE), eq(AUDIT_IP), eq(AUDIT_IPV6))).willReturn(
                 List.of(suspicionIpMatchingAudit, suspicionBrowserMatchingAudit, bothMatchingAudit)
         );
@@ -102,7 +103,7 @@ class AuditMultiAccountSuspicionsServiceTest {
         var alreadyProcessedAudit = givenAudit();
 
         doAnswer(new InvokeRunnableLambdaAnswer(0)).when(asyncRunnerBo)
-                .runAsyncWithoutContextDelayed(any(), eq(AuditMultiAccountSuspicionsService.WANTED_MS_DELAY), eq(Thread.MIN_PRIORITY));
+                .runAsyncWithoutContextDelayed(any(), eq(AuditMultiAccountSuspicionsService.WANTED_MS_DELAY), eq(AsyncPool.AUDIT));
         given(auditRepository.findSuspicions(any(), eq(user), eq(AUDIT_COOKIE), eq(AUDIT_IP), eq(AUDIT_IPV6))).willReturn(
                 List.of(alreadyProcessedAudit)
         );
@@ -0,0 +1,204 @@
+package com.kevinguanchedarias.owgejava.business.audit;
+
+import com.kevinguanchedarias.owgejava.entity.Audit;
+import com.kevinguanchedarias.owgejava.enumerations.AuditActionEnum;
+import com.kevinguanchedarias.owgejava.pojo.audit.AuditRecord;
+import com.kevinguanchedarias.owgejava.repository.UserStorageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.kevinguanchedarias.owgejava.mock.UserMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class AuditPipelineTest {
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final UserStorageRepository userStorageRepository = mock(UserStorageRepository.class);
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    private final ResultSet generatedKeys = mock(ResultSet.class);
+    private final List<Audit> writtenAudits = new ArrayList<>();
+
+    private AuditPipeline auditPipeline;
+
+    @BeforeEach
+    void setup() throws Exception {
+        auditPipeline = new AuditPipeline(jdbcTemplate, userStorageRepository, 3, 2, 100);
+        auditPipeline.setWrittenListener((auditRecord, audit) -> writtenAudits.add(audit));
+        given(jdbcTemplate.execute(any(ConnectionCallback.class))).willAnswer(invocation -> {
+            try {
+                return invocation.getArgument(0, ConnectionCallback.class).doInConnection(connection);
+            } catch (SQLException e) {
+                throw new UncategorizedSQLException("ConnectionCallback", null, e);
+            }
+        });
+        given(connection.getAutoCommit()).willReturn(true);
+        given(connection.prepareStatement(anyString(), eq(Statement.RETURN_GENERATED_KEYS))).willReturn(preparedStatement);
+        given(preparedStatement.getGeneratedKeys()).willReturn(generatedKeys);
+        given(userStorageRepository.getReferenceById(USER_ID_1)).willReturn(givenUser1());
+        given(userStorageRepository.getReferenceById(USER_ID_2)).willReturn(givenUser2());
+    }
+
+    @Test
+    void submit_should_drop_the_audits_that_do_not_fit() {
+        for (var i = 0; i < 5; i++) {
+            auditPipeline.submit(givenAuditRecord(null));
+        }
+
+        var stats = auditPipeline.findStats();
+        assertThat(stats.getQueueDepth()).isEqualTo(3);
+        assertThat(stats.getQueueCapacity()).isEqualTo(3);
+        assertThat(stats.getAccepted()).isEqualTo(3);
+        assertThat(stats.getDropped()).isEqualTo(2);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void submit_should_queue_the_audit_when_the_transaction_commits() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            auditPipeline.submit(givenAuditRecord(null));
+
+            assertThat(auditPipeline.findStats().getQueueDepth()).isZero();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(auditPipeline.findStats().getQueueDepth()).isEqualTo(1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void flush_should_write_in_batches_and_notify_the_written_audits() throws Exception {
+        given(generatedKeys.next()).willReturn(true, true, false, true, false);
+        given(generatedKeys.getLong(1)).willReturn(10L, 11L, 12L);
+        auditPipeline.submit(givenAuditRecord(null));
+        auditPipeline.submit(givenAuditRecord(USER_ID_2));
+        auditPipeline.submit(givenAuditRecord(null));
+
+        auditPipeline.flush();
+
+        verify(preparedStatement, times(3)).addBatch();
+        verify(preparedStatement, times(2)).executeBatch();
+        verify(preparedStatement, times(1)).setObject(4, USER_ID_2, Types.INTEGER);
+        assertThat(writtenAudits).extracting(Audit::getId).containsExactly(10L, 11L, 12L);
+        assertThat(writtenAudits.get(0).getUser().getId()).isEqualTo(USER_ID_1);
+        assertThat(writtenAudits.get(0).getRelatedUser()).isNull();
+        assertThat(writtenAudits.get(1).getRelatedUser().getId()).isEqualTo(USER_ID_2);
+        assertThat(writtenAudits.get(0).getAction()).isEqualTo(AuditActionEnum.BROWSE_COORDINATES);
+        var stats = auditPipeline.findStats();
+        assertThat(stats.getQueueDepth()).isZero();
+        assertThat(stats.getWritten()).isEqualTo(3);
+        assertThat(stats.getBatches()).isEqualTo(2);
+        assertThat(stats.getFailed()).isZero();
+        verify(connection, times(2)).setAutoCommit(false);
+        verify(connection, times(2)).commit();
+        verify(connection, times(2)).setAutoCommit(true);
+    }
+
+    @Test
+    void flush_should_write_one_by_one_when_a_row_fails_the_batch() throws Exception {
+        auditPipeline = new AuditPipeline(jdbcTemplate, userStorageRepository, 3, 3, 100);
+        auditPipeline.setWrittenListener((auditRecord, audit) -> writtenAudits.add(audit));
+        given(preparedStatement.executeBatch())
+                .willThrow(new BatchUpdateException())
+                .willReturn(new int[]{1})
+                .willThrow(new BatchUpdateException())
+                .willReturn(new int[]{1});
+        given(generatedKeys.next()).willReturn(true, false, true, false);
+        given(generatedKeys.getLong(1)).willReturn(10L, 12L);
+        auditPipeline.submit(givenAuditRecord(null));
+        auditPipeline.submit(givenAuditRecord(USER_ID_2));
+        auditPipeline.submit(givenAuditRecord(null));
+
+        auditPipeline.flush();
+
+        verify(preparedStatement, times(4)).executeBatch();
+        verify(connection, times(2)).rollback();
+        verify(connection, times(2)).commit();
+        assertThat(writtenAudits).extracting(Audit::getId).containsExactly(10L, 12L);
+        var stats = auditPipeline.findStats();
+        assertThat(stats.getWritten()).isEqualTo(2);
+        assertThat(stats.getFailed()).isEqualTo(1);
+        assertThat(stats.getBatches()).isEqualTo(2);
+    }
+
+    @Test
+    void findPendingRequestAudit_should_return_the_last_queued_request_audit_until_written() {
+        var olderRecord = givenRequestAuditRecord(LocalDateTime.now().minusMinutes(1));
+        var newerRecord = givenRequestAuditRecord(LocalDateTime.now());
+        auditPipeline.submit(newerRecord);
+        auditPipeline.submit(olderRecord);
+        auditPipeline.submit(givenAuditRecord(null));
+
+        assertThat(auditPipeline.findPendingRequestAudit(USER_ID_1)).containsSame(newerRecord);
+        assertThat(auditPipeline.findPendingRequestAudit(USER_ID_2)).isEmpty();
+
+        auditPipeline.flush();
+
+        assertThat(auditPipeline.findPendingRequestAudit(USER_ID_1)).isEmpty();
+    }
+
+    @Test
+    void flush_should_count_the_audits_of_the_failed_batches() {
+        given(jdbcTemplate.execute(any(ConnectionCallback.class))).willThrow(new DataAccessResourceFailureException("Down"));
+        auditPipeline.submit(givenAuditRecord(null));
+
+        auditPipeline.flush();
+
+        var stats = auditPipeline.findStats();
+        assertThat(stats.getQueueDepth()).isZero();
+        assertThat(stats.getFailed()).isEqualTo(1);
+        assertThat(stats.getWritten()).isZero();
+        assertThat(writtenAudits).isEmpty();
+    }
+
+    @Test
+    void toPrometheusText_should_include_the_counters() {
+        auditPipeline.submit(givenAuditRecord(null));
+
+        assertThat(auditPipeline.toPrometheusText())
+                .contains("owge_audit_queue_depth 1\n")
+                .contains("owge_audit_accepted_total 1\n")
+                .contains("owge_audit_dropped_total 0\n");
+    }
+
+    private AuditRecord givenRequestAuditRecord(LocalDateTime creationDate) {
+        return AuditRecord.builder()
+                .action(AuditActionEnum.BROWSE_COORDINATES)
+                .userId(USER_ID_1)
+                .requestIp("127.0.0.1")
+                .ipv4("127.0.0.1")
+                .creationDate(creationDate)
+                .build();
+    }
+
+    private AuditRecord givenAuditRecord(Integer relatedUserId) {
+        return AuditRecord.builder()
+                .action(AuditActionEnum.BROWSE_COORDINATES)
+                .userId(USER_ID_1)
+                .relatedUserId(relatedUserId)
+                .creationDate(LocalDateTime.now())
+                .build();
+    }
+}
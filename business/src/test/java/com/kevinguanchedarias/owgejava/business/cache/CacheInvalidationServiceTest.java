@@ -0,0 +1,232 @@
+package com.kevinguanchedarias.owgejava.business.cache;
+
+import com.kevinguanchedarias.owgejava.business.mission.MissionTimeManagerBo;
+import com.kevinguanchedarias.owgejava.business.planet.PlanetCoordinatesIndex;
+import com.kevinguanchedarias.owgejava.business.planet.PlanetOwnershipCacheService;
+import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitReadModel;
+import com.kevinguanchedarias.owgejava.business.unit.PlanetInvolvedUnitsIndex;
+import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
+import com.kevinguanchedarias.owgejava.entity.Unit;
+import com.kevinguanchedarias.owgejava.enumerations.CacheInvalidationType;
+import com.kevinguanchedarias.owgejava.fake.LoopbackCacheInvalidationBus;
+import com.kevinguanchedarias.owgejava.pojo.ConfigurationChangedEvent;
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheInvalidation;
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheKey;
+import com.kevinguanchedarias.taggablecache.manager.TaggableCacheManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class CacheInvalidationServiceTest {
+    private static final String IMPROVEMENTS_CACHE = "improvements_user";
+    private static final long FLUSH_MILLIS = 3_600_000;
+    private static final String SPEED_CONFIGURATION = "MISSION_SPEED_DIVISOR";
+
+    private final LoopbackCacheInvalidationBus bus = new LoopbackCacheInvalidationBus();
+    private final List<CacheInvalidationService> nodes = new ArrayList<>();
+    private final TaggableCacheManager remoteTaggableCacheManager = mock(TaggableCacheManager.class);
+    private final CacheManager remoteCacheManager = mock(CacheManager.class);
+    private final Cache remoteCache = mock(Cache.class);
+    private final ObtainedUnitReadModel remoteReadModel = mock(ObtainedUnitReadModel.class);
+    private final PlanetInvolvedUnitsIndex planetInvolvedUnitsIndex = mock(PlanetInvolvedUnitsIndex.class);
+    private final DefinitionCacheService definitionCacheService = mock(DefinitionCacheService.class);
+    private final PlanetCoordinatesIndex planetCoordinatesIndex = mock(PlanetCoordinatesIndex.class);
+    private final PlanetOwnershipCacheService planetOwnershipCacheService = mock(PlanetOwnershipCacheService.class);
+    private final MissionTimeManagerBo missionTimeManagerBo = mock(MissionTimeManagerBo.class);
+
+    @AfterEach
+    void shutdown() {
+        nodes.forEach(CacheInvalidationService::shutdown);
+    }
+
+    @Test
+    void flush_should_send_the_evictions_once_and_apply_them_in_the_other_nodes_only() {
+        var localTaggableCacheManager = mock(TaggableCacheManager.class);
+        var local = givenNode(bus, localTaggableCacheManager, mock(CacheManager.class), mock(ObtainedUnitReadModel.class), 100);
+        var remote = givenNode(bus, remoteTaggableCacheManager, remoteCacheManager, remoteReadModel, 100);
+        given(remoteCacheManager.getCache(IMPROVEMENTS_CACHE)).willReturn(remoteCache);
+
+        local.publish(tag(Unit.UNIT_CACHE_TAG));
+        local.publish(tag(Unit.UNIT_CACHE_TAG));
+        local.publish(CacheInvalidation.builder()
+                .type(CacheInvalidationType.TAG_KEY).name(ObtainedUnit.OBTAINED_UNIT_CACHE_TAG_BY_USER).key(CacheKey.ofInteger(4)).build()
+        );
+        local.publish(CacheInvalidation.builder().type(CacheInvalidationType.CACHE_KEY).name(IMPROVEMENTS_CACHE).key(CacheKey.ofInteger(4)).build());
+        local.publish(CacheInvalidation.builder().type(CacheInvalidationType.CACHE_KEY).name(IMPROVEMENTS_CACHE).key(CacheKey.ofLong(5L)).build());
+        local.flush();
+        verifyNoInteractions(remoteTaggableCacheManager);
+        remote.flush();
+
+        verify(remoteTaggableCacheManager, times(1)).evictByCacheTag(Unit.UNIT_CACHE_TAG);
+        verify(remoteReadModel, times(1)).onDefinitionChange(Unit.UNIT_CACHE_TAG);
+        verify(planetInvolvedUnitsIndex, times(1)).onDefinitionChange(Unit.UNIT_CACHE_TAG);
+        verify(remoteTaggableCacheManager, times(1)).evictByCacheTag(ObtainedUnit.OBTAINED_UNIT_CACHE_TAG_BY_USER, 4);
+        verify(remoteReadModel, times(1)).invalidate(4);
+        verify(planetInvolvedUnitsIndex, times(1)).invalidateAll();
+        verify(remoteCache, times(1)).evict(4);
+        verify(remoteCache, times(1)).evict(5L);
+        verify(remoteCache, never()).evict(5);
+        local.flush();
+        verifyNoInteractions(localTaggableCacheManager);
+    }
+
+    @Test
+    void publish_should_clear_all_the_caches_when_too_many_evictions_are_pending() {
+        var local = givenNode(bus, mock(TaggableCacheManager.class), mock(CacheManager.class), mock(ObtainedUnitReadModel.class), 2);
+        var remote = givenNode(bus, remoteTaggableCacheManager, remoteCacheManager, remoteReadModel, 100);
+        given(remoteCacheManager.getCacheNames()).willReturn(List.of(IMPROVEMENTS_CACHE));
+        given(remoteCacheManager.getCache(IMPROVEMENTS_CACHE)).willReturn(remoteCache);
+
+        local.publish(tag("foo"));
+        local.publish(tag("bar"));
+        local.publish(tag("baz"));
+        local.flush();
+        remote.flush();
+
+        verify(remoteTaggableCacheManager, times(1)).clear();
+        verify(remoteTaggableCacheManager, never()).evictByCacheTag(any());
+        verify(remoteCache, times(1)).clear();
+        verify(remoteReadModel, times(1)).invalidateAll();
+        verify(planetInvolvedUnitsIndex, times(1)).invalidateAll();
+    }
+
+    @Test
+    void publish_should_wait_for_the_transaction_to_complete() {
+        var local = givenNode(bus, mock(TaggableCacheManager.class), mock(CacheManager.class), mock(ObtainedUnitReadModel.class), 100);
+        var remote = givenNode(bus, remoteTaggableCacheManager, remoteCacheManager, remoteReadModel, 100);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            local.publish(tag(Unit.UNIT_CACHE_TAG));
+            local.flush();
+            remote.flush();
+            verifyNoInteractions(remoteTaggableCacheManager);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        local.flush();
+        remote.flush();
+
+        verify(remoteTaggableCacheManager, times(1)).evictByCacheTag(Unit.UNIT_CACHE_TAG);
+    }
+
+    @Test
+    void clearAll_should_clear_this_node_now_and_the_other_nodes_on_flush() {
+        var localTaggableCacheManager = mock(TaggableCacheManager.class);
+        var local = givenNode(bus, localTaggableCacheManager, mock(CacheManager.class), mock(ObtainedUnitReadModel.class), 100);
+        var remote = givenNode(bus, remoteTaggableCacheManager, remoteCacheManager, remoteReadModel, 100);
+
+        local.clearAll();
+
+        verify(localTaggableCacheManager, times(1)).clear();
+        verify(definitionCacheService, times(1)).evictAll();
+        verify(planetCoordinatesIndex, times(1)).invalidateAll();
+        verify(planetOwnershipCacheService, times(1)).clear();
+        verify(missionTimeManagerBo, times(1)).clearSpeedProfiles();
+        verifyNoInteractions(remoteTaggableCacheManager);
+        local.flush();
+        remote.flush();
+        verify(remoteTaggableCacheManager, times(1)).clear();
+        verify(remoteReadModel, times(1)).invalidateAll();
+        verify(definitionCacheService, times(2)).evictAll();
+        verify(planetCoordinatesIndex, times(2)).invalidateAll();
+        verify(planetOwnershipCacheService, times(2)).clear();
+        verify(missionTimeManagerBo, times(2)).clearSpeedProfiles();
+    }
+
+    @Test
+    void flush_should_apply_the_definition_ownership_and_configuration_changes_in_the_other_nodes() {
+        var local = givenNode(bus, mock(TaggableCacheManager.class), mock(CacheManager.class), mock(ObtainedUnitReadModel.class), 100);
+        var remote = givenNode(bus, remoteTaggableCacheManager, remoteCacheManager, remoteReadModel, 100);
+
+        local.publish(CacheInvalidation.builder().type(CacheInvalidationType.DEFINITION).name(Unit.class.getName()).build());
+        local.publish(CacheInvalidation.builder().type(CacheInvalidationType.PLANET_OWNERSHIP).key(CacheKey.ofInteger(4)).build());
+        local.onConfigurationChanged(new ConfigurationChangedEvent(SPEED_CONFIGURATION));
+        local.flush();
+        verifyNoInteractions(definitionCacheService, planetOwnershipCacheService, missionTimeManagerBo);
+        remote.flush();
+
+        verify(definitionCacheService, times(1)).evict(Unit.class.getName());
+        verify(planetOwnershipCacheService, times(1)).evict(4);
+        verify(missionTimeManagerBo, times(1)).onConfigurationChanged(new ConfigurationChangedEvent(SPEED_CONFIGURATION));
+    }
+
+    @Test
+    void flush_should_apply_the_planet_coordinates_evictions_in_the_other_nodes() {
+        var local = givenNode(bus, mock(TaggableCacheManager.class), mock(CacheManager.class), mock(ObtainedUnitReadModel.class), 100);
+        var remote = givenNode(bus, remoteTaggableCacheManager, remoteCacheManager, remoteReadModel, 100);
+
+        local.publish(CacheInvalidation.builder().type(CacheInvalidationType.PLANET_COORDINATES).key(CacheKey.ofLong(8L)).build());
+        local.publish(CacheInvalidation.builder().type(CacheInvalidationType.PLANET_COORDINATES).build());
+        local.flush();
+        verifyNoInteractions(planetCoordinatesIndex);
+        remote.flush();
+
+        verify(planetCoordinatesIndex, times(1)).evict(8L);
+        verify(planetCoordinatesIndex, times(1)).invalidateAll();
+    }
+
+    @Test
+    void publish_should_do_nothing_when_the_bus_is_local() {
+        var localBus = mock(CacheInvalidationBus.class);
+        given(localBus.isLocal()).willReturn(true);
+        var local = givenNode(localBus, mock(TaggableCacheManager.class), mock(CacheManager.class), mock(ObtainedUnitReadModel.class), 100);
+
+        local.publish(tag(Unit.UNIT_CACHE_TAG));
+        local.flush();
+
+        verify(localBus, never()).subscribe(any());
+        verify(localBus, never()).publish(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private CacheInvalidationService givenNode(
+            CacheInvalidationBus nodeBus,
+            TaggableCacheManager taggableCacheManager,
+            CacheManager cacheManager,
+            ObtainedUnitReadModel obtainedUnitReadModel,
+            int maxPending
+    ) {
+        ObjectProvider<TaggableCacheManager> taggableCacheManagerProvider = mock(ObjectProvider.class);
+        ObjectProvider<CacheManager> cacheManagerProvider = mock(ObjectProvider.class);
+        given(taggableCacheManagerProvider.getIfAvailable())
+                .willReturn(new ClusterTaggableCacheManager(taggableCacheManager, mock(ObjectProvider.class)));
+        given(cacheManagerProvider.getIfAvailable()).willReturn(cacheManager);
+        ObjectProvider<MissionTimeManagerBo> missionTimeManagerBoProvider = mock(ObjectProvider.class);
+        doAnswer(invocation -> {
+            invocation.<Consumer<MissionTimeManagerBo>>getArgument(0).accept(missionTimeManagerBo);
+            return null;
+        }).when(missionTimeManagerBoProvider).ifAvailable(any());
+        var node = new CacheInvalidationService(
+                nodeBus, taggableCacheManagerProvider, cacheManagerProvider, obtainedUnitReadModel, planetInvolvedUnitsIndex,
+                definitionCacheService, planetCoordinatesIndex, planetOwnershipCacheService, missionTimeManagerBoProvider,
+                FLUSH_MILLIS, maxPending
+        );
+        node.init();
+        nodes.add(node);
+        return node;
+    }
+
+    private CacheInvalidation tag(String tag) {
+        return CacheInvalidation.builder().type(CacheInvalidationType.TAG).name(tag).build();
+    }
+}
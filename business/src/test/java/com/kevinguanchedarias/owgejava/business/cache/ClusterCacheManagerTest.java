@@ -0,0 +1,84 @@
+package com.kevinguanchedarias.owgejava.business.cache;
+
+import com.kevinguanchedarias.owgejava.enumerations.CacheInvalidationType;
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheInvalidation;
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheKey;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class ClusterCacheManagerTest {
+    private static final String CACHE_NAME = "improvements_user";
+
+    private final CacheManager delegate = mock(CacheManager.class);
+    private final Cache delegateCache = mock(Cache.class);
+    private final CacheInvalidationService cacheInvalidationService = mock(CacheInvalidationService.class);
+    private final ClusterCacheManager clusterCacheManager;
+
+    @SuppressWarnings("unchecked")
+    ClusterCacheManagerTest() {
+        ObjectProvider<CacheInvalidationService> provider = mock(ObjectProvider.class);
+        given(provider.getIfAvailable()).willReturn(cacheInvalidationService);
+        clusterCacheManager = new ClusterCacheManager(delegate, provider);
+        given(delegate.getCache(CACHE_NAME)).willReturn(delegateCache);
+        given(delegateCache.getName()).willReturn(CACHE_NAME);
+    }
+
+    @Test
+    void getCache_should_keep_the_decorated_cache_and_send_the_evictions() {
+        var cache = clusterCacheManager.getCache(CACHE_NAME);
+        cache.put(4, "foo");
+        cache.evict(4);
+        cache.clear();
+
+        assertThat(clusterCacheManager.getCache(CACHE_NAME)).isSameAs(cache);
+        verify(delegateCache, times(1)).put(4, "foo");
+        verify(delegateCache, times(1)).evict(4);
+        verify(delegateCache, times(1)).clear();
+        verify(cacheInvalidationService, times(1)).publish(
+                CacheInvalidation.builder().type(CacheInvalidationType.CACHE_KEY).name(CACHE_NAME).key(CacheKey.ofInteger(4)).build()
+        );
+        verify(cacheInvalidationService, times(1)).publish(
+                CacheInvalidation.builder().type(CacheInvalidationType.CACHE_CLEAR).name(CACHE_NAME).build()
+        );
+    }
+
+    @Test
+    void getCache_should_send_the_key_with_its_type() {
+        var cache = clusterCacheManager.getCache(CACHE_NAME);
+
+        cache.evict(4L);
+
+        verify(cacheInvalidationService, times(1)).publish(
+                CacheInvalidation.builder().type(CacheInvalidationType.CACHE_KEY).name(CACHE_NAME).key(CacheKey.ofLong(4L)).build()
+        );
+    }
+
+    @Test
+    void getCache_should_send_a_clear_when_the_key_type_cannot_be_sent() {
+        var cache = clusterCacheManager.getCache(CACHE_NAME);
+        var compositeKey = new SimpleKey(4, "foo");
+
+        cache.evict(compositeKey);
+
+        verify(delegateCache, times(1)).evict(compositeKey);
+        verify(cacheInvalidationService, times(1)).publish(
+                CacheInvalidation.builder().type(CacheInvalidationType.CACHE_CLEAR).name(CACHE_NAME).build()
+        );
+    }
+
+    @Test
+    void getCache_should_return_null_when_the_delegate_has_no_such_cache() {
+        assertThat(clusterCacheManager.getCache("unknown")).isNull();
+        verifyNoInteractions(cacheInvalidationService);
+    }
+}
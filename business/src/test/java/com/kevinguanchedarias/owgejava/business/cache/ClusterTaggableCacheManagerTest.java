@@ -0,0 +1,52 @@
+package com.kevinguanchedarias.owgejava.business.cache;
+
+import com.kevinguanchedarias.owgejava.enumerations.CacheInvalidationType;
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheInvalidation;
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheKey;
+import com.kevinguanchedarias.taggablecache.manager.TaggableCacheManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ClusterTaggableCacheManagerTest {
+    private static final String TAG = "obtained_unit_by_user";
+
+    private final TaggableCacheManager delegate = mock(TaggableCacheManager.class);
+    private final CacheInvalidationService cacheInvalidationService = mock(CacheInvalidationService.class);
+    private final ClusterTaggableCacheManager clusterTaggableCacheManager;
+
+    @SuppressWarnings("unchecked")
+    ClusterTaggableCacheManagerTest() {
+        ObjectProvider<CacheInvalidationService> provider = mock(ObjectProvider.class);
+        given(provider.getIfAvailable()).willReturn(cacheInvalidationService);
+        clusterTaggableCacheManager = new ClusterTaggableCacheManager(delegate, provider);
+    }
+
+    @Test
+    void evictByCacheTag_should_send_the_key_with_its_type() {
+        clusterTaggableCacheManager.evictByCacheTag(TAG, 4L);
+
+        verify(delegate, times(1)).evictByCacheTag(TAG, 4L);
+        verify(cacheInvalidationService, times(1)).publish(
+                CacheInvalidation.builder().type(CacheInvalidationType.TAG_KEY).name(TAG).key(CacheKey.ofLong(4L)).build()
+        );
+    }
+
+    @Test
+    void evictByCacheTag_should_send_the_whole_tag_when_the_key_type_cannot_be_sent() {
+        var compositeKey = List.of(4, 5);
+
+        clusterTaggableCacheManager.evictByCacheTag(TAG, compositeKey);
+
+        verify(delegate, times(1)).evictByCacheTag(TAG, compositeKey);
+        verify(cacheInvalidationService, times(1)).publish(
+                CacheInvalidation.builder().type(CacheInvalidationType.TAG).name(TAG).build()
+        );
+    }
+}
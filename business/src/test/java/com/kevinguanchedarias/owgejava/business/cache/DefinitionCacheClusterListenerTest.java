@@ -0,0 +1,80 @@
+package com.kevinguanchedarias.owgejava.business.cache;
+
+import com.kevinguanchedarias.owgejava.entity.Unit;
+import com.kevinguanchedarias.owgejava.enumerations.CacheInvalidationType;
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheInvalidation;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class DefinitionCacheClusterListenerTest {
+    private final EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+    private final CacheInvalidationService cacheInvalidationService = mock(CacheInvalidationService.class);
+    private final DefinitionCacheClusterListener definitionCacheClusterListener =
+            new DefinitionCacheClusterListener(entityManagerFactory, cacheInvalidationService);
+
+    @Test
+    void init_should_register_the_listeners() {
+        var eventListenerRegistry = mock(EventListenerRegistry.class);
+        var sessionFactory = mock(SessionFactoryImplementor.class);
+        var serviceRegistry = mock(ServiceRegistryImplementor.class);
+        given(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).willReturn(sessionFactory);
+        given(sessionFactory.getServiceRegistry()).willReturn(serviceRegistry);
+        given(serviceRegistry.getService(EventListenerRegistry.class)).willReturn(eventListenerRegistry);
+
+        definitionCacheClusterListener.init();
+
+        verify(eventListenerRegistry, times(1)).appendListeners(EventType.POST_INSERT, definitionCacheClusterListener);
+        verify(eventListenerRegistry, times(1)).appendListeners(EventType.POST_UPDATE, definitionCacheClusterListener);
+        verify(eventListenerRegistry, times(1)).appendListeners(EventType.POST_DELETE, definitionCacheClusterListener);
+    }
+
+    @Test
+    void onPost_should_publish_the_cached_entities() {
+        var persister = givenPersister(true);
+        var insertEvent = mock(PostInsertEvent.class);
+        given(insertEvent.getPersister()).willReturn(persister);
+        var updateEvent = mock(PostUpdateEvent.class);
+        given(updateEvent.getPersister()).willReturn(persister);
+        var deleteEvent = mock(PostDeleteEvent.class);
+        given(deleteEvent.getPersister()).willReturn(persister);
+
+        definitionCacheClusterListener.onPostInsert(insertEvent);
+        definitionCacheClusterListener.onPostUpdate(updateEvent);
+        definitionCacheClusterListener.onPostDelete(deleteEvent);
+
+        verify(cacheInvalidationService, times(3)).publish(
+                CacheInvalidation.builder().type(CacheInvalidationType.DEFINITION).name(Unit.class.getName()).build()
+        );
+    }
+
+    @Test
+    void onPostUpdate_should_not_publish_the_not_cached_entities() {
+        var updateEvent = mock(PostUpdateEvent.class);
+        var persister = givenPersister(false);
+        given(updateEvent.getPersister()).willReturn(persister);
+
+        definitionCacheClusterListener.onPostUpdate(updateEvent);
+
+        verify(cacheInvalidationService, never()).publish(any());
+    }
+
+    private EntityPersister givenPersister(boolean cached) {
+        var persister = mock(EntityPersister.class);
+        given(persister.canWriteToCache()).willReturn(cached);
+        given(persister.getEntityName()).willReturn(Unit.class.getName());
+        return persister;
+    }
+}
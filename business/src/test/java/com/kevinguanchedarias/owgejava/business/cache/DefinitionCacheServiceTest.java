@@ -0,0 +1,125 @@
+package com.kevinguanchedarias.owgejava.business.cache;
+
+import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitReadModel;
+import com.kevinguanchedarias.owgejava.configurations.hibernate.DefinitionCacheStorageAccess;
+import com.kevinguanchedarias.owgejava.entity.Unit;
+import com.kevinguanchedarias.owgejava.pojo.DefinitionCacheRegionStats;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(
+        classes = DefinitionCacheService.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE
+)
+@MockBean({
+        EntityManagerFactory.class,
+        ObtainedUnitReadModel.class
+})
+class DefinitionCacheServiceTest {
+    private static final String UNIT_REGION = Unit.class.getName();
+    private static final String OTHER_REGION = "other";
+
+    private final DefinitionCacheService definitionCacheService;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObtainedUnitReadModel obtainedUnitReadModel;
+
+    @Autowired
+    DefinitionCacheServiceTest(
+            DefinitionCacheService definitionCacheService,
+            EntityManagerFactory entityManagerFactory,
+            ObtainedUnitReadModel obtainedUnitReadModel
+    ) {
+        this.definitionCacheService = definitionCacheService;
+        this.entityManagerFactory = entityManagerFactory;
+        this.obtainedUnitReadModel = obtainedUnitReadModel;
+    }
+
+    @Test
+    void evictAll_should_evict_the_shared_cache() {
+        var cache = mock(Cache.class);
+        given(entityManagerFactory.getCache()).willReturn(cache);
+
+        definitionCacheService.evictAll();
+
+        verify(cache, times(1)).evictAll();
+        verify(obtainedUnitReadModel, times(1)).invalidateAll();
+    }
+
+    @Test
+    void evict_should_evict_the_entity_class() {
+        var cache = mock(Cache.class);
+        given(entityManagerFactory.getCache()).willReturn(cache);
+
+        definitionCacheService.evict(Unit.class);
+
+        verify(cache, times(1)).evict(Unit.class);
+    }
+
+    @Test
+    void evict_should_evict_the_entity_name_and_the_collections() {
+        var cache = mock(CacheImplementor.class);
+        var sessionFactory = mock(SessionFactoryImplementor.class);
+        given(sessionFactory.getCache()).willReturn(cache);
+        given(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).willReturn(sessionFactory);
+
+        definitionCacheService.evict(UNIT_REGION);
+
+        verify(cache, times(1)).evictEntityData(UNIT_REGION);
+        verify(cache, times(1)).evictCollectionData();
+    }
+
+    @Test
+    void findStats_should_report_only_definition_cache_regions() {
+        var storage = new DefinitionCacheStorageAccess();
+        storage.putIntoCache(1, "unit", null);
+        storage.getFromCache(1, null);
+        storage.getFromCache(2, null);
+        storage.getFromCache(2, null);
+        var unitRegion = mock(DomainDataRegionTemplate.class);
+        given(unitRegion.getCacheStorageAccess()).willReturn(storage);
+        var cache = mock(CacheImplementor.class);
+        given(cache.getCacheRegionNames()).willReturn(Set.of(UNIT_REGION, OTHER_REGION));
+        given(cache.getRegion(UNIT_REGION)).willReturn(unitRegion);
+        given(cache.getRegion(OTHER_REGION)).willReturn(mock(Region.class));
+        var sessionFactory = mock(SessionFactoryImplementor.class);
+        given(sessionFactory.getCache()).willReturn(cache);
+        given(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).willReturn(sessionFactory);
+
+        var result = definitionCacheService.findStats();
+
+        assertThat(result).containsExactly(
+                DefinitionCacheRegionStats.builder().region(UNIT_REGION).entries(1).hits(1).misses(2).build()
+        );
+    }
+
+    @Test
+    void storage_should_remove_entries_on_evict_and_null_put() {
+        var storage = new DefinitionCacheStorageAccess();
+        storage.putIntoCache(1, "a", null);
+        storage.putIntoCache(2, "b", null);
+        storage.putIntoCache(3, "c", null);
+
+        storage.evictData(1);
+        storage.putIntoCache(2, null, null);
+
+        assertThat(storage.contains(1)).isFalse();
+        assertThat(storage.contains(2)).isFalse();
+        assertThat(storage.contains(3)).isTrue();
+        storage.evictData();
+        assertThat(storage.getSize()).isZero();
+    }
+}
@@ -2,6 +2,7 @@ package com.kevinguanchedarias.owgejava.business.mission;
 
 import com.kevinguanchedarias.owgejava.business.SocketIoService;
 import com.kevinguanchedarias.owgejava.business.util.TransactionUtilService;
+import com.kevinguanchedarias.owgejava.configurations.OpenTelemetryConfiguration;
 import com.kevinguanchedarias.owgejava.dto.RunningUnitBuildDto;
 import com.kevinguanchedarias.owgejava.dto.UnitRunningMissionDto;
 import com.kevinguanchedarias.owgejava.entity.UserStorage;
@@ -35,7 +36,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
 @SpringBootTest(
-        classes = MissionEventEmitterBo.class,
+        classes = {MissionEventEmitterBo.class, MissionTelemetryService.class, OpenTelemetryConfiguration.class},
         webEnvironment = SpringBootTest.WebEnvironment.NONE
 )
 @MockBean({
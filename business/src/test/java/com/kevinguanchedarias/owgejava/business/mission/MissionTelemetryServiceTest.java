@@ -0,0 +1,129 @@
+package com.kevinguanchedarias.owgejava.business.mission;
+
+import com.kevinguanchedarias.owgejava.enumerations.MissionType;
+import com.kevinguanchedarias.owgejava.exception.CommonException;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static com.kevinguanchedarias.owgejava.business.mission.MissionTelemetryService.*;
+import static com.kevinguanchedarias.owgejava.mock.MissionMock.EXPLORE_MISSION_ID;
+import static com.kevinguanchedarias.owgejava.mock.MissionMock.givenExploreMission;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MissionTelemetryServiceTest {
+    private InMemorySpanExporter spanExporter;
+    private InMemoryMetricReader metricReader;
+    private OpenTelemetrySdk openTelemetrySdk;
+    private MissionTelemetryService missionTelemetryService;
+
+    @BeforeEach
+    void setup() {
+        spanExporter = InMemorySpanExporter.create();
+        metricReader = InMemoryMetricReader.create();
+        openTelemetrySdk = OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(spanExporter)).build())
+                .setMeterProvider(SdkMeterProvider.builder().registerMetricReader(metricReader).build())
+                .build();
+        missionTelemetryService = new MissionTelemetryService(openTelemetrySdk);
+    }
+
+    @AfterEach
+    void tearDown() {
+        openTelemetrySdk.close();
+    }
+
+    @Test
+    void inExecutionSpan_should_start_a_new_trace_with_children_steps() {
+        var mission = givenExploreMission();
+
+        missionTelemetryService.inSpan(REGISTER_SPAN, mission, () -> missionTelemetryService.inExecutionSpan(
+                mission, () -> missionTelemetryService.inSpan(PROCESS_SPAN, () -> {
+                })
+        ));
+
+        var spans = spanExporter.getFinishedSpanItems();
+        assertThat(spans).extracting(SpanData::getName).containsExactly(PROCESS_SPAN, EXECUTE_SPAN, REGISTER_SPAN);
+        var process = spans.get(0);
+        var execute = spans.get(1);
+        var register = spans.get(2);
+        assertThat(process.getParentSpanId()).isEqualTo(execute.getSpanId());
+        assertThat(execute.getParentSpanContext().isValid()).isFalse();
+        assertThat(execute.getTraceId()).isNotEqualTo(register.getTraceId());
+        assertThat(execute.getAttributes().get(MISSION_ID)).isEqualTo(EXPLORE_MISSION_ID);
+        assertThat(execute.getAttributes().get(MISSION_TYPE)).isEqualTo(MissionType.EXPLORE.name());
+    }
+
+    @Test
+    void inSpan_should_return_the_action_result() {
+        assertThat(missionTelemetryService.inSpan(REPORT_SPAN, () -> "foo")).isEqualTo("foo");
+        assertThat(spanExporter.getFinishedSpanItems()).extracting(SpanData::getName).containsExactly(REPORT_SPAN);
+    }
+
+    @Test
+    void inSpan_should_record_the_exception_and_rethrow() {
+        var exception = new CommonException("OOPS");
+
+        assertThatThrownBy(() -> missionTelemetryService.inSpan(EMIT_SPAN, () -> {
+            throw exception;
+        })).isSameAs(exception);
+
+        var span = spanExporter.getFinishedSpanItems().get(0);
+        assertThat(span.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+        assertThat(span.getEvents()).hasSize(1);
+    }
+
+    @Test
+    void tagCurrentSpan_should_add_the_mission_id_once_known() {
+        var mission = givenExploreMission();
+
+        missionTelemetryService.inSpan(REGISTER_SPAN, MissionType.EXPLORE, () -> missionTelemetryService.tagCurrentSpan(mission));
+
+        var attributes = spanExporter.getFinishedSpanItems().get(0).getAttributes();
+        assertThat(attributes.get(MISSION_ID)).isEqualTo(EXPLORE_MISSION_ID);
+        assertThat(attributes.get(MISSION_TYPE)).isEqualTo(MissionType.EXPLORE.name());
+    }
+
+    @Test
+    void startSpan_should_not_be_ended_by_the_service() {
+        var span = missionTelemetryService.startSpan(LOCK_SPAN);
+
+        assertThat(spanExporter.getFinishedSpanItems()).isEmpty();
+        span.end();
+        assertThat(spanExporter.getFinishedSpanItems()).extracting(SpanData::getName).containsExactly(LOCK_SPAN);
+    }
+
+    @Test
+    void recordFireLateness_should_record_histogram_by_mission_type_and_span_attribute() {
+        var mission = givenExploreMission();
+
+        missionTelemetryService.inExecutionSpan(
+                mission, () -> missionTelemetryService.recordFireLateness(mission, Instant.now().minusSeconds(3))
+        );
+
+        var metric = metricReader.collectAllMetrics().stream()
+                .filter(current -> current.getName().equals(FIRE_LATENESS_METRIC))
+                .findFirst()
+                .orElseThrow();
+        assertThat(metric.getUnit()).isEqualTo("ms");
+        var points = metric.getHistogramData().getPoints();
+        assertThat(points).hasSize(1);
+        var point = points.iterator().next();
+        assertThat(point.getAttributes().get(MISSION_TYPE)).isEqualTo(MissionType.EXPLORE.name());
+        assertThat(point.getCount()).isEqualTo(1);
+        assertThat(point.getMin()).isGreaterThanOrEqualTo(3000D);
+        var latenessAttribute = spanExporter.getFinishedSpanItems().get(0).getAttributes().get(FIRE_LATENESS);
+        assertThat(latenessAttribute).isGreaterThanOrEqualTo(3000L);
+    }
+}
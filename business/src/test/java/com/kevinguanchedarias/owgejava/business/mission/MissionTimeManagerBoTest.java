@@ -2,13 +2,22 @@ package com.kevinguanchedarias.owgejava.business.mission;
 
 import com.kevinguanchedarias.owgejava.business.ConfigurationBo;
 import com.kevinguanchedarias.owgejava.business.ImprovementBo;
+import com.kevinguanchedarias.owgejava.business.planet.PlanetCoordinatesIndex;
 import com.kevinguanchedarias.owgejava.entity.Configuration;
 import com.kevinguanchedarias.owgejava.entity.Planet;
 import com.kevinguanchedarias.owgejava.enumerations.ImprovementTypeEnum;
 import com.kevinguanchedarias.owgejava.enumerations.MissionType;
+import com.kevinguanchedarias.owgejava.exception.NotFoundException;
+import com.kevinguanchedarias.owgejava.exception.SgtBackendInvalidInputException;
 import com.kevinguanchedarias.owgejava.mock.GalaxyMock;
 import com.kevinguanchedarias.owgejava.mock.UnitTypeMock;
+import com.kevinguanchedarias.owgejava.pojo.ConfigurationChangedEvent;
 import com.kevinguanchedarias.owgejava.pojo.GroupedImprovement;
+import com.kevinguanchedarias.owgejava.pojo.mission.MissionTimeEstimationRequest;
+import com.kevinguanchedarias.owgejava.pojo.planet.PlanetCoordinates;
+import com.kevinguanchedarias.owgejava.repository.ObtainedUnitRepository;
+import com.kevinguanchedarias.owgejava.repository.UnitRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -21,6 +30,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static com.kevinguanchedarias.owgejava.mock.MissionMock.givenExploreMission;
@@ -29,8 +40,11 @@ import static com.kevinguanchedarias.owgejava.mock.ObtainedUnitMock.givenObtaine
 import static com.kevinguanchedarias.owgejava.mock.PlanetMock.*;
 import static com.kevinguanchedarias.owgejava.mock.SpeedImpactGroupMock.givenSpeedImpactGroup;
 import static com.kevinguanchedarias.owgejava.mock.SpeedImpactGroupMock.givenSpeedImpactGroupWithFixed;
+import static com.kevinguanchedarias.owgejava.mock.UnitMock.UNIT_ID_1;
+import static com.kevinguanchedarias.owgejava.mock.UnitMock.givenUnit1;
 import static com.kevinguanchedarias.owgejava.mock.UserMock.givenUser1;
-import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -41,7 +55,10 @@ import static org.mockito.Mockito.*;
 @MockBean({
         MissionConfigurationBo.class,
         ImprovementBo.class,
-        ConfigurationBo.class
+        ConfigurationBo.class,
+        PlanetCoordinatesIndex.class,
+        ObtainedUnitRepository.class,
+        UnitRepository.class
 })
 class MissionTimeManagerBoTest {
     private static final int GRACE_TIME_FOR_TEST_RUNNER = 60;
@@ -49,18 +66,32 @@ class MissionTimeManagerBoTest {
     private final MissionConfigurationBo missionConfigurationBo;
     private final ImprovementBo improvementBo;
     private final ConfigurationBo configurationBo;
+    private final PlanetCoordinatesIndex planetCoordinatesIndex;
+    private final ObtainedUnitRepository obtainedUnitRepository;
+    private final UnitRepository unitRepository;
 
     @Autowired
     MissionTimeManagerBoTest(
             MissionTimeManagerBo missionTimeManagerBo,
             MissionConfigurationBo missionConfigurationBo,
             ImprovementBo improvementBo,
-            ConfigurationBo configurationBo
+            ConfigurationBo configurationBo,
+            PlanetCoordinatesIndex planetCoordinatesIndex,
+            ObtainedUnitRepository obtainedUnitRepository,
+            UnitRepository unitRepository
     ) {
         this.missionTimeManagerBo = missionTimeManagerBo;
         this.missionConfigurationBo = missionConfigurationBo;
         this.improvementBo = improvementBo;
         this.configurationBo = configurationBo;
+        this.planetCoordinatesIndex = planetCoordinatesIndex;
+        this.obtainedUnitRepository = obtainedUnitRepository;
+        this.unitRepository = unitRepository;
+    }
+
+    @BeforeEach
+    void clearSpeedProfiles() {
+        missionTimeManagerBo.clearSpeedProfiles();
     }
 
     @Test
@@ -150,20 +181,7 @@ class MissionTimeManagerBoTest {
         given(improvementBo.findUserImprovement(user)).willReturn(improvementMock);
         given(improvementBo.findAsRational((double) unitTypeSpeedImprovement)).willReturn(0.8);
         given(missionConfigurationBo.findMissionBaseTimeByType(MissionType.EXPLORE)).willReturn(60L);
-        given(configurationBo.findOrSetDefault("MISSION_SPEED_DIVISOR_EXPLORE", "1"))
-                .willReturn(Configuration.builder().value(missionSpeedDivisor).build());
-        given(configurationBo.findOrSetDefault("MISSION_SPEED_EXPLORE_SAME_Q", "50"))
-                .willReturn(Configuration.builder().value(leftMultiplier).build());
-        given(configurationBo.findOrSetDefault("MISSION_SPEED_EXPLORE_DIFF_G", "2000"))
-                .willReturn(Configuration.builder().value(leftMultiplier).build());
-        given(configurationBo.findOrSetDefault("MISSION_SPEED_EXPLORE_DIFF_S", "200"))
-                .willReturn(Configuration.builder().value(leftMultiplier).build());
-        given(configurationBo.findOrSetDefault("MISSION_SPEED_EXPLORE_DIFF_Q", "100"))
-                .willReturn(Configuration.builder().value(leftMultiplier).build());
-        given(configurationBo.findOrSetDefault("MISSION_SPEED_EXPLORE_P_MOVE_COST", "0.01")).willReturn(Configuration.builder().value("0.01").build());
-        given(configurationBo.findOrSetDefault("MISSION_SPEED_EXPLORE_Q_MOVE_COST", "0.02")).willReturn(Configuration.builder().value("0.02").build());
-        given(configurationBo.findOrSetDefault("MISSION_SPEED_EXPLORE_S_MOVE_COST", "0.03")).willReturn(Configuration.builder().value("0.03").build());
-        given(configurationBo.findOrSetDefault("MISSION_SPEED_EXPLORE_G_MOVE_COST", "0.15")).willReturn(Configuration.builder().value("0.15").build());
+        givenExploreSpeedConfiguration(missionSpeedDivisor, leftMultiplier);
 
         missionTimeManagerBo.handleMissionTimeCalculation(
                 List.of(skippedDueToFixed, skippedDueToNullSpi, skippedDueToNullSpeed, skippedDueToNegativeSpeed, validFasterUnit, validSlowerUnit, validIntermediateSpeed),
@@ -180,6 +198,117 @@ class MissionTimeManagerBoTest {
         );
     }
 
+    @Test
+    void handleMissionTimeCalculation_should_parse_speed_configuration_once() {
+        var mission = givenExploreMission();
+        mission.setUser(givenUser1());
+        var unit = givenObtainedUnit1();
+        unit.getUnit().setSpeedImpactGroup(givenSpeedImpactGroup());
+        unit.getUnit().setSpeed(20D);
+        given(improvementBo.findUserImprovement(any())).willReturn(mock(GroupedImprovement.class));
+        given(missionConfigurationBo.findMissionBaseTimeByType(MissionType.EXPLORE)).willReturn(60L);
+        givenExploreSpeedConfiguration("1", "4");
+
+        missionTimeManagerBo.handleMissionTimeCalculation(List.of(unit), mission, MissionType.EXPLORE);
+        missionTimeManagerBo.handleMissionTimeCalculation(List.of(unit), mission, MissionType.EXPLORE);
+
+        verify(configurationBo, times(1)).findOrSetDefault("MISSION_SPEED_DIVISOR_EXPLORE", "1");
+        verify(configurationBo, times(1)).findOrSetDefault("MISSION_SPEED_EXPLORE_G_MOVE_COST", "0.15");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "MISSION_SPEED_EXPLORE_SAME_Q,2",
+            "MISSION_TIME_EXPLORE,1"
+    })
+    void onConfigurationChanged_should_only_rebuild_on_mission_speed_configuration(String name, int expectedParses) {
+        givenExploreSpeedConfiguration("1", "4");
+        missionTimeManagerBo.findSpeedProfile(MissionType.EXPLORE);
+
+        missionTimeManagerBo.onConfigurationChanged(new ConfigurationChangedEvent(name));
+        missionTimeManagerBo.findSpeedProfile(MissionType.EXPLORE);
+
+        verify(configurationBo, times(expectedParses)).findOrSetDefault("MISSION_SPEED_DIVISOR_EXPLORE", "1");
+    }
+
+    @Test
+    void estimateRequiredTimes_should_work() {
+        var source = new PlanetCoordinates(1, PLANET_SECTOR, PLANET_QUADRANT, PLANET_NUMBER);
+        var sameQuadrant = new PlanetCoordinates(1, PLANET_SECTOR, PLANET_QUADRANT, PLANET_NUMBER - 10);
+        var otherGalaxy = new PlanetCoordinates(2, PLANET_SECTOR, PLANET_QUADRANT, PLANET_NUMBER);
+        var missingPlanet = 999L;
+        given(planetCoordinatesIndex.findAll(Set.of(SOURCE_PLANET_ID, TARGET_PLANET_ID, 8L, missingPlanet)))
+                .willReturn(Map.of(SOURCE_PLANET_ID, source, TARGET_PLANET_ID, sameQuadrant, 8L, otherGalaxy));
+        given(missionConfigurationBo.findMissionBaseTimeByType(MissionType.EXPLORE)).willReturn(60L);
+        givenExploreSpeedConfiguration("1", "4");
+
+        var result = missionTimeManagerBo.estimateRequiredTimes(
+                MissionType.EXPLORE, SOURCE_PLANET_ID, List.of(TARGET_PLANET_ID, missingPlanet, 8L), 50
+        );
+
+        assertThat(result).containsOnlyKeys(TARGET_PLANET_ID, 8L);
+        assertThat(result.keySet()).containsExactly(TARGET_PLANET_ID, 8L);
+        assertThat(result.get(TARGET_PLANET_ID)).isCloseTo(60 + (4 * 0.1) * 50, within(0.0001));
+        assertThat(result.get(8L)).isCloseTo(60 + (4 * 0.15) * 50, within(0.0001));
+    }
+
+    @Test
+    void estimateRequiredTimes_should_throw_when_source_planet_does_not_exist() {
+        given(planetCoordinatesIndex.findAll(Set.of(SOURCE_PLANET_ID, TARGET_PLANET_ID))).willReturn(Map.of());
+        var targets = List.of(TARGET_PLANET_ID);
+
+        assertThatThrownBy(() -> missionTimeManagerBo.estimateRequiredTimes(MissionType.EXPLORE, SOURCE_PLANET_ID, targets, 50))
+                .isInstanceOf(SgtBackendInvalidInputException.class)
+                .hasMessageContaining("No such source planet");
+    }
+
+    @Test
+    void estimateRequiredTimes_should_estimate_with_the_units_of_the_user_in_the_source_planet() {
+        var user = givenUser1();
+        var unit = givenUnit1();
+        unit.setSpeed(50D);
+        var unitIds = List.of(UNIT_ID_1);
+        given(obtainedUnitRepository.findUnitIdsInPlanet(user.getId(), SOURCE_PLANET_ID, unitIds)).willReturn(Set.of(UNIT_ID_1));
+        given(unitRepository.findAllById(unitIds)).willReturn(List.of(unit));
+        given(improvementBo.findUserImprovement(user)).willReturn(mock(GroupedImprovement.class));
+        given(planetCoordinatesIndex.findAll(Set.of(SOURCE_PLANET_ID, TARGET_PLANET_ID))).willReturn(Map.of(
+                SOURCE_PLANET_ID, new PlanetCoordinates(1, PLANET_SECTOR, PLANET_QUADRANT, PLANET_NUMBER),
+                TARGET_PLANET_ID, new PlanetCoordinates(2, PLANET_SECTOR, PLANET_QUADRANT, PLANET_NUMBER)
+        ));
+        given(missionConfigurationBo.findMissionBaseTimeByType(MissionType.EXPLORE)).willReturn(60L);
+        givenExploreSpeedConfiguration("1", "4");
+        var request = givenEstimationRequest(List.of(UNIT_ID_1, UNIT_ID_1), List.of(TARGET_PLANET_ID));
+
+        var result = missionTimeManagerBo.estimateRequiredTimes(user, request);
+
+        assertThat(result).containsOnlyKeys(TARGET_PLANET_ID);
+        assertThat(result.get(TARGET_PLANET_ID)).isCloseTo(60 + (4 * 0.15) * 50, within(0.0001));
+    }
+
+    @Test
+    void estimateRequiredTimes_should_reject_units_the_user_does_not_have_in_the_source_planet() {
+        var user = givenUser1();
+        var request = givenEstimationRequest(List.of(UNIT_ID_1), List.of(TARGET_PLANET_ID));
+        given(obtainedUnitRepository.findUnitIdsInPlanet(user.getId(), SOURCE_PLANET_ID, List.of(UNIT_ID_1))).willReturn(Set.of());
+
+        assertThatThrownBy(() -> missionTimeManagerBo.estimateRequiredTimes(user, request))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining(String.valueOf(UNIT_ID_1));
+        verifyNoInteractions(unitRepository, planetCoordinatesIndex);
+    }
+
+    @ParameterizedTest
+    @MethodSource("estimateRequiredTimes_should_reject_empty_or_too_big_requests_arguments")
+    void estimateRequiredTimes_should_reject_empty_or_too_big_requests(List<Integer> unitIds, List<Long> targetPlanetIds) {
+        var user = givenUser1();
+        var request = givenEstimationRequest(unitIds, targetPlanetIds);
+
+        assertThatThrownBy(() -> missionTimeManagerBo.estimateRequiredTimes(user, request))
+                .isInstanceOf(SgtBackendInvalidInputException.class)
+                .hasMessageContaining("must have between 1 and");
+        verifyNoInteractions(obtainedUnitRepository);
+    }
+
     @ParameterizedTest
     @CsvSource(value = {
             "1,2",
@@ -210,6 +339,38 @@ class MissionTimeManagerBoTest {
         assertThat(mission.getTerminationDate()).isNull();
     }
 
+    @ParameterizedTest
+    @CsvSource(value = {
+            "CONQUEST,2022-01-01T10:00:05",
+            "EXPLORE,null"
+    }, nullValues = "null")
+    void defineAttackEligibleFrom_should_define_it_for_conquest_missions(MissionType missionType, LocalDateTime expected) {
+        var mission = givenExploreMission();
+        mission.setStartingDate(LocalDateTime.parse("2022-01-01T10:00:00"));
+        mission.setRequiredTime(50D);
+
+        missionTimeManagerBo.defineAttackEligibleFrom(mission, missionType);
+
+        assertThat(mission.getAttackEligibleFrom()).isEqualTo(expected);
+    }
+
+    private void givenExploreSpeedConfiguration(String missionSpeedDivisor, String leftMultiplier) {
+        given(configurationBo.findOrSetDefault("MISSION_SPEED_DIVISOR_EXPLORE", "1"))
+                .willReturn(Configuration.builder().value(missionSpeedDivisor).build());
+        given(configurationBo.findOrSetDefault("MISSION_SPEED_EXPLORE_SAME_Q", "50"))
+                .willReturn(Configuration.builder().value(leftMultiplier).build());
+        given(configurationBo.findOrSetDefault("MISSION_SPEED_EXPLORE_DIFF_G", "2000"))
+                .willReturn(Configuration.builder().value(leftMultiplier).build());
+        given(configurationBo.findOrSetDefault("MISSION_SPEED_EXPLORE_DIFF_S", "200"))
+                .willReturn(Configuration.builder().value(leftMultiplier).build());
+        given(configurationBo.findOrSetDefault("MISSION_SPEED_EXPLORE_DIFF_Q", "100"))
+                .willReturn(Configuration.builder().value(leftMultiplier).build());
+        given(configurationBo.findOrSetDefault("MISSION_SPEED_EXPLORE_P_MOVE_COST", "0.01")).willReturn(Configuration.builder().value("0.01").build());
+        given(configurationBo.findOrSetDefault("MISSION_SPEED_EXPLORE_Q_MOVE_COST", "0.02")).willReturn(Configuration.builder().value("0.02").build());
+        given(configurationBo.findOrSetDefault("MISSION_SPEED_EXPLORE_S_MOVE_COST", "0.03")).willReturn(Configuration.builder().value("0.03").build());
+        given(configurationBo.findOrSetDefault("MISSION_SPEED_EXPLORE_G_MOVE_COST", "0.15")).willReturn(Configuration.builder().value("0.15").build());
+    }
+
     private static Stream<Arguments> handleMissionTimeCalculation_should_work_arguments() {
         var sourcePlanet = givenSourcePlanet();
         var differentGalaxyTarget = givenTargetPlanet().toBuilder().galaxy(GalaxyMock.givenGalaxy(28)).build();
@@ -222,4 +383,23 @@ class MissionTimeManagerBoTest {
                 Arguments.of(sourcePlanet, differentQuadrantTarget, "2", 71.84399949014187)
         );
     }
+
+    private static Stream<Arguments> estimateRequiredTimes_should_reject_empty_or_too_big_requests_arguments() {
+        return Stream.of(
+                Arguments.of(List.of(), List.of(TARGET_PLANET_ID)),
+                Arguments.of(null, List.of(TARGET_PLANET_ID)),
+                Arguments.of(Stream.iterate(1, id -> id + 1).limit(101).toList(), List.of(TARGET_PLANET_ID)),
+                Arguments.of(List.of(UNIT_ID_1), List.of()),
+                Arguments.of(List.of(UNIT_ID_1), Stream.iterate(1L, id -> id + 1).limit(501).toList())
+        );
+    }
+
+    private MissionTimeEstimationRequest givenEstimationRequest(List<Integer> unitIds, List<Long> targetPlanetIds) {
+        return MissionTimeEstimationRequest.builder()
+                .missionType(MissionType.EXPLORE)
+                .sourcePlanetId(SOURCE_PLANET_ID)
+                .unitIds(unitIds)
+                .targetPlanetIds(targetPlanetIds)
+                .build();
+    }
 }
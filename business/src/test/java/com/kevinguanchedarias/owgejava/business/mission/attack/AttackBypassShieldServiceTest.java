@@ -1,6 +1,7 @@
 package com.kevinguanchedarias.owgejava.business.mission.attack;
 
 import com.kevinguanchedarias.owgejava.business.rule.timespecial.ActiveTimeSpecialRuleFinderService;
+import com.kevinguanchedarias.owgejava.pojo.ActiveTimeSpecialEffects;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +12,7 @@ import static com.kevinguanchedarias.owgejava.mock.ObtainedUnitMock.givenObtaine
 import static com.kevinguanchedarias.owgejava.mock.ObtainedUnitMock.givenObtainedUnit2;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -46,14 +48,12 @@ class AttackBypassShieldServiceTest {
         source.getUnit().setBypassShield(unitBypassShieldByItself);
         var target = givenObtainedUnit2();
         var targetUnit = target.getUnit();
-        given(activeTimeSpecialRuleFinderService.existsRuleMatchingUnitDestination(
-                sourceUser, targetUnit, AttackBypassShieldService.RULE_TYPE
-        )).willReturn(isRuleMatchingUnitDestination);
+        var effects = mock(ActiveTimeSpecialEffects.class);
+        given(activeTimeSpecialRuleFinderService.findActiveEffects(sourceUser)).willReturn(effects);
+        given(effects.hasRuleTargetingUnit(AttackBypassShieldService.RULE_TYPE, targetUnit)).willReturn(isRuleMatchingUnitDestination);
 
         assertThat(attackBypassShieldService.bypassShields(source, target)).isEqualTo(expectation);
 
-        verify(activeTimeSpecialRuleFinderService, times(timesIsRuleMatchingUnitDestination)).existsRuleMatchingUnitDestination(
-                sourceUser, targetUnit, AttackBypassShieldService.RULE_TYPE
-        );
+        verify(effects, times(timesIsRuleMatchingUnitDestination)).hasRuleTargetingUnit(AttackBypassShieldService.RULE_TYPE, targetUnit);
     }
 }
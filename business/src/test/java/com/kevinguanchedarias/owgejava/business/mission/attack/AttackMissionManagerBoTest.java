@@ -4,31 +4,24 @@ import com.kevinguanchedarias.owgejava.business.*;
 import com.kevinguanchedarias.owgejava.business.mission.MissionEventEmitterBo;
 import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitEventEmitter;
 import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitFinderBo;
-import com.kevinguanchedarias.owgejava.business.unit.obtained.ObtainedUnitBo;
 import com.kevinguanchedarias.owgejava.business.unit.obtained.ObtainedUnitImprovementCalculationService;
 import com.kevinguanchedarias.owgejava.business.user.UserEventEmitterBo;
 import com.kevinguanchedarias.owgejava.business.util.TransactionUtilService;
-import com.kevinguanchedarias.owgejava.dto.ObtainedUnitDto;
 import com.kevinguanchedarias.owgejava.entity.AttackRule;
 import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
 import com.kevinguanchedarias.owgejava.entity.Unit;
 import com.kevinguanchedarias.owgejava.entity.UnitType;
-import com.kevinguanchedarias.owgejava.exception.OwgeElementSideDeletedException;
 import com.kevinguanchedarias.owgejava.pojo.attack.AttackInformation;
 import com.kevinguanchedarias.owgejava.pojo.attack.AttackObtainedUnit;
 import com.kevinguanchedarias.owgejava.pojo.attack.AttackUserInformation;
-import com.kevinguanchedarias.owgejava.repository.MissionRepository;
 import com.kevinguanchedarias.owgejava.repository.ObtainedUnitRepository;
 import com.kevinguanchedarias.owgejava.repository.UserStorageRepository;
 import com.kevinguanchedarias.owgejava.test.answer.InvokeRunnableLambdaAnswer;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.boot.test.system.CapturedOutput;
-import org.springframework.boot.test.system.OutputCaptureExtension;
 
 import java.util.List;
 import java.util.function.Supplier;
@@ -48,19 +41,15 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
-@ExtendWith(OutputCaptureExtension.class)
 @SpringBootTest(
         webEnvironment = SpringBootTest.WebEnvironment.NONE,
         classes = AttackMissionManagerBo.class
 )
 @MockBean({
-        ObtainedUnitBo.class,
         ImprovementBo.class,
         AttackObtainedUnitBo.class,
         AttackRuleBo.class,
         CriticalAttackBo.class,
-        MissionRepository.class,
-        UserStorageBo.class,
         UnitTypeBo.class,
         SocketIoService.class,
         MissionBo.class,
@@ -75,11 +64,11 @@ import static org.mockito.Mockito.*;
         ObtainedUnitImprovementCalculationService.class,
         ObtainedUnitFinderBo.class,
         ConfigurationBo.class,
-        AttackBypassShieldService.class
+        AttackBypassShieldService.class,
+        AttackResultPersistenceService.class
 })
 class AttackMissionManagerBoTest {
     private final AttackMissionManagerBo attackMissionManagerBo;
-    private final ObtainedUnitBo obtainedUnitBo;
     private final ImprovementBo improvementBo;
     private final AttackObtainedUnitBo attackObtainedUnitBo;
     private final AttackRuleBo attackRuleBo;
@@ -91,13 +80,13 @@ class AttackMissionManagerBoTest {
     private final ObtainedUnitFinderBo obtainedUnitFinderBo;
     private final TransactionUtilService transactionUtilService;
     private final AttackBypassShieldService attackBypassShieldService;
+    private final AttackResultPersistenceService attackResultPersistenceService;
 
     private final ObtainedUnitImprovementCalculationService obtainedUnitImprovementCalculationService;
 
     @Autowired
     public AttackMissionManagerBoTest(
             AttackMissionManagerBo attackMissionManagerBo,
-            ObtainedUnitBo obtainedUnitBo,
             ImprovementBo improvementBo,
             AttackObtainedUnitBo attackObtainedUnitBo,
             AttackRuleBo attackRuleBo,
@@ -109,10 +98,10 @@ class AttackMissionManagerBoTest {
             ObtainedUnitFinderBo obtainedUnitFinderBo,
             TransactionUtilService transactionUtilService,
             AttackBypassShieldService attackBypassShieldService,
+            AttackResultPersistenceService attackResultPersistenceService,
             ObtainedUnitImprovementCalculationService obtainedUnitImprovementCalculationService
     ) {
         this.attackMissionManagerBo = attackMissionManagerBo;
-        this.obtainedUnitBo = obtainedUnitBo;
         this.improvementBo = improvementBo;
         this.attackObtainedUnitBo = attackObtainedUnitBo;
         this.attackRuleBo = attackRuleBo;
@@ -125,6 +114,7 @@ class AttackMissionManagerBoTest {
         this.obtainedUnitFinderBo = obtainedUnitFinderBo;
         this.transactionUtilService = transactionUtilService;
         this.attackBypassShieldService = attackBypassShieldService;
+        this.attackResultPersistenceService = attackResultPersistenceService;
         this.obtainedUnitImprovementCalculationService = obtainedUnitImprovementCalculationService;
     }
 
@@ -205,7 +195,7 @@ class AttackMissionManagerBoTest {
     }
 
     @Test
-    void startAttack_should_work(CapturedOutput capturedOutput) {
+    void startAttack_should_work() {
         AttackInformation information = givenFullAttackInformation();
         var user1 = information.getUsers().get(USER_ID_1);
         var user2 = information.getUsers().get(USER_ID_2);
@@ -265,7 +255,6 @@ class AttackMissionManagerBoTest {
         var attackRule = givenAttackRule();
         var unitType = givenUnitType(UNIT_TYPE_ID);
         var criticalMultiplier = 18;
-        var fakedToDtoOfindDeployedInUserOwnedPlanets = new ObtainedUnitDto();
         var fakedFindDeployedInUserOwnedPlanets = new ObtainedUnit();
         when(allianceBo.areEnemies(user1.getUser(), user2.getUser())).thenReturn(true);
         when(allianceBo.areEnemies(user2.getUser(), user1.getUser())).thenReturn(true);
@@ -276,23 +265,22 @@ class AttackMissionManagerBoTest {
         when(criticalAttackBo.findUsedCriticalAttack(unitType)).thenReturn(givenCriticalAttack());
         when(criticalAttackBo.findApplicableCriticalEntry(eq(givenCriticalAttack()), any(Unit.class)))
                 .thenReturn(givenCriticalAttackEntry(criticalMultiplier));
-        when(obtainedUnitBo.saveWithChange(eq(survivorUnit.getObtainedUnit()), anyLong())).thenThrow(new OwgeElementSideDeletedException("foo"));
         doAnswer(new InvokeRunnableLambdaAnswer(0)).when(transactionUtilService).doAfterCommit(any());
         doAnswer(answer -> {
             answer.getArgument(2, Supplier.class).get();
             return null;
         }).when(socketIoService).sendMessage(any(), eq(UNIT_OBTAINED_CHANGE), any());
         when(obtainedUnitRepository.findDeployedInUserOwnedPlanets(any())).thenReturn(List.of(fakedFindDeployedInUserOwnedPlanets));
-        when(obtainedUnitBo.toDto(anyList())).thenReturn(List.of(fakedToDtoOfindDeployedInUserOwnedPlanets));
         when(attackBypassShieldService.bypassShields(eq(withBypassShields.getObtainedUnit()), any())).thenReturn(true);
 
         attackMissionManagerBo.startAttack(information);
 
         verify(attackObtainedUnitBo, times(1)).shuffleUnits(information.getUnits());
-        verify(obtainedUnitRepository, times(2)).delete(any(ObtainedUnit.class));
+        verify(attackResultPersistenceService, times(1)).persist(information);
+        assertThat(information.getUnits()).filteredOn(unit -> unit.getFinalCount() == 0L).hasSize(2);
+        verify(obtainedUnitRepository, never()).delete(any(ObtainedUnit.class));
         verify(attackEventEmitter, times(9)).emitAfterUnitKilledCalculation(any(), any(), any(), anyLong());
         verify(improvementBo, times(1)).clearSourceCache(user1.getUser(), obtainedUnitImprovementCalculationService);
-        assertThat(capturedOutput.getOut()).contains("Element side deleted");
         assertThat(user1.getAttackableUnits())
                 .hasSize(4)
                 .contains(ou2);
@@ -357,7 +345,8 @@ class AttackMissionManagerBoTest {
 
         attackMissionManagerBo.startAttack(information);
 
-        verify(obtainedUnitRepository, times(1)).delete(holderUnit);
+        verify(attackResultPersistenceService, times(1)).persist(information);
+        assertThat(attackHolderUnit.getFinalCount()).isZero();
         assertThat(ou1.getOwnerUnit()).isNull();
     }
 }
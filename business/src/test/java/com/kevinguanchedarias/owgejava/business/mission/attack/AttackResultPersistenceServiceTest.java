@@ -0,0 +1,174 @@
+package com.kevinguanchedarias.owgejava.business.mission.attack;
+
+import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitReadModel;
+import com.kevinguanchedarias.owgejava.business.unit.PlanetInvolvedUnitsIndex;
+import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
+import com.kevinguanchedarias.owgejava.repository.MissionRepository;
+import com.kevinguanchedarias.owgejava.repository.ObtainedUnitRepository;
+import com.kevinguanchedarias.taggablecache.manager.TaggableCacheManager;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Set;
+
+import static com.kevinguanchedarias.owgejava.mock.AttackMock.givenFullAttackInformation;
+import static com.kevinguanchedarias.owgejava.mock.MissionMock.ATTACK_MISSION_ID;
+import static com.kevinguanchedarias.owgejava.mock.MissionMock.DEPLOYED_MISSION_ID;
+import static com.kevinguanchedarias.owgejava.mock.ObtainedUnitMock.*;
+import static com.kevinguanchedarias.owgejava.mock.UserMock.USER_ID_1;
+import static com.kevinguanchedarias.owgejava.mock.UserMock.USER_ID_2;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(
+        classes = AttackResultPersistenceService.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE
+)
+@MockBean({
+        ObtainedUnitRepository.class,
+        MissionRepository.class,
+        JdbcTemplate.class,
+        TaggableCacheManager.class,
+        EntityManager.class,
+        ObtainedUnitReadModel.class,
+        PlanetInvolvedUnitsIndex.class
+})
+class AttackResultPersistenceServiceTest {
+    private final AttackResultPersistenceService attackResultPersistenceService;
+    private final ObtainedUnitRepository obtainedUnitRepository;
+    private final MissionRepository missionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TaggableCacheManager taggableCacheManager;
+    private final EntityManager entityManager;
+    private final ObtainedUnitReadModel obtainedUnitReadModel;
+    private final PlanetInvolvedUnitsIndex planetInvolvedUnitsIndex;
+
+    @Autowired
+    AttackResultPersistenceServiceTest(
+            AttackResultPersistenceService attackResultPersistenceService,
+            ObtainedUnitRepository obtainedUnitRepository,
+            MissionRepository missionRepository,
+            JdbcTemplate jdbcTemplate,
+            TaggableCacheManager taggableCacheManager,
+            EntityManager entityManager,
+            ObtainedUnitReadModel obtainedUnitReadModel,
+            PlanetInvolvedUnitsIndex planetInvolvedUnitsIndex
+    ) {
+        this.attackResultPersistenceService = attackResultPersistenceService;
+        this.obtainedUnitRepository = obtainedUnitRepository;
+        this.missionRepository = missionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.taggableCacheManager = taggableCacheManager;
+        this.entityManager = entityManager;
+        this.obtainedUnitReadModel = obtainedUnitReadModel;
+        this.planetInvolvedUnitsIndex = planetInvolvedUnitsIndex;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void persist_should_subtract_the_killed_units_atomically_and_refresh_the_survivors() {
+        var information = givenFullAttackInformation();
+        var survivor = information.getUnits().get(0);
+        survivor.setFinalCount(survivor.getInitialCount() - 1);
+        var survivorObtainedUnit = survivor.getObtainedUnit();
+        var untouched = information.getUnits().get(1);
+
+        var result = attackResultPersistenceService.persist(information);
+
+        assertThat(result).containsExactly(USER_ID_1);
+        assertThat(survivorObtainedUnit.getCount()).isEqualTo(OBTAINED_UNIT_1_COUNT);
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        var inOrder = inOrder(entityManager, jdbcTemplate);
+        inOrder.verify(entityManager, times(1)).flush();
+        inOrder.verify(jdbcTemplate, times(1))
+                .batchUpdate(eq("UPDATE obtained_units SET count = count - ? WHERE id = ?"), captor.capture());
+        inOrder.verify(entityManager, times(1)).refresh(survivorObtainedUnit);
+        assertThat(captor.getValue()).singleElement().satisfies(args -> assertThat(args).containsExactly(1L, OBTAINED_UNIT_1_ID));
+        verify(entityManager, never()).refresh(untouched.getObtainedUnit());
+        verify(obtainedUnitReadModel, times(1)).markChanged(survivorObtainedUnit);
+        verify(planetInvolvedUnitsIndex, times(1)).markChanged(survivorObtainedUnit);
+        verify(taggableCacheManager, times(1)).evictByCacheTag(ObtainedUnit.OBTAINED_UNIT_CACHE_TAG_BY_USER, USER_ID_1);
+        verify(obtainedUnitRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void persist_should_not_write_when_no_unit_was_killed() {
+        var information = givenFullAttackInformation();
+
+        var result = attackResultPersistenceService.persist(information);
+
+        assertThat(result).isEmpty();
+        verify(entityManager, times(1)).flush();
+        verify(entityManager, never()).refresh(any());
+        verify(obtainedUnitRepository, never()).deleteAllByIdInBatch(any());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void persist_should_bulk_delete_destroyed_units_and_delete_emptied_missions() {
+        var information = givenFullAttackInformation();
+        information.getUnits().forEach(unit -> unit.setFinalCount(0L));
+        given(obtainedUnitRepository.findMissionIdsHavingUnits(Set.of(ATTACK_MISSION_ID, DEPLOYED_MISSION_ID)))
+                .willReturn(Set.of());
+
+        var result = attackResultPersistenceService.persist(information);
+
+        assertThat(result).isEmpty();
+        ArgumentCaptor<Iterable<Long>> idsCaptor = ArgumentCaptor.forClass(Iterable.class);
+        verify(obtainedUnitRepository, times(1)).deleteAllByIdInBatch(idsCaptor.capture());
+        assertThat(idsCaptor.getValue()).containsExactlyInAnyOrder(OBTAINED_UNIT_1_ID, OBTAINED_UNIT_2_ID);
+        information.getUnits().forEach(unit -> {
+            verify(entityManager, times(1)).detach(unit.getObtainedUnit());
+            verify(obtainedUnitReadModel, times(1)).markChanged(unit.getObtainedUnit());
+            verify(planetInvolvedUnitsIndex, times(1)).markChanged(unit.getObtainedUnit());
+        });
+        verify(taggableCacheManager, times(1)).evictByCacheTag(ObtainedUnit.OBTAINED_UNIT_CACHE_TAG_BY_USER, USER_ID_1);
+        verify(taggableCacheManager, times(1)).evictByCacheTag(ObtainedUnit.OBTAINED_UNIT_CACHE_TAG_BY_USER, USER_ID_2);
+        assertThat(information.isRemoved()).isTrue();
+        var deletedCaptor = ArgumentCaptor.forClass(Iterable.class);
+        verify(missionRepository, times(1)).deleteAll(deletedCaptor.capture());
+        assertThat(deletedCaptor.getValue()).hasSize(1);
+        assertThat(information.getUsersWithDeletedMissions()).containsExactly(USER_ID_1);
+    }
+
+    @Test
+    void persist_should_not_delete_missions_that_still_have_units() {
+        var information = givenFullAttackInformation();
+        information.getUnits().forEach(unit -> unit.setFinalCount(0L));
+        given(obtainedUnitRepository.findMissionIdsHavingUnits(any()))
+                .willReturn(Set.of(ATTACK_MISSION_ID, DEPLOYED_MISSION_ID));
+
+        attackResultPersistenceService.persist(information);
+
+        assertThat(information.isRemoved()).isFalse();
+        assertThat(information.getUsersWithDeletedMissions()).isEmpty();
+        verify(missionRepository, never()).deleteAll(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void persist_should_add_earned_points_in_one_batch() {
+        var information = givenFullAttackInformation();
+        information.getUsers().get(USER_ID_1).setEarnedPoints(20D);
+
+        attackResultPersistenceService.persist(information);
+
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        assertThat(captor.getValue().get(0)).containsExactly(20D, USER_ID_1);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), any(int[].class));
+    }
+}
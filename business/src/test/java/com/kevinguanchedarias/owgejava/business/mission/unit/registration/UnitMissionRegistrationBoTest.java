@@ -3,6 +3,7 @@ package com.kevinguanchedarias.owgejava.business.mission.unit.registration;
 
 import com.kevinguanchedarias.owgejava.business.MissionSchedulerService;
 import com.kevinguanchedarias.owgejava.business.mission.MissionEventEmitterBo;
+import com.kevinguanchedarias.owgejava.business.mission.MissionTelemetryService;
 import com.kevinguanchedarias.owgejava.business.mission.MissionTimeManagerBo;
 import com.kevinguanchedarias.owgejava.business.mission.checker.CrossGalaxyMissionChecker;
 import com.kevinguanchedarias.owgejava.business.mission.unit.registration.checker.MissionRegistrationCanDeployChecker;
@@ -10,6 +11,7 @@ import com.kevinguanchedarias.owgejava.business.mission.unit.registration.checke
 import com.kevinguanchedarias.owgejava.business.mission.unit.registration.checker.MissionRegistrationUserExistsChecker;
 import com.kevinguanchedarias.owgejava.business.planet.PlanetUtilService;
 import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitEventEmitter;
+import com.kevinguanchedarias.owgejava.configurations.OpenTelemetryConfiguration;
 import com.kevinguanchedarias.owgejava.entity.UserStorage;
 import com.kevinguanchedarias.owgejava.enumerations.MissionType;
 import com.kevinguanchedarias.owgejava.pojo.UnitInMap;
@@ -38,7 +40,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
 @SpringBootTest(
-        classes = UnitMissionRegistrationBo.class,
+        classes = {UnitMissionRegistrationBo.class, MissionTelemetryService.class, OpenTelemetryConfiguration.class},
         webEnvironment = SpringBootTest.WebEnvironment.NONE
 )
 @MockBean({
@@ -162,6 +164,7 @@ class UnitMissionRegistrationBoTest {
         verify(obtainedUnitRepository, times(1)).saveAll(managedOuList);
         verify(missionTimeManagerBo, times(1)).handleMissionTimeCalculation(managedOuList, mission, missionType);
         verify(missionTimeManagerBo, times(1)).handleCustomDuration(mission, expectedWantedTime);
+        verify(missionTimeManagerBo, times(1)).defineAttackEligibleFrom(mission, missionType);
         verify(missionRegistrationInvisibleManager, times(1)).handleDefineMissionAsInvisible(mission, managedOuList);
         verify(missionRepository, times(1)).save(mission);
         verify(missionSchedulerService, times(1)).scheduleMission(mission);
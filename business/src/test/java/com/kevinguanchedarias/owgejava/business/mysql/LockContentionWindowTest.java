@@ -0,0 +1,80 @@
+package com.kevinguanchedarias.owgejava.business.mysql;
+
+import com.kevinguanchedarias.owgejava.pojo.lock.ContendedLockInformation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class LockContentionWindowTest {
+    private static final long WINDOW_MILLIS = 10_000;
+    private static final int SLOTS = 10;
+    private static final long THRESHOLD_MICROS = 5_000;
+
+    private AtomicLong now;
+    private LockContentionWindow window;
+
+    @BeforeEach
+    void setup() {
+        now = new AtomicLong(1_000_000);
+        window = new LockContentionWindow(WINDOW_MILLIS, SLOTS, THRESHOLD_MICROS, now::get);
+    }
+
+    @Test
+    void findTop_should_sort_by_wait_time_and_limit() {
+        window.record("planet_lock_1", 1_000, false);
+        window.record("planet_lock_2", 20_000, false);
+        window.record("planet_lock_2", 10_000, true);
+        window.record("planet_lock_3", 6_000, false);
+
+        var result = window.findTop(2);
+
+        assertThat(result)
+                .extracting(
+                        ContendedLockInformation::getKey,
+                        ContendedLockInformation::getAcquisitions,
+                        ContendedLockInformation::getContendedAcquisitions,
+                        ContendedLockInformation::getTimeouts,
+                        ContendedLockInformation::getTotalWaitMillis,
+                        ContendedLockInformation::getMaxWaitMillis
+                )
+                .containsExactly(
+                        tuple("planet_lock_2", 2L, 2L, 1L, 30D, 20D),
+                        tuple("planet_lock_3", 1L, 1L, 0L, 6D, 6D)
+                );
+    }
+
+    @Test
+    void findTop_should_sum_the_slots_inside_the_window() {
+        window.record("planet_lock_1", 1_000, false);
+        now.addAndGet(WINDOW_MILLIS / 2);
+        window.record("planet_lock_1", 2_000, false);
+
+        assertThat(window.findTop(10)).extracting(ContendedLockInformation::getAcquisitions).containsExactly(2L);
+    }
+
+    @Test
+    void findTop_should_forget_the_slots_outside_the_window() {
+        window.record("planet_lock_1", 1_000, false);
+        now.addAndGet(WINDOW_MILLIS);
+        window.record("planet_lock_2", 1_000, false);
+
+        assertThat(window.findTop(10)).extracting(ContendedLockInformation::getKey).containsExactly("planet_lock_2");
+
+        now.addAndGet(WINDOW_MILLIS * 3);
+        assertThat(window.findTop(10)).isEmpty();
+    }
+
+    @Test
+    void reset_should_clear_the_window() {
+        window.record("planet_lock_1", 1_000, false);
+
+        window.reset();
+
+        assertThat(window.findTop(10)).isEmpty();
+        assertThat(window.getWindowMillis()).isEqualTo(WINDOW_MILLIS);
+    }
+}
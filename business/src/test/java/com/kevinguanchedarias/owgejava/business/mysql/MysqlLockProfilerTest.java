@@ -0,0 +1,142 @@
+package com.kevinguanchedarias.owgejava.business.mysql;
+
+import com.kevinguanchedarias.owgejava.pojo.lock.LockHolderInformation;
+import com.kevinguanchedarias.owgejava.pojo.lock.LockPrefixMetrics;
+import com.kevinguanchedarias.owgejava.pojo.lock.LockWaiterInformation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class MysqlLockProfilerTest {
+    private static final String PLANET_KEY_1 = "planet_lock_1";
+    private static final String PLANET_KEY_2 = "planet_lock_2";
+    private static final String OTHER_KEY = "other_lock_9";
+
+    private MysqlLockProfiler profiler;
+
+    @BeforeEach
+    void setup() {
+        profiler = new MysqlLockProfiler(300, 5);
+    }
+
+    @Test
+    void startWaiting_should_register_waiter_until_acquired() {
+        var attempt = profiler.startWaiting(List.of(PLANET_KEY_1, PLANET_KEY_2));
+
+        assertThat(profiler.findWaiters())
+                .extracting(LockWaiterInformation::getThreadName, LockWaiterInformation::getKeys)
+                .containsExactly(tuple(Thread.currentThread().getName(), List.of(PLANET_KEY_1, PLANET_KEY_2)));
+
+        profiler.acquired(attempt, false);
+
+        assertThat(profiler.findWaiters()).isEmpty();
+        assertThat(profiler.findHolders()).extracting(LockHolderInformation::getKey)
+                .containsExactlyInAnyOrder(PLANET_KEY_1, PLANET_KEY_2);
+    }
+
+    @Test
+    void acquired_should_group_histograms_by_key_prefix() {
+        profiler.acquired(profiler.startWaiting(List.of(PLANET_KEY_1, PLANET_KEY_2)), false);
+        profiler.acquired(profiler.startWaiting(List.of(OTHER_KEY)), true);
+
+        assertThat(profiler.findPrefixMetrics())
+                .extracting(LockPrefixMetrics::getPrefix, LockPrefixMetrics::getAcquisitions, LockPrefixMetrics::getTimeouts)
+                .containsExactly(tuple("other_lock_", 1L, 1L), tuple("planet_lock_", 2L, 0L));
+    }
+
+    @Test
+    void acquired_should_not_register_holders_when_timed_out() {
+        var holderAttempt = profiler.startWaiting(List.of(PLANET_KEY_1));
+        profiler.acquired(holderAttempt, false);
+        var timedOutAttempt = profiler.startWaiting(List.of(PLANET_KEY_1));
+
+        profiler.acquired(timedOutAttempt, true);
+        profiler.released(timedOutAttempt);
+
+        assertThat(profiler.findWaiters()).isEmpty();
+        assertThat(profiler.findHolders())
+                .extracting(LockHolderInformation::getThreadName, LockHolderInformation::getDepth)
+                .containsExactly(tuple(Thread.currentThread().getName(), 1));
+        assertThat(profiler.findPrefixMetrics())
+                .extracting(LockPrefixMetrics::getAcquisitions, LockPrefixMetrics::getTimeouts)
+                .containsExactly(tuple(2L, 1L));
+        assertThat(profiler.findReport(10).getTopContended()).hasSize(1);
+    }
+
+    @Test
+    void released_should_handle_reentrant_locks() {
+        var outer = profiler.startWaiting(List.of(PLANET_KEY_1));
+        profiler.acquired(outer, false);
+        var inner = profiler.startWaiting(List.of(PLANET_KEY_1));
+        profiler.acquired(inner, false);
+
+        assertThat(profiler.findHolders()).extracting(LockHolderInformation::getDepth).containsExactly(2);
+
+        profiler.released(inner);
+        assertThat(profiler.findHolders()).extracting(LockHolderInformation::getDepth).containsExactly(1);
+
+        profiler.released(outer);
+        assertThat(profiler.findHolders()).isEmpty();
+        assertThat(profiler.findPrefixMetrics().get(0).getHoldMaxMillis()).isNotNegative();
+    }
+
+    @Test
+    void released_should_ignore_not_acquired_attempts() {
+        var attempt = profiler.startWaiting(List.of(PLANET_KEY_1));
+
+        profiler.released(attempt);
+        profiler.stopWaiting(attempt);
+
+        assertThat(profiler.findWaiters()).isEmpty();
+        assertThat(profiler.findPrefixMetrics()).isEmpty();
+    }
+
+    @Test
+    void findReport_should_include_top_contended_keys() {
+        profiler.acquired(profiler.startWaiting(List.of(PLANET_KEY_1)), false);
+
+        var result = profiler.findReport(5);
+
+        assertThat(result.getWindowSeconds()).isEqualTo(300);
+        assertThat(result.getPrefixes()).hasSize(1);
+        assertThat(result.getHolders()).hasSize(1);
+        assertThat(result.getWaiters()).isEmpty();
+        assertThat(result.getTopContended()).singleElement().extracting("key").isEqualTo(PLANET_KEY_1);
+    }
+
+    @Test
+    void toPrometheusText_should_work() {
+        var attempt = profiler.startWaiting(List.of(PLANET_KEY_1));
+        profiler.acquired(attempt, false);
+        profiler.released(attempt);
+
+        var result = profiler.toPrometheusText();
+
+        assertThat(result)
+                .contains("# TYPE owge_lock_wait_seconds summary\n")
+                .contains("owge_lock_wait_seconds_count{prefix=\"planet_lock_\"} 1\n")
+                .contains("owge_lock_hold_seconds_count{prefix=\"planet_lock_\"} 1\n")
+                .contains("owge_lock_timeouts_total{prefix=\"planet_lock_\"} 0\n")
+                .contains("owge_lock_holders 0\n")
+                .contains("owge_lock_waiters 0\n")
+                .contains("owge_lock_window_wait_seconds{key=\"planet_lock_1\"} ");
+    }
+
+    @Test
+    void reset_should_clear_everything() {
+        profiler.acquired(profiler.startWaiting(List.of(PLANET_KEY_1)), false);
+        profiler.startWaiting(List.of(PLANET_KEY_2));
+
+        profiler.reset();
+
+        var result = profiler.findReport(5);
+        assertThat(result.getPrefixes()).isEmpty();
+        assertThat(result.getHolders()).isEmpty();
+        assertThat(result.getWaiters()).isEmpty();
+        assertThat(result.getTopContended()).isEmpty();
+    }
+}
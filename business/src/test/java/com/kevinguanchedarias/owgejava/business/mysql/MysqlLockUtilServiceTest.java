@@ -2,6 +2,8 @@ package com.kevinguanchedarias.owgejava.business.mysql;
 
 import com.kevinguanchedarias.owgejava.business.util.TransactionUtilService;
 import com.kevinguanchedarias.owgejava.exception.CommonException;
+import com.kevinguanchedarias.owgejava.pojo.lock.LockHolderInformation;
+import com.kevinguanchedarias.owgejava.pojo.lock.LockPrefixMetrics;
 import com.kevinguanchedarias.owgejava.repository.MysqlInformationRepository;
 import com.kevinguanchedarias.owgejava.test.answer.InvokeRunnableLambdaAnswer;
 import com.kevinguanchedarias.owgejava.util.ThreadUtil;
@@ -20,6 +22,7 @@ import org.springframework.jdbc.core.PreparedStatementCallback;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -27,13 +30,15 @@ import java.util.Set;
 import static com.kevinguanchedarias.owgejava.business.mysql.MysqlLockUtilService.TIMEOUT_SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @SuppressWarnings("unchecked")
 @ExtendWith(OutputCaptureExtension.class)
 @SpringBootTest(
-        classes = MysqlLockUtilService.class,
+        classes = {MysqlLockUtilService.class, MysqlLockProfiler.class},
         webEnvironment = SpringBootTest.WebEnvironment.NONE
 )
 @MockBean({
@@ -58,6 +63,7 @@ class MysqlLockUtilServiceTest {
     private final JdbcTemplate jdbcTemplate;
     private final TransactionUtilService transactionUtilService;
     private final MysqlInformationRepository mysqlInformationRepository;
+    private final MysqlLockProfiler mysqlLockProfiler;
 
     private Runnable runnableMock;
 
@@ -66,17 +72,20 @@ class MysqlLockUtilServiceTest {
             MysqlLockUtilService mysqlLockUtilService,
             JdbcTemplate jdbcTemplate,
             TransactionUtilService transactionUtilService,
-            MysqlInformationRepository mysqlInformationRepository
+            MysqlInformationRepository mysqlInformationRepository,
+            MysqlLockProfiler mysqlLockProfiler
     ) {
         this.mysqlLockUtilService = mysqlLockUtilService;
         this.jdbcTemplate = jdbcTemplate;
         this.transactionUtilService = transactionUtilService;
         this.mysqlInformationRepository = mysqlInformationRepository;
+        this.mysqlLockProfiler = mysqlLockProfiler;
     }
 
     @BeforeEach
     public void setup() {
         runnableMock = mock(Runnable.class);
+        mysqlLockProfiler.reset();
     }
 
     @Test
@@ -102,6 +111,42 @@ class MysqlLockUtilServiceTest {
         verify(preparedStatementMockForLock, times(1)).setInt(4, TIMEOUT_SECONDS);
         verify(preparedStatementMockForReleaseLock, times(1)).setString(1, KEY_2);
         verify(preparedStatementMockForReleaseLock, times(1)).setString(2, KEY_1);
+        assertThat(mysqlLockProfiler.findPrefixMetrics())
+                .extracting(LockPrefixMetrics::getPrefix, LockPrefixMetrics::getAcquisitions, LockPrefixMetrics::getTimeouts)
+                .containsExactly(tuple(KEY_2, 1L, 0L), tuple(KEY_1, 1L, 0L));
+        assertThat(mysqlLockProfiler.findHolders()).isEmpty();
+        assertThat(mysqlLockProfiler.findWaiters()).isEmpty();
+    }
+
+    @Test
+    void doInsideLock_should_report_holders_while_running() {
+        handlePreparedStatementForLock();
+        handlePreparedStatementForReleaseLock();
+        doAnswer(invocation -> {
+            assertThat(mysqlLockProfiler.findHolders()).extracting(LockHolderInformation::getKey)
+                    .containsExactlyInAnyOrder(KEY_1, KEY_2);
+            return null;
+        }).when(runnableMock).run();
+
+        mysqlLockUtilService.doInsideLock(KEY_LIST, runnableMock);
+
+        verify(runnableMock, times(1)).run();
+        assertThat(mysqlLockProfiler.findHolders()).isEmpty();
+    }
+
+    @Test
+    void doInsideLock_should_count_timeouts() throws SQLException {
+        var preparedStatementMockForLock = handlePreparedStatementForLock();
+        handlePreparedStatementForReleaseLock();
+        var resultSetMock = mock(ResultSet.class);
+        given(preparedStatementMockForLock.getResultSet()).willReturn(resultSetMock);
+        given(resultSetMock.next()).willReturn(true, true, false);
+        given(resultSetMock.getInt(1)).willReturn(1, 0);
+
+        mysqlLockUtilService.doInsideLock(KEY_LIST, runnableMock);
+
+        assertThat(mysqlLockProfiler.findPrefixMetrics()).extracting(LockPrefixMetrics::getTimeouts).containsExactly(1L, 1L);
+        verify(resultSetMock, times(1)).close();
     }
 
     @CsvSource({
@@ -194,6 +239,8 @@ class MysqlLockUtilServiceTest {
         assertThatThrownBy(() -> mysqlLockUtilService.doInsideLock(KEY_LIST, runnableMock))
                 .isInstanceOf(CommonException.class)
                 .hasCause(exception);
+        assertThat(mysqlLockProfiler.findWaiters()).isEmpty();
+        assertThat(mysqlLockProfiler.findHolders()).isEmpty();
     }
 
     @Test
@@ -0,0 +1,104 @@
+package com.kevinguanchedarias.owgejava.business.planet;
+
+import com.kevinguanchedarias.owgejava.entity.projection.PlanetCoordinatesProjection;
+import com.kevinguanchedarias.owgejava.pojo.planet.PlanetCoordinates;
+import com.kevinguanchedarias.owgejava.repository.PlanetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.kevinguanchedarias.owgejava.mock.PlanetMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(
+        classes = PlanetCoordinatesIndex.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE
+)
+@MockBean(PlanetRepository.class)
+class PlanetCoordinatesIndexTest {
+    private final PlanetCoordinatesIndex planetCoordinatesIndex;
+    private final PlanetRepository planetRepository;
+
+    @Autowired
+    PlanetCoordinatesIndexTest(PlanetCoordinatesIndex planetCoordinatesIndex, PlanetRepository planetRepository) {
+        this.planetCoordinatesIndex = planetCoordinatesIndex;
+        this.planetRepository = planetRepository;
+    }
+
+    @BeforeEach
+    void clear() {
+        planetCoordinatesIndex.invalidateAll();
+    }
+
+    @Test
+    void findAll_should_load_missing_planets_once() {
+        var source = givenProjection(SOURCE_PLANET_ID, 1);
+        var target = givenProjection(TARGET_PLANET_ID, 2);
+        given(planetRepository.findCoordinatesByIdIn(Set.of(SOURCE_PLANET_ID))).willReturn(List.of(source));
+        given(planetRepository.findCoordinatesByIdIn(Set.of(TARGET_PLANET_ID, 999L))).willReturn(List.of(target));
+
+        assertThat(planetCoordinatesIndex.findAll(List.of(SOURCE_PLANET_ID)))
+                .containsExactlyEntriesOf(Map.of(SOURCE_PLANET_ID, new PlanetCoordinates(1, PLANET_SECTOR, PLANET_QUADRANT, PLANET_NUMBER)));
+        var result = planetCoordinatesIndex.findAll(List.of(SOURCE_PLANET_ID, TARGET_PLANET_ID, 999L));
+
+        assertThat(result).containsOnlyKeys(SOURCE_PLANET_ID, TARGET_PLANET_ID);
+        assertThat(result.get(TARGET_PLANET_ID).getGalaxyId()).isEqualTo(2);
+        verify(planetRepository, times(1)).findCoordinatesByIdIn(Set.of(SOURCE_PLANET_ID));
+        verify(planetRepository, times(1)).findCoordinatesByIdIn(Set.of(TARGET_PLANET_ID, 999L));
+    }
+
+    @Test
+    void findAll_should_not_query_when_all_are_known() {
+        var source = givenProjection(SOURCE_PLANET_ID, 1);
+        given(planetRepository.findCoordinatesByIdIn(Set.of(SOURCE_PLANET_ID))).willReturn(List.of(source));
+        planetCoordinatesIndex.findAll(List.of(SOURCE_PLANET_ID));
+
+        planetCoordinatesIndex.findAll(List.of(SOURCE_PLANET_ID));
+
+        verify(planetRepository, times(1)).findCoordinatesByIdIn(any());
+    }
+
+    @Test
+    void evict_should_load_the_planet_again() {
+        var source = givenProjection(SOURCE_PLANET_ID, 1);
+        var target = givenProjection(TARGET_PLANET_ID, 2);
+        given(planetRepository.findCoordinatesByIdIn(Set.of(SOURCE_PLANET_ID, TARGET_PLANET_ID))).willReturn(List.of(source, target));
+        given(planetRepository.findCoordinatesByIdIn(Set.of(SOURCE_PLANET_ID))).willReturn(List.of(source));
+        planetCoordinatesIndex.findAll(List.of(SOURCE_PLANET_ID, TARGET_PLANET_ID));
+
+        planetCoordinatesIndex.evict(SOURCE_PLANET_ID);
+        planetCoordinatesIndex.findAll(List.of(SOURCE_PLANET_ID, TARGET_PLANET_ID));
+
+        verify(planetRepository, times(1)).findCoordinatesByIdIn(Set.of(SOURCE_PLANET_ID));
+    }
+
+    @Test
+    void invalidateAll_should_load_the_planets_again() {
+        var source = givenProjection(SOURCE_PLANET_ID, 1);
+        given(planetRepository.findCoordinatesByIdIn(Set.of(SOURCE_PLANET_ID))).willReturn(List.of(source));
+        planetCoordinatesIndex.findAll(List.of(SOURCE_PLANET_ID));
+
+        planetCoordinatesIndex.invalidateAll();
+        planetCoordinatesIndex.findAll(List.of(SOURCE_PLANET_ID));
+
+        verify(planetRepository, times(2)).findCoordinatesByIdIn(Set.of(SOURCE_PLANET_ID));
+    }
+
+    private PlanetCoordinatesProjection givenProjection(long planetId, int galaxyId) {
+        var projection = mock(PlanetCoordinatesProjection.class);
+        given(projection.getId()).willReturn(planetId);
+        given(projection.getGalaxyId()).willReturn(galaxyId);
+        given(projection.getSector()).willReturn(PLANET_SECTOR);
+        given(projection.getQuadrant()).willReturn(PLANET_QUADRANT);
+        given(projection.getPlanetNumber()).willReturn(PLANET_NUMBER);
+        return projection;
+    }
+}
@@ -0,0 +1,73 @@
+package com.kevinguanchedarias.owgejava.business.planet;
+
+import com.kevinguanchedarias.owgejava.repository.PlanetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.util.List;
+
+import static com.kevinguanchedarias.owgejava.mock.PlanetMock.*;
+import static com.kevinguanchedarias.owgejava.mock.UserMock.USER_ID_1;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(
+        classes = PlanetOwnershipCacheService.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE
+)
+@MockBean(PlanetRepository.class)
+class PlanetOwnershipCacheServiceTest {
+    private final PlanetOwnershipCacheService planetOwnershipCacheService;
+    private final PlanetRepository planetRepository;
+
+    @Autowired
+    PlanetOwnershipCacheServiceTest(PlanetOwnershipCacheService planetOwnershipCacheService, PlanetRepository planetRepository) {
+        this.planetOwnershipCacheService = planetOwnershipCacheService;
+        this.planetRepository = planetRepository;
+    }
+
+    @BeforeEach
+    void clear() {
+        planetOwnershipCacheService.clear();
+    }
+
+    @Test
+    void findOwnedPlanetOrHome_should_return_wanted_planet_when_owned_and_home_otherwise() {
+        givenOwnedPlanets();
+
+        assertThat(planetOwnershipCacheService.findOwnedPlanetOrHome(USER_ID_1, TARGET_PLANET_ID)).isEqualTo(TARGET_PLANET_ID);
+        assertThat(planetOwnershipCacheService.findOwnedPlanetOrHome(USER_ID_1, 999L)).isEqualTo(SOURCE_PLANET_ID);
+        verify(planetRepository, times(1)).findByOwnerId(USER_ID_1);
+    }
+
+    @Test
+    void findOwnedPlanetOrHome_should_return_null_and_not_cache_when_user_has_no_home() {
+        given(planetRepository.findByOwnerId(USER_ID_1)).willReturn(List.of());
+
+        assertThat(planetOwnershipCacheService.findOwnedPlanetOrHome(USER_ID_1, TARGET_PLANET_ID)).isNull();
+        assertThat(planetOwnershipCacheService.findOwnedPlanetOrHome(USER_ID_1, TARGET_PLANET_ID)).isNull();
+        verify(planetRepository, times(2)).findByOwnerId(USER_ID_1);
+    }
+
+    @Test
+    void evict_should_reload_owned_planets() {
+        givenOwnedPlanets();
+        planetOwnershipCacheService.findOwnedPlanetOrHome(USER_ID_1, TARGET_PLANET_ID);
+
+        planetOwnershipCacheService.evict(USER_ID_1);
+        planetOwnershipCacheService.findOwnedPlanetOrHome(USER_ID_1, TARGET_PLANET_ID);
+
+        verify(planetRepository, times(2)).findByOwnerId(USER_ID_1);
+    }
+
+    private void givenOwnedPlanets() {
+        var homePlanet = givenSourcePlanet();
+        homePlanet.setHome(true);
+        given(planetRepository.findByOwnerId(USER_ID_1)).willReturn(List.of(homePlanet, givenTargetPlanet()));
+    }
+}
@@ -0,0 +1,121 @@
+package com.kevinguanchedarias.owgejava.business.retention;
+
+import com.kevinguanchedarias.owgejava.business.util.TransactionUtilService;
+import com.kevinguanchedarias.owgejava.pojo.RetentionPurgeDefinition;
+import com.kevinguanchedarias.owgejava.test.answer.InvokeRunnableLambdaAnswer;
+import com.kevinguanchedarias.owgejava.util.ThreadUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(
+        classes = RetentionPurgeService.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE
+)
+@MockBean({
+        NamedParameterJdbcTemplate.class,
+        TransactionUtilService.class
+})
+class RetentionPurgeServiceTest {
+    private static final String EXPECTED_SELECT = "SELECT id FROM foo WHERE date < :limitDate LIMIT :chunkSize";
+    private static final String EXPECTED_DELETE = "DELETE FROM foo WHERE id IN (:ids)";
+    private static final String BEFORE_DELETE_STATEMENT = "UPDATE bar SET foo_id = NULL WHERE foo_id IN (:ids)";
+    private static final RetentionPurgeDefinition DEFINITION = RetentionPurgeDefinition.builder()
+            .table("foo")
+            .condition("date < :limitDate")
+            .beforeDeleteStatement(BEFORE_DELETE_STATEMENT)
+            .build();
+
+    private final RetentionPurgeService retentionPurgeService;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionUtilService transactionUtilService;
+
+    @Autowired
+    RetentionPurgeServiceTest(
+            RetentionPurgeService retentionPurgeService,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            TransactionUtilService transactionUtilService
+    ) {
+        this.retentionPurgeService = retentionPurgeService;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionUtilService = transactionUtilService;
+    }
+
+    @BeforeEach
+    void setup() {
+        doAnswer(new InvokeRunnableLambdaAnswer(0)).when(transactionUtilService).runWithRequired(any());
+    }
+
+    @Test
+    void purge_should_do_nothing_when_no_rows_match() {
+        given(namedParameterJdbcTemplate.queryForList(eq(EXPECTED_SELECT), any(MapSqlParameterSource.class), eq(Long.class)))
+                .willReturn(List.of());
+
+        var result = retentionPurgeService.purge(DEFINITION, LocalDateTime.now());
+
+        assertThat(result).isZero();
+        verify(transactionUtilService, times(1)).runWithRequired(any());
+        verify(namedParameterJdbcTemplate, never()).update(any(), any(MapSqlParameterSource.class));
+    }
+
+    @Test
+    void purge_should_loop_chunks_in_separated_transactions_until_chunk_is_not_full() {
+        var fullChunk = LongStream.range(0, 500).boxed().toList();
+        var lastChunk = List.of(1000L, 1001L);
+        var limitDate = LocalDateTime.now();
+        given(namedParameterJdbcTemplate.queryForList(eq(EXPECTED_SELECT), any(MapSqlParameterSource.class), eq(Long.class)))
+                .willReturn(fullChunk, lastChunk);
+
+        try (var mockedStatic = mockStatic(ThreadUtil.class)) {
+            var result = retentionPurgeService.purge(DEFINITION, limitDate);
+
+            assertThat(result).isEqualTo(502);
+            mockedStatic.verify(() -> ThreadUtil.sleep(100), times(1));
+        }
+        verify(transactionUtilService, times(2)).runWithRequired(any());
+        var selectCaptor = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(namedParameterJdbcTemplate, times(2)).queryForList(eq(EXPECTED_SELECT), selectCaptor.capture(), eq(Long.class));
+        assertThat(selectCaptor.getValue().getValue(RetentionPurgeService.LIMIT_DATE_PARAM)).isEqualTo(limitDate);
+        var captor = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        var inOrder = inOrder(namedParameterJdbcTemplate);
+        inOrder.verify(namedParameterJdbcTemplate).update(eq(BEFORE_DELETE_STATEMENT), captor.capture());
+        inOrder.verify(namedParameterJdbcTemplate).update(eq(EXPECTED_DELETE), captor.capture());
+        inOrder.verify(namedParameterJdbcTemplate).update(eq(BEFORE_DELETE_STATEMENT), captor.capture());
+        inOrder.verify(namedParameterJdbcTemplate).update(eq(EXPECTED_DELETE), captor.capture());
+        assertThat(captor.getValue().getValue(RetentionPurgeService.IDS_PARAM)).isEqualTo(lastChunk);
+    }
+
+    @Test
+    void purge_should_stop_when_interrupted() {
+        var fullChunk = LongStream.range(0, 500).boxed().toList();
+        given(namedParameterJdbcTemplate.queryForList(eq(EXPECTED_SELECT), any(MapSqlParameterSource.class), eq(Long.class)))
+                .willReturn(fullChunk);
+        var threadMock = mock(Thread.class);
+
+        try (var mockedStatic = mockStatic(ThreadUtil.class)) {
+            mockedStatic.when(() -> ThreadUtil.sleep(anyLong())).thenThrow(new InterruptedException());
+            mockedStatic.when(ThreadUtil::currentThread).thenReturn(threadMock);
+
+            var result = retentionPurgeService.purge(DEFINITION, LocalDateTime.now());
+
+            assertThat(result).isEqualTo(500);
+        }
+        verify(threadMock, times(1)).interrupt();
+        verify(transactionUtilService, times(1)).runWithRequired(any());
+    }
+}
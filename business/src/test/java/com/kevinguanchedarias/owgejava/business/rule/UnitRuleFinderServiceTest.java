@@ -1,19 +1,13 @@
 package com.kevinguanchedarias.owgejava.business.rule;
 
 import com.kevinguanchedarias.owgejava.business.rule.itemtype.UnitRuleItemTypeProviderBo;
+import com.kevinguanchedarias.owgejava.business.rule.timespecial.ActiveTimeSpecialRuleFinderService;
 import com.kevinguanchedarias.owgejava.entity.Rule;
-import com.kevinguanchedarias.owgejava.entity.UnitType;
-import com.kevinguanchedarias.owgejava.enumerations.ObjectEnum;
-import com.kevinguanchedarias.owgejava.enumerations.TimeSpecialStateEnum;
 import com.kevinguanchedarias.owgejava.mock.UnitMock;
 import com.kevinguanchedarias.owgejava.mock.UnitTypeMock;
-import com.kevinguanchedarias.owgejava.repository.ActiveTimeSpecialRepository;
+import com.kevinguanchedarias.owgejava.pojo.ActiveTimeSpecialEffects;
 import com.kevinguanchedarias.owgejava.repository.RuleRepository;
-import com.kevinguanchedarias.owgejava.test.answer.InvokeSupplierLambdaAnswer;
-import com.kevinguanchedarias.taggablecache.manager.TaggableCacheManager;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -22,11 +16,9 @@ import java.util.List;
 import java.util.Optional;
 
 import static com.kevinguanchedarias.owgejava.business.rule.type.unit.UnitCaptureRuleTypeProviderBo.PROVIDER_ID;
-import static com.kevinguanchedarias.owgejava.mock.ActiveTimeSpecialMock.givenActiveTimeSpecialMock;
 import static com.kevinguanchedarias.owgejava.mock.RuleMock.givenRule;
-import static com.kevinguanchedarias.owgejava.mock.TimeSpecialMock.TIME_SPECIAL_ID;
 import static com.kevinguanchedarias.owgejava.mock.UnitMock.*;
-import static com.kevinguanchedarias.owgejava.mock.UserMock.USER_ID_1;
+import static com.kevinguanchedarias.owgejava.mock.UserMock.givenUser1;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -37,8 +29,7 @@ import static org.mockito.Mockito.*;
 )
 @MockBean({
         RuleRepository.class,
-        ActiveTimeSpecialRepository.class,
-        TaggableCacheManager.class
+        ActiveTimeSpecialRuleFinderService.class
 })
 class UnitRuleFinderServiceTest {
     private static final long UNIT_TYPE_ID = UnitTypeMock.UNIT_TYPE_ID;
@@ -49,20 +40,17 @@ class UnitRuleFinderServiceTest {
 
     private final UnitRuleFinderService unitRuleFinderService;
     private final RuleRepository ruleRepository;
-    private final ActiveTimeSpecialRepository activeTimeSpecialRepository;
-    private final TaggableCacheManager taggableCacheManager;
+    private final ActiveTimeSpecialRuleFinderService activeTimeSpecialRuleFinderService;
 
     @Autowired
     UnitRuleFinderServiceTest(
             UnitRuleFinderService unitRuleFinderService,
             RuleRepository ruleRepository,
-            ActiveTimeSpecialRepository activeTimeSpecialRepository,
-            TaggableCacheManager taggableCacheManager
+            ActiveTimeSpecialRuleFinderService activeTimeSpecialRuleFinderService
     ) {
         this.unitRuleFinderService = unitRuleFinderService;
         this.ruleRepository = ruleRepository;
-        this.activeTimeSpecialRepository = activeTimeSpecialRepository;
-        this.taggableCacheManager = taggableCacheManager;
+        this.activeTimeSpecialRuleFinderService = activeTimeSpecialRuleFinderService;
     }
 
     @Test
@@ -128,49 +116,16 @@ class UnitRuleFinderServiceTest {
         verifyUsages(1, 1, 1);
     }
 
-    @ParameterizedTest
-    @CsvSource({
-            "UNIT," + UNIT_ID_1,
-            "UNIT_TYPE," + UNIT_TYPE_ID
-    })
-    void findRuleByActiveTimeSpecialsAndTargetUnit_should_work_with_target_unit_rule(String destinationType, long destinationId) {
-        var ruleType = "FOO";
-        var ats = givenActiveTimeSpecialMock(TimeSpecialStateEnum.ACTIVE);
-        var user = ats.getUser();
-        var supplier = new InvokeSupplierLambdaAnswer<Optional<Rule>>(2);
-        var targetUnit = givenUnit1();
-        var rule = givenRule();
-        given(activeTimeSpecialRepository.findByUserIdAndState(USER_ID_1, TimeSpecialStateEnum.ACTIVE)).willReturn(List.of(ats));
-        given(ruleRepository.findOneByTypeAndOriginTypeAndOriginIdAndDestinationTypeAndDestinationId(
-                ruleType, ObjectEnum.TIME_SPECIAL.name(), (long) TIME_SPECIAL_ID, destinationType, destinationId
-        )).willReturn(Optional.of(rule));
-        doAnswer(supplier).when(taggableCacheManager).computeIfAbsent(any(), anyList(), any());
-
-        var result = unitRuleFinderService.findRuleByActiveTimeSpecialsAndTargetUnit(ruleType, user, targetUnit);
-
-        assertThat(result).contains(rule);
-    }
-
     @Test
-    void findRuleByActiveTimeSpecialsAndTargetUnit_should_work_with_target_unit_type_parent_rule() {
+    void findRuleByActiveTimeSpecialsAndTargetUnit_should_use_active_effects() {
         var ruleType = "FOO";
-        var ats = givenActiveTimeSpecialMock(TimeSpecialStateEnum.ACTIVE);
-        var user = ats.getUser();
-        var supplier = new InvokeSupplierLambdaAnswer<Optional<Rule>>(2);
+        var user = givenUser1();
         var targetUnit = givenUnit1();
         var rule = givenRule();
-        var parentUnitTypeId = 1983744;
-        var parentUnitType = UnitType.builder()
-                .id(parentUnitTypeId)
-                .name("FOO_PARENT")
-                .build();
-        targetUnit.getType().setParent(parentUnitType);
-
-        given(activeTimeSpecialRepository.findByUserIdAndState(USER_ID_1, TimeSpecialStateEnum.ACTIVE)).willReturn(List.of(ats));
-        given(ruleRepository.findOneByTypeAndOriginTypeAndOriginIdAndDestinationTypeAndDestinationId(
-                ruleType, ObjectEnum.TIME_SPECIAL.name(), (long) TIME_SPECIAL_ID, "UNIT_TYPE", (long) parentUnitTypeId
-        )).willReturn(Optional.of(rule));
-        doAnswer(supplier).when(taggableCacheManager).computeIfAbsent(any(), anyList(), any());
+        rule.setType(ruleType);
+        rule.setDestinationType(RULE_DESTINATION_UNIT);
+        rule.setDestinationId(UNIT_ID);
+        given(activeTimeSpecialRuleFinderService.findActiveEffects(user)).willReturn(new ActiveTimeSpecialEffects(List.of(rule)));
 
         var result = unitRuleFinderService.findRuleByActiveTimeSpecialsAndTargetUnit(ruleType, user, targetUnit);
 
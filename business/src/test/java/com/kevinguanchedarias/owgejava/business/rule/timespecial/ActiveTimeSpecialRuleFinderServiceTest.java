@@ -1,12 +1,10 @@
 package com.kevinguanchedarias.owgejava.business.rule.timespecial;
 
-import com.kevinguanchedarias.owgejava.business.rule.RuleBo;
-import com.kevinguanchedarias.owgejava.dto.rule.RuleDto;
 import com.kevinguanchedarias.owgejava.enumerations.ObjectEnum;
 import com.kevinguanchedarias.owgejava.enumerations.TimeSpecialStateEnum;
 import com.kevinguanchedarias.owgejava.repository.ActiveTimeSpecialRepository;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.CsvSource;
+import com.kevinguanchedarias.owgejava.repository.RuleRepository;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -14,12 +12,11 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import java.util.List;
 
 import static com.kevinguanchedarias.owgejava.mock.ActiveTimeSpecialMock.givenActiveTimeSpecialMock;
-import static com.kevinguanchedarias.owgejava.mock.ObtainedUnitMock.givenObtainedUnit1;
+import static com.kevinguanchedarias.owgejava.mock.RuleMock.givenRule;
 import static com.kevinguanchedarias.owgejava.mock.TimeSpecialMock.TIME_SPECIAL_ID;
 import static com.kevinguanchedarias.owgejava.mock.UserMock.USER_ID_1;
 import static com.kevinguanchedarias.owgejava.mock.UserMock.givenUser1;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -30,75 +27,35 @@ import static org.mockito.Mockito.verify;
 )
 @MockBean({
         ActiveTimeSpecialRepository.class,
-        RuleBo.class
+        RuleRepository.class
 })
 class ActiveTimeSpecialRuleFinderServiceTest {
-    private static final String RULE_TYPE = "FOO_TYPE";
     private final ActiveTimeSpecialRuleFinderService activeTimeSpecialRuleFinderService;
     private final ActiveTimeSpecialRepository repository;
-    private final RuleBo ruleBo;
+    private final RuleRepository ruleRepository;
 
     @Autowired
     ActiveTimeSpecialRuleFinderServiceTest(
-            ActiveTimeSpecialRuleFinderService activeTimeSpecialRuleFinderService, ActiveTimeSpecialRepository repository, RuleBo ruleBo
+            ActiveTimeSpecialRuleFinderService activeTimeSpecialRuleFinderService,
+            ActiveTimeSpecialRepository repository,
+            RuleRepository ruleRepository
     ) {
         this.activeTimeSpecialRuleFinderService = activeTimeSpecialRuleFinderService;
         this.repository = repository;
-        this.ruleBo = ruleBo;
+        this.ruleRepository = ruleRepository;
     }
 
-    @ParameterizedTest
-    @CsvSource({
-            "1,true",
-            "0,false"
-    })
-    void findActiveRules_should_work(short times, boolean isWantedType) {
-        var ruleDto = mockFindActiveRules(isWantedType);
-
-        assertThat(activeTimeSpecialRuleFinderService.findActiveRules(givenUser1(), RULE_TYPE)).hasSize(times);
-
-        verify(repository, times(1)).findByUserIdAndState(USER_ID_1, TimeSpecialStateEnum.ACTIVE);
-        verify(ruleBo, times(1)).findByOriginTypeAndOriginId(ObjectEnum.TIME_SPECIAL.name(), TIME_SPECIAL_ID);
-        verify(ruleBo, times(1)).isWantedType(ruleDto, RULE_TYPE);
-    }
-
-    @ParameterizedTest
-    @CsvSource({
-            "0,false,false,false",
-            "1,true,false,false",
-            "1,true,true,true"
-    })
-    void existsRuleMatchingUnitDestination_should_work(
-            short times, boolean isWantedType, boolean isWantedUnitDestination, boolean expectation
-    ) {
-        var ruleDto = mockFindActiveRules(isWantedType);
-        var ou = givenObtainedUnit1();
-        var unit = ou.getUnit();
-        var user = ou.getUser();
-        given(ruleBo.isWantedUnitDestination(ruleDto, unit)).willReturn(isWantedUnitDestination);
-
-        assertThat(activeTimeSpecialRuleFinderService.existsRuleMatchingUnitDestination(user, unit, RULE_TYPE)).isEqualTo(expectation);
-
-        verify(ruleBo, times(times)).isWantedUnitDestination(ruleDto, unit);
-    }
-
-    private RuleDto mockFindActiveRules(boolean isWantedType) {
+    @Test
+    void findActiveEffects_should_work() {
         var activeTimeSpecial = givenActiveTimeSpecialMock(TimeSpecialStateEnum.ACTIVE);
-        var ruleDto = buildRuleDto(ObjectEnum.UNIT.name());
+        var rule = givenRule();
+        given(repository.findByUserIdAndState(USER_ID_1, TimeSpecialStateEnum.ACTIVE)).willReturn(List.of(activeTimeSpecial));
+        given(ruleRepository.findByOriginTypeAndOriginId(ObjectEnum.TIME_SPECIAL.name(), TIME_SPECIAL_ID)).willReturn(List.of(rule));
 
-        given(repository.findByUserIdAndState(USER_ID_1, TimeSpecialStateEnum.ACTIVE))
-                .willReturn(List.of(activeTimeSpecial));
-        given(ruleBo.findByOriginTypeAndOriginId(ObjectEnum.TIME_SPECIAL.name(), TIME_SPECIAL_ID))
-                .willReturn(List.of(ruleDto));
-        given(ruleBo.isWantedType(ruleDto, RULE_TYPE)).willReturn(isWantedType);
-        given(ruleBo.isWantedUnitDestination(any(), any())).willReturn(true);
-        return ruleDto;
-    }
+        var result = activeTimeSpecialRuleFinderService.findActiveEffects(givenUser1());
 
-    private RuleDto buildRuleDto(String destinationType) {
-        return RuleDto.builder()
-                .type(RULE_TYPE)
-                .destinationType(destinationType)
-                .build();
+        assertThat(result.getRules()).containsExactly(rule);
+        verify(repository, times(1)).findByUserIdAndState(USER_ID_1, TimeSpecialStateEnum.ACTIVE);
+        verify(ruleRepository, times(1)).findByOriginTypeAndOriginId(ObjectEnum.TIME_SPECIAL.name(), TIME_SPECIAL_ID);
     }
 }
@@ -0,0 +1,136 @@
+package com.kevinguanchedarias.owgejava.business.schedule;
+
+import com.kevinguanchedarias.owgejava.business.async.AsyncExecutorService;
+import com.kevinguanchedarias.owgejava.pojo.ScheduledTask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduledTaskDispatcherTest {
+    private static final String TYPE = "UNIT_EXPIRED";
+
+    private AsyncExecutorService asyncExecutorService;
+    private ScheduledTaskDispatcher dispatcher;
+
+    @BeforeEach
+    void setup() {
+        asyncExecutorService = new AsyncExecutorService(1, 10, 1, 10, 4, 100, 100, 10);
+        dispatcher = new ScheduledTaskDispatcher(asyncExecutorService, 50, 3);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        asyncExecutorService.shutdown();
+    }
+
+    @Test
+    void dispatch_should_not_run_tasks_with_the_same_key_at_the_same_time() throws InterruptedException {
+        var release = new CountDownLatch(1);
+        var finished = new CountDownLatch(3);
+        List<String> ran = Collections.synchronizedList(new ArrayList<>());
+
+        dispatcher.dispatch(task(1D), false, this::resolveKey, tasks -> {
+            await(release);
+            ran.add("first");
+            finished.countDown();
+        });
+        dispatcher.dispatch(task(1D), false, this::resolveKey, tasks -> {
+            ran.add("second");
+            finished.countDown();
+        });
+        dispatcher.dispatch(task(2D), false, this::resolveKey, tasks -> {
+            ran.add("other key");
+            finished.countDown();
+        });
+
+        Thread.sleep(100);
+        assertThat(ran).containsExactly("other key");
+        release.countDown();
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(ran).containsExactly("other key", "first", "second");
+    }
+
+    @Test
+    void dispatch_should_deliver_coalesced_tasks_together() throws InterruptedException {
+        var latch = new CountDownLatch(2);
+        List<List<ScheduledTask>> batches = Collections.synchronizedList(new ArrayList<>());
+        Consumer<List<ScheduledTask>> runner = tasks -> {
+            batches.add(tasks);
+            latch.countDown();
+        };
+
+        for (var i = 1; i <= 5; i++) {
+            dispatcher.dispatch(task(i), true, this::resolveKey, runner);
+        }
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(batches).extracting(List::size).containsExactlyInAnyOrder(3, 2);
+    }
+
+    @Test
+    void dispatch_should_run_the_tasks_one_by_one_when_the_batch_fails() throws InterruptedException {
+        var latch = new CountDownLatch(2);
+        List<Object> ran = Collections.synchronizedList(new ArrayList<>());
+
+        dispatcher.dispatch(task(1D), true, this::resolveKey, tasks -> {
+            if (tasks.size() > 1) {
+                throw new IllegalStateException("Batch failed");
+            }
+            ran.add(tasks.get(0).getContent());
+            latch.countDown();
+        });
+        dispatcher.dispatch(task(2D), true, this::resolveKey, tasks -> {
+            throw new IllegalStateException("Not the runner of the batch");
+        });
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(ran).containsExactly(1D, 2D);
+    }
+
+    @Test
+    void dispatch_should_submit_the_coalesced_task_right_away_when_the_wait_cannot_be_scheduled() throws InterruptedException {
+        var fullDelayedAsyncExecutorService = new AsyncExecutorService(1, 10, 1, 10, 4, 100, 0, 10);
+        var fullDelayedDispatcher = new ScheduledTaskDispatcher(fullDelayedAsyncExecutorService, 60_000, 3);
+        var latch = new CountDownLatch(2);
+        List<List<ScheduledTask>> batches = Collections.synchronizedList(new ArrayList<>());
+        Consumer<List<ScheduledTask>> runner = tasks -> {
+            batches.add(tasks);
+            latch.countDown();
+        };
+
+        try {
+            fullDelayedDispatcher.dispatch(task(1D), true, this::resolveKey, runner);
+            fullDelayedDispatcher.dispatch(task(2D), true, this::resolveKey, runner);
+
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(batches).extracting(List::size).containsExactly(1, 1);
+        } finally {
+            fullDelayedAsyncExecutorService.shutdown();
+        }
+    }
+
+    private ScheduledTask task(double content) {
+        return new ScheduledTask(TYPE, content);
+    }
+
+    private String resolveKey(ScheduledTask task) {
+        return task.getType() + ":" + task.getContent();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitEventEmitter;
 import com.kevinguanchedarias.owgejava.business.util.TransactionUtilService;
 import com.kevinguanchedarias.owgejava.business.util.UnitImprovementUtilService;
 import com.kevinguanchedarias.owgejava.entity.Mission;
+import com.kevinguanchedarias.owgejava.entity.jdbc.ObtainedUnitTemporalInformation;
 import com.kevinguanchedarias.owgejava.enumerations.ObjectEnum;
 import com.kevinguanchedarias.owgejava.enumerations.TimeSpecialStateEnum;
 import com.kevinguanchedarias.owgejava.pojo.ScheduledTask;
@@ -40,6 +41,7 @@ import static com.kevinguanchedarias.owgejava.mock.ActiveTimeSpecialMock.givenAc
 import static com.kevinguanchedarias.owgejava.mock.MissionMock.givenExploreMission;
 import static com.kevinguanchedarias.owgejava.mock.ObjectRelationMock.*;
 import static com.kevinguanchedarias.owgejava.mock.ObtainedUnitMock.givenObtainedUnit1;
+import static com.kevinguanchedarias.owgejava.mock.ObtainedUnitMock.givenObtainedUnit2;
 import static com.kevinguanchedarias.owgejava.mock.ObtainedUnitTemporalInformationMock.OBTAINED_UNIT_TEMPORAL_INFORMATION_ID;
 import static com.kevinguanchedarias.owgejava.mock.ObtainedUnitTemporalInformationMock.givenObtainedUnitTemporalInformation;
 import static com.kevinguanchedarias.owgejava.mock.PlanetMock.SOURCE_PLANET_ID;
@@ -136,8 +138,9 @@ class TemporalUnitScheduleListenerTest {
             boolean affectedMissionHasUnit,
             boolean planetOwnerIsUser
     ) {
-        var invokeHandlerAnswer = new InvokeConsumerLambdaAnswer<ScheduledTask>(1);
+        var invokeHandlerAnswer = new InvokeConsumerLambdaAnswer<List<ScheduledTask>>(1);
         var expirationId = 8L;
+        var expirationIds = Set.of(expirationId);
         var invocations = new AtomicInteger(0);
         var planetsForLocks = List.of(
                 Set.of(14, 12),
@@ -145,9 +148,9 @@ class TemporalUnitScheduleListenerTest {
                 Set.of(18, 11),
                 Set.of(18, 11)
         );
-        doAnswer(invokeHandlerAnswer).when(scheduledTasksManagerService).addHandler(eq(TASK_NAME), any());
+        doAnswer(invokeHandlerAnswer).when(scheduledTasksManagerService).addBatchHandler(eq(TASK_NAME), any());
         doAnswer(invocationOnMock -> planetsForLocks.get(invocations.getAndIncrement()))
-                .when(obtainedUnitRepository).findPlanetIdsByExpirationId(expirationId);
+                .when(obtainedUnitRepository).findPlanetIdsByExpirationIdIn(expirationIds);
         doAnswer(new InvokeRunnableLambdaAnswer(1)).when(planetLockUtilService).doInsideLockById(any(), any());
         doAnswer(new InvokeRunnableLambdaAnswer(0)).when(transactionUtilService).runWithRequired(any());
         doAnswer(new InvokeRunnableLambdaAnswer(0)).when(transactionUtilService).doAfterCommit(any());
@@ -166,19 +169,20 @@ class TemporalUnitScheduleListenerTest {
         if (planetOwnerIsUser) {
             affectedMission.getTargetPlanet().setOwner(user);
         }
-        given(obtainedUnitTemporalInformationRepository.existsById(expirationId)).willReturn(true);
-        given(obtainedUnitRepository.findByExpirationId(expirationId)).willReturn(isEmptyList ? List.of() : List.of(ou));
+        given(obtainedUnitTemporalInformationRepository.findAllById(expirationIds))
+                .willReturn(List.of(ObtainedUnitTemporalInformation.builder().id(expirationId).build()));
+        given(obtainedUnitRepository.findByExpirationIdIn(expirationIds)).willReturn(isEmptyList ? List.of() : List.of(ou));
 
         var task = ScheduledTask.builder().content((double) expirationId).build();
 
         temporalUnitScheduleListener.init();
-        invokeHandlerAnswer.getPassedLambda().accept(task);
+        invokeHandlerAnswer.getPassedLambda().accept(List.of(task));
 
-        verify(obtainedUnitRepository, times(4)).findPlanetIdsByExpirationId(expirationId);
+        verify(obtainedUnitRepository, times(4)).findPlanetIdsByExpirationIdIn(expirationIds);
         verify(obtainedUnitRepository, times(isEmptyList ? 0 : 1)).deleteAll(List.of(ou));
         verify(unitImprovementUtilService, times(isEmptyList ? 0 : 1)).maybeTriggerClearImprovement(user, List.of(ou));
         verify(obtainedUnitEventEmitter, times(isEmptyList ? 0 : 1)).emitObtainedUnitsAfterCommit(user);
-        verify(obtainedUnitTemporalInformationRepository, times(1)).deleteById(expirationId);
+        verify(obtainedUnitTemporalInformationRepository, times(1)).deleteAllById(expirationIds);
         verify(obtainedUnitRepository, times(!isEmptyList && hasAffectedMissions ? 1 : 0)).existsByMission(affectedMission);
         verify(missionRepository, times(!isEmptyList && hasAffectedMissions && !affectedMissionHasUnit ? 1 : 0))
                 .delete(affectedMission);
@@ -192,16 +196,50 @@ class TemporalUnitScheduleListenerTest {
     @Test
     void handler_should_do_nothing_if_expiration_does_not_exists() {
         var expirationId = 123678;
-        var invokeHandlerAnswer = new InvokeConsumerLambdaAnswer<ScheduledTask>(1);
-        doAnswer(invokeHandlerAnswer).when(scheduledTasksManagerService).addHandler(eq(TASK_NAME), any());
+        var invokeHandlerAnswer = new InvokeConsumerLambdaAnswer<List<ScheduledTask>>(1);
+        doAnswer(invokeHandlerAnswer).when(scheduledTasksManagerService).addBatchHandler(eq(TASK_NAME), any());
         var task = ScheduledTask.builder().content((double) expirationId).build();
 
         temporalUnitScheduleListener.init();
-        invokeHandlerAnswer.getPassedLambda().accept(task);
+        invokeHandlerAnswer.getPassedLambda().accept(List.of(task));
 
         verifyNoInteractions(planetLockUtilService, obtainedUnitRepository);
     }
 
+    @Test
+    void handler_should_delete_coalesced_expirations_together() {
+        var invokeHandlerAnswer = new InvokeConsumerLambdaAnswer<List<ScheduledTask>>(1);
+        var expirationIds = Set.of(8L, 9L);
+        var planetIds = Set.of(SOURCE_PLANET_ID);
+        doAnswer(invokeHandlerAnswer).when(scheduledTasksManagerService).addBatchHandler(eq(TASK_NAME), any());
+        doAnswer(new InvokeRunnableLambdaAnswer(1)).when(planetLockUtilService).doInsideLockById(any(), any());
+        doAnswer(new InvokeRunnableLambdaAnswer(0)).when(transactionUtilService).runWithRequired(any());
+        given(obtainedUnitTemporalInformationRepository.findAllById(expirationIds)).willReturn(List.of(
+                ObtainedUnitTemporalInformation.builder().id(8L).build(),
+                ObtainedUnitTemporalInformation.builder().id(9L).build()
+        ));
+        given(obtainedUnitRepository.findPlanetIdsByExpirationIdIn(expirationIds)).willReturn(planetIds);
+        var ou1 = givenObtainedUnit1();
+        var ou2 = givenObtainedUnit2();
+        given(obtainedUnitRepository.findByExpirationIdIn(expirationIds)).willReturn(List.of(ou1, ou2));
+        var tasks = List.of(
+                ScheduledTask.builder().content(8D).build(),
+                ScheduledTask.builder().content(9D).build()
+        );
+
+        temporalUnitScheduleListener.init();
+        invokeHandlerAnswer.getPassedLambda().accept(tasks);
+
+        verify(transactionUtilService, times(1)).runWithRequired(any());
+        verify(planetLockUtilService, times(1)).doInsideLockById(eq(List.of(SOURCE_PLANET_ID)), any());
+        verify(obtainedUnitRepository, times(1)).deleteAll(List.of(ou1, ou2));
+        verify(unitImprovementUtilService, times(1)).maybeTriggerClearImprovement(ou1.getUser(), List.of(ou1));
+        verify(unitImprovementUtilService, times(1)).maybeTriggerClearImprovement(ou2.getUser(), List.of(ou2));
+        verify(obtainedUnitEventEmitter, times(1)).emitObtainedUnitsAfterCommit(ou1.getUser());
+        verify(obtainedUnitEventEmitter, times(1)).emitObtainedUnitsAfterCommit(ou2.getUser());
+        verify(obtainedUnitTemporalInformationRepository, times(1)).deleteAllById(expirationIds);
+    }
+
     @Test
     void relationLost_should_do_nothing_if_is_not_a_time_special() {
         var ur = givenUnlockedRelation();
@@ -239,7 +277,7 @@ class TemporalUnitScheduleListenerTest {
         or.setReferenceId(TIME_SPECIAL_ID);
         var ats = givenActiveTimeSpecialMock(TimeSpecialStateEnum.ACTIVE);
         given(activeTimeSpecialRepository.findOneByTimeSpecialIdAndUserId(TIME_SPECIAL_ID, USER_ID_1)).willReturn(Optional.of(ats));
-        given(obtainedUnitRepository.findPlanetIdsByExpirationId(OBTAINED_UNIT_TEMPORAL_INFORMATION_ID)).willReturn(planetIds);
+        given(obtainedUnitRepository.findPlanetIdsByExpirationIdIn(Set.of(OBTAINED_UNIT_TEMPORAL_INFORMATION_ID))).willReturn(planetIds);
         var ruleDto = givenRuleDto().toBuilder().destinationType(ObjectEnum.UNIT.name()).build();
         given(ruleBo.findByOriginTypeAndOriginIdAndType(timeSpecialObject.name(), TIME_SPECIAL_ID, TIME_SPECIAL_IS_ACTIVE_TEMPORAL_UNITS_ID))
                 .willReturn(List.of(ruleDto));
@@ -250,7 +288,7 @@ class TemporalUnitScheduleListenerTest {
         doAnswer(new InvokeRunnableLambdaAnswer(1)).when(planetLockUtilService).doInsideLockById(anyList(), any());
         var ou = givenObtainedUnit1();
         ou.setExpirationId(OBTAINED_UNIT_TEMPORAL_INFORMATION_ID);
-        given(obtainedUnitRepository.findByExpirationId(OBTAINED_UNIT_TEMPORAL_INFORMATION_ID)).willReturn(List.of(ou));
+        given(obtainedUnitRepository.findByExpirationIdIn(Set.of(OBTAINED_UNIT_TEMPORAL_INFORMATION_ID))).willReturn(List.of(ou));
 
         temporalUnitScheduleListener.relationLost(ur);
 
@@ -1,11 +1,11 @@
 package com.kevinguanchedarias.owgejava.business.speedimpactgroup;
 
 import com.kevinguanchedarias.owgejava.business.rule.RuleBo;
+import com.kevinguanchedarias.owgejava.business.rule.timespecial.ActiveTimeSpecialRuleFinderService;
 import com.kevinguanchedarias.owgejava.business.unit.util.UnitTypeInheritanceFinderService;
+import com.kevinguanchedarias.owgejava.entity.Rule;
 import com.kevinguanchedarias.owgejava.entity.UnitType;
-import com.kevinguanchedarias.owgejava.enumerations.ObjectEnum;
-import com.kevinguanchedarias.owgejava.enumerations.TimeSpecialStateEnum;
-import com.kevinguanchedarias.owgejava.repository.ActiveTimeSpecialRepository;
+import com.kevinguanchedarias.owgejava.pojo.ActiveTimeSpecialEffects;
 import com.kevinguanchedarias.owgejava.repository.SpeedImpactGroupRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -21,13 +21,10 @@ import java.util.Optional;
 import java.util.function.Predicate;
 
 import static com.kevinguanchedarias.owgejava.business.rule.type.timespecial.TimeSpecialIsActiveSwapSpeedImpactGroupProviderBo.TIME_SPECIAL_IS_ACTIVE_SWAP_SPEED_IMPACT_GROUP_ID;
-import static com.kevinguanchedarias.owgejava.mock.ActiveTimeSpecialMock.givenActiveTimeSpecialMock;
-import static com.kevinguanchedarias.owgejava.mock.RuleMock.givenRuleDto;
+import static com.kevinguanchedarias.owgejava.mock.RuleMock.givenRule;
 import static com.kevinguanchedarias.owgejava.mock.SpeedImpactGroupMock.SPEED_IMPACT_GROUP_ID;
 import static com.kevinguanchedarias.owgejava.mock.SpeedImpactGroupMock.givenSpeedImpactGroup;
-import static com.kevinguanchedarias.owgejava.mock.TimeSpecialMock.TIME_SPECIAL_ID;
 import static com.kevinguanchedarias.owgejava.mock.UnitMock.givenUnit1;
-import static com.kevinguanchedarias.owgejava.mock.UserMock.USER_ID_1;
 import static com.kevinguanchedarias.owgejava.mock.UserMock.givenUser1;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -42,14 +39,14 @@ import static org.mockito.Mockito.verify;
         webEnvironment = SpringBootTest.WebEnvironment.NONE
 )
 @MockBean({
-        ActiveTimeSpecialRepository.class,
+        ActiveTimeSpecialRuleFinderService.class,
         RuleBo.class,
         SpeedImpactGroupRepository.class,
         UnitTypeInheritanceFinderService.class
 })
 class SpeedImpactGroupFinderBoTest {
     private final SpeedImpactGroupFinderBo speedImpactGroupFinderBo;
-    private final ActiveTimeSpecialRepository activeTimeSpecialRepository;
+    private final ActiveTimeSpecialRuleFinderService activeTimeSpecialRuleFinderService;
     private final RuleBo ruleBo;
     private final SpeedImpactGroupRepository speedImpactGroupRepository;
     private final UnitTypeInheritanceFinderService unitTypeInheritanceFinderService;
@@ -57,13 +54,13 @@ class SpeedImpactGroupFinderBoTest {
     @Autowired
     public SpeedImpactGroupFinderBoTest(
             SpeedImpactGroupFinderBo speedImpactGroupFinderBo,
-            ActiveTimeSpecialRepository activeTimeSpecialRepository,
+            ActiveTimeSpecialRuleFinderService activeTimeSpecialRuleFinderService,
             RuleBo ruleBo,
             SpeedImpactGroupRepository speedImpactGroupRepository,
             UnitTypeInheritanceFinderService unitTypeInheritanceFinderService
     ) {
         this.speedImpactGroupFinderBo = speedImpactGroupFinderBo;
-        this.activeTimeSpecialRepository = activeTimeSpecialRepository;
+        this.activeTimeSpecialRuleFinderService = activeTimeSpecialRuleFinderService;
         this.ruleBo = ruleBo;
         this.speedImpactGroupRepository = speedImpactGroupRepository;
         this.unitTypeInheritanceFinderService = unitTypeInheritanceFinderService;
@@ -100,49 +97,67 @@ class SpeedImpactGroupFinderBoTest {
 
     @Test
     void findApplicable_should_search_if_rule_exists_and_apply_or_else_return_unit_one() {
-        var ats = givenActiveTimeSpecialMock(TimeSpecialStateEnum.ACTIVE);
-        var ruleDto = givenRuleDto().toBuilder().extraArgs(List.of(String.valueOf(SPEED_IMPACT_GROUP_ID))).build();
+        var rule = givenSwapRule();
         var sig = givenSpeedImpactGroup();
-        given(activeTimeSpecialRepository.findByUserIdAndState(USER_ID_1, TimeSpecialStateEnum.ACTIVE)).willReturn(List.of(ats));
-        given(ruleBo.findByOriginTypeAndOriginId(ObjectEnum.TIME_SPECIAL.name(), TIME_SPECIAL_ID)).willReturn(List.of(ruleDto));
-        given(ruleBo.isWantedType(ruleDto, TIME_SPECIAL_IS_ACTIVE_SWAP_SPEED_IMPACT_GROUP_ID)).willReturn(true);
+        var user = givenUser1();
+        given(activeTimeSpecialRuleFinderService.findActiveEffects(user)).willReturn(new ActiveTimeSpecialEffects(List.of(rule)));
+        given(ruleBo.findExtraArg(rule, 0)).willReturn(Optional.of(String.valueOf(SPEED_IMPACT_GROUP_ID)));
         given(speedImpactGroupRepository.findById(SPEED_IMPACT_GROUP_ID)).willReturn(Optional.of(sig));
 
-        var result = this.speedImpactGroupFinderBo.findApplicable(givenUser1(), givenUnit1());
+        var result = this.speedImpactGroupFinderBo.findApplicable(user, givenUnit1());
 
         assertThat(result).isEqualTo(sig);
         verify(unitTypeInheritanceFinderService, never()).findUnitTypeMatchingCondition(any(UnitType.class), any());
     }
 
+    @Test
+    void findApplicable_should_skip_the_swap_rules_without_extra_args() {
+        var emptyRule = givenSwapRule();
+        emptyRule.setExtraArgs("");
+        var rule = givenSwapRule();
+        var sig = givenSpeedImpactGroup();
+        var user = givenUser1();
+        given(activeTimeSpecialRuleFinderService.findActiveEffects(user))
+                .willReturn(new ActiveTimeSpecialEffects(List.of(emptyRule, rule)));
+        given(ruleBo.findExtraArg(rule, 0)).willReturn(Optional.of(String.valueOf(SPEED_IMPACT_GROUP_ID)));
+        given(speedImpactGroupRepository.findById(SPEED_IMPACT_GROUP_ID)).willReturn(Optional.of(sig));
+
+        var result = speedImpactGroupFinderBo.findApplicable(user, givenUnit1());
+
+        assertThat(result).isEqualTo(sig);
+        verify(ruleBo, never()).findExtraArg(emptyRule, 0);
+        verify(unitTypeInheritanceFinderService, never()).findUnitTypeMatchingCondition(any(UnitType.class), any());
+    }
+
     @ParameterizedTest
     @CsvSource({
-            "true,true,true,true",
-            "true,true,true,false",
-            "true,true,false,false",
-            "true,false,false,false"
+            "true,true,false",
+            "true,false,false",
+            "false,false,false",
+            "true,true,true"
     })
-    void findApplicable_should_use_unit_if_no_rules(boolean atsDefined, boolean rulesNotEmpty, boolean isWantedType, boolean hasExtraArg) {
+    void findApplicable_should_use_unit_if_no_rules(boolean ruleDefined, boolean hasExtraArg, boolean speedGroupExists) {
         var unit = givenUnit1();
-        var ats = givenActiveTimeSpecialMock(TimeSpecialStateEnum.ACTIVE);
-        var ruleDto = hasExtraArg
-                ? givenRuleDto().toBuilder().extraArgs(List.of(String.valueOf(SPEED_IMPACT_GROUP_ID))).build()
-                : givenRuleDto().toBuilder().extraArgs(List.of()).build();
+        var user = givenUser1();
+        var rule = givenSwapRule();
         var sig = givenSpeedImpactGroup();
         unit.setSpeedImpactGroup(sig);
-        if (atsDefined) {
-            given(activeTimeSpecialRepository.findByUserIdAndState(USER_ID_1, TimeSpecialStateEnum.ACTIVE)).willReturn(List.of(ats));
-        }
-        if (rulesNotEmpty) {
-            given(ruleBo.findByOriginTypeAndOriginId(ObjectEnum.TIME_SPECIAL.name(), TIME_SPECIAL_ID)).willReturn(List.of(ruleDto));
-        }
-        if (hasExtraArg) {
-            given(speedImpactGroupRepository.findById(SPEED_IMPACT_GROUP_ID)).willReturn(Optional.of(sig));
-        }
-        given(ruleBo.isWantedType(ruleDto, TIME_SPECIAL_IS_ACTIVE_SWAP_SPEED_IMPACT_GROUP_ID)).willReturn(isWantedType);
+        given(activeTimeSpecialRuleFinderService.findActiveEffects(user))
+                .willReturn(new ActiveTimeSpecialEffects(ruleDefined ? List.of(rule) : List.of()));
+        given(ruleBo.findExtraArg(rule, 0))
+                .willReturn(hasExtraArg ? Optional.of(String.valueOf(SPEED_IMPACT_GROUP_ID)) : Optional.empty());
+        given(speedImpactGroupRepository.findById(SPEED_IMPACT_GROUP_ID))
+                .willReturn(speedGroupExists ? Optional.of(sig) : Optional.empty());
 
-        var result = speedImpactGroupFinderBo.findApplicable(givenUser1(), unit);
+        var result = speedImpactGroupFinderBo.findApplicable(user, unit);
 
         assertThat(result).isEqualTo(sig);
         verify(speedImpactGroupRepository, times(hasExtraArg ? 1 : 0)).findById(SPEED_IMPACT_GROUP_ID);
     }
+
+    private Rule givenSwapRule() {
+        var rule = givenRule();
+        rule.setType(TIME_SPECIAL_IS_ACTIVE_SWAP_SPEED_IMPACT_GROUP_ID);
+        return rule;
+    }
 }
@@ -5,6 +5,7 @@ import com.kevinguanchedarias.owgejava.business.AllianceBo;
 import com.kevinguanchedarias.owgejava.business.MissionReportBo;
 import com.kevinguanchedarias.owgejava.business.SpeedImpactGroupBo;
 import com.kevinguanchedarias.owgejava.business.unit.ObtainedUnitFinderBo;
+import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -12,7 +13,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static com.kevinguanchedarias.owgejava.mock.InterceptedUnitsInformationMock.*;
 import static com.kevinguanchedarias.owgejava.mock.MissionMock.givenExploreMission;
@@ -21,7 +25,10 @@ import static com.kevinguanchedarias.owgejava.mock.ObtainedUnitMock.givenObtaine
 import static com.kevinguanchedarias.owgejava.mock.ObtainedUnitMock.givenObtainedUnit2;
 import static com.kevinguanchedarias.owgejava.mock.PlanetMock.givenSourcePlanet;
 import static com.kevinguanchedarias.owgejava.mock.PlanetMock.givenTargetPlanet;
+import static com.kevinguanchedarias.owgejava.mock.SpeedImpactGroupMock.SPEED_IMPACT_GROUP_ID;
+import static com.kevinguanchedarias.owgejava.mock.SpeedImpactGroupMock.givenSpeedImpactGroup;
 import static com.kevinguanchedarias.owgejava.mock.UnitMock.givenUnitWithInterception1;
+import static com.kevinguanchedarias.owgejava.mock.UserMock.givenUser;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -73,15 +80,15 @@ class UnitInterceptionFinderBoTest {
                 .unit(attackerInterceptedUnit.getUnit())
                 .build();
         var interceptedUser = attackerInterceptedUnit.getUser();
-        var interceptorUnit = givenObtainedUnit2();
-        var unitWithInterception = givenUnitWithInterception1();
-        var groupThatCanIntercept = unitWithInterception.getInterceptableSpeedGroups();
         var interceptorUnitWithInterception = givenObtainedUnit2().toBuilder()
-                .unit(unitWithInterception)
+                .unit(givenUnitWithInterception1())
                 .build();
         var userThatIntercepted = interceptorUnitWithInterception.getUser();
-        given(obtainedUnitFinderBo.findInvolvedInAttack(planet)).willReturn(List.of(attackerInterceptedUnit, attackerInterceptedUnit2, interceptorUnit, interceptorUnitWithInterception, interceptorUnitWithInterception));
-        given(speedImpactGroupBo.canIntercept(groupThatCanIntercept, interceptedUser, attackerInterceptedUnit)).willReturn(true);
+        given(obtainedUnitFinderBo.findInterceptorsInAttack(planet))
+                .willReturn(Map.of(interceptorUnitWithInterception, Set.of(SPEED_IMPACT_GROUP_ID)));
+        given(speedImpactGroupBo.findApplicable(interceptedUser, attackerInterceptedUnit)).willReturn(givenSpeedImpactGroup());
+        given(speedImpactGroupBo.findApplicable(interceptedUser, attackerInterceptedUnit2))
+                .willReturn(givenSpeedImpactGroup(SPEED_IMPACT_GROUP_ID + 1));
         given(allianceBo.areEnemies(userThatIntercepted, interceptedUser)).willReturn(areEnemies);
 
         var result = unitInterceptionFinderBo.checkInterceptsSpeedImpactGroup(mission, List.of(attackerInterceptedUnit, attackerInterceptedUnit2));
@@ -89,12 +96,49 @@ class UnitInterceptionFinderBoTest {
         assertThat(result).hasSize(times);
         if (areEnemies) {
             var entry = result.get(0);
-            assertThat(entry.getInterceptedUnits()).contains(attackerInterceptedUnit);
+            assertThat(entry.getInterceptedUnits()).containsExactly(attackerInterceptedUnit);
             assertThat(entry.getInterceptorUnit()).isEqualTo(interceptorUnitWithInterception);
             assertThat(entry.getInterceptorUser()).isEqualTo(userThatIntercepted);
         }
     }
 
+    @Test
+    void checkInterceptsSpeedImpactGroup_should_take_the_first_enemy_interceptor_in_the_finder_order() {
+        var mission = givenExploreMission();
+        var involved = givenObtainedUnit1();
+        var involvedUser = involved.getUser();
+        var ally = givenInterceptor(10L, 5001);
+        var firstEnemy = givenInterceptor(30L, 5002);
+        var secondEnemy = givenInterceptor(20L, 5003);
+        Map<ObtainedUnit, Set<Integer>> interceptors = new LinkedHashMap<>();
+        interceptors.put(ally, Set.of(SPEED_IMPACT_GROUP_ID));
+        interceptors.put(firstEnemy, Set.of(SPEED_IMPACT_GROUP_ID));
+        interceptors.put(secondEnemy, Set.of(SPEED_IMPACT_GROUP_ID));
+        given(obtainedUnitFinderBo.findInterceptorsInAttack(mission.getTargetPlanet())).willReturn(interceptors);
+        given(speedImpactGroupBo.findApplicable(involvedUser, involved)).willReturn(givenSpeedImpactGroup());
+        given(allianceBo.areEnemies(firstEnemy.getUser(), involvedUser)).willReturn(true);
+        given(allianceBo.areEnemies(secondEnemy.getUser(), involvedUser)).willReturn(true);
+
+        var result = unitInterceptionFinderBo.checkInterceptsSpeedImpactGroup(mission, List.of(involved));
+
+        assertThat(result).singleElement().satisfies(information -> {
+            assertThat(information.getInterceptorUnit()).isSameAs(firstEnemy);
+            assertThat(information.getInterceptorUser()).isEqualTo(firstEnemy.getUser());
+            assertThat(information.getInterceptedUnits()).containsExactly(involved);
+        });
+    }
+
+    @Test
+    void checkInterceptsSpeedImpactGroup_should_not_check_the_involved_units_when_there_are_no_interceptors() {
+        var mission = givenExploreMission();
+        given(obtainedUnitFinderBo.findInterceptorsInAttack(mission.getTargetPlanet())).willReturn(Map.of());
+
+        var result = unitInterceptionFinderBo.checkInterceptsSpeedImpactGroup(mission, List.of(givenObtainedUnit1()));
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(speedImpactGroupBo, allianceBo);
+    }
+
     @Test
     void sendReportToInterceptorUsers_should_work() {
         var interceptedInformation = givenInterceptedUnitsInformation();
@@ -114,4 +158,12 @@ class UnitInterceptionFinderBoTest {
         }
 
     }
+
+    private ObtainedUnit givenInterceptor(Long id, Integer userId) {
+        return givenObtainedUnit2().toBuilder()
+                .id(id)
+                .user(givenUser(userId))
+                .unit(givenUnitWithInterception1())
+                .build();
+    }
 }
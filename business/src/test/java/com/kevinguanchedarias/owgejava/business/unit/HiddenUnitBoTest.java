@@ -3,8 +3,8 @@ package com.kevinguanchedarias.owgejava.business.unit;
 import com.kevinguanchedarias.owgejava.business.rule.timespecial.ActiveTimeSpecialRuleFinderService;
 import com.kevinguanchedarias.owgejava.dto.ObtainedUnitDto;
 import com.kevinguanchedarias.owgejava.dto.UnitDto;
-import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
-import com.kevinguanchedarias.taggablecache.manager.TaggableCacheManager;
+import com.kevinguanchedarias.owgejava.entity.Rule;
+import com.kevinguanchedarias.owgejava.pojo.ActiveTimeSpecialEffects;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -19,13 +19,8 @@ import java.util.List;
 import static com.kevinguanchedarias.owgejava.business.rule.type.timespecial.TimeSpecialIsActiveHideUnitsTypeProviderBo.TIME_SPECIAL_IS_ACTIVE_HIDE_UNITS_ID;
 import static com.kevinguanchedarias.owgejava.mock.ObtainedUnitMock.givenObtainedUnit1;
 import static com.kevinguanchedarias.owgejava.mock.UnitMock.UNIT_ID_1;
-import static com.kevinguanchedarias.owgejava.mock.UnitMock.givenUnit1;
-import static com.kevinguanchedarias.owgejava.mock.UserMock.USER_ID_1;
-import static com.kevinguanchedarias.owgejava.mock.UserMock.givenUser1;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
 
 @ExtendWith(OutputCaptureExtension.class)
 @SpringBootTest(
@@ -33,22 +28,18 @@ import static org.mockito.Mockito.verify;
         classes = HiddenUnitBo.class
 )
 @MockBean({
-        TaggableCacheManager.class,
         ActiveTimeSpecialRuleFinderService.class
 })
 class HiddenUnitBoTest {
     private final HiddenUnitBo hiddenUnitBo;
-    private final TaggableCacheManager taggableCacheManager;
     private final ActiveTimeSpecialRuleFinderService activeTimeSpecialRuleFinderService;
 
     @Autowired
     public HiddenUnitBoTest(
             HiddenUnitBo hiddenUnitBo,
-            TaggableCacheManager taggableCacheManager,
             ActiveTimeSpecialRuleFinderService activeTimeSpecialRuleFinderService) {
         this.hiddenUnitBo = hiddenUnitBo;
         this.activeTimeSpecialRuleFinderService = activeTimeSpecialRuleFinderService;
-        this.taggableCacheManager = taggableCacheManager;
     }
 
     @ParameterizedTest
@@ -58,32 +49,19 @@ class HiddenUnitBoTest {
         var ouDto = new ObtainedUnitDto();
         ouDto.setUnit(new UnitDto());
 
-        given(activeTimeSpecialRuleFinderService.existsRuleMatchingUnitDestination(
-                obtainedUnit.getUser(), obtainedUnit.getUnit(), TIME_SPECIAL_IS_ACTIVE_HIDE_UNITS_ID)
-        ).willReturn(expectation);
+        var rule = Rule.builder()
+                .type(expectation ? TIME_SPECIAL_IS_ACTIVE_HIDE_UNITS_ID : "OTHER_TYPE")
+                .destinationType("UNIT")
+                .destinationId((long) UNIT_ID_1)
+                .build();
+        given(activeTimeSpecialRuleFinderService.findActiveEffects(obtainedUnit.getUser()))
+                .willReturn(new ActiveTimeSpecialEffects(List.of(rule)));
 
         hiddenUnitBo.defineHidden(List.of(obtainedUnit), List.of(ouDto));
 
         assertThat(ouDto.getUnit().getIsInvisible()).isEqualTo(expectation);
     }
 
-    @ParameterizedTest
-    @ValueSource(booleans = {true, false})
-    void isHiddenUnit_should_use_cached_value(boolean expectation) {
-        var ou = new ObtainedUnit();
-        ou.setId(192781L);
-        ou.setUser(givenUser1());
-        ou.setUnit(givenUnit1());
-        var expectedKey = "com.kevinguanchedarias.owgejava.business.unit.HiddenUnitBo_defineHidden() " + USER_ID_1 + "_" + UNIT_ID_1;
-        given(taggableCacheManager.keyExists(expectedKey)).willReturn(true);
-        given(taggableCacheManager.findByKey(expectedKey)).willReturn(expectation);
-
-        assertThat(hiddenUnitBo.isHiddenUnit(ou.getUser(), ou.getUnit())).isEqualTo(expectation);
-
-        verify(taggableCacheManager, times(1)).keyExists(expectedKey);
-        verify(taggableCacheManager, times(1)).findByKey(expectedKey);
-    }
-
     @Test
     void isHiddenUnit_should_return_true_when_unit_is_hidden_by_itself() {
         var ou = givenObtainedUnit1();
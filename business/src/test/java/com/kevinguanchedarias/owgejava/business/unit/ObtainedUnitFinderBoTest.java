@@ -3,6 +3,7 @@ package com.kevinguanchedarias.owgejava.business.unit;
 
 import com.kevinguanchedarias.owgejava.business.speedimpactgroup.SpeedImpactGroupFinderBo;
 import com.kevinguanchedarias.owgejava.business.unit.loader.UnitDataLoader;
+import com.kevinguanchedarias.owgejava.dto.ObtainedUnitDto;
 import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
 import com.kevinguanchedarias.owgejava.entity.RequirementGroup;
 import com.kevinguanchedarias.owgejava.entity.Unit;
@@ -19,16 +20,25 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
 import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static com.kevinguanchedarias.owgejava.mock.InterceptableSpeedGroupMock.givenInterceptableSpeedGroup;
+import static com.kevinguanchedarias.owgejava.mock.MissionMock.givenExploreMission;
 import static com.kevinguanchedarias.owgejava.mock.ObtainedUnitMock.*;
 import static com.kevinguanchedarias.owgejava.mock.PlanetMock.TARGET_PLANET_ID;
 import static com.kevinguanchedarias.owgejava.mock.PlanetMock.givenTargetPlanet;
+import static com.kevinguanchedarias.owgejava.mock.SpeedImpactGroupMock.SPEED_IMPACT_GROUP_ID;
 import static com.kevinguanchedarias.owgejava.mock.SpeedImpactGroupMock.givenSpeedImpactGroup;
 import static com.kevinguanchedarias.owgejava.mock.UserMock.USER_ID_1;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -41,7 +51,9 @@ import static org.mockito.Mockito.*;
         ObtainedUnitRepository.class,
         EntityManager.class,
         HiddenUnitBo.class,
-        SpeedImpactGroupFinderBo.class
+        SpeedImpactGroupFinderBo.class,
+        ObtainedUnitReadModel.class,
+        PlanetInvolvedUnitsIndex.class
 })
 class ObtainedUnitFinderBoTest {
 
@@ -51,6 +63,8 @@ class ObtainedUnitFinderBoTest {
     private final SpeedImpactGroupFinderBo speedImpactGroupFinderBo;
     private final ObtainedUnitRepository obtainedUnitRepository;
     private final UnitDataLoader unitDataLoader;
+    private final ObtainedUnitReadModel obtainedUnitReadModel;
+    private final PlanetInvolvedUnitsIndex planetInvolvedUnitsIndex;
 
     @Autowired
     public ObtainedUnitFinderBoTest(
@@ -59,7 +73,9 @@ class ObtainedUnitFinderBoTest {
             HiddenUnitBo hiddenUnitBo,
             SpeedImpactGroupFinderBo speedImpactGroupFinderBo,
             ObtainedUnitRepository obtainedUnitRepository,
-            UnitDataLoader unitDataLoader
+            UnitDataLoader unitDataLoader,
+            ObtainedUnitReadModel obtainedUnitReadModel,
+            PlanetInvolvedUnitsIndex planetInvolvedUnitsIndex
     ) {
         this.obtainedUnitFinderBo = obtainedUnitFinderBo;
         this.entityManager = entityManager;
@@ -67,6 +83,8 @@ class ObtainedUnitFinderBoTest {
         this.speedImpactGroupFinderBo = speedImpactGroupFinderBo;
         this.obtainedUnitRepository = obtainedUnitRepository;
         this.unitDataLoader = unitDataLoader;
+        this.obtainedUnitReadModel = obtainedUnitReadModel;
+        this.planetInvolvedUnitsIndex = planetInvolvedUnitsIndex;
     }
 
     @ParameterizedTest
@@ -88,6 +106,8 @@ class ObtainedUnitFinderBoTest {
         given(speedImpactGroupFinderBo.findApplicable(user, unit)).willReturn(sig);
         given(obtainedUnitRepository.findDeployedInUserOwnedPlanets(USER_ID_1))
                 .willReturn(List.of(ou));
+        given(obtainedUnitReadModel.find(eq(USER_ID_1), any(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<List<ObtainedUnitDto>>>getArgument(1).get());
 
         try (var hibernateMock = mockStatic(Hibernate.class)) {
             var result = obtainedUnitFinderBo.findCompletedAsDto(user);
@@ -102,7 +122,7 @@ class ObtainedUnitFinderBoTest {
             assertThat(result)
                     .hasSize(1);
             var ouDto = result.get(0);
-            verify(unitDataLoader, times(1)).addInformationToDto(ou, ouDto);
+            verify(unitDataLoader, times(1)).addInformationToDtos(List.of(ou), List.of(ouDto));
             var unitDto = ouDto.getUnit();
             assertThat(unitDto.getIsInvisible()).isTrue();
             assertThat(unitDto.getSpeedImpactGroup()).isNotNull();
@@ -110,6 +130,32 @@ class ObtainedUnitFinderBoTest {
         }
     }
 
+    @Test
+    void findCompletedAsDto_should_load_only_the_changed_rows_that_are_still_deployed_in_user_planets() {
+        var deployed = givenObtainedUnit1();
+        var inMission = givenObtainedUnit1();
+        inMission.setId(OBTAINED_UNIT_BYPASS_SHIELD_ID);
+        inMission.setMission(givenExploreMission());
+        var ofOtherUser = givenObtainedUnit2();
+        var user = deployed.getUser();
+        var changedIds = Set.of(OBTAINED_UNIT_1_ID, OBTAINED_UNIT_BYPASS_SHIELD_ID, OBTAINED_UNIT_2_ID);
+        given(obtainedUnitRepository.findAllById(changedIds)).willReturn(List.of(deployed, inMission, ofOtherUser));
+        given(speedImpactGroupFinderBo.findApplicable(eq(user), any())).willReturn(givenSpeedImpactGroup());
+        given(obtainedUnitReadModel.find(eq(USER_ID_1), any(), any()))
+                .willAnswer(invocation -> invocation
+                        .<Function<Collection<Long>, List<ObtainedUnitDto>>>getArgument(2)
+                        .apply(changedIds)
+                );
+
+        try (var ignored = mockStatic(Hibernate.class)) {
+            var result = obtainedUnitFinderBo.findCompletedAsDto(user);
+
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).getId()).isEqualTo(OBTAINED_UNIT_1_ID);
+            verify(obtainedUnitRepository, never()).findDeployedInUserOwnedPlanets(any());
+        }
+    }
+
     @Test
     void findInPlanetOrInMissionToPlanet_should_work() {
         var ou1 = givenObtainedUnit1();
@@ -127,20 +173,47 @@ class ObtainedUnitFinderBoTest {
     }
 
     @Test
-    void findInvolvedInAttack_should_work() {
+    void findInvolvedInAttack_should_load_the_index_and_return_the_units_in_its_order() {
         var ou1 = givenObtainedUnit1();
         var ou2 = givenObtainedUnit2();
+        var candidate = givenObtainedUnit1();
+        candidate.setId(OBTAINED_UNIT_BYPASS_SHIELD_ID);
         var planet = givenTargetPlanet();
-        var allowedMissions = List.of(MissionType.CONQUEST.name());
+        var involvedIds = List.of(OBTAINED_UNIT_2_ID, OBTAINED_UNIT_1_ID);
+        List<ObtainedUnit> loaded = new ArrayList<>();
         given(obtainedUnitRepository.findBySourcePlanetIdAndMissionIsNull(TARGET_PLANET_ID)).willReturn(List.of(ou1));
-        given(obtainedUnitRepository.findByTargetPlanetIdWhereReferencePercentageTimePassed(
-                eq(TARGET_PLANET_ID), eq(0.1d), eq(allowedMissions), any())).willReturn(List.of(ou2));
+        given(obtainedUnitRepository.findByTargetPlanetIdAndMissionTypeCode(TARGET_PLANET_ID, MissionType.DEPLOYED.name()))
+                .willReturn(List.of(ou2));
+        given(obtainedUnitRepository.findAttackCandidatesByTargetPlanetId(TARGET_PLANET_ID)).willReturn(List.of(candidate));
+        given(planetInvolvedUnitsIndex.findInvolvedInAttack(eq(TARGET_PLANET_ID), any(), any(), any()))
+                .willAnswer(invocation -> {
+                    loaded.addAll(invocation.<Supplier<List<ObtainedUnit>>>getArgument(2).get());
+                    return involvedIds;
+                });
+        given(obtainedUnitRepository.findAllById(involvedIds)).willReturn(List.of(ou1, ou2));
+
+        assertThat(obtainedUnitFinderBo.findInvolvedInAttack(planet)).containsExactly(ou2, ou1);
+        assertThat(loaded).containsExactly(ou1, ou2, candidate);
+    }
 
-        assertThat(obtainedUnitFinderBo.findInvolvedInAttack(planet))
-                .contains(ou1)
-                .contains(ou2)
-                .hasSize(2);
+    @Test
+    void findInterceptorsInAttack_should_return_the_interceptors_with_their_speed_impact_groups() {
+        var interceptor = givenObtainedUnit2();
+        var interceptors = Map.of(OBTAINED_UNIT_2_ID, Set.of(SPEED_IMPACT_GROUP_ID));
+        given(planetInvolvedUnitsIndex.findInterceptors(eq(TARGET_PLANET_ID), any(), any(), any())).willReturn(interceptors);
+        given(obtainedUnitRepository.findAllById(List.of(OBTAINED_UNIT_2_ID))).willReturn(List.of(interceptor));
+
+        var result = obtainedUnitFinderBo.findInterceptorsInAttack(givenTargetPlanet());
+
+        assertThat(result).containsExactly(entry(interceptor, Set.of(SPEED_IMPACT_GROUP_ID)));
+    }
+
+    @Test
+    void findInvolvedInAttack_should_not_load_units_when_none_is_involved() {
+        given(planetInvolvedUnitsIndex.findInvolvedInAttack(eq(TARGET_PLANET_ID), any(), any(), any())).willReturn(List.of());
 
+        assertThat(obtainedUnitFinderBo.findInvolvedInAttack(givenTargetPlanet())).isEmpty();
+        verify(obtainedUnitRepository, never()).findAllById(any());
     }
 
     @ParameterizedTest
@@ -0,0 +1,127 @@
+package com.kevinguanchedarias.owgejava.business.unit;
+
+import com.kevinguanchedarias.owgejava.dto.ObtainedUnitDto;
+import com.kevinguanchedarias.owgejava.entity.Faction;
+import com.kevinguanchedarias.owgejava.entity.Unit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.kevinguanchedarias.owgejava.mock.ObtainedUnitMock.*;
+import static com.kevinguanchedarias.owgejava.mock.UserMock.USER_ID_1;
+import static com.kevinguanchedarias.owgejava.mock.UserMock.USER_ID_2;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObtainedUnitReadModelTest {
+    private final ObtainedUnitReadModel obtainedUnitReadModel = new ObtainedUnitReadModel();
+    private final List<Collection<Long>> requestedChanges = new ArrayList<>();
+    private int viewLoads;
+
+    @Test
+    void find_should_build_the_view_only_once() {
+        var first = find(USER_ID_1, List.of(givenDto(OBTAINED_UNIT_1_ID, 10L)), Map.of());
+        var second = find(USER_ID_1, List.of(), Map.of());
+
+        assertThat(viewLoads).isEqualTo(1);
+        assertThat(requestedChanges).isEmpty();
+        assertThat(second).containsExactlyElementsOf(first);
+    }
+
+    @Test
+    void find_should_reload_changed_rows_and_remove_the_ones_not_returned() {
+        find(USER_ID_1, List.of(givenDto(OBTAINED_UNIT_1_ID, 10L), givenDto(OBTAINED_UNIT_2_ID, 8L)), Map.of());
+        obtainedUnitReadModel.markChanged(givenObtainedUnit1());
+        obtainedUnitReadModel.markChanged(USER_ID_1, OBTAINED_UNIT_2_ID);
+        obtainedUnitReadModel.markChanged(USER_ID_1, OBTAINED_UNIT_BYPASS_SHIELD_ID);
+
+        var result = find(USER_ID_1, List.of(), Map.of(
+                OBTAINED_UNIT_1_ID, givenDto(OBTAINED_UNIT_1_ID, 4L),
+                OBTAINED_UNIT_BYPASS_SHIELD_ID, givenDto(OBTAINED_UNIT_BYPASS_SHIELD_ID, 1L)
+        ));
+
+        assertThat(viewLoads).isEqualTo(1);
+        assertThat(requestedChanges).hasSize(1);
+        assertThat(requestedChanges.get(0))
+                .containsExactlyInAnyOrder(OBTAINED_UNIT_1_ID, OBTAINED_UNIT_2_ID, OBTAINED_UNIT_BYPASS_SHIELD_ID);
+        assertThat(result).extracting(ObtainedUnitDto::getId)
+                .containsExactly(OBTAINED_UNIT_1_ID, OBTAINED_UNIT_BYPASS_SHIELD_ID);
+        assertThat(result.get(0).getCount()).isEqualTo(4L);
+
+        find(USER_ID_1, List.of(), Map.of());
+        assertThat(requestedChanges).hasSize(1);
+    }
+
+    @Test
+    void markChanged_should_also_mark_the_unit_storing_it() {
+        find(USER_ID_1, List.of(givenDto(OBTAINED_UNIT_2_ID, 8L)), Map.of());
+        var stored = givenObtainedUnit1();
+        var owner = givenObtainedUnit2();
+        stored.setOwnerUnit(owner);
+
+        obtainedUnitReadModel.markChanged(stored);
+        find(USER_ID_1, List.of(), Map.of(OBTAINED_UNIT_2_ID, givenDto(OBTAINED_UNIT_2_ID, 8L)));
+
+        assertThat(requestedChanges.get(0)).containsExactlyInAnyOrder(OBTAINED_UNIT_1_ID, OBTAINED_UNIT_2_ID);
+    }
+
+    @Test
+    void markChanged_should_ignore_users_without_view() {
+        obtainedUnitReadModel.markChanged(USER_ID_1, OBTAINED_UNIT_1_ID);
+
+        find(USER_ID_1, List.of(givenDto(OBTAINED_UNIT_1_ID, 10L)), Map.of());
+        find(USER_ID_1, List.of(), Map.of());
+
+        assertThat(requestedChanges).isEmpty();
+    }
+
+    @Test
+    void invalidate_should_only_rebuild_the_view_of_the_user() {
+        find(USER_ID_1, List.of(), Map.of());
+        find(USER_ID_2, List.of(), Map.of());
+
+        obtainedUnitReadModel.invalidate(USER_ID_1);
+        find(USER_ID_1, List.of(), Map.of());
+        find(USER_ID_2, List.of(), Map.of());
+
+        assertThat(viewLoads).isEqualTo(3);
+    }
+
+    @Test
+    void onDefinitionChange_should_rebuild_all_views_only_for_definitions_used_by_them() {
+        find(USER_ID_1, List.of(), Map.of());
+        find(USER_ID_2, List.of(), Map.of());
+
+        obtainedUnitReadModel.onDefinitionChange(Faction.FACTION_CACHE_TAG);
+        find(USER_ID_1, List.of(), Map.of());
+        assertThat(viewLoads).isEqualTo(2);
+
+        obtainedUnitReadModel.onDefinitionChange(Unit.UNIT_CACHE_TAG);
+        find(USER_ID_1, List.of(), Map.of());
+        find(USER_ID_2, List.of(), Map.of());
+        assertThat(viewLoads).isEqualTo(4);
+    }
+
+    private List<ObtainedUnitDto> find(Integer userId, List<ObtainedUnitDto> view, Map<Long, ObtainedUnitDto> rows) {
+        Supplier<List<ObtainedUnitDto>> viewLoader = () -> {
+            viewLoads++;
+            return view;
+        };
+        Function<Collection<Long>, List<ObtainedUnitDto>> changedLoader = ids -> {
+            requestedChanges.add(ids);
+            return ids.stream().filter(rows::containsKey).map(rows::get).toList();
+        };
+        return obtainedUnitReadModel.find(userId, viewLoader, changedLoader);
+    }
+
+    private ObtainedUnitDto givenDto(long id, long count) {
+        var dto = new ObtainedUnitDto();
+        dto.setId(id);
+        dto.setCount(count);
+        return dto;
+    }
+}
@@ -0,0 +1,182 @@
+package com.kevinguanchedarias.owgejava.business.unit;
+
+import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
+import com.kevinguanchedarias.owgejava.entity.SpeedImpactGroup;
+import com.kevinguanchedarias.owgejava.entity.Unit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.kevinguanchedarias.owgejava.mock.MissionMock.givenConquestMission;
+import static com.kevinguanchedarias.owgejava.mock.MissionMock.givenDeployedMission;
+import static com.kevinguanchedarias.owgejava.mock.ObtainedUnitMock.*;
+import static com.kevinguanchedarias.owgejava.mock.PlanetMock.*;
+import static com.kevinguanchedarias.owgejava.mock.SpeedImpactGroupMock.SPEED_IMPACT_GROUP_ID;
+import static com.kevinguanchedarias.owgejava.mock.UnitMock.givenUnitWithInterception1;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class PlanetInvolvedUnitsIndexTest {
+    private static final LocalDateTime ELIGIBLE_FROM = LocalDateTime.of(2022, 1, 1, 10, 0, 5);
+
+    private final PlanetInvolvedUnitsIndex planetInvolvedUnitsIndex = new PlanetInvolvedUnitsIndex();
+    private final List<Collection<Long>> requestedChanges = new ArrayList<>();
+    private int planetLoads;
+
+    @Test
+    void findInvolvedInAttack_should_build_the_entry_once_and_return_the_conquest_units_once_eligible() {
+        var planetUnits = List.of(givenConquestUnit(), givenDeployedUnit(), givenPresentUnit());
+
+        var beforeEligible = find(ELIGIBLE_FROM.minusSeconds(1), planetUnits, Map.of());
+        var afterEligible = find(ELIGIBLE_FROM.plusSeconds(1), List.of(), Map.of());
+
+        assertThat(planetLoads).isEqualTo(1);
+        assertThat(requestedChanges).isEmpty();
+        assertThat(beforeEligible).containsExactly(OBTAINED_UNIT_1_ID, OBTAINED_UNIT_2_ID);
+        assertThat(afterEligible).containsExactly(OBTAINED_UNIT_1_ID, OBTAINED_UNIT_2_ID, OBTAINED_UNIT_BYPASS_SHIELD_ID);
+    }
+
+    @Test
+    void findInvolvedInAttack_should_reload_only_the_changed_rows() {
+        find(ELIGIBLE_FROM, List.of(givenDeployedUnit(), givenPresentUnit()), Map.of());
+        var departed = givenDeployedUnit();
+        departed.setMission(givenConquestMission(givenTargetPlanet(), givenSourcePlanet()));
+        departed.setSourcePlanet(givenTargetPlanet());
+        departed.setTargetPlanet(givenSourcePlanet());
+        var arrived = givenConquestUnit();
+        arrived.setMission(null);
+        arrived.setSourcePlanet(givenTargetPlanet());
+
+        planetInvolvedUnitsIndex.markChanged(departed);
+        planetInvolvedUnitsIndex.markChanged(arrived);
+        var result = find(ELIGIBLE_FROM, List.of(), Map.of(
+                OBTAINED_UNIT_2_ID, departed,
+                OBTAINED_UNIT_BYPASS_SHIELD_ID, arrived
+        ));
+
+        assertThat(planetLoads).isEqualTo(1);
+        assertThat(requestedChanges).hasSize(1);
+        assertThat(requestedChanges.get(0)).containsExactlyInAnyOrder(OBTAINED_UNIT_2_ID, OBTAINED_UNIT_BYPASS_SHIELD_ID);
+        assertThat(result).containsExactly(OBTAINED_UNIT_1_ID, OBTAINED_UNIT_BYPASS_SHIELD_ID);
+    }
+
+    @Test
+    void markChanged_should_mark_the_planet_the_unit_left() {
+        find(ELIGIBLE_FROM, List.of(givenPresentUnit()), Map.of());
+        var moved = givenPresentUnit();
+        moved.setSourcePlanet(givenPlanet(SOURCE_PLANET_ID + 1000));
+        moved.setTargetPlanet(null);
+
+        planetInvolvedUnitsIndex.markChanged(moved);
+        var result = find(ELIGIBLE_FROM, List.of(), Map.of());
+
+        assertThat(requestedChanges.get(0)).containsExactly(OBTAINED_UNIT_1_ID);
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void findInterceptors_should_return_the_involved_units_able_to_intercept() {
+        var interceptor = givenConquestUnit();
+        interceptor.setUnit(givenUnitWithInterception1());
+        var planetUnits = List.of(interceptor, givenDeployedUnit(), givenPresentUnit());
+
+        var beforeEligible = findInterceptors(ELIGIBLE_FROM.minusSeconds(1), planetUnits);
+        var afterEligible = findInterceptors(ELIGIBLE_FROM.plusSeconds(1), List.of());
+
+        assertThat(beforeEligible).isEmpty();
+        assertThat(afterEligible).containsExactly(entry(OBTAINED_UNIT_BYPASS_SHIELD_ID, Set.of(SPEED_IMPACT_GROUP_ID)));
+        assertThat(planetLoads).isEqualTo(1);
+    }
+
+    @Test
+    void findInterceptors_should_return_first_the_present_units_then_the_conquest_ones_each_by_id() {
+        var conquest = givenConquestUnit();
+        var deployed = givenDeployedUnit();
+        var present = givenPresentUnit();
+        List.of(conquest, deployed, present).forEach(obtainedUnit -> obtainedUnit.setUnit(givenUnitWithInterception1()));
+
+        var result = findInterceptors(ELIGIBLE_FROM.plusSeconds(1), List.of(conquest, deployed, present));
+
+        assertThat(result.keySet()).containsExactly(OBTAINED_UNIT_1_ID, OBTAINED_UNIT_2_ID, OBTAINED_UNIT_BYPASS_SHIELD_ID);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            Unit.UNIT_CACHE_TAG + ",2",
+            SpeedImpactGroup.SPEED_IMPACT_GROUP_CACHE_TAG + ",2",
+            "planet,1"
+    })
+    void onDefinitionChange_should_build_the_entries_again_when_the_interceptors_may_change(String cacheTag, int expectedLoads) {
+        findInterceptors(ELIGIBLE_FROM, List.of(givenPresentUnit()));
+
+        planetInvolvedUnitsIndex.onDefinitionChange(cacheTag);
+        findInterceptors(ELIGIBLE_FROM, List.of());
+
+        assertThat(planetLoads).isEqualTo(expectedLoads);
+    }
+
+    @Test
+    void invalidateAll_should_build_the_entries_again() {
+        find(ELIGIBLE_FROM, List.of(givenPresentUnit()), Map.of());
+
+        planetInvolvedUnitsIndex.invalidateAll();
+        var result = find(ELIGIBLE_FROM, List.of(), Map.of());
+
+        assertThat(planetLoads).isEqualTo(2);
+        assertThat(result).isEmpty();
+    }
+
+    private List<Long> find(LocalDateTime now, List<ObtainedUnit> planetUnits, Map<Long, ObtainedUnit> changedUnits) {
+        return planetInvolvedUnitsIndex.findInvolvedInAttack(
+                TARGET_PLANET_ID,
+                now,
+                () -> {
+                    planetLoads++;
+                    return planetUnits;
+                },
+                changedIds -> {
+                    requestedChanges.add(changedIds);
+                    return changedIds.stream().filter(changedUnits::containsKey).map(changedUnits::get).toList();
+                }
+        );
+    }
+
+    private Map<Long, Set<Integer>> findInterceptors(LocalDateTime now, List<ObtainedUnit> planetUnits) {
+        return planetInvolvedUnitsIndex.findInterceptors(
+                TARGET_PLANET_ID,
+                now,
+                () -> {
+                    planetLoads++;
+                    return planetUnits;
+                },
+                changedIds -> List.of()
+        );
+    }
+
+    private ObtainedUnit givenPresentUnit() {
+        var obtainedUnit = givenObtainedUnit1();
+        obtainedUnit.setSourcePlanet(givenTargetPlanet());
+        return obtainedUnit;
+    }
+
+    private ObtainedUnit givenDeployedUnit() {
+        var obtainedUnit = givenObtainedUnit2();
+        obtainedUnit.setMission(givenDeployedMission());
+        return obtainedUnit;
+    }
+
+    private ObtainedUnit givenConquestUnit() {
+        var obtainedUnit = givenObtainedUnit1();
+        obtainedUnit.setId(OBTAINED_UNIT_BYPASS_SHIELD_ID);
+        obtainedUnit.setMission(givenConquestMission(givenSourcePlanet(), givenTargetPlanet()));
+        obtainedUnit.getMission().setAttackEligibleFrom(ELIGIBLE_FROM);
+        return obtainedUnit;
+    }
+}
@@ -13,6 +13,7 @@ import java.util.List;
 
 import static com.kevinguanchedarias.owgejava.mock.ObtainedUnitMock.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -45,21 +46,42 @@ class StoredUnitDataLoaderTest {
     }
 
     @Test
-    void addInformationToDto_should_work() {
+    void addInformationToDtos_should_load_stored_units_of_all_units_at_once() {
         var ou1 = givenObtainedUnit1();
+        var ou2 = givenObtainedUnit2();
         var storedOu = givenObtainedUnit2();
-        ou1.setStoredUnits(List.of(storedOu));
+        storedOu.setId(OBTAINED_UNIT_2_ID + 1);
+        storedOu.setOwnerUnit(ou1);
         var ouDto = new ObtainedUnitDto();
+        var ou2Dto = new ObtainedUnitDto();
         var storedOuDto = mock(ObtainedUnitDto.class);
         given(dtoUtilService.dtoFromEntity(ObtainedUnitDto.class, storedOu)).willReturn(storedOuDto);
-        given(obtainedUnitRepository.findByOwnerUnitId(OBTAINED_UNIT_1_ID)).willReturn(List.of(storedOu));
+        given(obtainedUnitRepository.findByOwnerUnitIdIn(List.of(OBTAINED_UNIT_1_ID, OBTAINED_UNIT_2_ID)))
+                .willReturn(List.of(storedOu));
 
-        storedUnitDataLoader.addInformationToDto(ou1, ouDto);
+        storedUnitDataLoader.addInformationToDtos(List.of(ou1, ou2), List.of(ouDto, ou2Dto));
 
-        verify(unitDataLoader, times(1)).addInformationToDto(storedOu, storedOuDto);
-        assertThat(ouDto.getStoredUnits())
-                .hasSize(1)
-                .containsExactly(storedOuDto);
+        verify(obtainedUnitRepository, times(1)).findByOwnerUnitIdIn(any());
+        verify(unitDataLoader, times(1)).addInformationToDtos(List.of(storedOu), List.of(storedOuDto));
+        assertThat(ouDto.getStoredUnits()).containsExactly(storedOuDto);
+        assertThat(ou2Dto.getStoredUnits()).isEmpty();
+    }
+
+    @Test
+    void addInformationToDtos_should_not_invoke_other_loaders_when_there_are_no_stored_units() {
+        var ou1 = givenObtainedUnit1();
+        var ouDto = new ObtainedUnitDto();
+
+        storedUnitDataLoader.addInformationToDtos(List.of(ou1), List.of(ouDto));
+
+        assertThat(ouDto.getStoredUnits()).isEmpty();
+        verify(unitDataLoader, never()).addInformationToDtos(any(), any());
+    }
+
+    @Test
+    void addInformationToDtos_should_do_nothing_for_empty_list() {
+        storedUnitDataLoader.addInformationToDtos(List.of(), List.of());
 
+        verifyNoInteractions(obtainedUnitRepository, unitDataLoader);
     }
 }
@@ -2,18 +2,23 @@ package com.kevinguanchedarias.owgejava.business.unit.loader;
 
 import com.kevinguanchedarias.owgejava.dto.ObtainedUnitDto;
 import com.kevinguanchedarias.owgejava.repository.jdbc.ObtainedUnitTemporalInformationRepository;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
-import java.util.Optional;
+import java.util.List;
 
 import static com.kevinguanchedarias.owgejava.mock.ObtainedUnitMock.givenObtainedUnit1;
+import static com.kevinguanchedarias.owgejava.mock.ObtainedUnitMock.givenObtainedUnit2;
+import static com.kevinguanchedarias.owgejava.mock.ObtainedUnitTemporalInformationMock.OBTAINED_UNIT_TEMPORAL_INFORMATION_ID;
 import static com.kevinguanchedarias.owgejava.mock.ObtainedUnitTemporalInformationMock.givenObtainedUnitTemporalInformation;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
 
 @SpringBootTest(
         webEnvironment = SpringBootTest.WebEnvironment.NONE,
@@ -35,23 +40,44 @@ class TemporalInformationUnitDataLoaderServiceTest {
 
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
-    void addInformationToDto_should_work(boolean hasExpirationId) {
+    void addInformationToDtos_should_work(boolean hasExpirationId) {
         var ou = givenObtainedUnit1();
         var ouDto = new ObtainedUnitDto();
-        var expirationId = 19L;
         var temporalInformation = givenObtainedUnitTemporalInformation();
         if (hasExpirationId) {
-            ou.setExpirationId(expirationId);
+            ou.setExpirationId(OBTAINED_UNIT_TEMPORAL_INFORMATION_ID);
         }
-        given(obtainedUnitTemporalInformationRepository.findById(expirationId)).willReturn(Optional.of(temporalInformation));
+        given(obtainedUnitTemporalInformationRepository.findAllById(List.of(OBTAINED_UNIT_TEMPORAL_INFORMATION_ID)))
+                .willReturn(List.of(temporalInformation));
 
-        temporalInformationUnitDataLoaderService.addInformationToDto(ou, ouDto);
+        temporalInformationUnitDataLoaderService.addInformationToDtos(List.of(ou), List.of(ouDto));
 
         if (hasExpirationId) {
             assertThat(ouDto.getTemporalInformation()).isEqualTo(temporalInformation);
             assertThat(ouDto.getTemporalInformation().getPendingMillis()).isNotNull();
         } else {
             assertThat(ouDto.getTemporalInformation()).isNull();
+            verifyNoInteractions(obtainedUnitTemporalInformationRepository);
         }
     }
+
+    @Test
+    void addInformationToDtos_should_query_each_expiration_once() {
+        var ou1 = givenObtainedUnit1();
+        var ou2 = givenObtainedUnit2();
+        var ouWithoutTemporal = givenObtainedUnit1();
+        ou1.setExpirationId(OBTAINED_UNIT_TEMPORAL_INFORMATION_ID);
+        ou2.setExpirationId(OBTAINED_UNIT_TEMPORAL_INFORMATION_ID);
+        var dtos = List.of(new ObtainedUnitDto(), new ObtainedUnitDto(), new ObtainedUnitDto());
+        var temporalInformation = givenObtainedUnitTemporalInformation();
+        given(obtainedUnitTemporalInformationRepository.findAllById(List.of(OBTAINED_UNIT_TEMPORAL_INFORMATION_ID)))
+                .willReturn(List.of(temporalInformation));
+
+        temporalInformationUnitDataLoaderService.addInformationToDtos(List.of(ou1, ou2, ouWithoutTemporal), dtos);
+
+        verify(obtainedUnitTemporalInformationRepository, times(1)).findAllById(any());
+        assertThat(dtos.get(0).getTemporalInformation()).isEqualTo(temporalInformation);
+        assertThat(dtos.get(1).getTemporalInformation()).isEqualTo(temporalInformation);
+        assertThat(dtos.get(2).getTemporalInformation()).isNull();
+    }
 }
@@ -0,0 +1,237 @@
+package com.kevinguanchedarias.owgejava.business.universe;
+
+import com.kevinguanchedarias.owgejava.business.MissionSchedulerService;
+import com.kevinguanchedarias.owgejava.business.cache.CacheInvalidationService;
+import com.kevinguanchedarias.owgejava.exception.SgtBackendInvalidInputException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static com.kevinguanchedarias.owgejava.business.universe.UniverseDumpWriterTest.gzip;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(
+        classes = UniverseDumpService.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "OWGE_UNIVERSE_IMPORT_BATCH_SIZE=2"
+)
+@MockBean({
+        JdbcTemplate.class,
+        CacheInvalidationService.class,
+        MissionSchedulerService.class
+})
+class UniverseDumpServiceTest {
+    private static final String GALAXIES_HEADER = "{\"table\":\"galaxies\",\"columns\":[\"id\",\"name\"],\"types\":[4,12]}\n";
+    private static final String EXPECTED_TWO_ROWS_INSERT = "INSERT INTO `galaxies` (`id`,`name`) VALUES (?,?),(?,?)";
+    private static final String EXPECTED_ONE_ROW_INSERT = "INSERT INTO `galaxies` (`id`,`name`) VALUES (?,?)";
+
+    private final UniverseDumpService universeDumpService;
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final MissionSchedulerService missionSchedulerService;
+
+    private final Connection connection = mock(Connection.class);
+    private final Statement statement = mock(Statement.class);
+    private final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+
+    @Autowired
+    UniverseDumpServiceTest(
+            UniverseDumpService universeDumpService,
+            JdbcTemplate jdbcTemplate,
+            CacheInvalidationService cacheInvalidationService,
+            MissionSchedulerService missionSchedulerService
+    ) {
+        this.universeDumpService = universeDumpService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.missionSchedulerService = missionSchedulerService;
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() throws SQLException {
+        given(jdbcTemplate.execute(any(ConnectionCallback.class))).willAnswer(invocation ->
+                invocation.getArgument(0, ConnectionCallback.class).doInConnection(connection)
+        );
+        var metadata = mock(DatabaseMetaData.class);
+        var columnsResultSet = mock(ResultSet.class);
+        given(connection.getAutoCommit()).willReturn(true);
+        given(connection.createStatement()).willReturn(statement);
+        given(connection.prepareStatement(anyString())).willReturn(preparedStatement);
+        given(connection.getMetaData()).willReturn(metadata);
+        given(metadata.getColumns(any(), isNull(), eq("galaxies"), isNull())).willReturn(columnsResultSet);
+        given(columnsResultSet.next()).willReturn(true, true, false);
+        given(columnsResultSet.getString("COLUMN_NAME")).willReturn("id", "name");
+    }
+
+    @Test
+    void importUniverse_should_insert_in_batches_with_foreign_key_checks_disabled() throws IOException, SQLException {
+        var dump = GALAXIES_HEADER + "[1,\"Milky way\"]\n[2,\"Andromeda\"]\n[3,null]\n";
+
+        var result = universeDumpService.importUniverse(new ByteArrayInputStream(gzip(dump)), false);
+
+        assertThat(result).isEqualTo(Map.of("galaxies", 3L));
+        InOrder inOrder = inOrder(connection, statement, preparedStatement);
+        inOrder.verify(connection).setAutoCommit(false);
+        inOrder.verify(statement).execute("SET FOREIGN_KEY_CHECKS = 0");
+        inOrder.verify(connection).prepareStatement(EXPECTED_TWO_ROWS_INSERT);
+        inOrder.verify(preparedStatement).setObject(3, 2);
+        inOrder.verify(preparedStatement).setObject(4, "Andromeda");
+        inOrder.verify(preparedStatement).executeUpdate();
+        inOrder.verify(connection).prepareStatement(EXPECTED_ONE_ROW_INSERT);
+        inOrder.verify(preparedStatement).setObject(2, null);
+        inOrder.verify(preparedStatement).executeUpdate();
+        inOrder.verify(connection).commit();
+        inOrder.verify(statement).execute("SET FOREIGN_KEY_CHECKS = 1");
+        inOrder.verify(connection).setAutoCommit(true);
+        verify(connection, times(1)).commit();
+        verify(statement, never()).executeUpdate(anyString());
+        verify(cacheInvalidationService, times(1)).clearAll();
+    }
+
+    @Test
+    void importUniverse_should_rollback_the_replace_and_the_inserted_batches_when_the_dump_fails() throws IOException, SQLException {
+        var dump = GALAXIES_HEADER + "[1,\"Milky way\"]\n[2,\"Andromeda\"]\n[3]\n";
+
+        assertThatThrownBy(() -> universeDumpService.importUniverse(new ByteArrayInputStream(gzip(dump)), true))
+                .isInstanceOf(SgtBackendInvalidInputException.class)
+                .hasMessageContaining("Malformed");
+        InOrder inOrder = inOrder(connection, statement, preparedStatement);
+        inOrder.verify(connection).setAutoCommit(false);
+        inOrder.verify(statement).executeUpdate("DELETE FROM `galaxies`");
+        inOrder.verify(preparedStatement).executeUpdate();
+        inOrder.verify(connection).rollback();
+        inOrder.verify(connection).setAutoCommit(true);
+        verify(connection, never()).commit();
+        verify(cacheInvalidationService, times(1)).clearAll();
+        verify(jdbcTemplate, never()).query(anyString(), any(RowCallbackHandler.class));
+        verifyNoInteractions(missionSchedulerService);
+    }
+
+    @Test
+    void importUniverse_should_schedule_the_unresolved_missions() throws IOException, SQLException {
+        var terminationDate = LocalDateTime.of(2026, 1, 1, 10, 0);
+        var missionsResultSet = mock(ResultSet.class);
+        given(missionsResultSet.getLong("id")).willReturn(5L);
+        given(missionsResultSet.getTimestamp("termination_date")).willReturn(Timestamp.valueOf(terminationDate));
+        doAnswer(invocation -> {
+            invocation.getArgument(1, RowCallbackHandler.class).processRow(missionsResultSet);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        universeDumpService.importUniverse(new ByteArrayInputStream(gzip(GALAXIES_HEADER)), false);
+
+        var inOrder = inOrder(connection, cacheInvalidationService, jdbcTemplate, missionSchedulerService);
+        inOrder.verify(connection).commit();
+        inOrder.verify(cacheInvalidationService).clearAll();
+        inOrder.verify(jdbcTemplate).query(
+                eq("SELECT `id`, `termination_date` FROM `missions` WHERE `resolved` = 0 AND `termination_date` IS NOT NULL"),
+                any(RowCallbackHandler.class)
+        );
+        inOrder.verify(missionSchedulerService).scheduleMission(5L, terminationDate);
+    }
+
+    @Test
+    void exportUniverse_should_read_all_the_tables_from_a_consistent_snapshot() throws SQLException {
+        var exportStatement = mock(Statement.class);
+        var resultSet = mock(ResultSet.class);
+        var resultSetMetadata = mock(ResultSetMetaData.class);
+        given(connection.isReadOnly()).willReturn(false);
+        given(connection.getTransactionIsolation()).willReturn(Connection.TRANSACTION_READ_COMMITTED);
+        given(connection.createStatement(anyInt(), anyInt())).willReturn(exportStatement);
+        given(exportStatement.executeQuery(anyString())).willReturn(resultSet);
+        given(resultSet.getMetaData()).willReturn(resultSetMetadata);
+
+        universeDumpService.exportUniverse(new ByteArrayOutputStream());
+
+        InOrder inOrder = inOrder(connection, statement, exportStatement);
+        inOrder.verify(connection).setReadOnly(true);
+        inOrder.verify(connection).setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        inOrder.verify(connection).setAutoCommit(false);
+        inOrder.verify(statement).execute("START TRANSACTION WITH CONSISTENT SNAPSHOT");
+        inOrder.verify(exportStatement).executeQuery(anyString());
+        inOrder.verify(connection).commit();
+        inOrder.verify(connection).setAutoCommit(true);
+        inOrder.verify(connection).setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        inOrder.verify(connection).setReadOnly(false);
+    }
+
+    @Test
+    void importUniverse_should_delete_existing_rows_in_reverse_order_when_replacing() throws IOException, SQLException {
+        universeDumpService.importUniverse(new ByteArrayInputStream(gzip(GALAXIES_HEADER)), true);
+
+        InOrder inOrder = inOrder(statement, connection, preparedStatement);
+        inOrder.verify(statement).executeUpdate("DELETE FROM `suspicions`");
+        inOrder.verify(statement).executeUpdate("DELETE FROM `audit`");
+        inOrder.verify(statement).executeUpdate("DELETE FROM `websocket_messages_status`");
+        inOrder.verify(statement).executeUpdate("DELETE FROM `obtained_units`");
+        inOrder.verify(statement).executeUpdate("DELETE FROM `configuration`");
+        inOrder.verify(connection).prepareStatement("DELETE FROM `scheduled_tasks` WHERE `task_name` = ?");
+        inOrder.verify(preparedStatement).setString(1, "mission-run");
+        inOrder.verify(preparedStatement).executeUpdate();
+        inOrder.verify(connection).commit();
+        verify(statement, times(24)).executeUpdate(anyString());
+        verify(connection, times(1)).commit();
+    }
+
+    @Test
+    void importUniverse_should_reject_tables_not_in_the_dump_list() throws IOException, SQLException {
+        var dump = gzip("{\"table\":\"admin_users\",\"columns\":[\"id\"],\"types\":[4]}\n[1]\n");
+
+        assertThatThrownBy(() -> universeDumpService.importUniverse(new ByteArrayInputStream(dump), false))
+                .isInstanceOf(SgtBackendInvalidInputException.class)
+                .hasMessageContaining("admin_users");
+        verify(connection, times(1)).rollback();
+        verify(statement, times(1)).execute("SET FOREIGN_KEY_CHECKS = 1");
+        verify(connection, never()).prepareStatement(anyString());
+        verify(connection, never()).commit();
+        verify(cacheInvalidationService, times(1)).clearAll();
+    }
+
+    @Test
+    void importUniverse_should_reject_unknown_columns() throws IOException, SQLException {
+        var dump = gzip("{\"table\":\"galaxies\",\"columns\":[\"id`; DROP TABLE x; --\"],\"types\":[4]}\n");
+
+        assertThatThrownBy(() -> universeDumpService.importUniverse(new ByteArrayInputStream(dump), false))
+                .isInstanceOf(SgtBackendInvalidInputException.class)
+                .hasMessageContaining("has no column");
+        verify(connection, never()).prepareStatement(anyString());
+    }
+
+    @Test
+    void importUniverse_should_reject_not_compressed_input() throws SQLException {
+        var input = new ByteArrayInputStream(GALAXIES_HEADER.getBytes());
+
+        assertThatThrownBy(() -> universeDumpService.importUniverse(input, false))
+                .isInstanceOf(SgtBackendInvalidInputException.class);
+        verify(connection, times(1)).rollback();
+    }
+}
@@ -0,0 +1,99 @@
+package com.kevinguanchedarias.owgejava.business.universe;
+
+import com.kevinguanchedarias.owgejava.exception.SgtBackendInvalidInputException;
+import com.kevinguanchedarias.owgejava.pojo.universe.UniverseDumpTableHeader;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class UniverseDumpWriterTest {
+    private static final UniverseDumpTableHeader HEADER = new UniverseDumpTableHeader(
+            "planets",
+            List.of("id", "name", "richness", "ratio", "home", "image", "created", "owner"),
+            List.of(Types.BIGINT, Types.VARCHAR, Types.DECIMAL, Types.DOUBLE, Types.BIT, Types.VARBINARY, Types.TIMESTAMP, Types.INTEGER)
+    );
+
+    @Test
+    void written_dump_should_be_read_back_with_the_same_values() throws IOException, SQLException {
+        var resultSet = mock(ResultSet.class);
+        var image = new byte[]{1, 2, 3};
+        given(resultSet.getObject(1)).willReturn(9_000_000_000L);
+        given(resultSet.getObject(2)).willReturn("Earth");
+        given(resultSet.getObject(3)).willReturn(new BigDecimal("12.345"));
+        given(resultSet.getObject(4)).willReturn(0.5D);
+        given(resultSet.getObject(5)).willReturn(true);
+        given(resultSet.getObject(6)).willReturn(image);
+        given(resultSet.getObject(7)).willReturn(Timestamp.valueOf("2023-01-02 03:04:05"));
+        given(resultSet.getString(2)).willReturn("Earth");
+        given(resultSet.getString(7)).willReturn("2023-01-02 03:04:05");
+        var outputStream = new ByteArrayOutputStream();
+
+        try (var writer = new UniverseDumpWriter(outputStream)) {
+            writer.writeHeader(HEADER);
+            writer.writeRow(resultSet, HEADER.getColumns().size());
+        }
+
+        try (var reader = new UniverseDumpReader(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.getHeader()).isEqualTo(HEADER);
+            assertThat(reader.getRow()).isNull();
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.getRow()).containsExactly(
+                    9_000_000_000L, "Earth", new BigDecimal("12.345"), new BigDecimal("0.5"), true, image,
+                    "2023-01-02 03:04:05", null
+            );
+            assertThat(reader.next()).isFalse();
+        }
+    }
+
+    @Test
+    void reader_should_reject_rows_without_header() throws IOException {
+        try (var reader = new UniverseDumpReader(new ByteArrayInputStream(gzip("[1,2]\n")))) {
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(SgtBackendInvalidInputException.class)
+                    .hasMessageContaining("Malformed universe dump line");
+        }
+    }
+
+    @Test
+    void reader_should_reject_rows_with_wrong_column_count() throws IOException {
+        var dump = "{\"table\":\"galaxies\",\"columns\":[\"id\"],\"types\":[4]}\n[1,2]\n";
+        try (var reader = new UniverseDumpReader(new ByteArrayInputStream(gzip(dump)))) {
+            assertThat(reader.next()).isTrue();
+            assertThatThrownBy(reader::next).isInstanceOf(SgtBackendInvalidInputException.class);
+        }
+    }
+
+    @Test
+    void reader_should_reject_headers_with_mismatched_types() throws IOException {
+        var dump = "{\"table\":\"galaxies\",\"columns\":[\"id\",\"name\"],\"types\":[4]}\n";
+        try (var reader = new UniverseDumpReader(new ByteArrayInputStream(gzip(dump)))) {
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(SgtBackendInvalidInputException.class)
+                    .hasMessageContaining("Malformed universe dump header");
+        }
+    }
+
+    static byte[] gzip(String content) throws IOException {
+        var outputStream = new ByteArrayOutputStream();
+        try (var gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return outputStream.toByteArray();
+    }
+}
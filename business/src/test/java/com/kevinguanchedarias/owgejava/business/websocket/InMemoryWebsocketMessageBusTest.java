@@ -0,0 +1,29 @@
+package com.kevinguanchedarias.owgejava.business.websocket;
+
+import com.kevinguanchedarias.owgejava.pojo.websocket.WebsocketBusMessage;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryWebsocketMessageBusTest {
+    private final InMemoryWebsocketMessageBus bus = new InMemoryWebsocketMessageBus();
+
+    @Test
+    void publish_should_deliver_the_same_message_to_all_subscribers_even_if_one_fails() {
+        var message = WebsocketBusMessage.builder().targetUserId(1).eventName("FOO").build();
+        List<WebsocketBusMessage> delivered = new ArrayList<>();
+        bus.subscribe(received -> {
+            throw new IllegalStateException("Socket closed");
+        });
+        bus.subscribe(delivered::add);
+
+        bus.publish(message);
+
+        assertThat(delivered).containsExactly(message);
+        assertThat(delivered.get(0)).isSameAs(message);
+        assertThat(bus.isLocal()).isTrue();
+    }
+}
@@ -0,0 +1,84 @@
+package com.kevinguanchedarias.owgejava.business.websocket;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.kevinguanchedarias.owgejava.configurations.WebsocketConfiguration;
+import com.kevinguanchedarias.owgejava.configurations.WebsocketJsonSupport;
+import com.kevinguanchedarias.owgejava.pojo.WebsocketMessage;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class WebsocketPayloadEncoderTest {
+    private static final String EVENT_NAME = "unit_obtained_change";
+
+    private final WebsocketJsonSupport jsonSupport = new WebsocketJsonSupport(new JavaTimeModule());
+
+    @Test
+    void encode_should_produce_the_same_message_than_encoding_the_content_for_each_socket() throws IOException {
+        var content = givenContent();
+
+        var payload = givenEncoder(0).encode(content);
+
+        assertThat(payload.getCompressedValue()).isNull();
+        assertThat(write(new WebsocketMessage<Object>(EVENT_NAME, new RawValue(payload.getValue()))))
+                .isEqualTo(write(new WebsocketMessage<Object>(EVENT_NAME, content)));
+    }
+
+    @Test
+    void encode_should_compress_when_reaching_the_threshold() throws IOException {
+        var content = givenContent();
+        var json = jsonSupport.getObjectMapper().writeValueAsBytes(content);
+
+        var payload = givenEncoder(json.length).encode(content);
+
+        assertThat(payload.getValue()).isNull();
+        assertThat(payload.getSize()).isEqualTo(json.length);
+        try (var gzipStream = new GZIPInputStream(new ByteArrayInputStream(payload.getCompressedValue()))) {
+            assertThat(gzipStream.readAllBytes()).isEqualTo(json);
+        }
+    }
+
+    @Test
+    void encode_should_not_compress_below_the_threshold() throws IOException {
+        var content = givenContent();
+        var json = jsonSupport.getObjectMapper().writeValueAsBytes(content);
+
+        var payload = givenEncoder(json.length + 1).encode(content);
+
+        assertThat(payload.getCompressedValue()).isNull();
+        assertThat(payload.getValue()).isNotNull();
+    }
+
+    private WebsocketPayloadEncoder givenEncoder(int compressionThreshold) {
+        var websocketConfiguration = mock(WebsocketConfiguration.class);
+        given(websocketConfiguration.getWebsocketJsonSupport()).willReturn(jsonSupport);
+        return new WebsocketPayloadEncoder(websocketConfiguration, compressionThreshold);
+    }
+
+    private Map<String, Object> givenContent() {
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("name", "Ñandú \"quoted\"");
+        content.put("count", 8);
+        content.put("date", Instant.ofEpochSecond(1_700_000_000));
+        return content;
+    }
+
+    private String write(Object value) throws IOException {
+        var buffer = Unpooled.buffer();
+        jsonSupport.writeValue(new ByteBufOutputStream(buffer), value);
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,185 @@
+package com.kevinguanchedarias.owgejava.configurations.datasource;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+
+import static com.kevinguanchedarias.owgejava.mock.TokenUserMock.givenTokenUser;
+import static com.kevinguanchedarias.owgejava.mock.UserMock.USER_ID_1;
+import static com.kevinguanchedarias.owgejava.mock.UserMock.USER_ID_2;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ReadReplicaDataSourceTest {
+    private static final long STICKY_MILLIS = 60_000;
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection primaryConnection = givenConnection();
+    private final Connection replicaConnection = givenConnection();
+    private final ReadReplicaLagMonitor lagMonitor = mock(ReadReplicaLagMonitor.class);
+    private final ReadReplicaDataSource dataSource;
+
+    ReadReplicaDataSourceTest() throws SQLException {
+        given(primary.getConnection()).willReturn(primaryConnection);
+        given(replica.getConnection()).willReturn(replicaConnection);
+        given(lagMonitor.isReplicaUsable()).willReturn(true);
+        dataSource = new ReadReplicaDataSource(primary, replica, lagMonitor, STICKY_MILLIS);
+    }
+
+    @AfterEach
+    void clearTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getConnection_should_use_the_primary_without_the_marker() throws Throwable {
+        runQuery();
+
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void getConnection_should_use_the_replica_with_the_marker_and_no_transaction_or_read_only_one() throws Throwable {
+        runInReadReplica(this::runQuery);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        runInReadReplica(this::runQuery);
+
+        verify(replica, times(2)).getConnection();
+        verify(replicaConnection, times(2)).createStatement();
+    }
+
+    @Test
+    void getConnection_should_use_the_primary_in_write_transactions_and_stick_the_user_to_it_after_commit() throws Throwable {
+        givenLoggedIn(USER_ID_1);
+        runInWriteTransaction(true);
+        runInReadReplica(this::runQuery);
+        verify(replica, never()).getConnection();
+
+        var otherThread = Executors.newSingleThreadExecutor();
+        try {
+            otherThread.submit(() -> {
+                try {
+                    givenLoggedIn(USER_ID_1);
+                    runInReadReplica(this::runQuery);
+                    givenLoggedIn(USER_ID_2);
+                    runInReadReplica(this::runQuery);
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            }).get();
+        } finally {
+            otherThread.shutdown();
+        }
+
+        verify(replica, times(1)).getConnection();
+    }
+
+    @Test
+    void getConnection_should_not_stick_to_the_primary_when_the_write_transaction_rolls_back() throws Throwable {
+        givenLoggedIn(USER_ID_1);
+        runInWriteTransaction(false);
+        runInReadReplica(this::runQuery);
+
+        verify(replica, times(1)).getConnection();
+    }
+
+    @Test
+    void getConnection_should_stick_the_work_without_user_to_the_primary() throws Throwable {
+        runInWriteTransaction(true);
+        runInReadReplica(this::runQuery);
+        verify(replica, never()).getConnection();
+
+        givenLoggedIn(USER_ID_2);
+        runInReadReplica(this::runQuery);
+        verify(replica, times(1)).getConnection();
+    }
+
+    @Test
+    void getConnection_should_use_the_primary_when_the_replica_is_behind_or_fails() throws Throwable {
+        given(lagMonitor.isReplicaUsable()).willReturn(false);
+        runInReadReplica(this::runQuery);
+        verify(replica, never()).getConnection();
+
+        var failure = new SQLException("Connection refused");
+        given(lagMonitor.isReplicaUsable()).willReturn(true);
+        given(replica.getConnection()).willThrow(failure);
+        runInReadReplica(this::runQuery);
+
+        verify(lagMonitor, times(1)).markUnavailable(failure);
+        verify(primaryConnection, times(2)).createStatement();
+    }
+
+    private void runQuery() throws SQLException {
+        try (var connection = dataSource.getConnection()) {
+            connection.createStatement();
+        }
+    }
+
+    private void runInWriteTransaction(boolean commit) throws Throwable {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            runInReadReplica(this::runQuery);
+            if (commit) {
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    private void givenLoggedIn(int userId) {
+        var authentication = new UsernamePasswordAuthenticationToken(userId, null);
+        authentication.setDetails(givenTokenUser(userId));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    private void runInReadReplica(SqlAction action) throws Throwable {
+        var invocation = mock(MethodInvocation.class);
+        given(invocation.proceed()).will(answer -> {
+            action.run();
+            return null;
+        });
+        new ReadReplicaInterceptor().invoke(invocation);
+    }
+
+    private static Connection givenConnection() {
+        var connection = mock(Connection.class);
+        try {
+            given(connection.createStatement()).willReturn(mock(Statement.class));
+            given(connection.getAutoCommit()).willReturn(true);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return connection;
+    }
+
+    private interface SqlAction {
+        void run() throws SQLException;
+    }
+}
@@ -0,0 +1,62 @@
+package com.kevinguanchedarias.owgejava.configurations.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ReadReplicaLagMonitorTest {
+    private final DataSource replica = mock(DataSource.class);
+    private final ResultSet resultSet = mock(ResultSet.class);
+    private final ReadReplicaLagMonitor lagMonitor = new ReadReplicaLagMonitor(replica, 1);
+
+    ReadReplicaLagMonitorTest() throws SQLException {
+        var connection = mock(Connection.class);
+        var statement = mock(Statement.class);
+        given(replica.getConnection()).willReturn(connection);
+        given(connection.createStatement()).willReturn(statement);
+        given(statement.executeQuery("SHOW SLAVE STATUS")).willReturn(resultSet);
+    }
+
+    @Test
+    void check_should_allow_the_replica_only_while_the_lag_is_known_and_small() throws SQLException {
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+
+        givenLag(1);
+        lagMonitor.check();
+        assertThat(lagMonitor.isReplicaUsable()).isTrue();
+
+        givenLag(2);
+        lagMonitor.check();
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+
+        givenLag(0);
+        given(resultSet.wasNull()).willReturn(true);
+        lagMonitor.check();
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+    }
+
+    @Test
+    void check_should_not_allow_the_replica_when_it_fails() throws SQLException {
+        givenLag(0);
+        lagMonitor.check();
+        given(replica.getConnection()).willThrow(new SQLException("Connection refused"));
+
+        lagMonitor.check();
+
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+    }
+
+    private void givenLag(long lag) throws SQLException {
+        given(resultSet.next()).willReturn(true);
+        given(resultSet.getLong("Seconds_Behind_Master")).willReturn(lag);
+        given(resultSet.wasNull()).willReturn(false);
+    }
+}
@@ -0,0 +1,43 @@
+package com.kevinguanchedarias.owgejava.fake;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.kevinguanchedarias.owgejava.business.websocket.WebsocketMessageBus;
+import com.kevinguanchedarias.owgejava.pojo.websocket.WebsocketBusMessage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Stands for a bus between many nodes, each subscriber is a node, the messages go through JSON as they would through
+ * the network
+ */
+public class FakeClusterWebsocketMessageBus implements WebsocketMessageBus {
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final List<Consumer<WebsocketBusMessage>> nodes = new ArrayList<>();
+
+    @Override
+    public void publish(WebsocketBusMessage message) {
+        try {
+            var wire = objectMapper.writeValueAsBytes(message);
+            for (var node : nodes) {
+                node.accept(objectMapper.readValue(wire, WebsocketBusMessage.class));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<WebsocketBusMessage> subscriber) {
+        nodes.add(subscriber);
+    }
+
+    @Override
+    public boolean isLocal() {
+        return false;
+    }
+}
@@ -5,10 +5,12 @@ import com.kevinguanchedarias.owgejava.dto.ObtainedUnitDto;
 import com.kevinguanchedarias.owgejava.entity.ObtainedUnit;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 public class FakeUnitDataLoader implements UnitDataLoader {
     @Override
-    public void addInformationToDto(ObtainedUnit obtainedUnit, ObtainedUnitDto targetDto) {
+    public void addInformationToDtos(List<ObtainedUnit> obtainedUnits, List<ObtainedUnitDto> targetDtos) {
         // It's fake
     }
 }
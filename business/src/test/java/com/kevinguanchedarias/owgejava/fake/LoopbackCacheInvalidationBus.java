@@ -0,0 +1,42 @@
+package com.kevinguanchedarias.owgejava.fake;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kevinguanchedarias.owgejava.business.cache.CacheInvalidationBus;
+import com.kevinguanchedarias.owgejava.pojo.cache.CacheInvalidationBatch;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Stands for a bus between many nodes, each subscriber is a node (the publisher receives its own batches too), the
+ * batches go through JSON as they would through the network
+ */
+public class LoopbackCacheInvalidationBus implements CacheInvalidationBus {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Consumer<CacheInvalidationBatch>> nodes = new ArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidationBatch batch) {
+        try {
+            var wire = objectMapper.writeValueAsBytes(batch);
+            for (var node : nodes) {
+                node.accept(objectMapper.readValue(wire, CacheInvalidationBatch.class));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationBatch> subscriber) {
+        nodes.add(subscriber);
+    }
+
+    @Override
+    public boolean isLocal() {
+        return false;
+    }
+}
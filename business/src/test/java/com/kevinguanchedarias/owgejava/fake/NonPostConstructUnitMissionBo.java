@@ -5,6 +5,7 @@ import com.kevinguanchedarias.owgejava.business.UnitMissionBo;
 import com.kevinguanchedarias.owgejava.business.mission.MissionBaseService;
 import com.kevinguanchedarias.owgejava.business.mission.MissionEventEmitterBo;
 import com.kevinguanchedarias.owgejava.business.mission.MissionInterceptionManagerBo;
+import com.kevinguanchedarias.owgejava.business.mission.MissionTelemetryService;
 import com.kevinguanchedarias.owgejava.business.mission.processor.MissionProcessor;
 import com.kevinguanchedarias.owgejava.business.mission.report.MissionReportManagerBo;
 import com.kevinguanchedarias.owgejava.business.mission.unit.registration.UnitMissionRegistrationBo;
@@ -34,9 +35,9 @@ public class NonPostConstructUnitMissionBo extends UnitMissionBo {
             List<MissionProcessor> missionProcessors, PlanetBo planetBo, PlanetExplorationService planetExplorationService,
             MissionRepository missionRepository, UserSessionService userSessionService, ExceptionUtilService exceptionUtilService,
             MissionReportManagerBo missionReportManagerBo, MissionBaseService missionBaseService, TransactionUtilService transactionUtilService,
-            Map<MissionType, MissionProcessor> missionProcessorMap
+            MissionTelemetryService missionTelemetryService, Map<MissionType, MissionProcessor> missionProcessorMap
     ) {
-        super(planetLockUtilService, unitMissionRegistrationBo, returnMissionRegistrationBo, planetRepository, missionEventEmitterBo, missionInterceptionManagerBo, missionProcessors, planetBo, planetExplorationService, missionRepository, userSessionService, exceptionUtilService, missionReportManagerBo, missionBaseService, transactionUtilService, null);
+        super(planetLockUtilService, unitMissionRegistrationBo, returnMissionRegistrationBo, planetRepository, missionEventEmitterBo, missionInterceptionManagerBo, missionProcessors, planetBo, planetExplorationService, missionRepository, userSessionService, exceptionUtilService, missionReportManagerBo, missionBaseService, transactionUtilService, missionTelemetryService, null);
     }
 
     @Override
@@ -5,6 +5,8 @@ import com.kevinguanchedarias.owgejava.business.MissionBo;
 import com.kevinguanchedarias.owgejava.business.UnitMissionBo;
 import com.kevinguanchedarias.owgejava.business.mission.MissionBaseService;
 import com.kevinguanchedarias.owgejava.business.mission.MissionEventEmitterBo;
+import com.kevinguanchedarias.owgejava.business.mission.MissionTelemetryService;
+import com.kevinguanchedarias.owgejava.configurations.OpenTelemetryConfiguration;
 import com.kevinguanchedarias.owgejava.enumerations.MissionType;
 import com.kevinguanchedarias.owgejava.exception.CommonException;
 import com.kevinguanchedarias.owgejava.exception.ProgrammingException;
@@ -20,11 +22,13 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
 import org.springframework.dao.PessimisticLockingFailureException;
 
 import javax.sql.DataSource;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -40,7 +44,7 @@ import static org.mockito.Mockito.*;
 
 @ExtendWith(OutputCaptureExtension.class)
 @SpringBootTest(
-        classes = DbSchedulerRealizationJob.class,
+        classes = {DbSchedulerRealizationJob.class, MissionTelemetryService.class, OpenTelemetryConfiguration.class},
         webEnvironment = SpringBootTest.WebEnvironment.NONE
 )
 @MockBean({
@@ -53,8 +57,10 @@ import static org.mockito.Mockito.*;
         DataSource.class,
         Scheduler.class
 })
+@SpyBean(MissionTelemetryService.class)
 class DbSchedulerRealizationJobTest {
     private static final long MISSION_ID = 192;
+    private static final Instant SCHEDULED_FIRE_TIME = Instant.now();
 
     private final DbSchedulerRealizationJob dbSchedulerRealizationJob;
     private final MissionRepository missionRepository;
@@ -63,6 +69,7 @@ class DbSchedulerRealizationJobTest {
     private final MissionBaseService missionBaseService;
     private final MissionEventEmitterBo missionEventEmitterBo;
     private final MysqlInformationRepository mysqlInformationRepository;
+    private final MissionTelemetryService missionTelemetryService;
 
     @Autowired
     DbSchedulerRealizationJobTest(
@@ -72,7 +79,8 @@ class DbSchedulerRealizationJobTest {
             UnitMissionBo unitMissionBo,
             MissionBaseService missionBaseService,
             MissionEventEmitterBo missionEventEmitterBo,
-            MysqlInformationRepository mysqlInformationRepository
+            MysqlInformationRepository mysqlInformationRepository,
+            MissionTelemetryService missionTelemetryService
     ) {
         this.dbSchedulerRealizationJob = dbSchedulerRealizationJob;
         this.missionRepository = missionRepository;
@@ -81,6 +89,7 @@ class DbSchedulerRealizationJobTest {
         this.missionBaseService = missionBaseService;
         this.missionEventEmitterBo = missionEventEmitterBo;
         this.mysqlInformationRepository = mysqlInformationRepository;
+        this.missionTelemetryService = missionTelemetryService;
     }
 
     @Test
@@ -88,9 +97,11 @@ class DbSchedulerRealizationJobTest {
         var unitMission = givenExploreMission();
         given(missionRepository.findById(EXPLORE_MISSION_ID)).willReturn(Optional.of(unitMission));
 
-        dbSchedulerRealizationJob.execute(EXPLORE_MISSION_ID);
+        dbSchedulerRealizationJob.execute(EXPLORE_MISSION_ID, SCHEDULED_FIRE_TIME);
 
         verify(unitMissionBo, times(1)).runUnitMission(EXPLORE_MISSION_ID, MissionType.EXPLORE);
+        verify(missionTelemetryService, times(1)).inExecutionSpan(eq(unitMission), any());
+        verify(missionTelemetryService, times(1)).recordFireLateness(unitMission, SCHEDULED_FIRE_TIME);
         assertThat(capturedOutput.getOut()).contains("Executing mission id " + EXPLORE_MISSION_ID);
     }
 
@@ -105,7 +116,7 @@ class DbSchedulerRealizationJobTest {
         mission.setType(givenMissinType(missionType));
         given(missionRepository.findById(MISSION_ID)).willReturn(Optional.of(mission));
 
-        dbSchedulerRealizationJob.execute(MISSION_ID);
+        dbSchedulerRealizationJob.execute(MISSION_ID, SCHEDULED_FIRE_TIME);
 
         verify(missionBo, times(1)).runMission(MISSION_ID, missionType);
     }
@@ -130,7 +141,7 @@ class DbSchedulerRealizationJobTest {
         given(mysqlInformationRepository.findInnoDbStatus()).willReturn(mock(MysqlEngineInformation.class));
         given(mysqlInformationRepository.findFullProcessInformation()).willReturn(List.of());
 
-        dbSchedulerRealizationJob.execute(MISSION_ID);
+        dbSchedulerRealizationJob.execute(MISSION_ID, SCHEDULED_FIRE_TIME);
 
         assertThat(capturedOutput.getOut()).contains("fatal exception when ");
         verify(missionBaseService, times(1)).retryMissionIfPossible(MISSION_ID, missionType);
@@ -149,7 +160,7 @@ class DbSchedulerRealizationJobTest {
         given(missionRepository.findById(MISSION_ID)).willReturn(Optional.of(mission));
         doThrow(new CommonException("OOPS")).when(unitMissionBo).runUnitMission(MISSION_ID, MissionType.EXPLORE);
 
-        dbSchedulerRealizationJob.execute(MISSION_ID);
+        dbSchedulerRealizationJob.execute(MISSION_ID, SCHEDULED_FIRE_TIME);
 
         verify(missionEventEmitterBo, times(1)).emitUnitMissions(USER_ID_1);
         verify(missionEventEmitterBo, times(1)).emitEnemyMissionsChange(mission);
@@ -162,9 +173,9 @@ class DbSchedulerRealizationJobTest {
         mission.setId(MISSION_ID);
         given(missionRepository.findById(MISSION_ID)).willReturn(Optional.of(mission)).willReturn(Optional.empty());
 
-        dbSchedulerRealizationJob.execute(MISSION_ID);
+        dbSchedulerRealizationJob.execute(MISSION_ID, SCHEDULED_FIRE_TIME);
 
-        verifyNoInteractions(missionBo, unitMissionBo, missionBaseService, missionEventEmitterBo);
+        verifyNoInteractions(missionBo, unitMissionBo, missionBaseService, missionEventEmitterBo, missionTelemetryService);
     }
 
     @Test
@@ -174,7 +185,7 @@ class DbSchedulerRealizationJobTest {
         given(missionRepository.findById(MISSION_ID)).willReturn(Optional.of(mission));
         doThrow(new CommonException("OOPS")).when(unitMissionBo).runUnitMission(MISSION_ID, MissionType.DEPLOYED);
 
-        assertThatThrownBy(() -> dbSchedulerRealizationJob.execute(MISSION_ID))
+        assertThatThrownBy(() -> dbSchedulerRealizationJob.execute(MISSION_ID, SCHEDULED_FIRE_TIME))
                 .isInstanceOf(ProgrammingException.class);
     }
 
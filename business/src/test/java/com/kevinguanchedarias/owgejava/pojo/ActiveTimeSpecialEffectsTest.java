@@ -0,0 +1,79 @@
+package com.kevinguanchedarias.owgejava.pojo;
+
+import com.kevinguanchedarias.owgejava.entity.Rule;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.kevinguanchedarias.owgejava.mock.UnitMock.UNIT_ID_1;
+import static com.kevinguanchedarias.owgejava.mock.UnitMock.givenUnit1;
+import static com.kevinguanchedarias.owgejava.mock.UnitTypeMock.UNIT_TYPE_ID;
+import static com.kevinguanchedarias.owgejava.mock.UnitTypeMock.givenUnitType;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActiveTimeSpecialEffectsTest {
+    private static final String RULE_TYPE = "FOO_TYPE";
+    private static final String OTHER_RULE_TYPE = "BAR_TYPE";
+    private static final long TIME_SPECIAL_ID_1 = 1;
+    private static final long TIME_SPECIAL_ID_2 = 2;
+    private static final int PARENT_UNIT_TYPE_ID = 1983744;
+
+    @Test
+    void hasRuleTargetingUnit_should_match_unit() {
+        var effects = new ActiveTimeSpecialEffects(List.of(givenRule(RULE_TYPE, TIME_SPECIAL_ID_1, "UNIT", UNIT_ID_1)));
+
+        assertThat(effects.hasRuleTargetingUnit(RULE_TYPE, givenUnit1())).isTrue();
+        assertThat(effects.hasRuleTargetingUnit(OTHER_RULE_TYPE, givenUnit1())).isFalse();
+    }
+
+    @Test
+    void hasRuleTargetingUnit_should_match_unit_type_parents() {
+        var unit = givenUnit1();
+        unit.getType().setParent(givenUnitType(PARENT_UNIT_TYPE_ID));
+        var effects = new ActiveTimeSpecialEffects(List.of(givenRule(RULE_TYPE, TIME_SPECIAL_ID_1, "UNIT_TYPE", PARENT_UNIT_TYPE_ID)));
+
+        assertThat(effects.hasRuleTargetingUnit(RULE_TYPE, unit)).isTrue();
+        assertThat(effects.hasRuleTargetingUnit(RULE_TYPE, givenUnit1())).isFalse();
+    }
+
+    @Test
+    void findRules_should_return_the_rules_of_the_type_in_order() {
+        var otherRule = givenRule(OTHER_RULE_TYPE, TIME_SPECIAL_ID_1, "UNIT", UNIT_ID_1);
+        var first = givenRule(RULE_TYPE, TIME_SPECIAL_ID_1, "UNIT", UNIT_ID_1);
+        var second = givenRule(RULE_TYPE, TIME_SPECIAL_ID_2, "UNIT", UNIT_ID_1);
+        var effects = new ActiveTimeSpecialEffects(List.of(otherRule, first, second));
+
+        assertThat(effects.findRules(RULE_TYPE)).containsExactly(first, second);
+        assertThat(effects.findRules("NOT_EXISTING")).isEmpty();
+    }
+
+    @Test
+    void findRuleTargetingUnit_should_prefer_unit_over_unit_type_in_same_time_special() {
+        var unit = givenUnit1();
+        unit.getType().setParent(givenUnitType(PARENT_UNIT_TYPE_ID));
+        var parentTypeRule = givenRule(RULE_TYPE, TIME_SPECIAL_ID_1, "UNIT_TYPE", PARENT_UNIT_TYPE_ID);
+        var typeRule = givenRule(RULE_TYPE, TIME_SPECIAL_ID_1, "UNIT_TYPE", UNIT_TYPE_ID);
+        var unitRule = givenRule(RULE_TYPE, TIME_SPECIAL_ID_1, "UNIT", UNIT_ID_1);
+        var secondTimeSpecialRule = givenRule(RULE_TYPE, TIME_SPECIAL_ID_2, "UNIT", UNIT_ID_1);
+
+        assertThat(new ActiveTimeSpecialEffects(List.of(parentTypeRule, typeRule, unitRule, secondTimeSpecialRule))
+                .findRuleTargetingUnit(RULE_TYPE, unit)).containsSame(unitRule);
+        assertThat(new ActiveTimeSpecialEffects(List.of(parentTypeRule, typeRule, secondTimeSpecialRule))
+                .findRuleTargetingUnit(RULE_TYPE, unit)).containsSame(typeRule);
+        assertThat(new ActiveTimeSpecialEffects(List.of(parentTypeRule, secondTimeSpecialRule))
+                .findRuleTargetingUnit(RULE_TYPE, unit)).containsSame(parentTypeRule);
+        assertThat(new ActiveTimeSpecialEffects(List.of(parentTypeRule))
+                .findRuleTargetingUnit(OTHER_RULE_TYPE, unit)).isEmpty();
+    }
+
+    private Rule givenRule(String type, long timeSpecialId, String destinationType, long destinationId) {
+        return Rule.builder()
+                .type(type)
+                .originType("TIME_SPECIAL")
+                .originId(timeSpecialId)
+                .destinationType(destinationType)
+                .destinationId(destinationId)
+                .extraArgs("")
+                .build();
+    }
+}
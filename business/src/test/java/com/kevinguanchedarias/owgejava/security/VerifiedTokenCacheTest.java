@@ -0,0 +1,118 @@
+package com.kevinguanchedarias.owgejava.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static com.kevinguanchedarias.owgejava.mock.TokenUserMock.givenTokenUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+    private static final long NOW_SECONDS = 1_700_000_000L;
+
+    private final Clock clock = Clock.fixed(Instant.ofEpochSecond(NOW_SECONDS), ZoneOffset.UTC);
+
+    @Test
+    void find_should_return_cached_user_while_not_expired() {
+        var cache = new VerifiedTokenCache(10, clock);
+        var token = givenToken("{\"exp\":" + (NOW_SECONDS + 60) + "}");
+        var tokenUser = givenTokenUser();
+
+        cache.put(token, tokenUser);
+
+        assertThat(cache.find(token)).isSameAs(tokenUser);
+        var stats = cache.findStats();
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isZero();
+        assertThat(stats.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    void find_should_return_null_when_expired() {
+        var mutableClock = new MutableClock(clock.instant());
+        var cache = new VerifiedTokenCache(10, mutableClock);
+        var token = givenToken("{\"exp\":" + (NOW_SECONDS + 60) + "}");
+        cache.put(token, givenTokenUser());
+
+        mutableClock.instant = mutableClock.instant.plus(Duration.ofSeconds(61));
+
+        assertThat(cache.find(token)).isNull();
+        assertThat(cache.findStats().getSize()).isZero();
+    }
+
+    @Test
+    void find_should_count_only_the_recorded_verifications_as_misses() {
+        var cache = new VerifiedTokenCache(10, clock);
+        var token = givenToken("{\"exp\":" + (NOW_SECONDS + 60) + "}");
+
+        assertThat(cache.find(token)).isNull();
+        assertThat(cache.find(token)).isNull();
+        cache.recordVerification();
+        cache.put(token, givenTokenUser());
+        cache.find(token);
+
+        var stats = cache.findStats();
+        assertThat(stats.getMisses()).isEqualTo(1);
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getHitRate()).isEqualTo(0.5D);
+    }
+
+    @Test
+    void put_should_not_cache_tokens_without_exp_or_invalid() {
+        var cache = new VerifiedTokenCache(10, clock);
+        var withoutExp = givenToken("{\"sub\":\"1\"}");
+        var invalid = "not_a_jwt";
+
+        cache.put(withoutExp, givenTokenUser());
+        cache.put(invalid, givenTokenUser());
+
+        assertThat(cache.find(withoutExp)).isNull();
+        assertThat(cache.find(invalid)).isNull();
+        assertThat(cache.findStats().getSize()).isZero();
+    }
+
+    @Test
+    void put_should_evict_when_full() {
+        var cache = new VerifiedTokenCache(2, clock);
+        for (int i = 0; i < 5; i++) {
+            cache.put(givenToken("{\"exp\":" + (NOW_SECONDS + 60) + ",\"id\":" + i + "}"), givenTokenUser(i));
+        }
+
+        assertThat(cache.findStats().getSize()).isEqualTo(2);
+    }
+
+    private String givenToken(String payload) {
+        var encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + ".signature";
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
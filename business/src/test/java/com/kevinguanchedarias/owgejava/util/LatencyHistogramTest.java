@@ -0,0 +1,60 @@
+package com.kevinguanchedarias.owgejava.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyHistogramTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 63, 64, 65, 127, 128, 1_000, 123_456, 9_999_999, (1L << 36) - 1})
+    void bucketIndex_should_place_value_in_a_bucket_whose_range_contains_it(long value) {
+        var index = LatencyHistogram.bucketIndex(value);
+
+        assertThat(LatencyHistogram.bucketHighestValue(index)).isGreaterThanOrEqualTo(value);
+        if (index > 0) {
+            assertThat(LatencyHistogram.bucketHighestValue(index - 1)).isLessThan(value);
+        }
+        assertThat(LatencyHistogram.bucketHighestValue(index) - value).isLessThanOrEqualTo(Math.max(value / 32, 0));
+    }
+
+    @Test
+    void bucketIndex_should_use_last_bucket_for_too_big_values() {
+        assertThat(LatencyHistogram.bucketIndex(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKETS - 1);
+        assertThat(LatencyHistogram.bucketIndex(1L << 36)).isEqualTo(LatencyHistogram.BUCKETS - 1);
+    }
+
+    @Test
+    void findQuantileMicros_should_return_zero_when_empty() {
+        assertThat(new LatencyHistogram().findQuantileMicros(0.99)).isZero();
+    }
+
+    @Test
+    void findQuantileMicros_should_work() {
+        var histogram = new LatencyHistogram();
+        IntStream.rangeClosed(1, 1000).forEach(histogram::record);
+
+        assertThat(histogram.findQuantileMicros(0.5)).isBetween(500L, 515L);
+        assertThat(histogram.findQuantileMicros(0.99)).isBetween(990L, 1000L);
+        assertThat(histogram.findQuantileMicros(1)).isEqualTo(1000);
+        assertThat(histogram.getSamples()).isEqualTo(1000);
+        assertThat(histogram.getTotalMicros()).isEqualTo(500_500);
+        assertThat(histogram.getMaxMicros()).isEqualTo(1000);
+    }
+
+    @Test
+    void addCall_should_count_calls_and_errors() {
+        var histogram = new LatencyHistogram();
+
+        histogram.addCall(false);
+        histogram.addCall(true);
+
+        assertThat(histogram.getCalls()).isEqualTo(2);
+        assertThat(histogram.getErrors()).isEqualTo(1);
+        assertThat(histogram.getSamples()).isZero();
+    }
+}
@@ -0,0 +1,105 @@
+package com.kevinguanchedarias.owgejava.util;
+
+import com.kevinguanchedarias.owgejava.exception.SgtBackendInvalidInputException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MethodMetricsRegistryTest {
+
+    @Test
+    void findHistogram_should_share_histogram_by_class_and_method_name() throws NoSuchMethodException {
+        var registry = new MethodMetricsRegistry(1);
+        var method = String.class.getMethod("length");
+
+        var histogram = registry.findHistogram(String.class, method);
+
+        assertThat(registry.findHistogram(String.class, method)).isSameAs(histogram);
+        assertThat(registry.findHistogram(Integer.class, method)).isNotSameAs(histogram);
+    }
+
+    @Test
+    void setSampleRate_should_throw_when_lower_than_one() {
+        assertThatThrownBy(() -> new MethodMetricsRegistry(0)).isInstanceOf(SgtBackendInvalidInputException.class);
+    }
+
+    @Test
+    void shouldSample_should_always_sample_when_rate_is_one() {
+        var registry = new MethodMetricsRegistry(1);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(registry.shouldSample()).isTrue();
+        }
+    }
+
+    @Test
+    void findAll_should_sort_by_p99() throws NoSuchMethodException {
+        var registry = new MethodMetricsRegistry(1);
+        var fast = registry.findHistogram(String.class, String.class.getMethod("length"));
+        var slow = registry.findHistogram(String.class, String.class.getMethod("trim"));
+        fast.addCall(false);
+        fast.record(1_000);
+        slow.addCall(true);
+        slow.record(50_000);
+
+        var result = registry.findAll();
+
+        assertThat(result).hasSize(2);
+        var first = result.get(0);
+        assertThat(first.getMethod()).isEqualTo("String.trim");
+        assertThat(first.getCalls()).isEqualTo(1);
+        assertThat(first.getErrors()).isEqualTo(1);
+        assertThat(first.getSamples()).isEqualTo(1);
+        assertThat(first.getMaxMillis()).isEqualTo(50D);
+        assertThat(first.getP99Millis()).isEqualTo(50D);
+        assertThat(result.get(1).getMethod()).isEqualTo("String.length");
+    }
+
+    @Test
+    void toPrometheusText_should_work() throws NoSuchMethodException {
+        var registry = new MethodMetricsRegistry(1);
+        var histogram = registry.findHistogram(String.class, String.class.getMethod("length"));
+        histogram.addCall(false);
+        histogram.addCall(true);
+        histogram.record(2_000);
+
+        var result = registry.toPrometheusText();
+
+        assertThat(result)
+                .contains("# TYPE owge_method_duration_seconds summary\n")
+                .contains("owge_method_duration_seconds{method=\"String.length\",quantile=\"0.99\"} 0.002000\n")
+                .contains("owge_method_duration_seconds_sum{method=\"String.length\"} 0.002000\n")
+                .contains("owge_method_duration_seconds_count{method=\"String.length\"} 1\n")
+                .contains("owge_method_calls_total{method=\"String.length\"} 2\n")
+                .contains("owge_method_errors_total{method=\"String.length\"} 1\n");
+    }
+
+    @Test
+    void reset_should_drop_the_histograms() throws NoSuchMethodException {
+        var registry = new MethodMetricsRegistry(1);
+        registry.findHistogram(String.class, String.class.getMethod("length")).addCall(false);
+
+        registry.reset();
+
+        assertThat(registry.findAll()).isEmpty();
+    }
+
+    @Test
+    void reset_should_not_list_the_histograms_taken_before_the_reset() throws NoSuchMethodException {
+        var registry = new MethodMetricsRegistry(1);
+        var method = String.class.getMethod("length");
+        var beforeReset = registry.findHistogram(String.class, method);
+
+        registry.reset();
+        beforeReset.addCall(false);
+        var afterReset = registry.findHistogram(String.class, method);
+        afterReset.addCall(true);
+
+        assertThat(afterReset).isNotSameAs(beforeReset);
+        assertThat(registry.findAll()).singleElement().satisfies(metrics -> {
+            assertThat(metrics.getCalls()).isEqualTo(1);
+            assertThat(metrics.getErrors()).isEqualTo(1);
+        });
+    }
+}
@@ -0,0 +1,65 @@
+package com.kevinguanchedarias.owgejava.util;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class OwgeMethodMetricsInterceptorTest {
+
+    @Test
+    void invoke_should_count_and_time_the_call() throws Throwable {
+        var registry = new MethodMetricsRegistry(1);
+        var interceptor = new OwgeMethodMetricsInterceptor(registry);
+        var invocation = givenInvocation();
+        given(invocation.proceed()).willReturn(3);
+
+        assertThat(interceptor.invoke(invocation)).isEqualTo(3);
+
+        var metrics = registry.findAll().get(0);
+        assertThat(metrics.getMethod()).isEqualTo("String.length");
+        assertThat(metrics.getCalls()).isEqualTo(1);
+        assertThat(metrics.getErrors()).isZero();
+        assertThat(metrics.getSamples()).isEqualTo(1);
+    }
+
+    @Test
+    void invoke_should_count_errors() throws Throwable {
+        var registry = new MethodMetricsRegistry(1);
+        var interceptor = new OwgeMethodMetricsInterceptor(registry);
+        var invocation = givenInvocation();
+        var exception = new IllegalStateException("foo");
+        given(invocation.proceed()).willThrow(exception);
+
+        assertThatThrownBy(() -> interceptor.invoke(invocation)).isSameAs(exception);
+
+        var metrics = registry.findAll().get(0);
+        assertThat(metrics.getCalls()).isEqualTo(1);
+        assertThat(metrics.getErrors()).isEqualTo(1);
+    }
+
+    @Test
+    void invoke_should_not_time_not_sampled_calls() throws Throwable {
+        var registry = new MethodMetricsRegistry(Integer.MAX_VALUE);
+        var interceptor = new OwgeMethodMetricsInterceptor(registry);
+        var invocation = givenInvocation();
+
+        for (int i = 0; i < 10; i++) {
+            interceptor.invoke(invocation);
+        }
+
+        var metrics = registry.findAll().get(0);
+        assertThat(metrics.getCalls()).isEqualTo(10);
+        assertThat(metrics.getSamples()).isLessThan(10);
+    }
+
+    private MethodInvocation givenInvocation() throws NoSuchMethodException {
+        var invocation = mock(MethodInvocation.class);
+        given(invocation.getThis()).willReturn("foo");
+        given(invocation.getMethod()).willReturn(String.class.getMethod("length"));
+        return invocation;
+    }
+}
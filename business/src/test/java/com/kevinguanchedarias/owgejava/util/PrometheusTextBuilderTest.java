@@ -0,0 +1,60 @@
+package com.kevinguanchedarias.owgejava.util;
+
+import com.kevinguanchedarias.owgejava.exception.ProgrammingException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrometheusTextBuilderTest {
+
+    @Test
+    void build_should_group_samples_by_family() {
+        var result = new PrometheusTextBuilder()
+                .declare("foo_total", "counter", "Foo")
+                .declare("bar", "gauge", "Bar")
+                .addSample("foo_total", "a=\"1\"", 1)
+                .addSample("bar", "", 0.5)
+                .addSample("foo_total", "a=\"2\"", 2)
+                .build();
+
+        assertThat(result).isEqualTo("""
+                # HELP foo_total Foo
+                # TYPE foo_total counter
+                foo_total{a="1"} 1
+                foo_total{a="2"} 2
+                # HELP bar Bar
+                # TYPE bar gauge
+                bar 0.500000
+                """);
+    }
+
+    @Test
+    void addSummary_should_add_quantiles_sum_and_count_in_seconds() {
+        var histogram = new LatencyHistogram();
+        histogram.record(1_000);
+
+        var result = new PrometheusTextBuilder()
+                .declare("foo_seconds", "summary", "Foo")
+                .addSummary("foo_seconds", "a=\"1\"", histogram)
+                .build();
+
+        assertThat(result)
+                .contains("foo_seconds{a=\"1\",quantile=\"0.5\"} 0.001000\n")
+                .contains("foo_seconds_sum{a=\"1\"} 0.001000\n")
+                .contains("foo_seconds_count{a=\"1\"} 1\n");
+    }
+
+    @Test
+    void addSample_should_throw_when_family_is_not_declared() {
+        var builder = new PrometheusTextBuilder();
+
+        assertThatThrownBy(() -> builder.addSample("foo", "", 1))
+                .isInstanceOf(ProgrammingException.class);
+    }
+
+    @Test
+    void escape_should_work() {
+        assertThat(PrometheusTextBuilder.escape("a\"b\\c\nd")).isEqualTo("a\\\"b\\\\c\\nd");
+    }
+}
@@ -40,6 +40,7 @@ export class WebsocketService {
   private _hasTriggeredFirtsOffline = false;
   private _isWantedDisconnection: boolean;
   private _isCachePanic: Subject<boolean> = new BehaviorSubject(false);
+  private _pendingDecompression: Promise<void> = Promise.resolve();
 
   public constructor(
     private _wsEventCacheService: WsEventCacheService,
@@ -232,24 +233,10 @@ export class WebsocketService {
     this._log.debug('Subscribing to message events');
     this._socket.on('deliver_message', message => {
       this._log.debug('An event from backend server received', message);
-      if (message && message.status && message.eventName) {
-        const eventName = message.eventName;
-        const handlers: AbstractWebsocketApplicationHandler[] = this._getValidHandlers(eventName);
-        if (handlers.length) {
-          handlers.forEach(async handler => {
-            try {
-              await this._wsEventCacheService.saveEventData(message, message.value);
-              await handler.execute(eventName, message.value);
-            } catch (e) {
-              this._log.error(`Handler ${handler.constructor.name} failed for eent ${eventName}`, e);
-            }
-          });
-        } else {
-          this._log.error('No handler for event ' + eventName, message);
-        }
-      } else {
-        this._log.warn('Bad message from backend', message);
-      }
+      this._pendingDecompression = this._pendingDecompression
+        .then(() => this._decompressIfRequired(message))
+        .then(() => this._deliverMessage(message))
+        .catch(e => this._log.error('Couldn\'t deliver the websocket message ' + message.eventName, e));
     });
 
     this._socket.on('cache_clear', async () => {
@@ -257,6 +244,47 @@ export class WebsocketService {
     });
   }
 
+  private _deliverMessage(message: any): void {
+    if (message && message.status && message.eventName) {
+      const eventName = message.eventName;
+      const handlers: AbstractWebsocketApplicationHandler[] = this._getValidHandlers(eventName);
+      if (handlers.length) {
+        handlers.forEach(async handler => {
+          try {
+            await this._wsEventCacheService.saveEventData(message, message.value);
+            await handler.execute(eventName, message.value);
+          } catch (e) {
+            this._log.error(`Handler ${handler.constructor.name} failed for eent ${eventName}`, e);
+          }
+        });
+      } else {
+        this._log.error('No handler for event ' + eventName, message);
+      }
+    } else {
+      this._log.warn('Bad message from backend', message);
+    }
+  }
+
+  /**
+   * Decompresses the value of the messages that the backend sends compressed (the big ones, when enabled) <br>
+   * The messages are delivered after the previous ones, so a small message is not handled before a previous big one
+   *
+   * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+   * @since 0.11.4
+   */
+  private async _decompressIfRequired(message: any): Promise<void> {
+    if (message && message.compressedValue) {
+      try {
+        const decompressedStream = new Response(message.compressedValue).body
+          .pipeThrough(new (window as any).DecompressionStream('gzip'));
+        message.value = JSON.parse(await new Response(decompressedStream).text());
+      } catch (e) {
+        this._log.error('Could not decompress message ' + message.eventName, e);
+      }
+      delete message.compressedValue;
+    }
+  }
+
   private _timeoutPromise(inputPromise: Promise<any>): Promise<any> {
     return Promise.race([
       inputPromise,
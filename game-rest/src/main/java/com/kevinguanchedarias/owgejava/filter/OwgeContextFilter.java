@@ -1,9 +1,8 @@
 package com.kevinguanchedarias.owgejava.filter;
 
 import com.kevinguanchedarias.owgejava.business.AuthenticationBo;
+import com.kevinguanchedarias.owgejava.business.planet.PlanetOwnershipCacheService;
 import com.kevinguanchedarias.owgejava.context.OwgeContextHolder;
-import com.kevinguanchedarias.owgejava.entity.Planet;
-import com.kevinguanchedarias.owgejava.repository.PlanetRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
@@ -18,7 +17,7 @@ import java.util.Optional;
 @Order
 public class OwgeContextFilter implements Filter {
     private final AuthenticationBo authenticationBo;
-    private final PlanetRepository planetRepository;
+    private final PlanetOwnershipCacheService planetOwnershipCacheService;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
@@ -37,8 +36,6 @@ public class OwgeContextFilter implements Filter {
 
     private Long maybeSetPlanet(Long wantedPlanetId) {
         var userId = authenticationBo.findTokenUser().getId().intValue();
-        return planetRepository.findOneByIdAndOwnerId(wantedPlanetId, userId)
-                .map(Planet::getId)
-                .orElse(planetRepository.findOneByOwnerIdAndHomeTrue(userId).getId());
+        return planetOwnershipCacheService.findOwnedPlanetOrHome(userId, wantedPlanetId);
     }
 }
@@ -2,14 +2,19 @@ package com.kevinguanchedarias.owgejava.rest.admin;
 
 import com.kevinguanchedarias.owgejava.business.ImprovementBo;
 import com.kevinguanchedarias.owgejava.business.SocketIoService;
+import com.kevinguanchedarias.owgejava.business.cache.DefinitionCacheService;
 import com.kevinguanchedarias.owgejava.dao.RequirementInformationDao;
+import com.kevinguanchedarias.owgejava.pojo.DefinitionCacheRegionStats;
 import com.kevinguanchedarias.taggablecache.manager.TaggableCacheManager;
 import lombok.AllArgsConstructor;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.annotation.ApplicationScope;
 
+import java.util.List;
+
 /**
  * Temporary allows to drop all cache entries from admin panel
  *
@@ -26,6 +31,7 @@ public class AdminCacheRestService {
     private final SocketIoService socketIoService;
     private final RequirementInformationDao requirementInformationDao;
     private final TaggableCacheManager taggableCacheManager;
+    private final DefinitionCacheService definitionCacheService;
 
     /**
      * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
@@ -37,5 +43,15 @@ public class AdminCacheRestService {
         improvementBo.getImprovementSources().forEach(improvementBo::clearCacheEntries);
         socketIoService.clearCache();
         taggableCacheManager.clear();
+        definitionCacheService.evictAll();
+    }
+
+    /**
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    @GetMapping("definitions")
+    public List<DefinitionCacheRegionStats> findDefinitionsStats() {
+        return definitionCacheService.findStats();
     }
 }
@@ -3,16 +3,34 @@ package com.kevinguanchedarias.owgejava.rest.admin;
 import com.kevinguanchedarias.owgejava.business.MissionBo;
 import com.kevinguanchedarias.owgejava.business.SocketIoService;
 import com.kevinguanchedarias.owgejava.business.UnitMissionBo;
+import com.kevinguanchedarias.owgejava.business.async.AsyncExecutorService;
+import com.kevinguanchedarias.owgejava.business.audit.AuditPipeline;
+import com.kevinguanchedarias.owgejava.business.mysql.MysqlLockProfiler;
 import com.kevinguanchedarias.owgejava.enumerations.MissionType;
+import com.kevinguanchedarias.owgejava.filter.OwgeJwtAuthenticationFilter;
+import com.kevinguanchedarias.owgejava.pojo.AsyncPoolStats;
+import com.kevinguanchedarias.owgejava.pojo.MethodMetrics;
+import com.kevinguanchedarias.owgejava.pojo.VerifiedTokenCacheStats;
+import com.kevinguanchedarias.owgejava.pojo.audit.AuditPipelineStats;
+import com.kevinguanchedarias.owgejava.pojo.lock.LockContentionReport;
 import com.kevinguanchedarias.owgejava.repository.MissionRepository;
+import com.kevinguanchedarias.owgejava.util.MethodMetricsRegistry;
 import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.annotation.ApplicationScope;
 
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Has system-wide actions
@@ -25,10 +43,17 @@ import java.time.ZoneOffset;
 @ApplicationScope
 @AllArgsConstructor
 public class AdminSystemRestService {
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
     private final SocketIoService socketIoService;
     private final MissionBo missionBo;
     private final UnitMissionBo unitMissionBo;
     private final MissionRepository missionRepository;
+    private final Map<String, OwgeJwtAuthenticationFilter> authenticationFilters;
+    private final MethodMetricsRegistry methodMetricsRegistry;
+    private final MysqlLockProfiler mysqlLockProfiler;
+    private final AsyncExecutorService asyncExecutorService;
+    private final AuditPipeline auditPipeline;
 
     /**
      * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
@@ -55,4 +80,120 @@ public class AdminSystemRestService {
             }
         });
     }
+
+    /**
+     * @return The verified token cache stats of each authentication filter, by bean name
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    @GetMapping("token-cache-stats")
+    public Map<String, VerifiedTokenCacheStats> findTokenCacheStats() {
+        return authenticationFilters.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().findTokenCacheStats()));
+    }
+
+    /**
+     * @return The business methods latency, sorted by p99, empty unless the <i>methodtiming</i> profile is active
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    @GetMapping("method-metrics")
+    public List<MethodMetrics> findMethodMetrics() {
+        return methodMetricsRegistry.findAll();
+    }
+
+    /**
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    @GetMapping(value = "method-metrics/prometheus", produces = PROMETHEUS_CONTENT_TYPE)
+    public String findMethodMetricsAsPrometheus() {
+        return methodMetricsRegistry.toPrometheusText();
+    }
+
+    /**
+     * @param sampleRate 1 times all the calls, N times one of each N calls
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    @PutMapping("method-metrics/sample-rate")
+    public int defineMethodMetricsSampleRate(@RequestBody int sampleRate) {
+        methodMetricsRegistry.setSampleRate(sampleRate);
+        return methodMetricsRegistry.getSampleRate();
+    }
+
+    /**
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    @DeleteMapping("method-metrics")
+    public void resetMethodMetrics() {
+        methodMetricsRegistry.reset();
+    }
+
+    /**
+     * @param top How many of the most contended keys of the sliding window to return
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    @GetMapping("lock-contention")
+    public LockContentionReport findLockContention(@RequestParam(defaultValue = "20") int top) {
+        return mysqlLockProfiler.findReport(top);
+    }
+
+    /**
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    @GetMapping(value = "lock-contention/prometheus", produces = PROMETHEUS_CONTENT_TYPE)
+    public String findLockContentionAsPrometheus() {
+        return mysqlLockProfiler.toPrometheusText();
+    }
+
+    /**
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    @DeleteMapping("lock-contention")
+    public void resetLockContention() {
+        mysqlLockProfiler.reset();
+    }
+
+    /**
+     * @return The stats of the background task pools, and of the delayed tasks scheduler
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    @GetMapping("async-executors")
+    public List<AsyncPoolStats> findAsyncExecutorsStats() {
+        return asyncExecutorService.findStats();
+    }
+
+    /**
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    @GetMapping(value = "async-executors/prometheus", produces = PROMETHEUS_CONTENT_TYPE)
+    public String findAsyncExecutorsAsPrometheus() {
+        return asyncExecutorService.toPrometheusText();
+    }
+
+    /**
+     * @return The stats of the audit pipeline, the dropped audits didn't fit in the queue
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    @GetMapping("audit-pipeline")
+    public AuditPipelineStats findAuditPipelineStats() {
+        return auditPipeline.findStats();
+    }
+
+    /**
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    @GetMapping(value = "audit-pipeline/prometheus", produces = PROMETHEUS_CONTENT_TYPE)
+    public String findAuditPipelineAsPrometheus() {
+        return auditPipeline.toPrometheusText();
+    }
 }
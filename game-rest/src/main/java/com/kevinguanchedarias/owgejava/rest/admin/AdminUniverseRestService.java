@@ -0,0 +1,61 @@
+package com.kevinguanchedarias.owgejava.rest.admin;
+
+import com.kevinguanchedarias.owgejava.business.universe.UniverseDumpService;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.annotation.ApplicationScope;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Exports and imports the universe data, to clone an universe into another database
+ *
+ * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+ * @since 0.11.4
+ */
+@RestController
+@RequestMapping("admin/universe")
+@ApplicationScope
+@AllArgsConstructor
+public class AdminUniverseRestService {
+    private static final String DUMP_FILE_NAME = "universe.ndjson.gz";
+
+    private final UniverseDumpService universeDumpService;
+
+    /**
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    @GetMapping("export")
+    public ResponseEntity<StreamingResponseBody> exportUniverse() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + DUMP_FILE_NAME + "\"")
+                .body(universeDumpService::exportUniverse);
+    }
+
+    /**
+     * Expects as raw body the file returned by the export
+     *
+     * @return The inserted rows by table
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    @PostMapping("import")
+    public Map<String, Long> importUniverse(
+            HttpServletRequest request,
+            @RequestParam(defaultValue = "false") boolean replace
+    ) throws IOException {
+        return universeDumpService.importUniverse(request.getInputStream(), replace);
+    }
+}
@@ -2,10 +2,13 @@ package com.kevinguanchedarias.owgejava.rest.game;
 
 import com.kevinguanchedarias.owgejava.builder.SyncHandlerBuilder;
 import com.kevinguanchedarias.owgejava.business.UnitMissionBo;
+import com.kevinguanchedarias.owgejava.business.mission.MissionTimeManagerBo;
 import com.kevinguanchedarias.owgejava.business.mission.RunningMissionFinderBo;
+import com.kevinguanchedarias.owgejava.business.user.UserSessionService;
 import com.kevinguanchedarias.owgejava.entity.UserStorage;
 import com.kevinguanchedarias.owgejava.interfaces.SyncSource;
 import com.kevinguanchedarias.owgejava.pojo.UnitMissionInformation;
+import com.kevinguanchedarias.owgejava.pojo.mission.MissionTimeEstimationRequest;
 import com.kevinguanchedarias.owgejava.pojo.websocket.MissionWebsocketMessage;
 import com.kevinguanchedarias.owgejava.util.filter.MissionRestUtil;
 import lombok.AllArgsConstructor;
@@ -22,6 +25,8 @@ import java.util.function.Function;
 public class MissionRestService implements SyncSource {
     private final UnitMissionBo unitMissionBo;
     private final RunningMissionFinderBo runningMissionFinderBo;
+    private final MissionTimeManagerBo missionTimeManagerBo;
+    private final UserSessionService userSessionService;
 
     @PostMapping("explorePlanet")
     public void explorePlanet(@RequestBody UnitMissionInformation missionInformation) {
@@ -64,6 +69,16 @@ public class MissionRestService implements SyncSource {
         return "\"OK\"";
     }
 
+    /**
+     * @return The estimated required time by target planet, empty if none of the units has speed
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    @PostMapping("estimate-times")
+    public Map<Long, Double> estimateTimes(@RequestBody MissionTimeEstimationRequest request) {
+        return missionTimeManagerBo.estimateRequiredTimes(userSessionService.findLoggedIn(), request);
+    }
+
     @Override
     public Map<String, Function<UserStorage, Object>> findSyncHandlers() {
         return SyncHandlerBuilder.create().withHandler("missions_count_change", this::findCount)
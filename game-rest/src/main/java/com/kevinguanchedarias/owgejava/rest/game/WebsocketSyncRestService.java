@@ -6,11 +6,14 @@ import com.kevinguanchedarias.owgejava.enumerations.AuditActionEnum;
 import lombok.AllArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.annotation.ApplicationScope;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
@@ -37,4 +40,18 @@ public class WebsocketSyncRestService {
         return websocketSyncService.findWantedData(keys);
     }
 
+    /**
+     * Like {@link #sync(List)} but only returns the keys that changed since the version the client has
+     *
+     * @param knownVersions Map of key => lastSent known by the client
+     * @author Kevin Guanche Darias <kevin@kevinguanchedarias.com>
+     * @since 0.11.4
+     */
+    @PostMapping("delta")
+    @Transactional
+    public Map<String, Object> deltaSync(@RequestBody Map<String, Instant> knownVersions) {
+        auditBo.doAudit(AuditActionEnum.LOGIN);
+        return websocketSyncService.findChangedData(knownVersions);
+    }
+
 }